@@ -1,30 +1,92 @@
 package edu.stanford.owl2lpg.client.bind.change;
 
 import com.google.common.collect.ImmutableList;
+import com.google.common.collect.Lists;
+import edu.stanford.bmir.protege.web.server.change.AddAxiomChange;
 import edu.stanford.bmir.protege.web.server.change.OntologyChange;
 import edu.stanford.bmir.protege.web.server.index.impl.UpdatableIndex;
+import edu.stanford.owl2lpg.client.write.GraphWriter;
+import edu.stanford.owl2lpg.client.write.handlers.AxiomChangeHandler;
 
 import javax.annotation.Nonnull;
 import javax.inject.Inject;
+import java.util.List;
 
+import static com.google.common.base.Preconditions.checkArgument;
 import static com.google.common.base.Preconditions.checkNotNull;
 
 /**
+ * Applies the ontology changes to the graph database. The changes are
+ * written in transactions of at most the given number of changes, or in
+ * a single transaction per change list when the number is
+ * {@link #ALL_CHANGES_PER_TRANSACTION}. The consecutive axiom additions of
+ * a transaction are written together by a few bulk queries.
+ *
  * @author Josef Hardi <josef.hardi@stanford.edu> <br>
  * Stanford Center for Biomedical Informatics Research
  */
 public class Neo4jUpdater implements UpdatableIndex {
 
+  public static final int ALL_CHANGES_PER_TRANSACTION = 0;
+
   @Nonnull
   private final Neo4jChangeVisitor changeVisitor;
 
+  @Nonnull
+  private final AxiomChangeHandler axiomChangeHandler;
+
+  @Nonnull
+  private final GraphWriter graphWriter;
+
+  private final int changesPerTransaction;
+
   @Inject
-  public Neo4jUpdater(@Nonnull Neo4jChangeVisitor changeVisitor) {
+  public Neo4jUpdater(@Nonnull Neo4jChangeVisitor changeVisitor,
+                      @Nonnull AxiomChangeHandler axiomChangeHandler,
+                      @Nonnull GraphWriter graphWriter) {
+    this(changeVisitor, axiomChangeHandler, graphWriter, ALL_CHANGES_PER_TRANSACTION);
+  }
+
+  public Neo4jUpdater(@Nonnull Neo4jChangeVisitor changeVisitor,
+                      @Nonnull AxiomChangeHandler axiomChangeHandler,
+                      @Nonnull GraphWriter graphWriter,
+                      int changesPerTransaction) {
+    checkArgument(changesPerTransaction >= 0, "Changes per transaction must not be negative");
     this.changeVisitor = checkNotNull(changeVisitor);
+    this.axiomChangeHandler = checkNotNull(axiomChangeHandler);
+    this.graphWriter = checkNotNull(graphWriter);
+    this.changesPerTransaction = changesPerTransaction;
   }
 
   @Override
   public void applyChanges(@Nonnull ImmutableList<OntologyChange> immutableList) {
-    immutableList.forEach(change -> change.accept(changeVisitor));
+    if (immutableList.isEmpty()) {
+      return;
+    }
+    var partitionSize = (changesPerTransaction == ALL_CHANGES_PER_TRANSACTION) ?
+        immutableList.size() : changesPerTransaction;
+    for (var changes : Lists.partition(immutableList, partitionSize)) {
+      graphWriter.executeInTransaction(() -> apply(changes));
+    }
+  }
+
+  private void apply(@Nonnull List<OntologyChange> changes) {
+    var addAxiomChanges = Lists.<AddAxiomChange>newArrayList();
+    for (var change : changes) {
+      if (change instanceof AddAxiomChange) {
+        addAxiomChanges.add((AddAxiomChange) change);
+      } else {
+        flush(addAxiomChanges);
+        change.accept(changeVisitor);
+      }
+    }
+    flush(addAxiomChanges);
+  }
+
+  private void flush(@Nonnull List<AddAxiomChange> addAxiomChanges) {
+    if (!addAxiomChanges.isEmpty()) {
+      axiomChangeHandler.handle(ImmutableList.copyOf(addAxiomChanges));
+      addAxiomChanges.clear();
+    }
   }
 }
@@ -3,13 +3,16 @@ package edu.stanford.owl2lpg.client.read.axiom;
 import dagger.Binds;
 import dagger.Module;
 import edu.stanford.owl2lpg.client.read.axiom.impl.AxiomAccessorImpl;
+import edu.stanford.owl2lpg.translator.shared.DigestFunctionModule;
 import edu.stanford.owl2lpg.translator.shared.OntologyObjectSerializerModule;
 
 /**
  * @author Josef Hardi <josef.hardi@stanford.edu> <br>
  * Stanford Center for Biomedical Informatics Research
  */
-@Module(includes = OntologyObjectSerializerModule.class)
+@Module(includes = {
+    OntologyObjectSerializerModule.class,
+    DigestFunctionModule.class})
 public abstract class AxiomAccessorModule {
 
   @Binds
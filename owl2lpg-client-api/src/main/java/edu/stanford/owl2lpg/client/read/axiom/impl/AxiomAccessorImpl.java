@@ -8,8 +8,7 @@ import edu.stanford.owl2lpg.client.read.axiom.AxiomAccessor;
 import edu.stanford.owl2lpg.translator.shared.BranchId;
 import edu.stanford.owl2lpg.translator.shared.OntologyDocumentId;
 import edu.stanford.owl2lpg.translator.shared.ProjectId;
-import edu.stanford.owl2lpg.translator.shared.BytesDigester;
-import edu.stanford.owl2lpg.translator.shared.OntologyObjectSerializer;
+import edu.stanford.owl2lpg.translator.shared.OntologyObjectDigester;
 import org.neo4j.driver.Value;
 import org.semanticweb.owlapi.model.AxiomType;
 import org.semanticweb.owlapi.model.IRI;
@@ -74,20 +73,15 @@ public class AxiomAccessorImpl implements AxiomAccessor {
   private final NodeMapper nodeMapper;
 
   @Nonnull
-  private final OntologyObjectSerializer ontologyObjectSerializer;
-
-  @Nonnull
-  private final BytesDigester bytesDigester;
+  private final OntologyObjectDigester ontologyObjectDigester;
 
   @Inject
   public AxiomAccessorImpl(@Nonnull GraphReader graphReader,
                            @Nonnull NodeMapper nodeMapper,
-                           @Nonnull OntologyObjectSerializer ontologyObjectSerializer,
-                           @Nonnull BytesDigester bytesDigester) {
+                           @Nonnull OntologyObjectDigester ontologyObjectDigester) {
     this.graphReader = checkNotNull(graphReader);
     this.nodeMapper = checkNotNull(nodeMapper);
-    this.ontologyObjectSerializer = checkNotNull(ontologyObjectSerializer);
-    this.bytesDigester = checkNotNull(bytesDigester);
+    this.ontologyObjectDigester = checkNotNull(ontologyObjectDigester);
   }
 
   @Nonnull
@@ -122,8 +116,7 @@ public class AxiomAccessorImpl implements AxiomAccessor {
                                @Nonnull ProjectId projectId,
                                @Nonnull BranchId branchId,
                                @Nonnull OntologyDocumentId ontoDocId) {
-    var bytes = ontologyObjectSerializer.serialize(owlAxiom);
-    var digest = bytesDigester.getDigestString(bytes);
+    var digest = ontologyObjectDigester.getDigestString(owlAxiom);
     var inputParams = Parameters.forNodeDigest(digest, projectId, branchId, ontoDocId);
     var nodeIndex = graphReader.getNodeIndex(AXIOM_BY_DIGEST_QUERY, inputParams);
     return nodeIndex.getNodes(AXIOM.getMainLabel()).size() == 1;
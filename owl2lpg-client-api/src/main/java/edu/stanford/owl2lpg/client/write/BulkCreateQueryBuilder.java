@@ -0,0 +1,126 @@
+package edu.stanford.owl2lpg.client.write;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.Sets;
+import edu.stanford.owl2lpg.model.Translation;
+import edu.stanford.owl2lpg.model.UnwindQuery;
+import edu.stanford.owl2lpg.model.UnwindQueryBuilder;
+import edu.stanford.owl2lpg.translator.shared.BranchId;
+import edu.stanford.owl2lpg.translator.shared.OntologyDocumentId;
+import edu.stanford.owl2lpg.translator.shared.ProjectId;
+import edu.stanford.owl2lpg.translator.vocab.NodeLabels;
+
+import javax.annotation.Nonnull;
+import java.util.Set;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+import static edu.stanford.owl2lpg.client.write.CreateQueryBuilder.DOCUMENT_VARIABLE;
+import static edu.stanford.owl2lpg.translator.vocab.EdgeLabel.AXIOM;
+import static edu.stanford.owl2lpg.translator.vocab.EdgeLabel.IN_ONTOLOGY_SIGNATURE;
+import static edu.stanford.owl2lpg.translator.vocab.NodeLabels.ENTITY;
+import static edu.stanford.owl2lpg.translator.vocab.NodeLabels.ONTOLOGY_DOCUMENT;
+import static edu.stanford.owl2lpg.translator.vocab.PropertyFields.DIGEST;
+import static edu.stanford.owl2lpg.translator.vocab.PropertyFields.IRI;
+import static edu.stanford.owl2lpg.translator.vocab.PropertyFields.ONTOLOGY_DOCUMENT_ID;
+import static edu.stanford.owl2lpg.translator.vocab.PropertyFields.STRUCTURAL_SPEC;
+
+/**
+ * Builds the queries that write many axiom translations at once. The nodes
+ * and edges of all the translations are written by a few <code>UNWIND</code>
+ * queries grouped by their labels, instead of a query per axiom.
+ * <p>
+ * The axioms, entities, IRIs and literals are merged on the same properties
+ * as the ones written by {@link CreateQueryBuilder}, so both ways of writing
+ * share these nodes. The other nodes are identified by the session key of
+ * the given {@link UnwindQueryBuilder}, so the structure of an axiom is only
+ * written when its digest is neither in the graph nor added before. The
+ * other axioms are only linked to the ontology document.
+ *
+ * @author Josef Hardi <josef.hardi@stanford.edu> <br>
+ * Stanford Center for Biomedical Informatics Research
+ */
+public class BulkCreateQueryBuilder {
+
+  private static final String LABEL = "label";
+
+  private static final String LINK_AXIOMS = "UNWIND $" + UnwindQuery.ROWS + " AS digest\n" +
+      "MATCH (" + DOCUMENT_VARIABLE + ONTOLOGY_DOCUMENT.toNeo4jLabel() + " {" + ONTOLOGY_DOCUMENT_ID + ":$ontoDocId})\n" +
+      "MATCH (a" + NodeLabels.AXIOM.toNeo4jLabel() + " {" + DIGEST + ":digest})\n" +
+      "MERGE (" + DOCUMENT_VARIABLE + ")-[" + AXIOM.toNeo4jLabel() + " {" + STRUCTURAL_SPEC + ":true}]->(a)";
+
+  private static final String LINK_ENTITIES = "UNWIND $" + UnwindQuery.ROWS + " AS row\n" +
+      "MATCH (" + DOCUMENT_VARIABLE + ONTOLOGY_DOCUMENT.toNeo4jLabel() + " {" + ONTOLOGY_DOCUMENT_ID + ":$ontoDocId})\n" +
+      "MATCH (e" + ENTITY.toNeo4jLabel() + " {" + IRI + ":row." + IRI + "})\n" +
+      "WHERE row." + LABEL + " IN labels(e)\n" +
+      "MERGE (e)-[" + IN_ONTOLOGY_SIGNATURE.toNeo4jLabel() + "]->(" + DOCUMENT_VARIABLE + ")";
+
+  @Nonnull
+  private final ProjectId projectId;
+
+  @Nonnull
+  private final BranchId branchId;
+
+  @Nonnull
+  private final OntologyDocumentId documentId;
+
+  @Nonnull
+  private final Set<String> existingAxiomDigests;
+
+  @Nonnull
+  private final UnwindQueryBuilder unwindQueryBuilder;
+
+  private final Set<String> axiomDigests = Sets.newLinkedHashSet();
+
+  private final Set<ImmutableMap<String, Object>> entityRows = Sets.newLinkedHashSet();
+
+  public BulkCreateQueryBuilder(@Nonnull ProjectId projectId,
+                                @Nonnull BranchId branchId,
+                                @Nonnull OntologyDocumentId documentId,
+                                @Nonnull Set<String> existingAxiomDigests,
+                                @Nonnull UnwindQueryBuilder unwindQueryBuilder) {
+    this.projectId = checkNotNull(projectId);
+    this.branchId = checkNotNull(branchId);
+    this.documentId = checkNotNull(documentId);
+    this.existingAxiomDigests = checkNotNull(existingAxiomDigests);
+    this.unwindQueryBuilder = checkNotNull(unwindQueryBuilder);
+  }
+
+  public void add(@Nonnull Translation axiomTranslation) {
+    String digest = axiomTranslation.getMainNode().getProperty(DIGEST);
+    if (axiomDigests.add(digest) && !existingAxiomDigests.contains(digest)) {
+      unwindQueryBuilder.add(axiomTranslation);
+    }
+    for (var entityNode : axiomTranslation.getNodes(ENTITY)) {
+      entityRows.add(ImmutableMap.of(
+          IRI, entityNode.getProperty(IRI),
+          LABEL, entityNode.getLabels().getMainLabel()));
+    }
+  }
+
+  @Nonnull
+  public ImmutableList<CypherQuery> build() {
+    var documentParameters = Parameters.forOntologyDocument(projectId, branchId, documentId);
+    var cypherQueries = ImmutableList.<CypherQuery>builder();
+    cypherQueries.add(CypherQuery.create(CreateQueryBuilder.MERGE_ONTOLOGY_DOCUMENT, documentParameters));
+    for (var unwindQuery : unwindQueryBuilder.build()) {
+      cypherQueries.add(CypherQuery.create(unwindQuery.getQueryString(), unwindQuery.getParameters()));
+    }
+    if (!axiomDigests.isEmpty()) {
+      cypherQueries.add(CypherQuery.create(LINK_AXIOMS, withRows(documentParameters, axiomDigests)));
+    }
+    if (!entityRows.isEmpty()) {
+      cypherQueries.add(CypherQuery.create(LINK_ENTITIES, withRows(documentParameters, entityRows)));
+    }
+    return cypherQueries.build();
+  }
+
+  @Nonnull
+  private static ImmutableMap<String, Object> withRows(@Nonnull ImmutableMap<String, Object> parameters,
+                                                       @Nonnull Set<?> rows) {
+    return ImmutableMap.<String, Object>builder()
+        .putAll(parameters)
+        .put(UnwindQuery.ROWS, ImmutableList.copyOf(rows))
+        .build();
+  }
+}
@@ -1,9 +1,11 @@
 package edu.stanford.owl2lpg.client.write;
 
 import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
 import com.google.common.collect.Maps;
 import edu.stanford.owl2lpg.model.Edge;
 import edu.stanford.owl2lpg.model.Node;
+import edu.stanford.owl2lpg.model.Properties;
 import edu.stanford.owl2lpg.model.Translation;
 import edu.stanford.owl2lpg.model.TranslationVisitor;
 import edu.stanford.owl2lpg.translator.shared.BranchId;
@@ -36,6 +38,16 @@ public class CreateQueryBuilder implements TranslationVisitor {
   public static final String PROJECT_VARIABLE = "p";
   public static final String BRANCH_VARIABLE = "b";
 
+  /* The query that merges the project, branch and ontology document nodes given by the parameters */
+  static final String MERGE_ONTOLOGY_DOCUMENT = "MERGE (" + PROJECT_VARIABLE + PROJECT.toNeo4jLabel() +
+      " {" + PROJECT_ID + ":$projectId})\n" +
+      "MERGE (" + BRANCH_VARIABLE + BRANCH.toNeo4jLabel() +
+      " {" + BRANCH_ID + ":$branchId})\n" +
+      "MERGE (" + PROJECT_VARIABLE + ")-[" + EdgeLabel.BRANCH.toNeo4jLabel() + "]->(" + BRANCH_VARIABLE + ")\n" +
+      "MERGE (" + DOCUMENT_VARIABLE + ONTOLOGY_DOCUMENT.toNeo4jLabel() +
+      " {" + ONTOLOGY_DOCUMENT_ID + ":$ontoDocId})\n" +
+      "MERGE (" + BRANCH_VARIABLE + ")-[" + EdgeLabel.ONTOLOGY_DOCUMENT.toNeo4jLabel() + "]->(" + DOCUMENT_VARIABLE + ")\n";
+
   @Nonnull
   private final ProjectId projectId;
 
@@ -50,7 +62,11 @@ public class CreateQueryBuilder implements TranslationVisitor {
 
   private final Map<Node, String> nodeVariableNameMapping = Maps.newHashMap();
 
-  private final ImmutableList.Builder<String> cypherStrings = ImmutableList.builder();
+  private final Map<Edge, String> edgeParameterNameMapping = Maps.newHashMap();
+
+  private final Map<String, Object> queryParameters = Maps.newLinkedHashMap();
+
+  private final ImmutableList.Builder<CypherQuery> cypherQueries = ImmutableList.builder();
 
   public CreateQueryBuilder(@Nonnull ProjectId projectId,
                             @Nonnull BranchId branchId,
@@ -64,18 +80,25 @@ public class CreateQueryBuilder implements TranslationVisitor {
 
   @Override
   public void visit(@Nonnull Translation axiomTranslation) {
-    cypherStrings.add(cypherQueryToMergeOntologyDocument());
-    cypherStrings.add(cypherQueryToCreateAxiom(axiomTranslation));
-    axiomTranslation.nodes(ENTITY).forEach(entityNode ->
-        cypherStrings.add(cypherQueryToLinkEntityToOntologyDocument(entityNode)));
-    cypherStrings.add(cypherQueryToLinkAxiomToOntologyDocument(axiomTranslation));
+    addQuery(cypherQueryToMergeOntologyDocument());
+    addQuery(cypherQueryToCreateAxiom(axiomTranslation));
+    for (var entityNode : axiomTranslation.getNodes(ENTITY)) {
+      addQuery(cypherQueryToLinkEntityToOntologyDocument(entityNode));
+    }
+    addQuery(cypherQueryToLinkAxiomToOntologyDocument(axiomTranslation));
+  }
+
+  /* Pairs the query string with the parameters collected while building it */
+  private void addQuery(@Nonnull String queryString) {
+    cypherQueries.add(CypherQuery.create(queryString, ImmutableMap.copyOf(queryParameters)));
+    queryParameters.clear();
   }
 
   private String cypherQueryToCreateAxiom(@Nonnull Translation translation) {
     var sb = new StringBuilder();
-    translation.edges()
-        .map(this::translateToCypher)
-        .forEach(sb::append);
+    for (var edge : translation.getAllEdges()) {
+      sb.append(translateToCypher(edge));
+    }
     return sb.toString();
   }
 
@@ -117,12 +140,23 @@ public class CreateQueryBuilder implements TranslationVisitor {
     return sb.toString();
   }
 
+  @Nonnull
+  private String getParameterName(Edge edge) {
+    var parameterName = edgeParameterNameMapping.get(edge);
+    if (parameterName == null) {
+      parameterName = variableNameGenerator.generate("r");
+      edgeParameterNameMapping.put(edge, parameterName);
+    }
+    return parameterName;
+  }
+
   private void cypherNode(Node node, StringBuilder sb) {
     sb.append("(");
     if (nodeVariableNameMapping.containsKey(node)) {
       sb.append(getVariableName(node));
     } else {
-      sb.append(getVariableName(node)).append(node.printLabels()).append(" ").append(node.printProperties());
+      var variableName = getVariableName(node);
+      sb.append(variableName).append(node.printLabels()).append(" ").append(cypherProperties(node.getProperties(), variableName));
     }
     sb.append(")");
   }
@@ -130,20 +164,20 @@ public class CreateQueryBuilder implements TranslationVisitor {
   private void cypherEdge(Edge edge, StringBuilder sb) {
     sb.append("-[")
         .append(edge.printLabel()).append(" ")
-        .append(edge.printProperties())
+        .append(cypherProperties(edge.getProperties(), getParameterName(edge)))
         .append("]->");
   }
 
+  @Nonnull
+  private String cypherProperties(Properties properties, String parameterPrefix) {
+    queryParameters.putAll(properties.getParameters(parameterPrefix));
+    return properties.printParameters(parameterPrefix);
+  }
+
   @Nonnull
   private String cypherQueryToMergeOntologyDocument() {
-    return "MERGE (" + PROJECT_VARIABLE + PROJECT.toNeo4jLabel() +
-        " {" + PROJECT_ID + ":" + projectId.toQuotedString() + "})\n" +
-        "MERGE (" + BRANCH_VARIABLE + BRANCH.toNeo4jLabel() +
-        " {" + BRANCH_ID + ":" + branchId.toQuotedString() + "})\n" +
-        "MERGE (" + PROJECT_VARIABLE + ")-[" + EdgeLabel.BRANCH.toNeo4jLabel() + "]->(" + BRANCH_VARIABLE + ")\n" +
-        "MERGE (" + DOCUMENT_VARIABLE + ONTOLOGY_DOCUMENT.toNeo4jLabel() +
-        " {" + ONTOLOGY_DOCUMENT_ID + ":" + documentId.toQuotedString() + "})\n" +
-        "MERGE (" + BRANCH_VARIABLE + ")-[" + EdgeLabel.ONTOLOGY_DOCUMENT.toNeo4jLabel() + "]->(" + DOCUMENT_VARIABLE + ")\n";
+    queryParameters.putAll(Parameters.forOntologyDocument(projectId, branchId, documentId));
+    return MERGE_ONTOLOGY_DOCUMENT;
   }
 
   @Nonnull
@@ -168,12 +202,13 @@ public class CreateQueryBuilder implements TranslationVisitor {
   }
 
   private String cypherQueryMatchOntologyDocument() {
-    return "MATCH (" + DOCUMENT_VARIABLE + ONTOLOGY_DOCUMENT.toNeo4jLabel() + " {" + ONTOLOGY_DOCUMENT_ID + ":" + documentId.toQuotedString() + "})\n";
+    queryParameters.putAll(Parameters.forOntologyDocument(projectId, branchId, documentId));
+    return "MATCH (" + DOCUMENT_VARIABLE + ONTOLOGY_DOCUMENT.toNeo4jLabel() + " {" + ONTOLOGY_DOCUMENT_ID + ":$ontoDocId})\n";
   }
 
   @Nonnull
   private String cypherQueryMatchNode(Node axiomNode, String axiomVariable) {
-    return "MATCH (" + axiomVariable + axiomNode.printLabels() + " " + axiomNode.printProperties() + ")\n";
+    return "MATCH (" + axiomVariable + axiomNode.printLabels() + " " + cypherProperties(axiomNode.getProperties(), axiomVariable) + ")\n";
   }
 
   @Nonnull
@@ -186,7 +221,8 @@ public class CreateQueryBuilder implements TranslationVisitor {
     return "MERGE (" + DOCUMENT_VARIABLE + ")-[" + AXIOM.toNeo4jLabel() + " {" + STRUCTURAL_SPEC + ":true}]->(" + axiomVariable + ")";
   }
 
-  public ImmutableList<String> build() {
-    return cypherStrings.build();
+  @Nonnull
+  public ImmutableList<CypherQuery> build() {
+    return cypherQueries.build();
   }
 }
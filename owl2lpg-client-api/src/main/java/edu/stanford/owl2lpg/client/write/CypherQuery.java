@@ -0,0 +1,38 @@
+package edu.stanford.owl2lpg.client.write;
+
+import com.google.auto.value.AutoValue;
+import com.google.common.collect.ImmutableMap;
+import org.neo4j.driver.Value;
+import org.neo4j.driver.Values;
+
+import javax.annotation.Nonnull;
+
+/**
+ * A Cypher query string with its parameter values. The query string holds
+ * only the parameter placeholders, so queries that are built from the
+ * translations of the same shape share the same string and Neo4j can reuse
+ * its cached execution plan.
+ *
+ * @author Josef Hardi <josef.hardi@stanford.edu> <br>
+ * Stanford Center for Biomedical Informatics Research
+ */
+@AutoValue
+public abstract class CypherQuery {
+
+  @Nonnull
+  public static CypherQuery create(@Nonnull String queryString,
+                                   @Nonnull ImmutableMap<String, Object> parameters) {
+    return new AutoValue_CypherQuery(queryString, parameters);
+  }
+
+  @Nonnull
+  public abstract String getQueryString();
+
+  @Nonnull
+  public abstract ImmutableMap<String, Object> getParameters();
+
+  @Nonnull
+  public Value getParameterValue() {
+    return Values.value(getParameters());
+  }
+}
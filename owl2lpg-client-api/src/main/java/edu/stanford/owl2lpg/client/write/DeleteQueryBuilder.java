@@ -1,9 +1,11 @@
 package edu.stanford.owl2lpg.client.write;
 
 import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
 import com.google.common.collect.Maps;
 import edu.stanford.owl2lpg.model.Edge;
 import edu.stanford.owl2lpg.model.Node;
+import edu.stanford.owl2lpg.model.Properties;
 import edu.stanford.owl2lpg.model.Translation;
 import edu.stanford.owl2lpg.model.TranslationVisitor;
 import edu.stanford.owl2lpg.translator.shared.BranchId;
@@ -52,7 +54,9 @@ public class DeleteQueryBuilder implements TranslationVisitor {
 
   private final Map<Edge, String> edgeVariableNameMapping = Maps.newHashMap();
 
-  private final ImmutableList.Builder<String> cypherStrings = ImmutableList.builder();
+  private final Map<String, Object> queryParameters = Maps.newLinkedHashMap();
+
+  private final ImmutableList.Builder<CypherQuery> cypherQueries = ImmutableList.builder();
 
   public DeleteQueryBuilder(@Nonnull ProjectId projectId,
                             @Nonnull BranchId branchId,
@@ -66,8 +70,13 @@ public class DeleteQueryBuilder implements TranslationVisitor {
 
   @Override
   public void visit(@Nonnull Translation translation) {
-    cypherStrings.add(cypherQueryToDeleteAllEdges(translation));
-    cypherStrings.add(cypherQueryToDeleteOrphanNodes());
+    addQuery(cypherQueryToDeleteAllEdges(translation) + cypherQueryToDeleteOrphanNodes());
+  }
+
+  /* Pairs the query string with the parameters collected while building it */
+  private void addQuery(@Nonnull String queryString) {
+    cypherQueries.add(CypherQuery.create(queryString, ImmutableMap.copyOf(queryParameters)));
+    queryParameters.clear();
   }
 
   @Nonnull
@@ -117,22 +126,40 @@ public class DeleteQueryBuilder implements TranslationVisitor {
     if (nodeVariableNameMapping.containsKey(node)) {
       sb.append(getVariableName(node));
     } else {
-      sb.append(getVariableName(node)).append(node.printLabels()).append(" ").append(node.printProperties());
+      var variableName = getVariableName(node);
+      sb.append(variableName).append(node.printLabels()).append(" ").append(cypherProperties(node.getProperties(), variableName));
     }
     sb.append(")");
   }
 
   private void appendTranslation(Edge edge, StringBuilder sb) {
+    var variableName = getVariableName(edge);
     sb.append("-[")
-        .append(getVariableName(edge))
+        .append(variableName)
         .append(edge.printLabel()).append(" ")
-        .append(edge.printProperties())
+        .append(cypherProperties(edge.getProperties(), variableName))
         .append("]->");
   }
 
+  @Nonnull
+  private String cypherProperties(Properties properties, String parameterPrefix) {
+    queryParameters.putAll(properties.getParameters(parameterPrefix));
+    return properties.printParameters(parameterPrefix);
+  }
+
+  /*
+   * Checks only the nodes matched by the deleted edges, so that the nodes
+   * left without any edge are removed in the same query. The orphan nodes
+   * that are not found this way are left to the OrphanNodeSweeper.
+   */
   @Nonnull
   private String cypherQueryToDeleteOrphanNodes() {
-    return "MATCH (n) WHERE NOT (n)--() DELETE n";
+    var nodeVariables = nodeVariableNameMapping.values();
+    return "WITH [" + String.join(",", nodeVariables) + "] AS candidates\n" +
+        "UNWIND candidates AS n\n" +
+        "WITH DISTINCT n\n" +
+        "WHERE NOT (n)--()\n" +
+        "DELETE n";
   }
 
   @Nonnull
@@ -157,12 +184,13 @@ public class DeleteQueryBuilder implements TranslationVisitor {
 
   @Nonnull
   private String cypherQueryMergeOntologyDocument() {
+    queryParameters.putAll(Parameters.forOntologyDocument(projectId, branchId, documentId));
     return "MERGE (" + PROJECT_VARIABLE + PROJECT.toNeo4jLabel() +
-        " {" + PROJECT_ID + ":" + projectId.toQuotedString() + "})\n" +
+        " {" + PROJECT_ID + ":$projectId})\n" +
         "MERGE (" + BRANCH_VARIABLE + BRANCH.toNeo4jLabel() +
-        " {" + BRANCH_ID + ":" + branchId.toQuotedString() + "})\n" +
+        " {" + BRANCH_ID + ":$branchId})\n" +
         "MERGE (" + DOCUMENT_VARIABLE + ONTOLOGY_DOCUMENT.toNeo4jLabel() +
-        " {" + ONTOLOGY_DOCUMENT_ID + ":" + documentId.toQuotedString() + "})\n" +
+        " {" + ONTOLOGY_DOCUMENT_ID + ":$ontoDocId})\n" +
         "MERGE (" + PROJECT_VARIABLE + ")-[" + EdgeLabel.BRANCH.toNeo4jLabel() + "]->" +
         "(" + BRANCH_VARIABLE + ")-[" + EdgeLabel.ONTOLOGY_DOCUMENT.toNeo4jLabel() + "]->" +
         "(" + DOCUMENT_VARIABLE + ")\n";
@@ -174,7 +202,7 @@ public class DeleteQueryBuilder implements TranslationVisitor {
   }
 
   @Nonnull
-  public ImmutableList<String> build() {
-    return cypherStrings.build();
+  public ImmutableList<CypherQuery> build() {
+    return cypherQueries.build();
   }
 }
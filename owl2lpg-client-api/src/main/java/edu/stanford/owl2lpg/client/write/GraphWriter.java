@@ -1,6 +1,10 @@
 package edu.stanford.owl2lpg.client.write;
 
+import com.google.common.collect.ImmutableList;
+import edu.stanford.bmir.protege.web.shared.inject.ProjectSingleton;
 import org.neo4j.driver.Driver;
+import org.neo4j.driver.Record;
+import org.neo4j.driver.Transaction;
 import org.neo4j.driver.Value;
 import org.neo4j.driver.summary.SummaryCounters;
 
@@ -10,29 +14,88 @@ import javax.inject.Inject;
 import static com.google.common.base.Preconditions.checkNotNull;
 
 /**
+ * Writes to the graph database. By default, every query runs in its own
+ * write transaction. The queries that are executed by a thread within
+ * {@link #executeInTransaction(Runnable)} run in a single transaction
+ * instead, which is committed when the runnable returns. A runnable that is
+ * executed within another one joins the transaction of the outer runnable.
+ *
  * @author Josef Hardi <josef.hardi@stanford.edu> <br>
  * Stanford Center for Biomedical Informatics Research
  */
+@ProjectSingleton
 public class GraphWriter {
 
   @Nonnull
   private final Driver driver;
 
+  private final ThreadLocal<Transaction> currentTransaction = new ThreadLocal<>();
+
   @Inject
   public GraphWriter(@Nonnull Driver driver) {
     this.driver = checkNotNull(driver);
   }
 
+  /**
+   * Runs the given work in one write transaction. The transaction is rolled
+   * back if the work throws an exception. If a transaction is already open
+   * in this thread, the work runs in that transaction.
+   */
+  public void executeInTransaction(@Nonnull Runnable work) {
+    if (currentTransaction.get() != null) {
+      work.run();
+      return;
+    }
+    try (var session = driver.session();
+         var tx = session.beginTransaction()) {
+      currentTransaction.set(tx);
+      work.run();
+      tx.commit();
+    } finally {
+      currentTransaction.remove();
+    }
+  }
+
   @Nonnull
   public SummaryCounters execute(@Nonnull String queryString, @Nonnull Value inputParams) {
+    var transaction = currentTransaction.get();
+    if (transaction != null) {
+      return transaction.run(queryString, inputParams).consume().counters();
+    }
     try (var session = driver.session()) {
       return session.writeTransaction(tx ->
           tx.run(queryString, inputParams).consume().counters());
     }
   }
 
+  @Nonnull
+  public SummaryCounters execute(@Nonnull CypherQuery query) {
+    return execute(query.getQueryString(), query.getParameterValue());
+  }
+
+  /**
+   * Runs the given query and returns its records. The query runs in the
+   * transaction that is open in this thread, if any, so it sees what the
+   * transaction has written so far.
+   */
+  @Nonnull
+  public ImmutableList<Record> executeAndFetch(@Nonnull CypherQuery query) {
+    var transaction = currentTransaction.get();
+    if (transaction != null) {
+      return ImmutableList.copyOf(transaction.run(query.getQueryString(), query.getParameterValue()).list());
+    }
+    try (var session = driver.session()) {
+      return session.writeTransaction(tx ->
+          ImmutableList.copyOf(tx.run(query.getQueryString(), query.getParameterValue()).list()));
+    }
+  }
+
   @Nonnull
   public SummaryCounters execute(@Nonnull String queryString) {
+    var transaction = currentTransaction.get();
+    if (transaction != null) {
+      return transaction.run(queryString).consume().counters();
+    }
     try (var session = driver.session()) {
       return session.writeTransaction(tx ->
           tx.run(queryString).consume().counters());
@@ -0,0 +1,82 @@
+package edu.stanford.owl2lpg.client.write;
+
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
+
+/**
+ * Runs the {@link OrphanNodeSweeper} periodically on a background thread.
+ * The sweeps start with the first call to {@link #start()}, e.g., when the
+ * first axiom is removed, so a project that only adds axioms does not sweep
+ * at all. A failed sweep is logged and tried again at the next period.
+ *
+ * @author Josef Hardi <josef.hardi@stanford.edu> <br>
+ * Stanford Center for Biomedical Informatics Research
+ */
+public class OrphanNodeSweepScheduler implements AutoCloseable {
+
+  private static final Logger logger = LoggerFactory.getLogger(OrphanNodeSweepScheduler.class);
+
+  public static final long DEFAULT_PERIOD_SECONDS = 60;
+
+  @Nonnull
+  private final OrphanNodeSweeper sweeper;
+
+  private final long periodSeconds;
+
+  @Nullable
+  private ScheduledExecutorService executor;
+
+  public OrphanNodeSweepScheduler(@Nonnull OrphanNodeSweeper sweeper) {
+    this(sweeper, DEFAULT_PERIOD_SECONDS);
+  }
+
+  public OrphanNodeSweepScheduler(@Nonnull OrphanNodeSweeper sweeper, long periodSeconds) {
+    checkArgument(periodSeconds > 0, "Period must be positive");
+    this.sweeper = checkNotNull(sweeper);
+    this.periodSeconds = periodSeconds;
+  }
+
+  /**
+   * Starts the periodic sweeps, unless they have already been started.
+   */
+  public synchronized void start() {
+    if (executor != null) {
+      return;
+    }
+    executor = Executors.newSingleThreadScheduledExecutor(new ThreadFactoryBuilder()
+        .setNameFormat("orphan-node-sweeper-%d")
+        .setDaemon(true)
+        .build());
+    executor.scheduleWithFixedDelay(this::sweep, periodSeconds, periodSeconds, TimeUnit.SECONDS);
+  }
+
+  public synchronized boolean isStarted() {
+    return executor != null;
+  }
+
+  private void sweep() {
+    try {
+      sweeper.sweepNext();
+    } catch (RuntimeException e) {
+      logger.warn("Failed to sweep the orphan nodes", e);
+    }
+  }
+
+  @Override
+  public synchronized void close() {
+    if (executor != null) {
+      executor.shutdownNow();
+      executor = null;
+    }
+  }
+}
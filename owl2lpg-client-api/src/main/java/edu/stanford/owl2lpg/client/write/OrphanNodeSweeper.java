@@ -0,0 +1,96 @@
+package edu.stanford.owl2lpg.client.write;
+
+import org.neo4j.driver.Driver;
+import org.neo4j.driver.Values;
+
+import javax.annotation.Nonnull;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
+import static edu.stanford.owl2lpg.client.util.Resources.read;
+
+/**
+ * Removes the nodes that have no edges, a window of node identifiers at a
+ * time. The axiom removal only checks the nodes of the removed axiom, so
+ * this sweeper runs periodically in the background, by the
+ * {@link OrphanNodeSweepScheduler}, to catch the orphan nodes left by
+ * anything else.
+ * <p>
+ * Each run looks up the nodes of the next window by their identifiers and
+ * remembers the highest node identifier found so far. The sweep starts over
+ * from the first window after a number of consecutive windows without nodes
+ * past that identifier, so the highest node identifier is never looked up by
+ * a scan of all the nodes. The nodes that lie past a gap of identifiers are
+ * still reached as long as the gap is shorter than those empty windows
+ * together, i.e., 100,000 identifiers by default. The database reuses the
+ * identifiers of the deleted nodes before taking new ones, so longer gaps
+ * are rare.
+ *
+ * @author Josef Hardi <josef.hardi@stanford.edu> <br>
+ * Stanford Center for Biomedical Informatics Research
+ */
+public class OrphanNodeSweeper implements Runnable {
+
+  public static final int DEFAULT_WINDOW_SIZE = 10_000;
+
+  public static final int DEFAULT_EMPTY_WINDOWS_BEFORE_RESTART = 10;
+
+  private static final String ORPHAN_NODES_IN_RANGE_QUERY_FILE = "write/orphan-nodes-in-range.cpy";
+
+  private static final String ORPHAN_NODES_IN_RANGE_QUERY = read(ORPHAN_NODES_IN_RANGE_QUERY_FILE);
+
+  @Nonnull
+  private final Driver driver;
+
+  private final int windowSize;
+
+  private final int emptyWindowsBeforeRestart;
+
+  private long nextNodeId = 0;
+
+  private long highestNodeId = -1;
+
+  private int emptyWindowCount = 0;
+
+  public OrphanNodeSweeper(@Nonnull Driver driver) {
+    this(driver, DEFAULT_WINDOW_SIZE, DEFAULT_EMPTY_WINDOWS_BEFORE_RESTART);
+  }
+
+  public OrphanNodeSweeper(@Nonnull Driver driver, int windowSize, int emptyWindowsBeforeRestart) {
+    checkArgument(windowSize > 0, "Window size must be positive");
+    checkArgument(emptyWindowsBeforeRestart > 0, "Number of empty windows before restart must be positive");
+    this.driver = checkNotNull(driver);
+    this.windowSize = windowSize;
+    this.emptyWindowsBeforeRestart = emptyWindowsBeforeRestart;
+  }
+
+  @Override
+  public void run() {
+    sweepNext();
+  }
+
+  /**
+   * Removes the orphan nodes in the next window of node identifiers and
+   * returns the number of removed nodes.
+   */
+  public synchronized int sweepNext() {
+    try (var session = driver.session()) {
+      var fromNodeId = nextNodeId;
+      var toNodeId = fromNodeId + windowSize;
+      var inputParams = Values.parameters("fromNodeId", fromNodeId, "toNodeId", toNodeId);
+      var record = session.writeTransaction(tx ->
+          tx.run(ORPHAN_NODES_IN_RANGE_QUERY, inputParams).single());
+      var highestNodeIdInWindow = record.get("highestNodeId").asLong(-1);
+      highestNodeId = Math.max(highestNodeId, highestNodeIdInWindow);
+      var isEmptyWindowPastHighestNodeId = highestNodeIdInWindow < 0 && fromNodeId > highestNodeId;
+      emptyWindowCount = isEmptyWindowPastHighestNodeId ? emptyWindowCount + 1 : 0;
+      if (emptyWindowCount >= emptyWindowsBeforeRestart) {
+        nextNodeId = 0;
+        emptyWindowCount = 0;
+      } else {
+        nextNodeId = toNodeId;
+      }
+      return record.get("nodesDeleted").asInt();
+    }
+  }
+}
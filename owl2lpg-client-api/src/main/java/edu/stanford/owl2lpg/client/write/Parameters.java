@@ -1,5 +1,7 @@
 package edu.stanford.owl2lpg.client.write;
 
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
 import edu.stanford.owl2lpg.translator.shared.BranchId;
 import edu.stanford.owl2lpg.translator.shared.OntologyDocumentId;
 import edu.stanford.owl2lpg.translator.shared.ProjectId;
@@ -28,6 +30,31 @@ public class Parameters {
   private static final String LANGUAGE = "language";
   private static final String IRI = "iri";
   private static final String DIGEST = "digest";
+  private static final String AUGMENTED_EDGES = "augmentedEdges";
+
+  @Nonnull
+  public static ImmutableMap<String, Object> forOntologyDocument(@Nonnull ProjectId projectId,
+                                                                 @Nonnull BranchId branchId,
+                                                                 @Nonnull OntologyDocumentId ontoDocId) {
+    return ImmutableMap.of(
+        PROJECT_ID, projectId.getIdentifier(),
+        BRANCH_ID, branchId.getIdentifier(),
+        ONTO_DOC_ID, ontoDocId.getIdentifier());
+  }
+
+  @Nonnull
+  public static ImmutableMap<String, Object> forAxiomRemoval(@Nonnull ProjectId projectId,
+                                                             @Nonnull BranchId branchId,
+                                                             @Nonnull OntologyDocumentId ontoDocId,
+                                                             @Nonnull String axiomDigest,
+                                                             @Nonnull ImmutableList<ImmutableMap<String, Object>> augmentedEdges) {
+    return ImmutableMap.of(
+        PROJECT_ID, projectId.getIdentifier(),
+        BRANCH_ID, branchId.getIdentifier(),
+        ONTO_DOC_ID, ontoDocId.getIdentifier(),
+        DIGEST, axiomDigest,
+        AUGMENTED_EDGES, augmentedEdges);
+  }
 
   @Nonnull
   public static Value forAnnotationAssertionAxiom(@Nonnull ProjectId projectId,
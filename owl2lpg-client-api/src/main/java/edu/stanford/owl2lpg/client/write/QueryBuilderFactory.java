@@ -1,11 +1,14 @@
 package edu.stanford.owl2lpg.client.write;
 
+import edu.stanford.owl2lpg.model.UnwindQueryBuilder;
 import edu.stanford.owl2lpg.translator.shared.BranchId;
 import edu.stanford.owl2lpg.translator.shared.OntologyDocumentId;
 import edu.stanford.owl2lpg.translator.shared.ProjectId;
 
 import javax.annotation.Nonnull;
 import javax.inject.Inject;
+import java.util.Set;
+import java.util.UUID;
 
 /**
  * @author Josef Hardi <josef.hardi@stanford.edu> <br>
@@ -13,6 +16,16 @@ import javax.inject.Inject;
  */
 public class QueryBuilderFactory {
 
+  public static final int DEFAULT_ROWS_PER_QUERY = 10_000;
+
+  /*
+   * The node identifiers that are not digests are only unique within the
+   * axiom translator of this factory, so the bulk loads scope them with a
+   * key that is unique to this factory.
+   */
+  @Nonnull
+  private final String sessionKey = UUID.randomUUID().toString();
+
   @Inject
   public QueryBuilderFactory() {
   }
@@ -30,4 +43,13 @@ public class QueryBuilderFactory {
                                                   @Nonnull OntologyDocumentId documentId) {
     return new DeleteQueryBuilder(projectId, branchId, documentId, new VariableNameGenerator());
   }
+
+  @Nonnull
+  public BulkCreateQueryBuilder getBulkCreateQueryBuilder(@Nonnull ProjectId projectId,
+                                                          @Nonnull BranchId branchId,
+                                                          @Nonnull OntologyDocumentId documentId,
+                                                          @Nonnull Set<String> existingAxiomDigests) {
+    return new BulkCreateQueryBuilder(projectId, branchId, documentId, existingAxiomDigests,
+        new UnwindQueryBuilder(DEFAULT_ROWS_PER_QUERY, sessionKey));
+  }
 }
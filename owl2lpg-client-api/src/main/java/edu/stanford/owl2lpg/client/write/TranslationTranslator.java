@@ -8,6 +8,8 @@ import edu.stanford.owl2lpg.translator.shared.ProjectId;
 
 import javax.annotation.Nonnull;
 import javax.inject.Inject;
+import java.util.Collection;
+import java.util.Set;
 
 import static com.google.common.base.Preconditions.checkNotNull;
 
@@ -26,7 +28,7 @@ public class TranslationTranslator {
   }
 
   @Nonnull
-  public ImmutableList<String> translateToCypherCreateQuery(@Nonnull ProjectId projectId,
+  public ImmutableList<CypherQuery> translateToCypherCreateQuery(@Nonnull ProjectId projectId,
                                                             @Nonnull BranchId branchId,
                                                             @Nonnull OntologyDocumentId documentId,
                                                             @Nonnull Translation translation) {
@@ -36,7 +38,7 @@ public class TranslationTranslator {
   }
 
   @Nonnull
-  public ImmutableList<String> translateToCypherDeleteQuery(@Nonnull ProjectId projectId,
+  public ImmutableList<CypherQuery> translateToCypherDeleteQuery(@Nonnull ProjectId projectId,
                                                             @Nonnull BranchId branchId,
                                                             @Nonnull OntologyDocumentId documentId,
                                                             @Nonnull Translation translation) {
@@ -44,4 +46,21 @@ public class TranslationTranslator {
     translation.accept(deleteQueryBuilder);
     return deleteQueryBuilder.build();
   }
+
+  /**
+   * Translates the given axiom translations into a few <code>UNWIND</code>
+   * queries that write them all at once. The axioms of the given digests are
+   * already in the graph, so they are only linked to the ontology document.
+   */
+  @Nonnull
+  public ImmutableList<CypherQuery> translateToCypherBulkCreateQuery(@Nonnull ProjectId projectId,
+                                                                     @Nonnull BranchId branchId,
+                                                                     @Nonnull OntologyDocumentId documentId,
+                                                                     @Nonnull Collection<Translation> translations,
+                                                                     @Nonnull Set<String> existingAxiomDigests) {
+    var bulkCreateQueryBuilder = queryBuilderFactory.getBulkCreateQueryBuilder(projectId, branchId, documentId,
+        existingAxiomDigests);
+    translations.forEach(bulkCreateQueryBuilder::add);
+    return bulkCreateQueryBuilder.build();
+  }
 }
@@ -4,6 +4,7 @@ import edu.stanford.bmir.protege.web.server.change.AddAxiomChange;
 import edu.stanford.bmir.protege.web.server.change.RemoveAxiomChange;
 
 import javax.annotation.Nonnull;
+import java.util.List;
 
 /**
  * @author Josef Hardi <josef.hardi@stanford.edu> <br>
@@ -13,5 +14,7 @@ public interface AxiomChangeHandler {
 
   void handle(@Nonnull AddAxiomChange addAxiomChange);
 
+  void handle(@Nonnull List<AddAxiomChange> addAxiomChanges);
+
   void handle(@Nonnull RemoveAxiomChange removeAxiomChange);
 }
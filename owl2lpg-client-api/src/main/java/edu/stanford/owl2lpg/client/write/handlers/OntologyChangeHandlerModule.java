@@ -2,9 +2,13 @@ package edu.stanford.owl2lpg.client.write.handlers;
 
 import dagger.Binds;
 import dagger.Module;
+import dagger.Provides;
 import edu.stanford.bmir.protege.web.shared.inject.ProjectSingleton;
+import edu.stanford.owl2lpg.client.write.OrphanNodeSweepScheduler;
+import edu.stanford.owl2lpg.client.write.OrphanNodeSweeper;
 import edu.stanford.owl2lpg.client.write.handlers.impl.AxiomChangeHandlerImpl;
 import edu.stanford.owl2lpg.client.write.handlers.impl.OntologyAnnotationChangeHandlerImpl;
+import org.neo4j.driver.Driver;
 
 /**
  * @author Josef Hardi <josef.hardi@stanford.edu> <br>
@@ -22,4 +26,16 @@ public abstract class OntologyChangeHandlerModule {
   @ProjectSingleton
   public abstract AxiomChangeHandler
   provideAxiomChangeHandler(AxiomChangeHandlerImpl impl);
+
+  @Provides
+  @ProjectSingleton
+  public static OrphanNodeSweeper provideOrphanNodeSweeper(Driver driver) {
+    return new OrphanNodeSweeper(driver);
+  }
+
+  @Provides
+  @ProjectSingleton
+  public static OrphanNodeSweepScheduler provideOrphanNodeSweepScheduler(OrphanNodeSweeper sweeper) {
+    return new OrphanNodeSweepScheduler(sweeper);
+  }
 }
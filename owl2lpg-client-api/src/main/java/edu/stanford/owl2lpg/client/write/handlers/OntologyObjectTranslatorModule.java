@@ -4,19 +4,20 @@ import dagger.Binds;
 import dagger.Module;
 import edu.stanford.bmir.protege.web.shared.inject.ProjectSingleton;
 import edu.stanford.owl2lpg.model.AugmentedEdgeInclusionChecker;
+import edu.stanford.owl2lpg.model.BoundedNodeIdMapper;
 import edu.stanford.owl2lpg.model.EdgeIdProvider;
 import edu.stanford.owl2lpg.model.IdFormatChecker;
 import edu.stanford.owl2lpg.model.NodeIdMapper;
-import edu.stanford.owl2lpg.model.NodeIdMapperImpl;
 import edu.stanford.owl2lpg.model.NodeIdProvider;
 import edu.stanford.owl2lpg.model.SingleEncounterNodeChecker;
 import edu.stanford.owl2lpg.model.Translation;
 import edu.stanford.owl2lpg.translator.internal.AugmentedEdgeInclusionCheckerImpl;
+import edu.stanford.owl2lpg.translator.internal.BlockReservingIdProvider;
 import edu.stanford.owl2lpg.translator.internal.DigestEdgeIdProvider;
 import edu.stanford.owl2lpg.translator.internal.DigestNodeIdProvider;
 import edu.stanford.owl2lpg.translator.internal.IdFormatCheckerImpl;
-import edu.stanford.owl2lpg.translator.internal.NumberIncrementIdProvider;
 import edu.stanford.owl2lpg.translator.internal.SingleEncounterNodeCheckerImpl;
+import edu.stanford.owl2lpg.translator.internal.StructuralNodeIdProvider;
 import edu.stanford.owl2lpg.translator.shared.BuiltInPrefixDeclarationsModule;
 import edu.stanford.owl2lpg.translator.shared.DigestFunctionModule;
 import edu.stanford.owl2lpg.translator.visitors.AnnotationObjectVisitor;
@@ -53,13 +54,13 @@ public abstract class OntologyObjectTranslatorModule {
 
   @Binds
   @ProjectSingleton
-  public abstract NodeIdMapper provideNodeIdMapper(NodeIdMapperImpl impl);
+  public abstract NodeIdMapper provideNodeIdMapper(BoundedNodeIdMapper impl);
 
   @Binds
   @Named("number")
   @ProjectSingleton
   public abstract NodeIdProvider
-  provideNodeIdProvider(NumberIncrementIdProvider impl);
+  provideNodeIdProvider(BlockReservingIdProvider impl);
 
   @Binds
   @Named("digest")
@@ -67,6 +68,12 @@ public abstract class OntologyObjectTranslatorModule {
   public abstract NodeIdProvider
   provideDigestNodeIdProvider(DigestNodeIdProvider impl);
 
+  @Binds
+  @Named("structural")
+  @ProjectSingleton
+  public abstract NodeIdProvider
+  provideStructuralNodeIdProvider(StructuralNodeIdProvider impl);
+
   @Binds
   public abstract IdFormatChecker
   provideIdFormatChecker(IdFormatCheckerImpl impl);
@@ -1,17 +1,25 @@
 package edu.stanford.owl2lpg.client.write.handlers.impl;
 
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.ImmutableSet;
+import edu.stanford.owl2lpg.client.write.CypherQuery;
 import edu.stanford.owl2lpg.client.write.GraphWriter;
 import edu.stanford.owl2lpg.client.write.TranslationTranslator;
+import edu.stanford.owl2lpg.model.Translation;
 import edu.stanford.owl2lpg.translator.AxiomTranslator;
 import edu.stanford.owl2lpg.translator.shared.BranchId;
 import edu.stanford.owl2lpg.translator.shared.OntologyDocumentId;
 import edu.stanford.owl2lpg.translator.shared.ProjectId;
+import edu.stanford.owl2lpg.translator.vocab.PropertyFields;
 import org.semanticweb.owlapi.model.OWLAxiom;
 
 import javax.annotation.Nonnull;
 import javax.inject.Inject;
+import java.util.Collection;
 
 import static com.google.common.base.Preconditions.checkNotNull;
+import static edu.stanford.owl2lpg.client.util.Resources.read;
 
 /**
  * @author Josef Hardi <josef.hardi@stanford.edu> <br>
@@ -19,6 +27,10 @@ import static com.google.common.base.Preconditions.checkNotNull;
  */
 public class AddAxiomHandler {
 
+  private static final String EXISTING_AXIOM_DIGESTS_QUERY_FILE = "write/existing-axiom-digests.cpy";
+
+  private static final String EXISTING_AXIOM_DIGESTS_QUERY = read(EXISTING_AXIOM_DIGESTS_QUERY_FILE);
+
   @Nonnull
   private final GraphWriter graphWriter;
 
@@ -45,4 +57,37 @@ public class AddAxiomHandler {
     var createQuery = translationTranslator.translateToCypherCreateQuery(projectId, branchId, documentId, translation);
     createQuery.forEach(graphWriter::execute);
   }
+
+  /**
+   * Adds many axioms at once with a few <code>UNWIND</code> queries that run
+   * in one write transaction, or in the transaction that is already open.
+   * The axioms that are already in the graph are only linked to the
+   * ontology document.
+   */
+  public void handle(@Nonnull ProjectId projectId,
+                     @Nonnull BranchId branchId,
+                     @Nonnull OntologyDocumentId documentId,
+                     @Nonnull Collection<OWLAxiom> axioms) {
+    var translations = axioms.stream()
+        .map(axiomTranslator::translate)
+        .collect(ImmutableList.toImmutableList());
+    graphWriter.executeInTransaction(() -> {
+      var existingAxiomDigests = getExistingAxiomDigests(translations);
+      var createQuery = translationTranslator.translateToCypherBulkCreateQuery(projectId, branchId, documentId,
+          translations, existingAxiomDigests);
+      createQuery.forEach(graphWriter::execute);
+    });
+  }
+
+  @Nonnull
+  private ImmutableSet<String> getExistingAxiomDigests(@Nonnull ImmutableList<Translation> translations) {
+    var digests = translations.stream()
+        .map(translation -> translation.getMainNode().<String>getProperty(PropertyFields.DIGEST))
+        .distinct()
+        .collect(ImmutableList.toImmutableList());
+    var query = CypherQuery.create(EXISTING_AXIOM_DIGESTS_QUERY, ImmutableMap.of("digests", digests));
+    return graphWriter.executeAndFetch(query).stream()
+        .map(record -> record.get(0).asString())
+        .collect(ImmutableSet.toImmutableSet());
+  }
 }
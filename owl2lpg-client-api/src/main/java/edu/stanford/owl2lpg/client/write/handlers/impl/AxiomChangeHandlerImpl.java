@@ -1,5 +1,6 @@
 package edu.stanford.owl2lpg.client.write.handlers.impl;
 
+import com.google.common.collect.Multimaps;
 import edu.stanford.bmir.protege.web.server.change.AddAxiomChange;
 import edu.stanford.bmir.protege.web.server.change.AxiomChange;
 import edu.stanford.bmir.protege.web.server.change.RemoveAxiomChange;
@@ -11,6 +12,7 @@ import edu.stanford.owl2lpg.translator.shared.ProjectId;
 
 import javax.annotation.Nonnull;
 import javax.inject.Inject;
+import java.util.List;
 
 import static com.google.common.base.Preconditions.checkNotNull;
 
@@ -55,6 +57,15 @@ public class AxiomChangeHandlerImpl implements AxiomChangeHandler {
     addAxiomHandler.handle(projectId, branchId, documentId, axiom);
   }
 
+  @Override
+  public void handle(@Nonnull List<AddAxiomChange> addAxiomChanges) {
+    var axiomsByDocument = Multimaps.transformValues(
+        Multimaps.index(addAxiomChanges, this::getOntDocIdFromChange),
+        AddAxiomChange::getAxiom);
+    axiomsByDocument.asMap().forEach((documentId, axioms) ->
+        addAxiomHandler.handle(projectId, branchId, documentId, axioms));
+  }
+
   @Override
   public void handle(@Nonnull RemoveAxiomChange removeAxiomChange) {
     var documentId = getOntDocIdFromChange(removeAxiomChange);
@@ -1,24 +1,55 @@
 package edu.stanford.owl2lpg.client.write.handlers.impl;
 
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+import edu.stanford.owl2lpg.client.write.CypherQuery;
 import edu.stanford.owl2lpg.client.write.GraphWriter;
+import edu.stanford.owl2lpg.client.write.OrphanNodeSweepScheduler;
+import edu.stanford.owl2lpg.client.write.Parameters;
 import edu.stanford.owl2lpg.client.write.TranslationTranslator;
+import edu.stanford.owl2lpg.model.Edge;
+import edu.stanford.owl2lpg.model.EdgeType;
+import edu.stanford.owl2lpg.model.Translation;
 import edu.stanford.owl2lpg.translator.AxiomTranslator;
 import edu.stanford.owl2lpg.translator.shared.BranchId;
 import edu.stanford.owl2lpg.translator.shared.OntologyDocumentId;
+import edu.stanford.owl2lpg.translator.shared.OntologyObjectDigester;
 import edu.stanford.owl2lpg.translator.shared.ProjectId;
+import edu.stanford.owl2lpg.translator.vocab.PropertyFields;
+import org.semanticweb.owlapi.model.AxiomType;
 import org.semanticweb.owlapi.model.OWLAxiom;
 
 import javax.annotation.Nonnull;
 import javax.inject.Inject;
 
 import static com.google.common.base.Preconditions.checkNotNull;
+import static edu.stanford.owl2lpg.client.util.Resources.read;
+import static edu.stanford.owl2lpg.translator.vocab.NodeLabels.ENTITY;
 
 /**
+ * Removes an axiom from an ontology document. The axiom node is found by
+ * its digest and its structure is removed by a query that walks the
+ * structural edges from the axiom node, keeping the entities and the
+ * expressions that other axioms still refer to. The axiom stays in the
+ * graph when other documents still have it, and only the edge from this
+ * document is removed.
+ * <p>
+ * The declaration axioms still use the query built from the axiom
+ * translation since they also remove the entity from the ontology
+ * signature.
+ * <p>
+ * The first removal starts the periodic sweep of the orphan nodes that
+ * the removal queries do not reach.
+ *
  * @author Josef Hardi <josef.hardi@stanford.edu> <br>
  * Stanford Center for Biomedical Informatics Research
  */
 public class RemoveAxiomHandler {
 
+  private static final String REMOVE_AXIOM_BY_DIGEST_QUERY_FILE = "write/remove-axiom-by-digest.cpy";
+
+  private static final String REMOVE_AXIOM_BY_DIGEST_QUERY = read(REMOVE_AXIOM_BY_DIGEST_QUERY_FILE);
+
   @Nonnull
   private final GraphWriter graphWriter;
 
@@ -28,13 +59,23 @@ public class RemoveAxiomHandler {
   @Nonnull
   private final TranslationTranslator translationTranslator;
 
+  @Nonnull
+  private final OntologyObjectDigester ontologyObjectDigester;
+
+  @Nonnull
+  private final OrphanNodeSweepScheduler orphanNodeSweepScheduler;
+
   @Inject
   public RemoveAxiomHandler(@Nonnull GraphWriter graphWriter,
                             @Nonnull AxiomTranslator axiomTranslator,
-                            @Nonnull TranslationTranslator translationTranslator) {
+                            @Nonnull TranslationTranslator translationTranslator,
+                            @Nonnull OntologyObjectDigester ontologyObjectDigester,
+                            @Nonnull OrphanNodeSweepScheduler orphanNodeSweepScheduler) {
     this.graphWriter = checkNotNull(graphWriter);
     this.axiomTranslator = checkNotNull(axiomTranslator);
     this.translationTranslator = checkNotNull(translationTranslator);
+    this.ontologyObjectDigester = checkNotNull(ontologyObjectDigester);
+    this.orphanNodeSweepScheduler = checkNotNull(orphanNodeSweepScheduler);
   }
 
   public void handle(@Nonnull ProjectId projectId,
@@ -42,7 +83,44 @@ public class RemoveAxiomHandler {
                      @Nonnull OntologyDocumentId documentId,
                      @Nonnull OWLAxiom axiom) {
     var translation = axiomTranslator.translate(axiom);
-    var deleteQuery = translationTranslator.translateToCypherDeleteQuery(projectId, branchId, documentId, translation);
-    deleteQuery.forEach(graphWriter::execute);
+    if (axiom.isOfType(AxiomType.DECLARATION)) {
+      var deleteQuery = translationTranslator.translateToCypherDeleteQuery(projectId, branchId, documentId, translation);
+      deleteQuery.forEach(graphWriter::execute);
+    } else {
+      var digest = ontologyObjectDigester.getDigestString(axiom);
+      var inputParams = Parameters.forAxiomRemoval(projectId, branchId, documentId, digest,
+          getAugmentedEdgesBetweenEntities(translation));
+      graphWriter.execute(CypherQuery.create(REMOVE_AXIOM_BY_DIGEST_QUERY, inputParams));
+    }
+    orphanNodeSweepScheduler.start();
+  }
+
+  /*
+   * The augmenting edges between entities, e.g., SUB_CLASS_OF, are not
+   * reachable from the axiom node, so they are passed to the query by the
+   * IRIs and labels of their entities.
+   */
+  @Nonnull
+  private static ImmutableList<ImmutableMap<String, Object>> getAugmentedEdgesBetweenEntities(@Nonnull Translation translation) {
+    return translation.edges()
+        .filter(edge -> edge.getLabel().getEdgeType() == EdgeType.AUGMENTING)
+        .filter(edge -> edge.getFromNode().isTypeOf(ENTITY) && edge.getToNode().isTypeOf(ENTITY))
+        .distinct()
+        .map(RemoveAxiomHandler::toRow)
+        .collect(ImmutableList.toImmutableList());
+  }
+
+  @Nonnull
+  private static ImmutableMap<String, Object> toRow(@Nonnull Edge edge) {
+    var fromNode = edge.getFromNode();
+    var toNode = edge.getToNode();
+    return ImmutableMap.<String, Object>builder()
+        .put("startIri", fromNode.getProperty(PropertyFields.IRI))
+        .put("startLabel", fromNode.getLabels().getMainLabel())
+        .put("endIri", toNode.getProperty(PropertyFields.IRI))
+        .put("endLabel", toNode.getLabels().getMainLabel())
+        .put("edgeLabel", edge.getLabel().getName())
+        .put("properties", edge.getProperties().getPrintableMap())
+        .build();
   }
 }
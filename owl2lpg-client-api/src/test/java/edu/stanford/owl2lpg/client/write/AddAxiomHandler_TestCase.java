@@ -0,0 +1,109 @@
+package edu.stanford.owl2lpg.client.write;
+
+import com.google.common.collect.ImmutableList;
+import edu.stanford.owl2lpg.client.bind.project.index.DefaultIndexLoader;
+import edu.stanford.owl2lpg.client.write.handlers.impl.AddAxiomHandler;
+import edu.stanford.owl2lpg.translator.DaggerTranslatorComponent;
+import edu.stanford.owl2lpg.translator.shared.BranchId;
+import edu.stanford.owl2lpg.translator.shared.BuiltInPrefixDeclarationsModule;
+import edu.stanford.owl2lpg.translator.shared.DigestFunctionModule;
+import edu.stanford.owl2lpg.translator.shared.OntologyDocumentId;
+import edu.stanford.owl2lpg.translator.shared.ProjectId;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.neo4j.driver.Driver;
+import org.neo4j.driver.GraphDatabase;
+import org.neo4j.harness.Neo4j;
+import org.neo4j.harness.Neo4jBuilders;
+import org.semanticweb.owlapi.model.IRI;
+import org.semanticweb.owlapi.model.OWLAxiom;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.semanticweb.owlapi.apibinding.OWLFunctionalSyntaxFactory.Class;
+import static org.semanticweb.owlapi.apibinding.OWLFunctionalSyntaxFactory.ObjectProperty;
+import static org.semanticweb.owlapi.apibinding.OWLFunctionalSyntaxFactory.ObjectSomeValuesFrom;
+import static org.semanticweb.owlapi.apibinding.OWLFunctionalSyntaxFactory.SubClassOf;
+
+/**
+ * @author Josef Hardi <josef.hardi@stanford.edu> <br>
+ * Stanford Center for Biomedical Informatics Research
+ */
+public class AddAxiomHandler_TestCase {
+
+  private static final String COUNT_AXIOMS =
+      "MATCH (a:Axiom) RETURN count(a)";
+
+  private static final String COUNT_RESTRICTIONS =
+      "MATCH (n:ObjectSomeValuesFrom) RETURN count(n)";
+
+  private static final String COUNT_AXIOM_EDGES =
+      "MATCH (:OntologyDocument)-[r:AXIOM]->(:Axiom) RETURN count(r)";
+
+  private final ProjectId projectId = ProjectId.create();
+
+  private final BranchId branchId = BranchId.create();
+
+  private final OntologyDocumentId documentIdA = OntologyDocumentId.create();
+
+  private final OntologyDocumentId documentIdB = OntologyDocumentId.create();
+
+  private Neo4j neo4j;
+
+  private Driver driver;
+
+  private AddAxiomHandler addAxiomHandler;
+
+  private OWLAxiom axiom;
+
+  @BeforeEach
+  void setUp() {
+    neo4j = Neo4jBuilders.newInProcessBuilder().build();
+    driver = GraphDatabase.driver(neo4j.boltURI());
+    new DefaultIndexLoader(driver).createIndexes();
+
+    var axiomTranslator = DaggerTranslatorComponent.builder()
+        .builtInPrefixDeclarationsModule(new BuiltInPrefixDeclarationsModule())
+        .digestFunctionModule(new DigestFunctionModule())
+        .build()
+        .getAxiomTranslator();
+    var translationTranslator = new TranslationTranslator(new QueryBuilderFactory());
+    addAxiomHandler = new AddAxiomHandler(new GraphWriter(driver), axiomTranslator, translationTranslator);
+
+    axiom = SubClassOf(Class(IRI.create("http://example.org/A")),
+        ObjectSomeValuesFrom(ObjectProperty(IRI.create("http://example.org/p")), Class(IRI.create("http://example.org/B"))));
+  }
+
+  @Test
+  void shouldNotCopyStructureOfExistingAxiomInBulk() {
+    addAxiomHandler.handle(projectId, branchId, documentIdA, ImmutableList.of(axiom));
+    addAxiomHandler.handle(projectId, branchId, documentIdB, ImmutableList.of(axiom));
+
+    assertThat(count(COUNT_AXIOMS), is(1L));
+    assertThat(count(COUNT_RESTRICTIONS), is(1L));
+    assertThat(count(COUNT_AXIOM_EDGES), is(2L));
+  }
+
+  @Test
+  void shouldNotCopyStructureOfAxiomAddedPerAxiom() {
+    addAxiomHandler.handle(projectId, branchId, documentIdA, axiom);
+    addAxiomHandler.handle(projectId, branchId, documentIdB, ImmutableList.of(axiom, axiom));
+
+    assertThat(count(COUNT_AXIOMS), is(1L));
+    assertThat(count(COUNT_RESTRICTIONS), is(1L));
+    assertThat(count(COUNT_AXIOM_EDGES), is(2L));
+  }
+
+  private long count(String query) {
+    try (var session = driver.session()) {
+      return session.run(query).single().get(0).asLong();
+    }
+  }
+
+  @AfterEach
+  void tearDown() {
+    driver.close();
+    neo4j.close();
+  }
+}
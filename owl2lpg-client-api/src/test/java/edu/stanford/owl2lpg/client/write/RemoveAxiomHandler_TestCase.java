@@ -0,0 +1,241 @@
+package edu.stanford.owl2lpg.client.write;
+
+import com.google.common.collect.ImmutableSet;
+import edu.stanford.owl2lpg.client.bind.project.index.DefaultIndexLoader;
+import edu.stanford.owl2lpg.client.write.handlers.impl.AddAxiomHandler;
+import edu.stanford.owl2lpg.client.write.handlers.impl.RemoveAxiomHandler;
+import edu.stanford.owl2lpg.translator.DaggerTranslatorComponent;
+import edu.stanford.owl2lpg.translator.shared.BinaryOwlOutputStreamFactory;
+import edu.stanford.owl2lpg.translator.shared.BranchId;
+import edu.stanford.owl2lpg.translator.shared.BuiltInPrefixDeclarationsModule;
+import edu.stanford.owl2lpg.translator.shared.DigestFunctionModule;
+import edu.stanford.owl2lpg.translator.shared.HashStrategy;
+import edu.stanford.owl2lpg.translator.shared.OntologyDocumentId;
+import edu.stanford.owl2lpg.translator.shared.OntologyObjectDigester;
+import edu.stanford.owl2lpg.translator.shared.ProjectId;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.neo4j.driver.Driver;
+import org.neo4j.driver.GraphDatabase;
+import org.neo4j.driver.Value;
+import org.neo4j.driver.Values;
+import org.neo4j.harness.Neo4j;
+import org.neo4j.harness.Neo4jBuilders;
+import org.semanticweb.owlapi.model.IRI;
+import org.semanticweb.owlapi.model.OWLAxiom;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.semanticweb.owlapi.apibinding.OWLFunctionalSyntaxFactory.Annotation;
+import static org.semanticweb.owlapi.apibinding.OWLFunctionalSyntaxFactory.AnnotationAssertion;
+import static org.semanticweb.owlapi.apibinding.OWLFunctionalSyntaxFactory.AnnotationProperty;
+import static org.semanticweb.owlapi.apibinding.OWLFunctionalSyntaxFactory.Class;
+import static org.semanticweb.owlapi.apibinding.OWLFunctionalSyntaxFactory.Literal;
+import static org.semanticweb.owlapi.apibinding.OWLFunctionalSyntaxFactory.ObjectIntersectionOf;
+import static org.semanticweb.owlapi.apibinding.OWLFunctionalSyntaxFactory.ObjectProperty;
+import static org.semanticweb.owlapi.apibinding.OWLFunctionalSyntaxFactory.ObjectSomeValuesFrom;
+import static org.semanticweb.owlapi.apibinding.OWLFunctionalSyntaxFactory.SubClassOf;
+
+/**
+ * @author Josef Hardi <josef.hardi@stanford.edu> <br>
+ * Stanford Center for Biomedical Informatics Research
+ */
+public class RemoveAxiomHandler_TestCase {
+
+  private static final String COUNT_AXIOMS =
+      "MATCH (a:Axiom) RETURN count(a)";
+
+  private static final String COUNT_SUB_CLASS_OF_EDGES =
+      "MATCH (:Class {iri:'http://example.org/A'})-[r:SUB_CLASS_OF]->(:Class {iri:'http://example.org/B'}) RETURN count(r)";
+
+  private static final String COUNT_RESTRICTIONS =
+      "MATCH (n:ObjectSomeValuesFrom) RETURN count(n)";
+
+  private static final String COUNT_INTERSECTIONS =
+      "MATCH (n:ObjectIntersectionOf) RETURN count(n)";
+
+  private static final String COUNT_AXIOMS_WITH_RESTRICTION =
+      "MATCH (a:Axiom)-[*1.. {structuralSpec:true}]->(:ObjectSomeValuesFrom) RETURN count(DISTINCT a)";
+
+  private static final String COUNT_ANNOTATIONS =
+      "MATCH (n:Annotation) RETURN count(n)";
+
+  private static final String COUNT_LITERALS =
+      "MATCH (n:Literal {lexicalForm:$lexicalForm}) RETURN count(n)";
+
+  private static final String COUNT_AXIOMS_WITH_LITERAL =
+      "MATCH (a:Axiom)-[*1.. {structuralSpec:true}]->(:Literal {lexicalForm:$lexicalForm}) RETURN count(DISTINCT a)";
+
+  private static final String COUNT_DOCUMENT_AXIOM_EDGES =
+      "MATCH (:OntologyDocument {ontologyDocumentId:$ontoDocId})-[r:AXIOM]->(:Axiom) RETURN count(r)";
+
+  private final ProjectId projectId = ProjectId.create();
+
+  private final BranchId branchId = BranchId.create();
+
+  private final OntologyDocumentId documentIdA = OntologyDocumentId.create();
+
+  private final OntologyDocumentId documentIdB = OntologyDocumentId.create();
+
+  private Neo4j neo4j;
+
+  private Driver driver;
+
+  private OrphanNodeSweepScheduler orphanNodeSweepScheduler;
+
+  private AddAxiomHandler addAxiomHandler;
+
+  private RemoveAxiomHandler removeAxiomHandler;
+
+  private OWLAxiom axiom;
+
+  @BeforeEach
+  void setUp() {
+    neo4j = Neo4jBuilders.newInProcessBuilder().build();
+    driver = GraphDatabase.driver(neo4j.boltURI());
+    new DefaultIndexLoader(driver).createIndexes();
+
+    var axiomTranslator = DaggerTranslatorComponent.builder()
+        .builtInPrefixDeclarationsModule(new BuiltInPrefixDeclarationsModule())
+        .digestFunctionModule(new DigestFunctionModule())
+        .build()
+        .getAxiomTranslator();
+    var translationTranslator = new TranslationTranslator(new QueryBuilderFactory());
+    var graphWriter = new GraphWriter(driver);
+    var digester = new OntologyObjectDigester(new BinaryOwlOutputStreamFactory(), HashStrategy.LEGACY);
+
+    orphanNodeSweepScheduler = new OrphanNodeSweepScheduler(new OrphanNodeSweeper(driver));
+
+    addAxiomHandler = new AddAxiomHandler(graphWriter, axiomTranslator, translationTranslator);
+    removeAxiomHandler = new RemoveAxiomHandler(graphWriter, axiomTranslator, translationTranslator, digester,
+        orphanNodeSweepScheduler);
+
+    axiom = SubClassOf(Class(IRI.create("http://example.org/A")), Class(IRI.create("http://example.org/B")));
+  }
+
+  @Test
+  void shouldRemoveAxiomAndItsAugmentedEdges() {
+    addAxiomHandler.handle(projectId, branchId, documentIdA, axiom);
+
+    removeAxiomHandler.handle(projectId, branchId, documentIdA, axiom);
+
+    assertThat(count(COUNT_AXIOMS), is(0L));
+    assertThat(count(COUNT_SUB_CLASS_OF_EDGES), is(0L));
+  }
+
+  @Test
+  void shouldStartSweepingOrphanNodesOnRemoval() {
+    addAxiomHandler.handle(projectId, branchId, documentIdA, axiom);
+    assertThat(orphanNodeSweepScheduler.isStarted(), is(false));
+
+    removeAxiomHandler.handle(projectId, branchId, documentIdA, axiom);
+
+    assertThat(orphanNodeSweepScheduler.isStarted(), is(true));
+  }
+
+  @Test
+  void shouldKeepAxiomSharedByAnotherDocument() {
+    addAxiomHandler.handle(projectId, branchId, documentIdA, axiom);
+    addAxiomHandler.handle(projectId, branchId, documentIdB, axiom);
+
+    removeAxiomHandler.handle(projectId, branchId, documentIdA, axiom);
+
+    assertThat(count(COUNT_AXIOMS), is(1L));
+    assertThat(count(COUNT_SUB_CLASS_OF_EDGES), is(1L));
+  }
+
+  @Test
+  void shouldNotRemoveAnythingWhenAxiomIsAbsentFromDocument() {
+    var otherAxiom = SubClassOf(Class(IRI.create("http://example.org/C")), Class(IRI.create("http://example.org/D")));
+    addAxiomHandler.handle(projectId, branchId, documentIdA, otherAxiom);
+    addAxiomHandler.handle(projectId, branchId, documentIdB, axiom);
+
+    removeAxiomHandler.handle(projectId, branchId, documentIdA, axiom);
+
+    assertThat(count(COUNT_AXIOMS), is(2L));
+    assertThat(count(COUNT_SUB_CLASS_OF_EDGES), is(1L));
+  }
+
+  @Test
+  void shouldKeepAnonymousExpressionSharedByAnotherAxiom() {
+    var p = ObjectProperty(IRI.create("http://example.org/p"));
+    var restriction = ObjectSomeValuesFrom(p, Class(IRI.create("http://example.org/B")));
+    var removedAxiom = SubClassOf(Class(IRI.create("http://example.org/A")),
+        ObjectIntersectionOf(Class(IRI.create("http://example.org/D")), restriction));
+    var otherAxiom = SubClassOf(Class(IRI.create("http://example.org/C")), restriction);
+    addAxiomHandler.handle(projectId, branchId, documentIdA, removedAxiom);
+    addAxiomHandler.handle(projectId, branchId, documentIdA, otherAxiom);
+    assertThat(count(COUNT_RESTRICTIONS), is(1L));
+    assertThat(count(COUNT_AXIOMS_WITH_RESTRICTION), is(2L));
+
+    removeAxiomHandler.handle(projectId, branchId, documentIdA, removedAxiom);
+
+    assertThat(count(COUNT_AXIOMS), is(1L));
+    assertThat(count(COUNT_INTERSECTIONS), is(0L));
+    assertThat(count(COUNT_RESTRICTIONS), is(1L));
+    assertThat(count(COUNT_AXIOMS_WITH_RESTRICTION), is(1L));
+  }
+
+  @Test
+  void shouldKeepLiteralSharedByAnotherAxiom() {
+    var label = AnnotationProperty(IRI.create("http://example.org/label"));
+    var comment = AnnotationProperty(IRI.create("http://example.org/comment"));
+    var removedAxiom = AnnotationAssertion(label, IRI.create("http://example.org/A"), Literal("shared"))
+        .getAnnotatedAxiom(ImmutableSet.of(Annotation(comment, Literal("unshared"))));
+    var otherAxiom = AnnotationAssertion(label, IRI.create("http://example.org/B"), Literal("shared"));
+    addAxiomHandler.handle(projectId, branchId, documentIdA, removedAxiom);
+    addAxiomHandler.handle(projectId, branchId, documentIdA, otherAxiom);
+    assertThat(countLiterals("shared"), is(1L));
+    assertThat(count(COUNT_AXIOMS_WITH_LITERAL, Values.parameters("lexicalForm", "shared")), is(2L));
+
+    removeAxiomHandler.handle(projectId, branchId, documentIdA, removedAxiom);
+
+    assertThat(count(COUNT_AXIOMS), is(1L));
+    assertThat(count(COUNT_ANNOTATIONS), is(0L));
+    assertThat(countLiterals("unshared"), is(0L));
+    assertThat(countLiterals("shared"), is(1L));
+    assertThat(count(COUNT_AXIOMS_WITH_LITERAL, Values.parameters("lexicalForm", "shared")), is(1L));
+  }
+
+  @Test
+  void shouldRemoveOnlyAxiomEdgeOfDocument() {
+    var restrictionAxiom = SubClassOf(Class(IRI.create("http://example.org/A")),
+        ObjectSomeValuesFrom(ObjectProperty(IRI.create("http://example.org/p")), Class(IRI.create("http://example.org/B"))));
+    addAxiomHandler.handle(projectId, branchId, documentIdA, restrictionAxiom);
+    addAxiomHandler.handle(projectId, branchId, documentIdB, restrictionAxiom);
+
+    removeAxiomHandler.handle(projectId, branchId, documentIdA, restrictionAxiom);
+
+    assertThat(countAxiomEdges(documentIdA), is(0L));
+    assertThat(countAxiomEdges(documentIdB), is(1L));
+    assertThat(count(COUNT_AXIOMS), is(1L));
+    assertThat(count(COUNT_RESTRICTIONS), is(1L));
+    assertThat(count(COUNT_AXIOMS_WITH_RESTRICTION), is(1L));
+  }
+
+  private long countLiterals(String lexicalForm) {
+    return count(COUNT_LITERALS, Values.parameters("lexicalForm", lexicalForm));
+  }
+
+  private long countAxiomEdges(OntologyDocumentId documentId) {
+    return count(COUNT_DOCUMENT_AXIOM_EDGES, Values.parameters("ontoDocId", documentId.getIdentifier()));
+  }
+
+  private long count(String query) {
+    return count(query, Values.parameters());
+  }
+
+  private long count(String query, Value parameters) {
+    try (var session = driver.session()) {
+      return session.run(query, parameters).single().get(0).asLong();
+    }
+  }
+
+  @AfterEach
+  void tearDown() {
+    orphanNodeSweepScheduler.close();
+    driver.close();
+    neo4j.close();
+  }
+}
@@ -8,7 +8,8 @@ import static picocli.CommandLine.*;
 
 @Command(name = "owl2lpg",
     subcommands = {
-        Owl2LpgTranslateCommand.class
+        Owl2LpgTranslateCommand.class,
+        Owl2LpgLoadCommand.class
     }
 )
 public class Owl2LpgCommand implements Callable<Integer> {
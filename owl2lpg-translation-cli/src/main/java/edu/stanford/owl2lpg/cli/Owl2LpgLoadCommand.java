@@ -0,0 +1,176 @@
+package edu.stanford.owl2lpg.cli;
+
+import edu.stanford.owl2lpg.exporter.csv.BoltExporterComponent;
+import edu.stanford.owl2lpg.exporter.csv.DaggerBoltExporterComponent;
+import edu.stanford.owl2lpg.exporter.csv.writer.bolt.BoltCsvWriterModule;
+import edu.stanford.owl2lpg.model.NodeFactoryModule;
+import edu.stanford.owl2lpg.translator.shared.BranchId;
+import edu.stanford.owl2lpg.translator.shared.DigestFunctionModule;
+import edu.stanford.owl2lpg.translator.shared.EdgeIdEncoding;
+import edu.stanford.owl2lpg.translator.shared.ExpressionIdFormat;
+import edu.stanford.owl2lpg.translator.shared.HashStrategy;
+import edu.stanford.owl2lpg.translator.shared.OntologyDocumentId;
+import edu.stanford.owl2lpg.translator.shared.ProjectId;
+import org.neo4j.driver.AuthTokens;
+import org.neo4j.driver.Driver;
+import org.neo4j.driver.GraphDatabase;
+import org.semanticweb.owlapi.apibinding.OWLManager;
+
+import java.nio.file.FileSystems;
+import java.nio.file.Path;
+import java.nio.file.PathMatcher;
+import java.util.UUID;
+import java.util.concurrent.Callable;
+
+import static picocli.CommandLine.Command;
+import static picocli.CommandLine.Option;
+import static picocli.CommandLine.Parameters;
+
+@Command(
+    name = "load"
+)
+public class Owl2LpgLoadCommand implements Callable<Integer> {
+
+  @Parameters(
+      index = "0",
+      paramLabel = "FILE",
+      description = "Input OWL ontology file location",
+      type = Path.class)
+  Path ontologyFileLocation;
+
+  @Option(
+      names = {"-a", "--address"},
+      description = "Bolt address of the running Neo4j database (default: ${DEFAULT-VALUE})",
+      type = String.class)
+  String address = "bolt://localhost:7687";
+
+  @Option(
+      names = {"-u", "--user"},
+      description = "Database user name (default: ${DEFAULT-VALUE})",
+      type = String.class)
+  String user = "neo4j";
+
+  @Option(
+      names = {"--password"},
+      arity = "0..1",
+      interactive = true,
+      description = "Database password, prompted for if no value is given")
+  String password;
+
+  @Option(
+      names = {"-p", "--projectId"},
+      description = "Project identifier",
+      type = String.class)
+  String projectId = UUID.randomUUID().toString();
+
+  @Option(
+      names = {"-b", "--branchId"},
+      description = "Branch identifier",
+      type = String.class)
+  String branchId = UUID.randomUUID().toString();
+
+  @Option(
+      names = {"-d", "--documentId"},
+      description = "Ontology document identifier",
+      type = String.class)
+  String ontDocId = UUID.randomUUID().toString();
+
+  @Option(
+      names = {"-t", "--threads"},
+      description = "Number of threads used to translate the axioms (default: ${DEFAULT-VALUE})",
+      type = Integer.class)
+  int threadCount = 1;
+
+  @Option(
+      names = {"--batch-size"},
+      description = "Number of nodes and relationships written per transaction (default: ${DEFAULT-VALUE})",
+      type = Integer.class)
+  int batchSize = BoltCsvWriterModule.DEFAULT_ROWS_PER_TRANSACTION;
+
+  @Option(
+      names = {"--hash"},
+      description = "Hash functions for the node identifiers and the axiom digests: ${COMPLETION-CANDIDATES} "
+          + "(default: ${DEFAULT-VALUE}). A graph must always be updated with the hash it was created with")
+  HashStrategy hashStrategy = HashStrategy.LEGACY;
+
+  @Option(
+      names = {"--edge-id"},
+      description = "Input hashed into the edge identifiers: ${COMPLETION-CANDIDATES} (default: ${DEFAULT-VALUE})")
+  EdgeIdEncoding edgeIdEncoding = EdgeIdEncoding.STRING;
+
+  @Option(
+      names = {"--expression-id"},
+      description = "Identifiers of the anonymous class expressions, data ranges and property chains: "
+          + "${COMPLETION-CANDIDATES} (default: ${DEFAULT-VALUE})")
+  ExpressionIdFormat expressionIdFormat = ExpressionIdFormat.NUMBER;
+
+  @Option(
+      names = {"--streaming"},
+      description = "Stream the axioms of the OWL ontology file instead of loading the whole ontology in memory. "
+          + "The load fails instead of retrying the document with another parser when the first one fails. "
+          + "Ignored when more than one thread is used")
+  boolean streaming = false;
+
+  @Option(
+      names = {"-h", "--help"},
+      usageHelp = true,
+      description = "Display a help message")
+  boolean helpRequested = false;
+
+  private final PathMatcher oboExtMatcher = FileSystems.getDefault().getPathMatcher("glob:*.obo");
+
+  @Override
+  public Integer call() {
+    int exitCode = 0;
+    try (var driver = createDriver()) {
+      var component = DaggerBoltExporterComponent.builder()
+          .boltCsvWriterModule(new BoltCsvWriterModule(driver, batchSize))
+          .digestFunctionModule(new DigestFunctionModule(hashStrategy, edgeIdEncoding, expressionIdFormat))
+          .nodeFactoryModule(new NodeFactoryModule())
+          .build();
+      var boltLoader = component.getBoltLoader();
+      boltLoader.createIndexes();
+      load(component);
+      System.out.printf("Transactions: %,d (%,d queries)\n",
+          boltLoader.getTransactionCount(), boltLoader.getQueryCount());
+    } catch (Exception e) {
+      e.printStackTrace();
+      exitCode = 1;
+    }
+    return exitCode;
+  }
+
+  private Driver createDriver() {
+    var authToken = (password == null) ? AuthTokens.none() : AuthTokens.basic(user, password);
+    return GraphDatabase.driver(address, authToken);
+  }
+
+  private void load(BoltExporterComponent component) throws Exception {
+    var ontologyFile = ontologyFileLocation.toFile();
+    if (oboExtMatcher.matches(ontologyFileLocation.getFileName())) {
+      System.out.println("Using OBO translator");
+      var exporter = component.getOboCsvExporter();
+      exporter.export(ontologyFile, ProjectId.create(projectId),
+          BranchId.create(branchId),
+          OntologyDocumentId.create(ontDocId), true, threadCount);
+      exporter.close();
+    } else if (!streaming || threadCount > 1) {
+      System.out.println("Using OWL translator");
+      var exporter = component.getOntologyCsvExporter();
+      var ontologyManager = OWLManager.createOWLOntologyManager();
+      var ontology = ontologyManager.loadOntologyFromOntologyDocument(ontologyFile);
+      exporter.export(ontology, ProjectId.create(projectId),
+          BranchId.create(branchId),
+          OntologyDocumentId.create(ontDocId),
+          threadCount);
+      exporter.close();
+    } else {
+      System.out.println("Using streaming OWL translator");
+      var exporter = component.getOwlCsvExporter();
+      exporter.export(ontologyFile, ProjectId.create(projectId),
+          BranchId.create(branchId),
+          OntologyDocumentId.create(ontDocId), true);
+      exporter.close();
+    }
+  }
+}
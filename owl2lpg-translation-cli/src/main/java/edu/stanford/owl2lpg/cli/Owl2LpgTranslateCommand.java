@@ -1,8 +1,19 @@
 package edu.stanford.owl2lpg.cli;
 
 import edu.stanford.owl2lpg.exporter.csv.DaggerCsvExporterComponent;
+import edu.stanford.owl2lpg.exporter.csv.writer.CsvCompression;
+import edu.stanford.owl2lpg.exporter.csv.writer.CsvEncoding;
+import edu.stanford.owl2lpg.exporter.csv.writer.CsvOutputLayout;
 import edu.stanford.owl2lpg.exporter.csv.writer.CsvWriterModule;
+import edu.stanford.owl2lpg.exporter.csv.writer.FlushPolicy;
+import edu.stanford.owl2lpg.exporter.csv.writer.SpillingNodeTracker;
+import edu.stanford.owl2lpg.exporter.csv.writer.TrackerStrategy;
+import edu.stanford.owl2lpg.model.NodeFactoryModule;
 import edu.stanford.owl2lpg.translator.shared.BranchId;
+import edu.stanford.owl2lpg.translator.shared.DigestFunctionModule;
+import edu.stanford.owl2lpg.translator.shared.EdgeIdEncoding;
+import edu.stanford.owl2lpg.translator.shared.ExpressionIdFormat;
+import edu.stanford.owl2lpg.translator.shared.HashStrategy;
 import edu.stanford.owl2lpg.translator.shared.OntologyDocumentId;
 import edu.stanford.owl2lpg.translator.shared.ProjectId;
 import org.semanticweb.owlapi.apibinding.OWLManager;
@@ -60,6 +71,80 @@ public class Owl2LpgTranslateCommand implements Callable<Integer> {
       type = String.class)
   String ontDocId = UUID.randomUUID().toString();
 
+  @Option(
+      names = {"-t", "--threads"},
+      description = "Number of threads used to translate the axioms (default: ${DEFAULT-VALUE})",
+      type = Integer.class)
+  int threadCount = 1;
+
+  @Option(
+      names = {"--tracker"},
+      description = "Duplicate tracking strategy: ${COMPLETION-CANDIDATES} (default: ${DEFAULT-VALUE})")
+  TrackerStrategy trackerStrategy = TrackerStrategy.COMPACT;
+
+  @Option(
+      names = {"--csv-encoding"},
+      description = "CSV row encoder: ${COMPLETION-CANDIDATES} (default: ${DEFAULT-VALUE})")
+  CsvEncoding csvEncoding = CsvEncoding.STREAMING;
+
+  @Option(
+      names = {"--tracker-size"},
+      description = "Expected number of nodes, and of edges, in the export. The SPILLING tracker sizes its Bloom "
+          + "filters for it, which take about 1.2 bytes per node or edge (default: ${DEFAULT-VALUE})",
+      type = Long.class)
+  long trackerExpectedSize = SpillingNodeTracker.DEFAULT_EXPECTED_INSERTIONS;
+
+  @Option(
+      names = {"--layout"},
+      description = "CSV output layout: ${COMPLETION-CANDIDATES} (default: ${DEFAULT-VALUE})")
+  CsvOutputLayout.Mode outputLayout = CsvOutputLayout.Mode.SINGLE_FILE;
+
+  @Option(
+      names = {"--shards"},
+      description = "Number of shards in the HASH_PARTITIONED layout (default: ${DEFAULT-VALUE})",
+      type = Integer.class)
+  int shardCount = 8;
+
+  @Option(
+      names = {"--compress"},
+      arity = "0..1",
+      fallbackValue = "GZIP",
+      description = "Compress the CSV files: ${COMPLETION-CANDIDATES} (default: ${DEFAULT-VALUE}, or GZIP if no value is given)")
+  CsvCompression compression = CsvCompression.NONE;
+
+  @Option(
+      names = {"--hash"},
+      description = "Hash functions for the node identifiers and the axiom digests: ${COMPLETION-CANDIDATES} "
+          + "(default: ${DEFAULT-VALUE}). A graph must always be updated with the hash it was created with")
+  HashStrategy hashStrategy = HashStrategy.LEGACY;
+
+  @Option(
+      names = {"--edge-id"},
+      description = "Input hashed into the edge identifiers: ${COMPLETION-CANDIDATES} (default: ${DEFAULT-VALUE}). "
+          + "BINARY is faster but its identifiers differ from the ones in graphs created with STRING")
+  EdgeIdEncoding edgeIdEncoding = EdgeIdEncoding.STRING;
+
+  @Option(
+      names = {"--expression-id"},
+      description = "Identifiers of the anonymous class expressions, data ranges and property chains: "
+          + "${COMPLETION-CANDIDATES} (default: ${DEFAULT-VALUE}). STRUCTURAL derives them from the expression "
+          + "content, so the same expression gets the same node across loads")
+  ExpressionIdFormat expressionIdFormat = ExpressionIdFormat.NUMBER;
+
+  @Option(
+      names = {"--node-id-cache"},
+      description = "Number of node identifiers of the anonymous objects kept on the heap before they are moved "
+          + "to an off-heap index, or 0 to keep all of them on the heap (default: ${DEFAULT-VALUE})",
+      type = Integer.class)
+  int nodeIdCacheSize = NodeFactoryModule.UNBOUNDED;
+
+  @Option(
+      names = {"--streaming"},
+      description = "Stream the axioms of the OWL ontology file instead of loading the whole ontology in memory. "
+          + "The load fails instead of retrying the document with another parser when the first one fails. "
+          + "Ignored when more than one thread is used")
+  boolean streaming = false;
+
   @Option(
       names = {"-h", "--help"},
       usageHelp = true,
@@ -77,9 +162,12 @@ public class Owl2LpgTranslateCommand implements Callable<Integer> {
         if (oboExtMatcher.matches(ontologyFile)) {
           System.out.println("Using OBO translator");
           exitCode = translateOboToCsv();
-        } else {
+        } else if (!streaming || threadCount > 1) {
           System.out.println("Using OWL translator");
           exitCode = translateOwlToCsv();
+        } else {
+          System.out.println("Using streaming OWL translator");
+          exitCode = translateOwlToCsvStreaming();
         }
         break;
     }
@@ -89,15 +177,18 @@ public class Owl2LpgTranslateCommand implements Callable<Integer> {
   private int translateOboToCsv() {
     int exitCode = 0;
     try {
-      var csvWriterModule = new CsvWriterModule(outputDirectoryLocation);
+      var csvWriterModule = createCsvWriterModule();
       var exporter = DaggerCsvExporterComponent.builder()
           .csvWriterModule(csvWriterModule)
+          .digestFunctionModule(new DigestFunctionModule(hashStrategy, edgeIdEncoding, expressionIdFormat))
+          .nodeFactoryModule(new NodeFactoryModule(nodeIdCacheSize))
           .build()
           .getOboCsvExporter();
       var ontologyFile = ontologyFileLocation.toFile();
       exporter.export(ontologyFile, ProjectId.create(projectId),
           BranchId.create(branchId),
-          OntologyDocumentId.create(ontDocId), true);
+          OntologyDocumentId.create(ontDocId), true, threadCount);
+      exporter.close();
     } catch (Exception e) {
       e.printStackTrace();
       exitCode = 1;
@@ -108,9 +199,11 @@ public class Owl2LpgTranslateCommand implements Callable<Integer> {
   private int translateOwlToCsv() {
     int exitCode = 0;
     try {
-      var csvWriterModule = new CsvWriterModule(outputDirectoryLocation);
+      var csvWriterModule = createCsvWriterModule();
       var exporter = DaggerCsvExporterComponent.builder()
           .csvWriterModule(csvWriterModule)
+          .digestFunctionModule(new DigestFunctionModule(hashStrategy, edgeIdEncoding, expressionIdFormat))
+          .nodeFactoryModule(new NodeFactoryModule(nodeIdCacheSize))
           .build()
           .getOntologyCsvExporter();
       var ontologyFile = ontologyFileLocation.toFile();
@@ -118,11 +211,51 @@ public class Owl2LpgTranslateCommand implements Callable<Integer> {
       var ontology = ontologyManager.loadOntologyFromOntologyDocument(ontologyFile);
       exporter.export(ontology, ProjectId.create(projectId),
           BranchId.create(branchId),
-          OntologyDocumentId.create(ontDocId));
+          OntologyDocumentId.create(ontDocId),
+          threadCount);
+      exporter.close();
+    } catch (Exception e) {
+      e.printStackTrace();
+      exitCode = 1;
+    }
+    return exitCode;
+  }
+
+  private int translateOwlToCsvStreaming() {
+    int exitCode = 0;
+    try {
+      var csvWriterModule = createCsvWriterModule();
+      var exporter = DaggerCsvExporterComponent.builder()
+          .csvWriterModule(csvWriterModule)
+          .digestFunctionModule(new DigestFunctionModule(hashStrategy, edgeIdEncoding, expressionIdFormat))
+          .nodeFactoryModule(new NodeFactoryModule(nodeIdCacheSize))
+          .build()
+          .getOwlCsvExporter();
+      var ontologyFile = ontologyFileLocation.toFile();
+      exporter.export(ontologyFile, ProjectId.create(projectId),
+          BranchId.create(branchId),
+          OntologyDocumentId.create(ontDocId), true);
+      exporter.close();
     } catch (Exception e) {
       e.printStackTrace();
       exitCode = 1;
     }
     return exitCode;
   }
+
+  private CsvWriterModule createCsvWriterModule() {
+    return new CsvWriterModule(outputDirectoryLocation, FlushPolicy.onClose(), trackerStrategy, csvEncoding,
+        createOutputLayout(), compression, trackerExpectedSize);
+  }
+
+  private CsvOutputLayout createOutputLayout() {
+    switch (outputLayout) {
+      case PER_LABEL:
+        return CsvOutputLayout.perLabel();
+      case HASH_PARTITIONED:
+        return CsvOutputLayout.hashPartitioned(shardCount);
+      default:
+        return CsvOutputLayout.singleFile();
+    }
+  }
 }
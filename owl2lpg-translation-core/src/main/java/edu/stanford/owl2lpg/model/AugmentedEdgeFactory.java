@@ -3,7 +3,6 @@ package edu.stanford.owl2lpg.model;
 import com.google.common.collect.ImmutableList;
 import com.google.common.collect.ImmutableMap;
 import com.google.common.collect.Lists;
-import edu.stanford.owl2lpg.translator.ClassExpressionTranslator;
 import edu.stanford.owl2lpg.translator.vocab.EdgeLabel;
 import edu.stanford.owl2lpg.translator.vocab.PropertyFields;
 import org.semanticweb.owlapi.model.OWLClassExpression;
@@ -60,18 +59,13 @@ public class AugmentedEdgeFactory {
   @Nonnull
   private final EdgeFactory edgeFactory;
 
-  @Nonnull
-  private final ClassExpressionTranslator classExprTranslator;
-
   @Nonnull
   private final AugmentedEdgeInclusionChecker augmentedEdgeInclusionChecker;
 
   @Inject
   public AugmentedEdgeFactory(@Nonnull EdgeFactory edgeFactory,
-                              @Nonnull ClassExpressionTranslator classExprTranslator,
                               @Nonnull AugmentedEdgeInclusionChecker augmentedEdgeInclusionChecker) {
     this.edgeFactory = checkNotNull(edgeFactory);
-    this.classExprTranslator = checkNotNull(classExprTranslator);
     this.augmentedEdgeInclusionChecker = checkNotNull(augmentedEdgeInclusionChecker);
   }
 
@@ -197,14 +191,14 @@ public class AugmentedEdgeFactory {
 
   @Nonnull
   public Optional<List<Edge>> getRelatedToEdges(@Nonnull Node subClassNode,
-                                                @Nonnull OWLClassExpression superClassExpresion) {
+                                                @Nonnull Translation superClassTranslation) {
     if (augmentedEdgeInclusionChecker.allows(RELATED_TO)) {
       /* Add extra augmented edges when the superclass is an expression */
-      var edgeList = superClassExpresion.accept(new OWLClassExpressionVisitorExAdapter<List<Edge>>(ImmutableList.of()) {
+      var superClassExpression = (OWLClassExpression) superClassTranslation.getTranslatedObject();
+      var edgeList = superClassExpression.accept(new OWLClassExpressionVisitorExAdapter<List<Edge>>(ImmutableList.of()) {
         @Override
         public List<Edge> visit(OWLObjectIntersectionOf ce) {
-          var translation = classExprTranslator.translate(ce);
-          return translation.getDirectNodes()
+          return superClassTranslation.getDirectNodes()
               .stream()
               .map(ceNode -> getAugmentedEdge(subClassNode, ceNode, SUB_CLASS_OF))
               .collect(ImmutableList.toImmutableList());
@@ -293,9 +287,8 @@ public class AugmentedEdgeFactory {
           var property = restriction.getProperty();
           if (property.isNamed()) {
             var entity = (OWLEntity) property;
-            var translation = classExprTranslator.translate(restriction);
-            var propertyNode = translation.findFirstDirectNodeFrom(propertyEdgeLabel);
-            var fillerNode = translation.findFirstDirectNodeFrom(fillerEdgeLabel);
+            var propertyNode = superClassTranslation.findFirstDirectNodeFrom(propertyEdgeLabel);
+            var fillerNode = superClassTranslation.findFirstDirectNodeFrom(fillerEdgeLabel);
             if (propertyNode.isPresent() && fillerNode.isPresent()) {
               return Optional.of(getRelatedToEdge(subjectNode,
                   fillerNode.get(),
@@ -0,0 +1,213 @@
+package edu.stanford.owl2lpg.model;
+
+import at.favre.lib.bytes.Bytes;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.CacheWriter;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.RemovalCause;
+import com.google.common.hash.HashCode;
+import com.google.common.hash.HashFunction;
+import edu.stanford.owl2lpg.translator.shared.OntologyObjectDigester;
+import org.semanticweb.owlapi.model.OWLObject;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import javax.inject.Inject;
+import javax.inject.Named;
+import java.nio.charset.StandardCharsets;
+import java.util.Optional;
+import java.util.concurrent.atomic.LongAdder;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
+
+/**
+ * A thread-safe {@link NodeIdMapper} that keeps a bounded number of objects
+ * in memory. The node identifiers of the recently used objects are kept in
+ * a cache on the heap. When an object is evicted from the cache, its
+ * identifier is moved to an off-heap index keyed by the digest of the
+ * object, which takes 24 bytes per entry instead of the object itself. An
+ * object that is encountered again after its eviction gets its identifier
+ * back from the index. The objects are only digested once the index holds
+ * an identifier, so a translation that fits in the cache pays nothing for
+ * it. The evictions run on the calling threads, so the cache does not grow
+ * past its maximum size while a background eviction is pending.
+ * <p>
+ * The index is not bounded: it keeps one entry per evicted object for the
+ * lifetime of the mapper, since forgetting an identifier would give the
+ * object a second node. Its size and memory usage are reported by
+ * {@link #getStats()}, and its memory counts against the JVM limit on direct
+ * memory, i.e., <code>-XX:MaxDirectMemorySize</code>.
+ *
+ * @author Josef Hardi <josef.hardi@stanford.edu> <br>
+ * Stanford Center for Biomedical Informatics Research
+ */
+@SuppressWarnings("UnstableApiUsage")
+public class BoundedNodeIdMapper implements NodeIdMapper {
+
+  public static final int DEFAULT_MAXIMUM_RESIDENT_SIZE = 1_000_000;
+
+  private static final int INITIAL_SPILL_CAPACITY = 1 << 16;
+
+  @Nonnull
+  private final NodeIdProvider numberIdProvider;
+
+  @Nonnull
+  private final NodeIdProvider digestIdProvider;
+
+  @Nonnull
+  private final NodeIdProvider structuralIdProvider;
+
+  @Nonnull
+  private final IdFormatChecker idFormatChecker;
+
+  @Nonnull
+  private final SingleEncounterNodeChecker singleEncounterNodeChecker;
+
+  @Nonnull
+  private final OntologyObjectDigester ontologyObjectDigester;
+
+  @Nonnull
+  private final HashFunction hashFunction;
+
+  @Nonnull
+  private final Cache<Object, NodeId> residentNodeIds;
+
+  @Nonnull
+  private final OffHeapDigestIndex spilledNodeIds = new OffHeapDigestIndex(INITIAL_SPILL_CAPACITY);
+
+  private final LongAdder spillHitCount = new LongAdder();
+
+  /* Set once the first identifier is spilled; the index never shrinks */
+  private volatile boolean hasSpilled = false;
+
+  @Inject
+  public BoundedNodeIdMapper(@Nonnull @Named("number") NodeIdProvider numberIdProvider,
+                             @Nonnull @Named("digest") NodeIdProvider digestIdProvider,
+                             @Nonnull @Named("structural") NodeIdProvider structuralIdProvider,
+                             @Nonnull IdFormatChecker idFormatChecker,
+                             @Nonnull SingleEncounterNodeChecker singleEncounterNodeChecker,
+                             @Nonnull OntologyObjectDigester ontologyObjectDigester,
+                             @Nonnull HashFunction hashFunction) {
+    this(numberIdProvider, digestIdProvider, structuralIdProvider, idFormatChecker,
+        singleEncounterNodeChecker, ontologyObjectDigester, hashFunction, DEFAULT_MAXIMUM_RESIDENT_SIZE);
+  }
+
+  public BoundedNodeIdMapper(@Nonnull NodeIdProvider numberIdProvider,
+                             @Nonnull NodeIdProvider digestIdProvider,
+                             @Nonnull NodeIdProvider structuralIdProvider,
+                             @Nonnull IdFormatChecker idFormatChecker,
+                             @Nonnull SingleEncounterNodeChecker singleEncounterNodeChecker,
+                             @Nonnull OntologyObjectDigester ontologyObjectDigester,
+                             @Nonnull HashFunction hashFunction,
+                             int maximumResidentSize) {
+    checkArgument(maximumResidentSize >= 0, "Maximum resident size must not be negative");
+    this.numberIdProvider = checkNotNull(numberIdProvider);
+    this.digestIdProvider = checkNotNull(digestIdProvider);
+    this.structuralIdProvider = checkNotNull(structuralIdProvider);
+    this.idFormatChecker = checkNotNull(idFormatChecker);
+    this.singleEncounterNodeChecker = checkNotNull(singleEncounterNodeChecker);
+    this.ontologyObjectDigester = checkNotNull(ontologyObjectDigester);
+    this.hashFunction = checkNotNull(hashFunction);
+    this.residentNodeIds = Caffeine.newBuilder()
+        .maximumSize(maximumResidentSize)
+        .recordStats()
+        .executor(Runnable::run)
+        .writer(new SpillingWriter())
+        .build();
+  }
+
+  @Nonnull
+  @Override
+  public NodeId get(@Nonnull Object o) {
+    var idFormat = idFormatChecker.getIdFormatFor(o);
+    switch (idFormat) {
+      case DIGEST:
+        return digestIdProvider.getId(o);
+      case STRUCTURAL:
+        return structuralIdProvider.getId(o);
+      case NUMBER:
+        if (singleEncounterNodeChecker.isSingleEncounterNodeObject(o)) {
+          return numberIdProvider.getId(o);
+        } else {
+          return residentNodeIds.get(o, this::getSpilledOrCreate);
+        }
+      default:
+        throw new RuntimeException("Failed to get or create the node id for object: " + o);
+    }
+  }
+
+  @Nonnull
+  @Override
+  public Optional<NodeIdMapperStats> getStats() {
+    var cacheStats = residentNodeIds.stats();
+    long spillHits = spillHitCount.sum();
+    synchronized (spilledNodeIds) {
+      return Optional.of(NodeIdMapperStats.create(
+          residentNodeIds.estimatedSize(),
+          spilledNodeIds.size(),
+          spilledNodeIds.getMemoryUsage(),
+          cacheStats.hitCount(),
+          spillHits,
+          cacheStats.missCount() - spillHits));
+    }
+  }
+
+  @Nonnull
+  private NodeId getSpilledOrCreate(@Nonnull Object o) {
+    if (!hasSpilled) {
+      return numberIdProvider.getId(o);
+    }
+    var digest = getDigest(o);
+    long number;
+    synchronized (spilledNodeIds) {
+      number = spilledNodeIds.get(digest.asLong(), getLowBits(digest));
+    }
+    if (number != OffHeapDigestIndex.NO_NUMBER) {
+      spillHitCount.increment();
+      return NodeId.create(number);
+    }
+    return numberIdProvider.getId(o);
+  }
+
+  private void spill(@Nonnull Object o, @Nonnull NodeId nodeId) {
+    var digest = getDigest(o);
+    var number = Bytes.wrap(nodeId.getBytes()).toLong();
+    synchronized (spilledNodeIds) {
+      spilledNodeIds.put(digest.asLong(), getLowBits(digest), number);
+    }
+    hasSpilled = true;
+  }
+
+  @Nonnull
+  private HashCode getDigest(@Nonnull Object o) {
+    if (o instanceof OWLObject) {
+      return ontologyObjectDigester.getDigest((OWLObject) o);
+    } else {
+      return hashFunction.newHasher()
+          .putString(o.getClass().getName(), StandardCharsets.UTF_8)
+          .putString(o.toString(), StandardCharsets.UTF_8)
+          .hash();
+    }
+  }
+
+  private static long getLowBits(@Nonnull HashCode digest) {
+    return Bytes.from(digest.asBytes(), 8, 8).toLong();
+  }
+
+  /* Moves the identifier of an evicted object to the off-heap index, atomically with the eviction */
+  private class SpillingWriter implements CacheWriter<Object, NodeId> {
+
+    @Override
+    public void write(@Nonnull Object key, @Nonnull NodeId value) {
+      // NO-OP
+    }
+
+    @Override
+    public void delete(@Nonnull Object key, @Nullable NodeId value, @Nonnull RemovalCause cause) {
+      if (cause.wasEvicted() && value != null) {
+        spill(key, value);
+      }
+    }
+  }
+}
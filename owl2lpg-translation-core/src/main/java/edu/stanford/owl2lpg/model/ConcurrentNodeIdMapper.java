@@ -0,0 +1,72 @@
+package edu.stanford.owl2lpg.model;
+
+import javax.annotation.Nonnull;
+import javax.inject.Inject;
+import javax.inject.Named;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+
+/**
+ * A thread-safe {@link NodeIdMapper} that can be shared by concurrent
+ * translation sessions. The objects that can be encountered more than once
+ * are mapped through a concurrent map, so every session gets the same node
+ * identifier for the same object. The number id provider must be thread-safe
+ * as well.
+ *
+ * @author Josef Hardi <josef.hardi@stanford.edu> <br>
+ * Stanford Center for Biomedical Informatics Research
+ */
+public class ConcurrentNodeIdMapper implements NodeIdMapper {
+
+  @Nonnull
+  private final NodeIdProvider numberIdProvider;
+
+  @Nonnull
+  private final NodeIdProvider digestIdProvider;
+
+  @Nonnull
+  private final NodeIdProvider structuralIdProvider;
+
+  @Nonnull
+  private final IdFormatChecker idFormatChecker;
+
+  @Nonnull
+  private final SingleEncounterNodeChecker singleEncounterNodeChecker;
+
+  private final ConcurrentMap<Object, NodeId> nodeIdMapper = new ConcurrentHashMap<>(1_000_000);
+
+  @Inject
+  public ConcurrentNodeIdMapper(@Nonnull @Named("number") NodeIdProvider numberIdProvider,
+                                @Nonnull @Named("digest") NodeIdProvider digestIdProvider,
+                                @Nonnull @Named("structural") NodeIdProvider structuralIdProvider,
+                                @Nonnull IdFormatChecker idFormatChecker,
+                                @Nonnull SingleEncounterNodeChecker singleEncounterNodeChecker) {
+    this.numberIdProvider = checkNotNull(numberIdProvider);
+    this.digestIdProvider = checkNotNull(digestIdProvider);
+    this.structuralIdProvider = checkNotNull(structuralIdProvider);
+    this.idFormatChecker = checkNotNull(idFormatChecker);
+    this.singleEncounterNodeChecker = checkNotNull(singleEncounterNodeChecker);
+  }
+
+  @Nonnull
+  @Override
+  public NodeId get(@Nonnull Object o) {
+    var idFormat = idFormatChecker.getIdFormatFor(o);
+    switch (idFormat) {
+      case DIGEST:
+        return digestIdProvider.getId(o);
+      case STRUCTURAL:
+        return structuralIdProvider.getId(o);
+      case NUMBER:
+        if (singleEncounterNodeChecker.isSingleEncounterNodeObject(o)) {
+          return numberIdProvider.getId(o);
+        } else {
+          return nodeIdMapper.computeIfAbsent(o, numberIdProvider::getId);
+        }
+      default:
+        throw new RuntimeException("Failed to get or create the node id for object: " + o);
+    }
+  }
+}
@@ -7,7 +7,7 @@ package edu.stanford.owl2lpg.model;
 public interface IdFormatChecker {
 
   enum IdFormat {
-    DIGEST, NUMBER, STRING
+    DIGEST, NUMBER, STRING, STRUCTURAL
   }
 
   IdFormat getIdFormatFor(Object o);
@@ -1,17 +1,57 @@
 package edu.stanford.owl2lpg.model;
 
-import dagger.Binds;
+import com.google.common.hash.HashFunction;
 import dagger.Module;
+import dagger.Provides;
 import edu.stanford.owl2lpg.translator.TranslationSessionScope;
+import edu.stanford.owl2lpg.translator.shared.OntologyObjectDigester;
+
+import javax.inject.Named;
+import javax.inject.Provider;
+
+import static com.google.common.base.Preconditions.checkArgument;
 
 /**
  * @author Josef Hardi <josef.hardi@stanford.edu> <br>
  * Stanford Center for Biomedical Informatics Research
  */
 @Module(includes = NodeIdMapperModule.class)
-public abstract class NodeFactoryModule {
+public class NodeFactoryModule {
+
+  public static final int UNBOUNDED = 0;
+
+  private final int maximumResidentSize;
+
+  public NodeFactoryModule() {
+    this(UNBOUNDED);
+  }
+
+  /**
+   * @param maximumResidentSize the number of node identifiers the mapper
+   *                            keeps on the heap before moving them to an
+   *                            off-heap index, or {@link #UNBOUNDED} to keep
+   *                            all of them on the heap
+   */
+  public NodeFactoryModule(int maximumResidentSize) {
+    checkArgument(maximumResidentSize >= 0, "Maximum resident size must not be negative");
+    this.maximumResidentSize = maximumResidentSize;
+  }
 
-  @Binds
+  @Provides
   @TranslationSessionScope
-  public abstract NodeIdMapper provideNodeIdMapper(NodeIdMapperImpl impl);
+  public NodeIdMapper provideNodeIdMapper(Provider<ConcurrentNodeIdMapper> concurrentNodeIdMapper,
+                                          @Named("number") NodeIdProvider numberIdProvider,
+                                          @Named("digest") NodeIdProvider digestIdProvider,
+                                          @Named("structural") NodeIdProvider structuralIdProvider,
+                                          IdFormatChecker idFormatChecker,
+                                          SingleEncounterNodeChecker singleEncounterNodeChecker,
+                                          OntologyObjectDigester ontologyObjectDigester,
+                                          HashFunction hashFunction) {
+    if (maximumResidentSize == UNBOUNDED) {
+      return concurrentNodeIdMapper.get();
+    }
+    return new BoundedNodeIdMapper(numberIdProvider, digestIdProvider, structuralIdProvider,
+        idFormatChecker, singleEncounterNodeChecker, ontologyObjectDigester, hashFunction,
+        maximumResidentSize);
+  }
 }
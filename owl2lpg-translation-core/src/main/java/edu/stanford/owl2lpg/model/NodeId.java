@@ -37,6 +37,12 @@ public abstract class NodeId {
   @Nonnull
   public abstract byte[] getBytes();
 
+  /**
+   * Returns the hex encoding of the identifier bytes. The string is not
+   * kept, so that the node identifiers held by the mapper stay small; the
+   * CSV writers and the edge identifier provider encode the bytes directly
+   * instead of calling this method.
+   */
   @JsonValue
   public String asString() {
     return Bytes.wrap(getBytes()).encodeHex();
@@ -1,6 +1,7 @@
 package edu.stanford.owl2lpg.model;
 
 import javax.annotation.Nonnull;
+import java.util.Optional;
 
 /**
  * @author Josef Hardi <josef.hardi@stanford.edu> <br>
@@ -10,4 +11,13 @@ public interface NodeIdMapper {
 
   @Nonnull
   NodeId get(@Nonnull Object o);
+
+  /**
+   * Returns the statistics of the mapper, or an empty optional if the mapper
+   * does not record them.
+   */
+  @Nonnull
+  default Optional<NodeIdMapperStats> getStats() {
+    return Optional.empty();
+  }
 }
@@ -21,6 +21,9 @@ public class NodeIdMapperImpl implements NodeIdMapper {
   @Nonnull
   private final NodeIdProvider digestIdProvider;
 
+  @Nonnull
+  private final NodeIdProvider structuralIdProvider;
+
   @Nonnull
   private final IdFormatChecker idFormatChecker;
 
@@ -32,10 +35,12 @@ public class NodeIdMapperImpl implements NodeIdMapper {
   @Inject
   public NodeIdMapperImpl(@Nonnull @Named("number") NodeIdProvider numberIdProvider,
                           @Nonnull @Named("digest") NodeIdProvider digestIdProvider,
+                          @Nonnull @Named("structural") NodeIdProvider structuralIdProvider,
                           @Nonnull IdFormatChecker idFormatChecker,
                           @Nonnull SingleEncounterNodeChecker singleEncounterNodeChecker) {
     this.numberIdProvider = checkNotNull(numberIdProvider);
     this.digestIdProvider = checkNotNull(digestIdProvider);
+    this.structuralIdProvider = checkNotNull(structuralIdProvider);
     this.idFormatChecker = checkNotNull(idFormatChecker);
     this.singleEncounterNodeChecker = checkNotNull(singleEncounterNodeChecker);
   }
@@ -51,6 +56,8 @@ public class NodeIdMapperImpl implements NodeIdMapper {
     switch (idFormat) {
       case DIGEST:
         return digestIdProvider.getId(o);
+      case STRUCTURAL:
+        return structuralIdProvider.getId(o);
       case NUMBER:
         if (singleEncounterNodeChecker.isSingleEncounterNodeObject(o)) {
           return numberIdProvider.getId(o);
@@ -3,10 +3,11 @@ package edu.stanford.owl2lpg.model;
 import dagger.Binds;
 import dagger.Module;
 import edu.stanford.owl2lpg.translator.TranslationSessionScope;
+import edu.stanford.owl2lpg.translator.internal.BlockReservingIdProvider;
 import edu.stanford.owl2lpg.translator.internal.DigestNodeIdProvider;
 import edu.stanford.owl2lpg.translator.internal.IdFormatCheckerImpl;
-import edu.stanford.owl2lpg.translator.internal.NumberIncrementIdProvider;
 import edu.stanford.owl2lpg.translator.internal.SingleEncounterNodeCheckerImpl;
+import edu.stanford.owl2lpg.translator.internal.StructuralNodeIdProvider;
 import edu.stanford.owl2lpg.translator.shared.DigestFunctionModule;
 
 import javax.inject.Named;
@@ -22,7 +23,7 @@ public abstract class NodeIdMapperModule {
   @Named("number")
   @TranslationSessionScope
   public abstract NodeIdProvider
-  provideNodeIdProvider(NumberIncrementIdProvider impl);
+  provideNodeIdProvider(BlockReservingIdProvider impl);
 
   @Binds
   @Named("digest")
@@ -30,6 +31,12 @@ public abstract class NodeIdMapperModule {
   public abstract NodeIdProvider
   provideDigestNodeIdProvider(DigestNodeIdProvider impl);
 
+  @Binds
+  @Named("structural")
+  @TranslationSessionScope
+  public abstract NodeIdProvider
+  provideStructuralNodeIdProvider(StructuralNodeIdProvider impl);
+
   @Binds
   public abstract IdFormatChecker
   provideIdFormatChecker(IdFormatCheckerImpl impl);
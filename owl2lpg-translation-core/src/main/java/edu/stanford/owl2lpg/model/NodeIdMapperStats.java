@@ -0,0 +1,47 @@
+package edu.stanford.owl2lpg.model;
+
+import com.google.auto.value.AutoValue;
+
+/**
+ * The statistics of a {@link NodeIdMapper} that bounds the number of node
+ * identifiers it keeps in memory.
+ *
+ * @author Josef Hardi <josef.hardi@stanford.edu> <br>
+ * Stanford Center for Biomedical Informatics Research
+ */
+@AutoValue
+public abstract class NodeIdMapperStats {
+
+  public static NodeIdMapperStats create(long residentCount,
+                                         long spilledCount,
+                                         long spilledMemoryUsage,
+                                         long hitCount,
+                                         long spillHitCount,
+                                         long missCount) {
+    return new AutoValue_NodeIdMapperStats(residentCount, spilledCount, spilledMemoryUsage,
+        hitCount, spillHitCount, missCount);
+  }
+
+  /** The number of identifiers kept on the heap */
+  public abstract long getResidentCount();
+
+  /** The number of identifiers moved to the off-heap index */
+  public abstract long getSpilledCount();
+
+  /** The bytes taken by the off-heap index */
+  public abstract long getSpilledMemoryUsage();
+
+  /** The number of lookups answered from the heap */
+  public abstract long getHitCount();
+
+  /** The number of lookups answered from the off-heap index */
+  public abstract long getSpillHitCount();
+
+  /** The number of lookups that created a new identifier */
+  public abstract long getMissCount();
+
+  public double getHitRate() {
+    long requestCount = getHitCount() + getSpillHitCount() + getMissCount();
+    return (requestCount == 0) ? 1.0 : (double) (getHitCount() + getSpillHitCount()) / requestCount;
+  }
+}
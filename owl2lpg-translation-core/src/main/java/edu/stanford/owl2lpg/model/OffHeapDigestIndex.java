@@ -0,0 +1,144 @@
+package edu.stanford.owl2lpg.model;
+
+import javax.annotation.Nonnull;
+import java.nio.ByteBuffer;
+
+import static com.google.common.base.Preconditions.checkArgument;
+
+/**
+ * An open-addressing hash table from 128-bit digests to numbers. The entries
+ * are kept in direct byte buffers outside of the Java heap, 24 bytes each,
+ * and are found by linear probing. The table doubles its capacity once it
+ * is half full and never shrinks, so it takes between 48 and 96 bytes per
+ * entry. The number 0 marks an empty slot, so it cannot be stored.
+ * <p>
+ * The slots are split into segments of a fixed number of slots, each in its
+ * own buffer, so the capacity of the table is not limited by the maximum
+ * size of a single buffer.
+ * <p>
+ * This class is not thread-safe.
+ *
+ * @author Josef Hardi <josef.hardi@stanford.edu> <br>
+ * Stanford Center for Biomedical Informatics Research
+ */
+class OffHeapDigestIndex {
+
+  static final long NO_NUMBER = 0L;
+
+  private static final int ENTRY_SIZE = 24;
+
+  /* 2^20 slots of 24 bytes, i.e., 24 MiB per segment */
+  private static final int DEFAULT_SEGMENT_SHIFT = 20;
+
+  private final int segmentShift;
+
+  private final long segmentMask;
+
+  @Nonnull
+  private ByteBuffer[] segments;
+
+  private long capacity;
+
+  private long size = 0;
+
+  OffHeapDigestIndex(int initialCapacity) {
+    this(initialCapacity, DEFAULT_SEGMENT_SHIFT);
+  }
+
+  OffHeapDigestIndex(int initialCapacity, int segmentShift) {
+    checkArgument(initialCapacity > 0, "Initial capacity must be positive");
+    checkArgument(segmentShift > 0 && segmentShift <= 26, "Segment shift must be between 1 and 26");
+    this.segmentShift = segmentShift;
+    this.segmentMask = (1L << segmentShift) - 1;
+    this.capacity = Math.max(Long.highestOneBit(initialCapacity - 1L) << 1, 2);
+    this.segments = allocate(capacity);
+  }
+
+  /**
+   * Returns the number of the given digest, or {@link #NO_NUMBER} if the
+   * digest is not in the index.
+   */
+  long get(long high, long low) {
+    long mask = capacity - 1;
+    for (long slot = indexOf(high, low, mask); ; slot = (slot + 1) & mask) {
+      var segment = segments[(int) (slot >>> segmentShift)];
+      int offset = (int) (slot & segmentMask) * ENTRY_SIZE;
+      long number = segment.getLong(offset + 16);
+      if (number == NO_NUMBER) {
+        return NO_NUMBER;
+      } else if (segment.getLong(offset) == high && segment.getLong(offset + 8) == low) {
+        return number;
+      }
+    }
+  }
+
+  void put(long high, long low, long number) {
+    checkArgument(number != NO_NUMBER, "Number must not be " + NO_NUMBER);
+    if ((size + 1) * 2 > capacity) {
+      grow();
+    }
+    if (insert(segments, capacity, high, low, number)) {
+      size++;
+    }
+  }
+
+  long size() {
+    return size;
+  }
+
+  long getMemoryUsage() {
+    return capacity * ENTRY_SIZE;
+  }
+
+  int getSegmentCount() {
+    return segments.length;
+  }
+
+  private void grow() {
+    long newCapacity = capacity * 2;
+    var newSegments = allocate(newCapacity);
+    for (long slot = 0; slot < capacity; slot++) {
+      var segment = segments[(int) (slot >>> segmentShift)];
+      int offset = (int) (slot & segmentMask) * ENTRY_SIZE;
+      long number = segment.getLong(offset + 16);
+      if (number != NO_NUMBER) {
+        insert(newSegments, newCapacity, segment.getLong(offset), segment.getLong(offset + 8), number);
+      }
+    }
+    segments = newSegments;
+    capacity = newCapacity;
+  }
+
+  /* A table smaller than a segment is kept in a single smaller buffer */
+  @Nonnull
+  private ByteBuffer[] allocate(long capacity) {
+    long segmentCapacity = Math.min(capacity, 1L << segmentShift);
+    var segments = new ByteBuffer[(int) (capacity / segmentCapacity)];
+    for (int i = 0; i < segments.length; i++) {
+      segments[i] = ByteBuffer.allocateDirect((int) segmentCapacity * ENTRY_SIZE);
+    }
+    return segments;
+  }
+
+  /* Returns true if the digest was not in the table before */
+  private boolean insert(ByteBuffer[] segments, long capacity, long high, long low, long number) {
+    long mask = capacity - 1;
+    for (long slot = indexOf(high, low, mask); ; slot = (slot + 1) & mask) {
+      var segment = segments[(int) (slot >>> segmentShift)];
+      int offset = (int) (slot & segmentMask) * ENTRY_SIZE;
+      long existingNumber = segment.getLong(offset + 16);
+      boolean isEmpty = existingNumber == NO_NUMBER;
+      if (isEmpty || (segment.getLong(offset) == high && segment.getLong(offset + 8) == low)) {
+        segment.putLong(offset, high);
+        segment.putLong(offset + 8, low);
+        segment.putLong(offset + 16, number);
+        return isEmpty;
+      }
+    }
+  }
+
+  private static long indexOf(long high, long low, long mask) {
+    long h = (high ^ low) * 0x9E3779B97F4A7C15L;
+    return (h ^ (h >>> 32)) & mask;
+  }
+}
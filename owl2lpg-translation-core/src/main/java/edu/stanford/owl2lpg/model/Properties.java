@@ -117,6 +117,57 @@ public abstract class Properties {
     return sb.toString();
   }
 
+  /**
+   * Prints the properties as a Cypher map whose values are parameter
+   * placeholders, e.g., <code>{iri:$n0_iri}</code>. The placeholder names are
+   * made from the given prefix and the property keys, so the printed map
+   * does not depend on the property values. The values are obtained by
+   * {@link #getParameters(String)} using the same prefix.
+   */
+  @Nonnull
+  public String printParameters(@Nonnull String prefix) {
+    var sb = new StringBuilder();
+    sb.append("{");
+    forEachPrintable((key, value) -> {
+      if (sb.length() > 1) {
+        sb.append(",");
+      }
+      sb.append(key).append(":$").append(toParameterName(prefix, key));
+    });
+    sb.append("}");
+    return sb.toString();
+  }
+
+  @Nonnull
+  public ImmutableMap<String, Object> getParameters(@Nonnull String prefix) {
+    var parameters = ImmutableMap.<String, Object>builder();
+    forEachPrintable((key, value) -> parameters.put(toParameterName(prefix, key), value));
+    return parameters.build();
+  }
+
+  /**
+   * Gets the properties that the Cypher queries write, i.e., without the
+   * empty string values that {@link #printProperties()} leaves out.
+   */
+  @Nonnull
+  public ImmutableMap<String, Object> getPrintableMap() {
+    var printableMap = ImmutableMap.<String, Object>builder();
+    forEachPrintable(printableMap::put);
+    return printableMap.build();
+  }
+
+  private void forEachPrintable(@Nonnull BiConsumer<String, Object> consumer) {
+    forEach((key, value) -> {
+      if (!(value instanceof String) || !((String) value).isEmpty()) {
+        consumer.accept(key, value);
+      }
+    });
+  }
+
+  private static String toParameterName(String prefix, String key) {
+    return prefix + "_" + key;
+  }
+
   private static String escape(String value) {
     return value.replace("\\", "\\\\")
         .replace("\"", "\\\"")
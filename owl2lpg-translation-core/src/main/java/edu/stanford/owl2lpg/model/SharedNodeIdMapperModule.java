@@ -0,0 +1,32 @@
+package edu.stanford.owl2lpg.model;
+
+import dagger.Module;
+import dagger.Provides;
+
+import javax.annotation.Nonnull;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+
+/**
+ * Supplies an existing {@link NodeIdMapper} to a translation session so that
+ * several sessions translating the same ontology agree on the node identifiers.
+ * The given mapper must be safe to call from the threads that own the sessions.
+ *
+ * @author Josef Hardi <josef.hardi@stanford.edu> <br>
+ * Stanford Center for Biomedical Informatics Research
+ */
+@Module
+public class SharedNodeIdMapperModule {
+
+  @Nonnull
+  private final NodeIdMapper nodeIdMapper;
+
+  public SharedNodeIdMapperModule(@Nonnull NodeIdMapper nodeIdMapper) {
+    this.nodeIdMapper = checkNotNull(nodeIdMapper);
+  }
+
+  @Provides
+  public NodeIdMapper provideNodeIdMapper() {
+    return nodeIdMapper;
+  }
+}
@@ -1,11 +1,13 @@
 package edu.stanford.owl2lpg.model;
 
 import com.google.auto.value.AutoValue;
+import com.google.auto.value.extension.memoized.Memoized;
 import com.google.common.collect.ImmutableList;
 import edu.stanford.owl2lpg.translator.vocab.EdgeLabel;
 import edu.stanford.owl2lpg.translator.vocab.NodeLabels;
 
 import javax.annotation.Nonnull;
+import java.util.ArrayDeque;
 import java.util.Collection;
 import java.util.Optional;
 import java.util.stream.Stream;
@@ -91,7 +93,7 @@ public abstract class Translation {
    * @return A collection of nodes.
    */
   public Stream<Node> nodes(NodeLabels label) {
-    return nodes().filter(node -> node.isTypeOf(label));
+    return getNodes(label).stream();
   }
 
   /**
@@ -101,9 +103,7 @@ public abstract class Translation {
    * @return a stream of nodes.
    */
   public Stream<Node> nodes() {
-    var s1 = Stream.of(getMainNode());
-    var s2 = getNestedTranslations().stream().flatMap(Translation::nodes);
-    return Stream.concat(s1, s2);
+    return getAllNodes().stream();
   }
 
   /**
@@ -113,12 +113,105 @@ public abstract class Translation {
    * @return a stream of edges.
    */
   public Stream<Edge> edges() {
-    var s1 = getEdges().stream();
-    var s2 = getNestedTranslations().stream().flatMap(Translation::edges);
-    return Stream.concat(s1, s2);
+    return getAllEdges().stream();
+  }
+
+  /**
+   * Gets all the nodes with the given node label, in the same order as
+   * {@link #getAllNodes()}.
+   *
+   * @param label The node label to filter.
+   * @return A list of nodes.
+   */
+  @Nonnull
+  public ImmutableList<Node> getNodes(@Nonnull NodeLabels label) {
+    var allNodes = getAllNodes();
+    var nodes = ImmutableList.<Node>builder();
+    for (int i = 0; i < allNodes.size(); i++) {
+      var node = allNodes.get(i);
+      if (node.isTypeOf(label)) {
+        nodes.add(node);
+      }
+    }
+    return nodes.build();
+  }
+
+  /**
+   * Gets all the nodes that make up this translation, including from its
+   * nested translations, as a flat list. The list is computed on the first
+   * call without recursion and kept for the subsequent calls.
+   *
+   * @return A list of nodes.
+   */
+  @Memoized
+  @Nonnull
+  public ImmutableList<Node> getAllNodes() {
+    var nodes = ImmutableList.<Node>builder();
+    emitTo(new TranslationSink() {
+      @Override
+      public void acceptNode(@Nonnull Node node) {
+        nodes.add(node);
+      }
+
+      @Override
+      public void acceptEdge(@Nonnull Edge edge) {
+        // NO-OP
+      }
+    });
+    return nodes.build();
+  }
+
+  /**
+   * Gets all the edges that make up this translation, including from its
+   * nested translations, as a flat list. The list is computed on the first
+   * call without recursion and kept for the subsequent calls.
+   *
+   * @return A list of edges.
+   */
+  @Memoized
+  @Nonnull
+  public ImmutableList<Edge> getAllEdges() {
+    var edges = ImmutableList.<Edge>builder();
+    emitTo(new TranslationSink() {
+      @Override
+      public void acceptNode(@Nonnull Node node) {
+        // NO-OP
+      }
+
+      @Override
+      public void acceptEdge(@Nonnull Edge edge) {
+        edges.add(edge);
+      }
+    });
+    return edges.build();
   }
 
   public void accept(TranslationVisitor visitor) {
     visitor.visit(this);
   }
+
+  /**
+   * Emits the main node and the edges of this translation to the given sink,
+   * followed by those of the nested translations in depth-first order. The
+   * nested translations are walked with an explicit stack, so a translation
+   * with many or deeply nested operands does not build a stream pipeline or
+   * a deep call stack.
+   *
+   * @param sink The sink that receives the nodes and edges
+   */
+  public void emitTo(@Nonnull TranslationSink sink) {
+    var pending = new ArrayDeque<Translation>();
+    pending.push(this);
+    while (!pending.isEmpty()) {
+      var translation = pending.pop();
+      sink.acceptNode(translation.getMainNode());
+      for (var edge : translation.getEdges()) {
+        sink.acceptEdge(edge);
+      }
+      var nestedTranslations = translation.getNestedTranslations();
+      for (int i = nestedTranslations.size() - 1; i >= 0; i--) {
+        pending.push(nestedTranslations.get(i));
+      }
+    }
+  }
 }
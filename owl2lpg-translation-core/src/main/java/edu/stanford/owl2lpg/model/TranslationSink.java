@@ -0,0 +1,19 @@
+package edu.stanford.owl2lpg.model;
+
+import javax.annotation.Nonnull;
+
+/**
+ * Receives the nodes and edges of a translation one by one, e.g., to write
+ * them to a CSV file, to add them to a Cypher query or to count them,
+ * without collecting them through {@link Translation#nodes()} and
+ * {@link Translation#edges()} first.
+ *
+ * @author Josef Hardi <josef.hardi@stanford.edu> <br>
+ * Stanford Center for Biomedical Informatics Research
+ */
+public interface TranslationSink {
+
+  void acceptNode(@Nonnull Node node);
+
+  void acceptEdge(@Nonnull Edge edge);
+}
@@ -0,0 +1,37 @@
+package edu.stanford.owl2lpg.model;
+
+import com.google.auto.value.AutoValue;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+
+import javax.annotation.Nonnull;
+
+/**
+ * A Cypher query that writes many nodes or edges of the same labels at
+ * once by unwinding the {@code $rows} parameter.
+ *
+ * @author Josef Hardi <josef.hardi@stanford.edu> <br>
+ * Stanford Center for Biomedical Informatics Research
+ */
+@AutoValue
+public abstract class UnwindQuery {
+
+  public static final String ROWS = "rows";
+
+  @Nonnull
+  public static UnwindQuery create(@Nonnull String queryString,
+                                   @Nonnull ImmutableList<ImmutableMap<String, Object>> rows) {
+    return new AutoValue_UnwindQuery(queryString, rows);
+  }
+
+  @Nonnull
+  public abstract String getQueryString();
+
+  @Nonnull
+  public abstract ImmutableList<ImmutableMap<String, Object>> getRows();
+
+  @Nonnull
+  public ImmutableMap<String, Object> getParameters() {
+    return ImmutableMap.of(ROWS, getRows());
+  }
+}
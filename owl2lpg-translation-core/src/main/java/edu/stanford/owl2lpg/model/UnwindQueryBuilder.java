@@ -0,0 +1,262 @@
+package edu.stanford.owl2lpg.model;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.Lists;
+import com.google.common.collect.Maps;
+import com.google.common.collect.Sets;
+import edu.stanford.owl2lpg.translator.vocab.NodeLabels;
+
+import javax.annotation.Nonnull;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
+import static edu.stanford.owl2lpg.translator.vocab.PropertyFields.DATATYPE;
+import static edu.stanford.owl2lpg.translator.vocab.PropertyFields.DIGEST;
+import static edu.stanford.owl2lpg.translator.vocab.PropertyFields.IRI;
+import static edu.stanford.owl2lpg.translator.vocab.PropertyFields.LANGUAGE;
+import static edu.stanford.owl2lpg.translator.vocab.PropertyFields.LEXICAL_FORM;
+import static edu.stanford.owl2lpg.translator.vocab.PropertyFields.ONTOLOGY_DOCUMENT_ID;
+
+/**
+ * Collects the nodes and edges of many translations and builds a few
+ * {@link UnwindQuery}s that write them, one per node labels and one per
+ * edge label, source and target labels. The nodes and edges are added once
+ * per {@link NodeId} and {@link EdgeId} until the builder is cleared.
+ * <p>
+ * The nodes are merged on the properties that identify them in any graph,
+ * i.e., the axioms by their digest, the entities, IRIs and facets by their
+ * IRI, the literals by their value and the ontology documents by their
+ * identifier, so that they are shared with the nodes written by other
+ * loads. The other nodes, e.g., the anonymous class expressions, only have
+ * a node identifier that is unique within the translation session. They
+ * keep it in the {@link #NODE_KEY} property prefixed with the session key
+ * of this builder, so that the loads of different sessions never share
+ * them. The endpoints of an edge are always added together with the edge,
+ * so the queries of the same build never refer to a node that has not
+ * been written yet.
+ *
+ * @author Josef Hardi <josef.hardi@stanford.edu> <br>
+ * Stanford Center for Biomedical Informatics Research
+ */
+public class UnwindQueryBuilder implements TranslationSink {
+
+  public static final String NODE_KEY = "nodeKey";
+
+  private static final String KEY = "key";
+
+  private static final String START = "start";
+
+  private static final String END = "end";
+
+  private static final String PROPERTIES = "properties";
+
+  private final int maximumRowsPerQuery;
+
+  @Nonnull
+  private final String sessionKey;
+
+  private final Set<NodeId> nodeIds = Sets.newHashSet();
+
+  private final Set<EdgeId> edgeIds = Sets.newHashSet();
+
+  private final Map<String, List<ImmutableMap<String, Object>>> nodeRows = Maps.newLinkedHashMap();
+
+  private final Map<String, List<ImmutableMap<String, Object>>> edgeRows = Maps.newLinkedHashMap();
+
+  private int rowCount = 0;
+
+  public UnwindQueryBuilder(int maximumRowsPerQuery) {
+    this(maximumRowsPerQuery, UUID.randomUUID().toString());
+  }
+
+  public UnwindQueryBuilder(int maximumRowsPerQuery, @Nonnull String sessionKey) {
+    checkArgument(maximumRowsPerQuery > 0, "Maximum rows per query must be positive");
+    this.maximumRowsPerQuery = maximumRowsPerQuery;
+    this.sessionKey = checkNotNull(sessionKey);
+  }
+
+  public void add(@Nonnull Translation translation) {
+    translation.emitTo(this);
+  }
+
+  @Override
+  public void acceptNode(@Nonnull Node node) {
+    if (nodeIds.add(node.getNodeId())) {
+      var key = getNodeKey(node);
+      var row = ImmutableMap.<String, Object>of(
+          KEY, key,
+          PROPERTIES, node.getProperties().getPrintableMap());
+      nodeRows.computeIfAbsent(toNodeQueryString(node.getLabels(), key.keySet()), k -> Lists.newArrayList()).add(row);
+      rowCount++;
+    }
+  }
+
+  @Override
+  public void acceptEdge(@Nonnull Edge edge) {
+    acceptNode(edge.getFromNode());
+    acceptNode(edge.getToNode());
+    if (edgeIds.add(edge.getEdgeId())) {
+      var startKey = getNodeKey(edge.getFromNode());
+      var endKey = getNodeKey(edge.getToNode());
+      var row = ImmutableMap.<String, Object>of(
+          START, startKey,
+          END, endKey,
+          PROPERTIES, edge.getProperties().getPrintableMap());
+      edgeRows.computeIfAbsent(toEdgeQueryString(edge, startKey.keySet(), endKey.keySet()), k -> Lists.newArrayList()).add(row);
+      rowCount++;
+    }
+  }
+
+  /**
+   * Returns the properties that identify the given node. The nodes without
+   * such properties are identified by their node identifier within the
+   * session of this builder.
+   */
+  @Nonnull
+  public ImmutableMap<String, Object> getNodeKey(@Nonnull Node node) {
+    var keyProperties = getKeyProperties(node.getLabels());
+    var properties = node.getProperties();
+    var nodeKey = ImmutableMap.<String, Object>builder();
+    for (var keyProperty : keyProperties) {
+      Object value = properties.get(keyProperty);
+      if (value == null && keyProperty.equals(LANGUAGE)) {
+        value = "";
+      } else if (value == null) {
+        return ImmutableMap.of(NODE_KEY, sessionKey + ":" + node.getNodeId().asString());
+      }
+      nodeKey.put(keyProperty, value);
+    }
+    return nodeKey.build();
+  }
+
+  /*
+   * Returns the properties that identify the nodes of the given labels in
+   * any graph, or an empty list if their node identifier should be used.
+   * The language of a literal is always part of its key, as an empty string
+   * if it has none, since the literals with and without a language share the
+   * rdf:PlainLiteral datatype.
+   */
+  @Nonnull
+  private static ImmutableList<String> getKeyProperties(@Nonnull NodeLabels nodeLabels) {
+    if (nodeLabels.isa(NodeLabels.AXIOM)) {
+      return ImmutableList.of(DIGEST);
+    } else if (nodeLabels.isa(NodeLabels.ENTITY) || nodeLabels == NodeLabels.IRI || nodeLabels == NodeLabels.FACET) {
+      return ImmutableList.of(IRI);
+    } else if (nodeLabels == NodeLabels.LITERAL) {
+      return ImmutableList.of(LEXICAL_FORM, DATATYPE, LANGUAGE);
+    } else if (nodeLabels == NodeLabels.ONTOLOGY_DOCUMENT) {
+      return ImmutableList.of(ONTOLOGY_DOCUMENT_ID);
+    } else {
+      return ImmutableList.of();
+    }
+  }
+
+  /**
+   * Returns the label that the edge queries use to look up the nodes of the
+   * given labels by their key. The nodes identified by an IRI are looked up
+   * by their main label, since an IRI can be punned as several entities.
+   * The other nodes are looked up by their most general label.
+   */
+  @Nonnull
+  public static String getIndexedLabel(@Nonnull NodeLabels nodeLabels) {
+    if (nodeLabels.isa(NodeLabels.ENTITY)) {
+      return nodeLabels.getMainLabel();
+    }
+    var labels = nodeLabels.asList();
+    return labels.get(labels.size() - 1);
+  }
+
+  /**
+   * Returns the key property that should be indexed for the nodes of the
+   * given labels.
+   */
+  @Nonnull
+  public static String getIndexedProperty(@Nonnull NodeLabels nodeLabels) {
+    var keyProperties = getKeyProperties(nodeLabels);
+    return keyProperties.isEmpty() ? NODE_KEY : keyProperties.get(0);
+  }
+
+  @Nonnull
+  private static String toNodeQueryString(@Nonnull NodeLabels nodeLabels, @Nonnull Collection<String> keys) {
+    return "UNWIND $" + UnwindQuery.ROWS + " AS row\n" +
+        "MERGE (n" + nodeLabels.toNeo4jLabel() + " " + printKeys(keys, KEY) + ")\n" +
+        "SET n += row." + PROPERTIES;
+  }
+
+  @Nonnull
+  private static String toEdgeQueryString(@Nonnull Edge edge,
+                                          @Nonnull Collection<String> startKeys,
+                                          @Nonnull Collection<String> endKeys) {
+    var sb = new StringBuilder();
+    sb.append("UNWIND $").append(UnwindQuery.ROWS).append(" AS row\n")
+        .append("MATCH (s:").append(getIndexedLabel(edge.getFromNode().getLabels()))
+        .append(" ").append(printKeys(startKeys, START)).append(")\n")
+        .append("MATCH (t:").append(getIndexedLabel(edge.getToNode().getLabels()))
+        .append(" ").append(printKeys(endKeys, END)).append(")\n")
+        .append("MERGE (s)-[").append(edge.printLabel());
+    var keys = edge.getProperties().getPrintableMap().keySet();
+    if (!keys.isEmpty()) {
+      sb.append(" ").append(printKeys(keys, PROPERTIES));
+    }
+    sb.append("]->(t)");
+    return sb.toString();
+  }
+
+  /* Prints {k1:row.field.k1,k2:row.field.k2} */
+  @Nonnull
+  private static String printKeys(@Nonnull Collection<String> keys, @Nonnull String rowField) {
+    var sb = new StringBuilder("{");
+    var isFirst = true;
+    for (var key : keys) {
+      if (!isFirst) {
+        sb.append(",");
+      }
+      sb.append(key).append(":row.").append(rowField).append(".").append(key);
+      isFirst = false;
+    }
+    return sb.append("}").toString();
+  }
+
+  /**
+   * Returns the number of node and edge rows added since the builder was
+   * created or last cleared.
+   */
+  public int getRowCount() {
+    return rowCount;
+  }
+
+  /**
+   * Builds the queries that write the nodes, followed by the queries that
+   * write the edges.
+   */
+  @Nonnull
+  public ImmutableList<UnwindQuery> build() {
+    var queries = ImmutableList.<UnwindQuery>builder();
+    addQueries(nodeRows, queries);
+    addQueries(edgeRows, queries);
+    return queries.build();
+  }
+
+  private void addQueries(@Nonnull Map<String, List<ImmutableMap<String, Object>>> rowsByQuery,
+                          @Nonnull ImmutableList.Builder<UnwindQuery> queries) {
+    rowsByQuery.forEach((queryString, rows) -> {
+      for (var partition : Lists.partition(rows, maximumRowsPerQuery)) {
+        queries.add(UnwindQuery.create(queryString, ImmutableList.copyOf(partition)));
+      }
+    });
+  }
+
+  public void clear() {
+    nodeIds.clear();
+    edgeIds.clear();
+    nodeRows.clear();
+    edgeRows.clear();
+    rowCount = 0;
+  }
+}
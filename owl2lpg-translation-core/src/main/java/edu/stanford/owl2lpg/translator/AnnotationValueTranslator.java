@@ -1,8 +1,11 @@
 package edu.stanford.owl2lpg.translator;
 
 import edu.stanford.owl2lpg.model.Translation;
+import edu.stanford.owl2lpg.translator.visitors.OWLLiteral2;
 import org.semanticweb.owlapi.model.OWLAnnotationValue;
 import org.semanticweb.owlapi.model.OWLAnnotationValueVisitorEx;
+import org.semanticweb.owlapi.model.OWLAnonymousIndividual;
+import org.semanticweb.owlapi.model.OWLLiteral;
 
 import javax.annotation.Nonnull;
 import javax.inject.Inject;
@@ -19,14 +22,24 @@ public class AnnotationValueTranslator {
   @Nonnull
   private final Provider<OWLAnnotationValueVisitorEx<Translation>> visitor;
 
+  @Nonnull
+  private final TranslationCache translationCache;
+
   @Inject
-  public AnnotationValueTranslator(@Nonnull Provider<OWLAnnotationValueVisitorEx<Translation>> visitor) {
+  public AnnotationValueTranslator(@Nonnull Provider<OWLAnnotationValueVisitorEx<Translation>> visitor,
+                                   @Nonnull TranslationCache translationCache) {
     this.visitor = checkNotNull(visitor);
+    this.translationCache = checkNotNull(translationCache);
   }
 
   @Nonnull
   public Translation translate(@Nonnull OWLAnnotationValue value) {
     checkNotNull(value);
-    return value.accept(visitor.get());
+    if (value instanceof OWLAnonymousIndividual) {
+      return value.accept(visitor.get());
+    } else if (value instanceof OWLLiteral) {
+      return translationCache.get(OWLLiteral2.create((OWLLiteral) value), () -> value.accept(visitor.get()));
+    }
+    return translationCache.get(value, () -> value.accept(visitor.get()));
   }
 }
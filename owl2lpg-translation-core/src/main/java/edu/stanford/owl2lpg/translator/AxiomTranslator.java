@@ -1,6 +1,7 @@
 package edu.stanford.owl2lpg.translator;
 
 import edu.stanford.owl2lpg.model.Translation;
+import edu.stanford.owl2lpg.model.TranslationSink;
 import org.semanticweb.owlapi.model.OWLAxiom;
 import org.semanticweb.owlapi.model.OWLAxiomVisitorEx;
 
@@ -21,9 +22,14 @@ public class AxiomTranslator {
   @Nonnull
   private final Provider<OWLAxiomVisitorEx<Translation>> visitor;
 
+  @Nonnull
+  private final TranslationEmitter translationEmitter;
+
   @Inject
-  public AxiomTranslator(@Nonnull Provider<OWLAxiomVisitorEx<Translation>> visitor) {
+  public AxiomTranslator(@Nonnull Provider<OWLAxiomVisitorEx<Translation>> visitor,
+                         @Nonnull TranslationEmitter translationEmitter) {
     this.visitor = checkNotNull(visitor);
+    this.translationEmitter = checkNotNull(translationEmitter);
   }
 
   @Nonnull
@@ -31,4 +37,23 @@ public class AxiomTranslator {
     checkNotNull(ax);
     return ax.accept(visitor.get());
   }
+
+  /**
+   * Translates the given axiom while emitting its nodes and edges into the
+   * given sink. The sink receives the same nodes and edges as from
+   * {@link Translation#emitTo} on the translation of
+   * {@link #translate(OWLAxiom)}, though in another order, since the
+   * visitors emit the parts of the axiom as they go instead of building
+   * the translation tree.
+   *
+   * @param ax   The axiom to translate
+   * @param sink The sink that receives the nodes and edges
+   * @return The translation of the axiom, holding only the axiom node, its
+   * edges and the translations of the entities and values at the leaves
+   */
+  @Nonnull
+  public Translation translate(OWLAxiom ax, @Nonnull TranslationSink sink) {
+    checkNotNull(ax);
+    return translationEmitter.emit(() -> ax.accept(visitor.get()), sink);
+  }
 }
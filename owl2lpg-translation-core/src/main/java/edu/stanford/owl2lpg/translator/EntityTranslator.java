@@ -21,14 +21,19 @@ public class EntityTranslator {
   @Nonnull
   private final Provider<OWLEntityVisitorEx<Translation>> visitor;
 
+  @Nonnull
+  private final TranslationCache translationCache;
+
   @Inject
-  public EntityTranslator(@Nonnull Provider<OWLEntityVisitorEx<Translation>> visitor) {
+  public EntityTranslator(@Nonnull Provider<OWLEntityVisitorEx<Translation>> visitor,
+                          @Nonnull TranslationCache translationCache) {
     this.visitor = checkNotNull(visitor);
+    this.translationCache = checkNotNull(translationCache);
   }
 
   @Nonnull
   public Translation translate(OWLEntity entity) {
     checkNotNull(entity);
-    return entity.accept(visitor.get());
+    return translationCache.get(entity, () -> entity.accept(visitor.get()));
   }
 }
@@ -1,6 +1,7 @@
 package edu.stanford.owl2lpg.translator;
 
 import edu.stanford.owl2lpg.model.Translation;
+import edu.stanford.owl2lpg.translator.visitors.OWLLiteral2;
 import org.semanticweb.owlapi.model.OWLDataVisitorEx;
 import org.semanticweb.owlapi.model.OWLLiteral;
 
@@ -21,14 +22,19 @@ public class LiteralTranslator {
   @Nonnull
   private final Provider<OWLDataVisitorEx<Translation>> visitor;
 
+  @Nonnull
+  private final TranslationCache translationCache;
+
   @Inject
-  public LiteralTranslator(@Nonnull Provider<OWLDataVisitorEx<Translation>> visitor) {
+  public LiteralTranslator(@Nonnull Provider<OWLDataVisitorEx<Translation>> visitor,
+                           @Nonnull TranslationCache translationCache) {
     this.visitor = checkNotNull(visitor);
+    this.translationCache = checkNotNull(translationCache);
   }
 
   @Nonnull
   public Translation translate(@Nonnull OWLLiteral lt) {
     checkNotNull(lt);
-    return lt.accept(visitor.get());
+    return translationCache.get(OWLLiteral2.create(lt), () -> lt.accept(visitor.get()));
   }
 }
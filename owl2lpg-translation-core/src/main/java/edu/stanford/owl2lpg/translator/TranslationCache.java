@@ -0,0 +1,94 @@
+package edu.stanford.owl2lpg.translator;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import edu.stanford.owl2lpg.model.Translation;
+import edu.stanford.owl2lpg.translator.visitors.OWLLiteral2;
+import org.semanticweb.owlapi.model.OWLLiteral;
+import org.semanticweb.owlapi.model.OWLObject;
+
+import javax.annotation.Nonnull;
+import javax.inject.Inject;
+import java.util.function.Supplier;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
+
+/**
+ * A bounded cache of the translations of the OWL objects whose nodes are
+ * identified by their digest, i.e., the entities, IRIs and literals. Their
+ * translation only depends on the object itself, so a frequently used class
+ * is translated once instead of every time it appears in an axiom. Once the
+ * cache is full, the translations that are least likely to be used again are
+ * evicted.
+ * <p>
+ * The literals are cached by their {@link OWLLiteral2} form rather than by
+ * the {@link OWLLiteral} itself, since the OWL API considers some literals
+ * of different datatypes equal, e.g., <code>"ABC"^^rdf:PlainLiteral</code>
+ * and <code>"ABC"^^xsd:string</code>, while their translations differ.
+ *
+ * @author Josef Hardi <josef.hardi@stanford.edu> <br>
+ * Stanford Center for Biomedical Informatics Research
+ */
+public class TranslationCache {
+
+  public static final int DEFAULT_MAXIMUM_SIZE = 50_000;
+
+  @Nonnull
+  private final Cache<Object, Translation> cache;
+
+  @Inject
+  public TranslationCache() {
+    this(DEFAULT_MAXIMUM_SIZE);
+  }
+
+  public TranslationCache(int maximumSize) {
+    checkArgument(maximumSize >= 0, "Maximum size must not be negative");
+    this.cache = Caffeine.newBuilder()
+        .maximumSize(maximumSize)
+        .recordStats()
+        .build();
+  }
+
+  /**
+   * Returns the cached translation of the given object, or computes and
+   * caches it. The translation is computed outside of the cache, since
+   * translating an entity translates its IRI through the same cache.
+   */
+  @Nonnull
+  public Translation get(@Nonnull OWLObject owlObject, @Nonnull Supplier<Translation> translator) {
+    checkNotNull(owlObject);
+    checkArgument(!(owlObject instanceof OWLLiteral), "Literals are cached by their OWLLiteral2 form");
+    return getByKey(owlObject, translator);
+  }
+
+  /**
+   * Returns the cached translation of the given literal, or computes and
+   * caches it.
+   */
+  @Nonnull
+  public Translation get(@Nonnull OWLLiteral2 literal, @Nonnull Supplier<Translation> translator) {
+    checkNotNull(literal);
+    return getByKey(literal, translator);
+  }
+
+  @Nonnull
+  private Translation getByKey(@Nonnull Object key, @Nonnull Supplier<Translation> translator) {
+    var translation = cache.getIfPresent(key);
+    if (translation == null) {
+      translation = translator.get();
+      cache.put(key, translation);
+    }
+    return translation;
+  }
+
+  public long size() {
+    return cache.estimatedSize();
+  }
+
+  @Nonnull
+  public CacheStats getStats() {
+    return cache.stats();
+  }
+}
@@ -0,0 +1,129 @@
+package edu.stanford.owl2lpg.translator;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.Sets;
+import edu.stanford.owl2lpg.model.Edge;
+import edu.stanford.owl2lpg.model.Node;
+import edu.stanford.owl2lpg.model.Translation;
+import edu.stanford.owl2lpg.model.TranslationSink;
+
+import javax.annotation.Nonnull;
+import javax.inject.Inject;
+import java.util.Set;
+import java.util.function.Supplier;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+import static com.google.common.base.Preconditions.checkState;
+
+/**
+ * Assembles the translations of the OWL objects that are made of other
+ * objects, e.g., the axioms and the class expressions. By default it
+ * creates the usual translation tree. While a translation runs through
+ * {@link #emit(Supplier, TranslationSink)}, it instead writes each
+ * translation into the sink as soon as its parent is assembled, so the
+ * visitors never hold more than the operands of the object at hand.
+ * <p>
+ * An emitted translation keeps its main node and its edges, which the
+ * augmented edges are made from, but in place of its nested translations
+ * it keeps the leaf translations beneath it, e.g., of the entities and the
+ * literals. These are the cached translations that are shared anyway, and
+ * they keep the signature of the translation available through
+ * {@link Translation#getNodes}.
+ *
+ * @author Josef Hardi <josef.hardi@stanford.edu> <br>
+ * Stanford Center for Biomedical Informatics Research
+ */
+public class TranslationEmitter {
+
+  private final ThreadLocal<Emission> currentEmission = new ThreadLocal<>();
+
+  @Inject
+  public TranslationEmitter() {
+  }
+
+  /**
+   * Runs the given translation while emitting its nodes and edges into the
+   * given sink.
+   *
+   * @param translator The translation to run
+   * @param sink       The sink that receives the nodes and edges
+   * @return The emitted translation, holding only its main node, its edges
+   * and the leaf translations beneath it
+   */
+  @Nonnull
+  public Translation emit(@Nonnull Supplier<Translation> translator, @Nonnull TranslationSink sink) {
+    checkNotNull(translator);
+    checkNotNull(sink);
+    checkState(currentEmission.get() == null, "A translation is already being emitted");
+    var emission = new Emission(sink);
+    currentEmission.set(emission);
+    try {
+      var translation = translator.get();
+      emission.emit(translation);
+      return translation;
+    } finally {
+      currentEmission.remove();
+    }
+  }
+
+  /**
+   * Creates the translation of an OWL object from its main node, its edges
+   * and the translations of its operands.
+   */
+  @Nonnull
+  public Translation assemble(@Nonnull Object translatedObject,
+                              @Nonnull Node mainNode,
+                              @Nonnull ImmutableList<Edge> edges,
+                              @Nonnull ImmutableList<Translation> nestedTranslations) {
+    var emission = currentEmission.get();
+    if (emission == null) {
+      return Translation.create(translatedObject, mainNode, edges, nestedTranslations);
+    }
+    var leafTranslations = ImmutableList.<Translation>builder();
+    for (var nestedTranslation : nestedTranslations) {
+      if (emission.emit(nestedTranslation)) {
+        leafTranslations.addAll(nestedTranslation.getNestedTranslations());
+      } else {
+        leafTranslations.add(nestedTranslation);
+      }
+    }
+    var translation = Translation.create(translatedObject, mainNode, edges, leafTranslations.build());
+    emission.addPending(translation);
+    return translation;
+  }
+
+  private static class Emission {
+
+    @Nonnull
+    private final TranslationSink sink;
+
+    /*
+     * The assembled translations whose nested translations are already in
+     * the sink, but which are not yet part of another translation
+     */
+    @Nonnull
+    private final Set<Translation> pendingTranslations = Sets.newIdentityHashSet();
+
+    private Emission(@Nonnull TranslationSink sink) {
+      this.sink = sink;
+    }
+
+    /* Returns true if the translation was assembled while emitting */
+    private boolean emit(@Nonnull Translation translation) {
+      if (pendingTranslations.remove(translation)) {
+        sink.acceptNode(translation.getMainNode());
+        for (var edge : translation.getEdges()) {
+          sink.acceptEdge(edge);
+        }
+        return true;
+      } else {
+        translation.emitTo(sink);
+        return false;
+      }
+    }
+
+    private void addPending(@Nonnull Translation translation) {
+      pendingTranslations.add(translation);
+    }
+  }
+}
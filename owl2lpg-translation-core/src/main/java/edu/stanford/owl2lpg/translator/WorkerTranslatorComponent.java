@@ -0,0 +1,26 @@
+package edu.stanford.owl2lpg.translator;
+
+import dagger.Component;
+import edu.stanford.owl2lpg.model.SharedNodeIdMapperModule;
+import edu.stanford.owl2lpg.translator.shared.OntologyObjectSerializerModule;
+
+/**
+ * A translation session that owns its visitor graph but takes the node
+ * identifiers from a shared mapper. Create one component per worker thread.
+ *
+ * @author Josef Hardi <josef.hardi@stanford.edu> <br>
+ * Stanford Center for Biomedical Informatics Research
+ */
+@Component(modules = {
+    TranslatorVisitorModule.class,
+    SharedNodeIdMapperModule.class,
+    OntologyObjectSerializerModule.class})
+@TranslationSessionScope
+public interface WorkerTranslatorComponent {
+
+  AxiomTranslator getAxiomTranslator();
+
+  AnnotationObjectTranslator getAnnotationObjectTranslator();
+
+  TranslationCache getTranslationCache();
+}
@@ -0,0 +1,60 @@
+package edu.stanford.owl2lpg.translator.internal;
+
+import edu.stanford.owl2lpg.model.NodeId;
+import edu.stanford.owl2lpg.model.NodeIdProvider;
+
+import javax.inject.Inject;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static com.google.common.base.Preconditions.checkArgument;
+
+/**
+ * A thread-safe number id provider that can be shared by concurrent
+ * translation sessions. Each thread reserves a block of consecutive numbers
+ * from a shared atomic counter and hands them out without further
+ * synchronization, so the counter is only touched once per block. A single
+ * thread receives the same sequence as the {@link NumberIncrementIdProvider}.
+ *
+ * @author Josef Hardi <josef.hardi@stanford.edu> <br>
+ * Stanford Center for Biomedical Informatics Research
+ */
+public class BlockReservingIdProvider implements NodeIdProvider {
+
+  private static final int DEFAULT_BLOCK_SIZE = 1024;
+
+  private final AtomicLong counter = new AtomicLong();
+
+  private final int blockSize;
+
+  private final ThreadLocal<IdBlock> currentBlock = ThreadLocal.withInitial(IdBlock::new);
+
+  @Inject
+  public BlockReservingIdProvider() {
+    this(DEFAULT_BLOCK_SIZE);
+  }
+
+  public BlockReservingIdProvider(int blockSize) {
+    checkArgument(blockSize > 0, "Block size must be positive");
+    this.blockSize = blockSize;
+  }
+
+  @Override
+  public NodeId getId(Object o) {
+    var block = currentBlock.get();
+    if (block.next == block.end) {
+      var start = counter.getAndAdd(blockSize);
+      block.next = start;
+      block.end = start + blockSize;
+    }
+    block.next++;
+    return NodeId.create(block.next);
+  }
+
+  /* A range of reserved numbers owned by a single thread */
+  private static class IdBlock {
+
+    private long next = 0;
+
+    private long end = 0;
+  }
+}
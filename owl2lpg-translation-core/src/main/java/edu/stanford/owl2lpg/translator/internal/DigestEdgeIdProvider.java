@@ -4,37 +4,103 @@ import com.google.common.hash.HashFunction;
 import edu.stanford.owl2lpg.model.EdgeId;
 import edu.stanford.owl2lpg.model.EdgeIdProvider;
 import edu.stanford.owl2lpg.model.Node;
+import edu.stanford.owl2lpg.translator.shared.EdgeIdEncoding;
 import edu.stanford.owl2lpg.translator.vocab.EdgeLabel;
 
 import javax.annotation.Nonnull;
 import javax.inject.Inject;
 import java.nio.charset.StandardCharsets;
+import java.util.EnumMap;
+import java.util.Map;
 
 import static com.google.common.base.Preconditions.checkNotNull;
 
 /**
+ * Derives the edge identifier by hashing the start node identifier, the end
+ * node identifier and the edge label. The {@link EdgeIdEncoding} decides
+ * whether they are hashed as a string, as in the existing graphs, or as
+ * their raw bytes. The string is written directly as its UTF-8 bytes, with
+ * the node identifiers encoded in hex, so that no intermediate strings are
+ * created per edge.
+ * <p>
+ * Both encodings hash the name of the edge label, so the identifiers do not
+ * depend on the order of the {@link EdgeLabel} constants.
+ *
  * @author Josef Hardi <josef.hardi@stanford.edu> <br>
  * Stanford Center for Biomedical Informatics Research
  */
+@SuppressWarnings("UnstableApiUsage")
 public class DigestEdgeIdProvider implements EdgeIdProvider {
 
+  private static final byte[] HEX_DIGITS = "0123456789abcdef".getBytes(StandardCharsets.US_ASCII);
+
+  private static final byte SEPARATOR = ':';
+
+  private static final Map<EdgeLabel, byte[]> LABEL_NAMES = new EnumMap<>(EdgeLabel.class);
+
+  static {
+    for (var edgeLabel : EdgeLabel.values()) {
+      LABEL_NAMES.put(edgeLabel, edgeLabel.getName().getBytes(StandardCharsets.UTF_8));
+    }
+  }
+
   @Nonnull
   private final HashFunction hashFunction;
 
-  @Inject
+  @Nonnull
+  private final EdgeIdEncoding edgeIdEncoding;
+
   public DigestEdgeIdProvider(@Nonnull HashFunction hashFunction) {
+    this(hashFunction, EdgeIdEncoding.STRING);
+  }
+
+  @Inject
+  public DigestEdgeIdProvider(@Nonnull HashFunction hashFunction,
+                              @Nonnull EdgeIdEncoding edgeIdEncoding) {
     this.hashFunction = checkNotNull(hashFunction);
+    this.edgeIdEncoding = checkNotNull(edgeIdEncoding);
   }
 
   @Override
   public EdgeId get(Node startId, Node endNode, EdgeLabel edgeLabel) {
-    var startNodeId = startId.getNodeId().asString();
-    var endNodeId = endNode.getNodeId().asString();
-    var label = edgeLabel.getName();
-    var edgeString = startNodeId + ":" + endNodeId + ":" + label;
-    var hashBytes = hashFunction
-        .hashString(edgeString, StandardCharsets.UTF_8)
-        .asBytes();
-    return EdgeId.create(hashBytes);
+    if (edgeIdEncoding == EdgeIdEncoding.BINARY) {
+      return getFromBytes(startId.getNodeId().getBytes(), endNode.getNodeId().getBytes(), edgeLabel);
+    }
+    return getFromString(startId.getNodeId().getBytes(), endNode.getNodeId().getBytes(), edgeLabel);
+  }
+
+  /*
+   * Equivalent to hashing the string "<start hex>:<end hex>:<label name>"
+   * in UTF-8.
+   */
+  private EdgeId getFromString(byte[] startNodeId, byte[] endNodeId, EdgeLabel edgeLabel) {
+    var label = LABEL_NAMES.get(edgeLabel);
+    var key = new byte[2 * startNodeId.length + 2 * endNodeId.length + label.length + 2];
+    var offset = writeHex(startNodeId, key, 0);
+    key[offset++] = SEPARATOR;
+    offset = writeHex(endNodeId, key, offset);
+    key[offset++] = SEPARATOR;
+    System.arraycopy(label, 0, key, offset, label.length);
+    return EdgeId.create(hashFunction.hashBytes(key).asBytes());
+  }
+
+  private static int writeHex(byte[] bytes, byte[] key, int offset) {
+    for (byte b : bytes) {
+      key[offset++] = HEX_DIGITS[(b >> 4) & 0xf];
+      key[offset++] = HEX_DIGITS[b & 0xf];
+    }
+    return offset;
+  }
+
+  private EdgeId getFromBytes(byte[] startNodeId, byte[] endNodeId, EdgeLabel edgeLabel) {
+    var label = LABEL_NAMES.get(edgeLabel);
+    var key = new byte[startNodeId.length + endNodeId.length + label.length + 2];
+    key[0] = (byte) startNodeId.length;
+    System.arraycopy(startNodeId, 0, key, 1, startNodeId.length);
+    var offset = startNodeId.length + 1;
+    key[offset] = (byte) endNodeId.length;
+    System.arraycopy(endNodeId, 0, key, offset + 1, endNodeId.length);
+    System.arraycopy(label, 0, key, offset + endNodeId.length + 1, label.length);
+    return EdgeId.create(hashFunction.hashBytes(key).asBytes());
   }
 }
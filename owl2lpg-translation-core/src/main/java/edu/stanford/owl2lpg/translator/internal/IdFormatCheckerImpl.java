@@ -1,29 +1,99 @@
 package edu.stanford.owl2lpg.translator.internal;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
 import edu.stanford.owl2lpg.model.IdFormatChecker;
+import edu.stanford.owl2lpg.translator.shared.ExpressionIdFormat;
 import edu.stanford.owl2lpg.translator.visitors.OWLLiteral2;
 import edu.stanford.owl2lpg.translator.visitors.OWLPropertyChain;
 import org.semanticweb.owlapi.model.IRI;
+import org.semanticweb.owlapi.model.OWLAnonymousClassExpression;
+import org.semanticweb.owlapi.model.OWLDataRange;
+import org.semanticweb.owlapi.model.OWLDatatype;
 import org.semanticweb.owlapi.model.OWLEntity;
+import org.semanticweb.owlapi.model.OWLFacetRestriction;
+import org.semanticweb.owlapi.model.OWLObject;
+import org.semanticweb.owlapi.model.OWLObjectInverseOf;
 
+import javax.annotation.Nonnull;
 import javax.inject.Inject;
 
+import static com.google.common.base.Preconditions.checkNotNull;
+
 /**
+ * Decides the identifier format of the node of an object. In the
+ * {@link ExpressionIdFormat#STRUCTURAL} format, whether an anonymous
+ * expression contains an anonymous individual is kept in a bounded cache,
+ * and once an expression is found without one, so are its nested class
+ * expressions. The translator asks for every nested expression of an axiom
+ * in turn, hence the anonymous individuals are only collected once per
+ * top-level expression rather than once per nesting level.
+ *
  * @author Josef Hardi <josef.hardi@stanford.edu> <br>
  * Stanford Center for Biomedical Informatics Research
  */
 public class IdFormatCheckerImpl implements IdFormatChecker {
 
-  @Inject
+  public static final int DEFAULT_MAXIMUM_SIZE = 50_000;
+
+  @Nonnull
+  private final ExpressionIdFormat expressionIdFormat;
+
+  @Nonnull
+  private final Cache<OWLObject, Boolean> structuralExpressions;
+
   public IdFormatCheckerImpl() {
+    this(ExpressionIdFormat.NUMBER);
+  }
+
+  @Inject
+  public IdFormatCheckerImpl(@Nonnull ExpressionIdFormat expressionIdFormat) {
+    this(expressionIdFormat, DEFAULT_MAXIMUM_SIZE);
+  }
+
+  public IdFormatCheckerImpl(@Nonnull ExpressionIdFormat expressionIdFormat, int maximumSize) {
+    this.expressionIdFormat = checkNotNull(expressionIdFormat);
+    this.structuralExpressions = Caffeine.newBuilder()
+        .maximumSize(maximumSize)
+        .build();
   }
 
   @Override
   public IdFormat getIdFormatFor(Object o) {
-    if (o instanceof IRI || o instanceof OWLEntity || o instanceof OWLLiteral2 || o instanceof OWLPropertyChain) {
+    if (expressionIdFormat == ExpressionIdFormat.STRUCTURAL && isStructuralExpression(o)) {
+      return IdFormat.STRUCTURAL;
+    } else if (o instanceof IRI || o instanceof OWLEntity || o instanceof OWLLiteral2 || o instanceof OWLPropertyChain) {
       return IdFormat.DIGEST;
     } else {
       return IdFormat.NUMBER;
     }
   }
+
+  private boolean isStructuralExpression(Object o) {
+    if (o instanceof OWLPropertyChain) {
+      return true;
+    }
+    var isExpression = o instanceof OWLAnonymousClassExpression
+        || (o instanceof OWLDataRange && !(o instanceof OWLDatatype))
+        || o instanceof OWLObjectInverseOf
+        || o instanceof OWLFacetRestriction;
+    return isExpression && hasNoAnonymousIndividuals((OWLObject) o);
+  }
+
+  private boolean hasNoAnonymousIndividuals(OWLObject expression) {
+    var cached = structuralExpressions.getIfPresent(expression);
+    if (cached != null) {
+      return cached;
+    }
+    boolean hasNone = expression.getAnonymousIndividuals().isEmpty();
+    structuralExpressions.put(expression, hasNone);
+    if (hasNone) {
+      for (var nestedExpression : expression.getNestedClassExpressions()) {
+        if (nestedExpression.isAnonymous()) {
+          structuralExpressions.put(nestedExpression, true);
+        }
+      }
+    }
+    return hasNone;
+  }
 }
@@ -0,0 +1,330 @@
+package edu.stanford.owl2lpg.translator.internal;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.google.common.hash.HashFunction;
+import com.google.common.hash.Hasher;
+import com.google.common.primitives.UnsignedBytes;
+import edu.stanford.owl2lpg.model.NodeId;
+import edu.stanford.owl2lpg.model.NodeIdProvider;
+import edu.stanford.owl2lpg.translator.visitors.OWLLiteral2;
+import edu.stanford.owl2lpg.translator.visitors.OWLPropertyChain;
+import org.semanticweb.owlapi.model.*;
+
+import javax.annotation.Nonnull;
+import javax.inject.Inject;
+import javax.inject.Named;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collection;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
+
+/**
+ * Provides content-addressed node identifiers for the anonymous class
+ * expressions, data ranges, inverse properties, facet restrictions and
+ * property chains. The identifier is the hash of the expression type
+ * followed by the identifiers of its operands, where the entities and the
+ * literals are identified by their digest. The operands of a set, e.g., the
+ * operands of an intersection, are hashed in the order of their identifiers,
+ * so the identifier does not depend on the iteration order of the set.
+ * <p>
+ * The identifiers of the recently seen expressions are kept in a bounded
+ * cache, so the identifier of a nested expression is computed once when it
+ * appears again, either on its own or as the operand of a larger expression.
+ * The expressions must not contain anonymous individuals.
+ *
+ * @author Josef Hardi <josef.hardi@stanford.edu> <br>
+ * Stanford Center for Biomedical Informatics Research
+ */
+@SuppressWarnings("UnstableApiUsage")
+public class StructuralNodeIdProvider implements NodeIdProvider {
+
+  public static final int DEFAULT_MAXIMUM_SIZE = 50_000;
+
+  @Nonnull
+  private final HashFunction hashFunction;
+
+  @Nonnull
+  private final NodeIdProvider digestIdProvider;
+
+  @Nonnull
+  private final Cache<Object, NodeId> cache;
+
+  @Nonnull
+  private final ClassExpressionHasher classExpressionHasher = new ClassExpressionHasher();
+
+  @Nonnull
+  private final DataRangeHasher dataRangeHasher = new DataRangeHasher();
+
+  @Inject
+  public StructuralNodeIdProvider(@Nonnull HashFunction hashFunction,
+                                  @Nonnull @Named("digest") NodeIdProvider digestIdProvider) {
+    this(hashFunction, digestIdProvider, DEFAULT_MAXIMUM_SIZE);
+  }
+
+  public StructuralNodeIdProvider(@Nonnull HashFunction hashFunction,
+                                  @Nonnull NodeIdProvider digestIdProvider,
+                                  int maximumSize) {
+    checkArgument(maximumSize >= 0, "Maximum size must not be negative");
+    this.hashFunction = checkNotNull(hashFunction);
+    this.digestIdProvider = checkNotNull(digestIdProvider);
+    this.cache = Caffeine.newBuilder()
+        .maximumSize(maximumSize)
+        .build();
+  }
+
+  @Override
+  public NodeId getId(Object o) {
+    checkNotNull(o);
+    var nodeId = cache.getIfPresent(o);
+    if (nodeId == null) {
+      nodeId = computeId(o);
+      cache.put(o, nodeId);
+    }
+    return nodeId;
+  }
+
+  @Nonnull
+  private NodeId computeId(@Nonnull Object o) {
+    if (o instanceof OWLClassExpression) {
+      return ((OWLClassExpression) o).accept(classExpressionHasher);
+    } else if (o instanceof OWLDataRange) {
+      return ((OWLDataRange) o).accept(dataRangeHasher);
+    } else if (o instanceof OWLObjectInverseOf) {
+      var inverseOf = (OWLObjectInverseOf) o;
+      return hash("ObjectInverseOf", inverseOf.getInverse());
+    } else if (o instanceof OWLFacetRestriction) {
+      var facetRestriction = (OWLFacetRestriction) o;
+      var hasher = newHasher("FacetRestriction");
+      hasher.putString(facetRestriction.getFacet().getIRI().toString(), StandardCharsets.UTF_8);
+      putOperand(hasher, facetRestriction.getFacetValue());
+      return toNodeId(hasher);
+    } else if (o instanceof OWLPropertyChain) {
+      var hasher = newHasher("ObjectPropertyChain");
+      var properties = ((OWLPropertyChain) o).asList();
+      hasher.putInt(properties.size());
+      properties.forEach(property -> putOperand(hasher, property));
+      return toNodeId(hasher);
+    }
+    throw new IllegalArgumentException("No structural identifier for object: " + o);
+  }
+
+  @Nonnull
+  private NodeId getOperandId(@Nonnull Object operand) {
+    if (operand instanceof OWLEntity) {
+      return digestIdProvider.getId(operand);
+    } else if (operand instanceof OWLLiteral) {
+      return digestIdProvider.getId(OWLLiteral2.create((OWLLiteral) operand));
+    } else if (operand instanceof OWLAnonymousIndividual) {
+      throw new IllegalArgumentException("No structural identifier for anonymous individual: " + operand);
+    } else {
+      return getId(operand);
+    }
+  }
+
+  private void putOperand(@Nonnull Hasher hasher, @Nonnull Object operand) {
+    hasher.putBytes(getOperandId(operand).getBytes());
+  }
+
+  private void putOperandSet(@Nonnull Hasher hasher, @Nonnull Collection<?> operands) {
+    var operandIds = new ArrayList<byte[]>(operands.size());
+    for (var operand : operands) {
+      operandIds.add(getOperandId(operand).getBytes());
+    }
+    operandIds.sort(UnsignedBytes.lexicographicalComparator());
+    hasher.putInt(operandIds.size());
+    operandIds.forEach(hasher::putBytes);
+  }
+
+  @Nonnull
+  private Hasher newHasher(@Nonnull String type) {
+    return hashFunction.newHasher()
+        .putString(type, StandardCharsets.UTF_8)
+        .putByte((byte) 0);
+  }
+
+  @Nonnull
+  private NodeId hash(@Nonnull String type, @Nonnull Object... operands) {
+    var hasher = newHasher(type);
+    for (var operand : operands) {
+      putOperand(hasher, operand);
+    }
+    return toNodeId(hasher);
+  }
+
+  @Nonnull
+  private NodeId hashCardinality(@Nonnull String type, int cardinality,
+                                 @Nonnull Object property, @Nonnull Object filler) {
+    var hasher = newHasher(type).putInt(cardinality);
+    putOperand(hasher, property);
+    putOperand(hasher, filler);
+    return toNodeId(hasher);
+  }
+
+  @Nonnull
+  private NodeId hashSet(@Nonnull String type, @Nonnull Collection<?> operands) {
+    var hasher = newHasher(type);
+    putOperandSet(hasher, operands);
+    return toNodeId(hasher);
+  }
+
+  @Nonnull
+  private static NodeId toNodeId(@Nonnull Hasher hasher) {
+    return NodeId.create(hasher.hash().asBytes());
+  }
+
+  private class ClassExpressionHasher implements OWLClassExpressionVisitorEx<NodeId> {
+
+    @Nonnull
+    @Override
+    public NodeId visit(@Nonnull OWLClass ce) {
+      return digestIdProvider.getId(ce);
+    }
+
+    @Nonnull
+    @Override
+    public NodeId visit(@Nonnull OWLObjectIntersectionOf ce) {
+      return hashSet("ObjectIntersectionOf", ce.getOperands());
+    }
+
+    @Nonnull
+    @Override
+    public NodeId visit(@Nonnull OWLObjectUnionOf ce) {
+      return hashSet("ObjectUnionOf", ce.getOperands());
+    }
+
+    @Nonnull
+    @Override
+    public NodeId visit(@Nonnull OWLObjectComplementOf ce) {
+      return hash("ObjectComplementOf", ce.getOperand());
+    }
+
+    @Nonnull
+    @Override
+    public NodeId visit(@Nonnull OWLObjectSomeValuesFrom ce) {
+      return hash("ObjectSomeValuesFrom", ce.getProperty(), ce.getFiller());
+    }
+
+    @Nonnull
+    @Override
+    public NodeId visit(@Nonnull OWLObjectAllValuesFrom ce) {
+      return hash("ObjectAllValuesFrom", ce.getProperty(), ce.getFiller());
+    }
+
+    @Nonnull
+    @Override
+    public NodeId visit(@Nonnull OWLObjectHasValue ce) {
+      return hash("ObjectHasValue", ce.getProperty(), ce.getFiller());
+    }
+
+    @Nonnull
+    @Override
+    public NodeId visit(@Nonnull OWLObjectMinCardinality ce) {
+      return hashCardinality("ObjectMinCardinality", ce.getCardinality(), ce.getProperty(), ce.getFiller());
+    }
+
+    @Nonnull
+    @Override
+    public NodeId visit(@Nonnull OWLObjectExactCardinality ce) {
+      return hashCardinality("ObjectExactCardinality", ce.getCardinality(), ce.getProperty(), ce.getFiller());
+    }
+
+    @Nonnull
+    @Override
+    public NodeId visit(@Nonnull OWLObjectMaxCardinality ce) {
+      return hashCardinality("ObjectMaxCardinality", ce.getCardinality(), ce.getProperty(), ce.getFiller());
+    }
+
+    @Nonnull
+    @Override
+    public NodeId visit(@Nonnull OWLObjectHasSelf ce) {
+      return hash("ObjectHasSelf", ce.getProperty());
+    }
+
+    @Nonnull
+    @Override
+    public NodeId visit(@Nonnull OWLObjectOneOf ce) {
+      return hashSet("ObjectOneOf", ce.getIndividuals());
+    }
+
+    @Nonnull
+    @Override
+    public NodeId visit(@Nonnull OWLDataSomeValuesFrom ce) {
+      return hash("DataSomeValuesFrom", ce.getProperty(), ce.getFiller());
+    }
+
+    @Nonnull
+    @Override
+    public NodeId visit(@Nonnull OWLDataAllValuesFrom ce) {
+      return hash("DataAllValuesFrom", ce.getProperty(), ce.getFiller());
+    }
+
+    @Nonnull
+    @Override
+    public NodeId visit(@Nonnull OWLDataHasValue ce) {
+      return hash("DataHasValue", ce.getProperty(), ce.getFiller());
+    }
+
+    @Nonnull
+    @Override
+    public NodeId visit(@Nonnull OWLDataMinCardinality ce) {
+      return hashCardinality("DataMinCardinality", ce.getCardinality(), ce.getProperty(), ce.getFiller());
+    }
+
+    @Nonnull
+    @Override
+    public NodeId visit(@Nonnull OWLDataExactCardinality ce) {
+      return hashCardinality("DataExactCardinality", ce.getCardinality(), ce.getProperty(), ce.getFiller());
+    }
+
+    @Nonnull
+    @Override
+    public NodeId visit(@Nonnull OWLDataMaxCardinality ce) {
+      return hashCardinality("DataMaxCardinality", ce.getCardinality(), ce.getProperty(), ce.getFiller());
+    }
+  }
+
+  private class DataRangeHasher implements OWLDataRangeVisitorEx<NodeId> {
+
+    @Nonnull
+    @Override
+    public NodeId visit(@Nonnull OWLDatatype dr) {
+      return digestIdProvider.getId(dr);
+    }
+
+    @Nonnull
+    @Override
+    public NodeId visit(@Nonnull OWLDataOneOf dr) {
+      return hashSet("DataOneOf", dr.getValues());
+    }
+
+    @Nonnull
+    @Override
+    public NodeId visit(@Nonnull OWLDataComplementOf dr) {
+      return hash("DataComplementOf", dr.getDataRange());
+    }
+
+    @Nonnull
+    @Override
+    public NodeId visit(@Nonnull OWLDataIntersectionOf dr) {
+      return hashSet("DataIntersectionOf", dr.getOperands());
+    }
+
+    @Nonnull
+    @Override
+    public NodeId visit(@Nonnull OWLDataUnionOf dr) {
+      return hashSet("DataUnionOf", dr.getOperands());
+    }
+
+    @Nonnull
+    @Override
+    public NodeId visit(@Nonnull OWLDatatypeRestriction dr) {
+      var hasher = newHasher("DatatypeRestriction");
+      putOperand(hasher, dr.getDatatype());
+      putOperandSet(hasher, dr.getFacetRestrictions());
+      return toNodeId(hasher);
+    }
+  }
+}
@@ -1,22 +1,33 @@
 package edu.stanford.owl2lpg.translator.shared;
 
-import com.google.common.hash.Hashing;
+import com.google.common.hash.HashFunction;
 
 import javax.annotation.Nonnull;
 import javax.inject.Inject;
 
+import static com.google.common.base.Preconditions.checkNotNull;
+
 /**
  * @author Josef Hardi <josef.hardi@stanford.edu> <br>
  * Stanford Center for Biomedical Informatics Research
  */
+@SuppressWarnings("UnstableApiUsage")
 public class BytesDigester {
 
-  @Inject
+  @Nonnull
+  private final HashFunction hashFunction;
+
   public BytesDigester() {
+    this(HashStrategy.LEGACY);
+  }
+
+  @Inject
+  public BytesDigester(@Nonnull HashStrategy hashStrategy) {
+    this.hashFunction = checkNotNull(hashStrategy).getDigestHashFunction();
   }
 
   @Nonnull
   public String getDigestString(byte[] bytes) {
-    return Hashing.sha256().hashBytes(bytes).toString();
+    return hashFunction.hashBytes(bytes).toString();
   }
 }
@@ -1,10 +1,13 @@
 package edu.stanford.owl2lpg.translator.shared;
 
 import com.google.common.hash.HashFunction;
-import com.google.common.hash.Hashing;
 import dagger.Module;
 import dagger.Provides;
 
+import javax.annotation.Nonnull;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+
 /**
  * @author Josef Hardi <josef.hardi@stanford.edu> <br>
  * Stanford Center for Biomedical Informatics Research
@@ -13,8 +16,53 @@ import dagger.Provides;
 @Module
 public class DigestFunctionModule {
 
+  @Nonnull
+  private final HashStrategy hashStrategy;
+
+  @Nonnull
+  private final EdgeIdEncoding edgeIdEncoding;
+
+  @Nonnull
+  private final ExpressionIdFormat expressionIdFormat;
+
+  public DigestFunctionModule() {
+    this(HashStrategy.LEGACY);
+  }
+
+  public DigestFunctionModule(@Nonnull HashStrategy hashStrategy) {
+    this(hashStrategy, EdgeIdEncoding.STRING);
+  }
+
+  public DigestFunctionModule(@Nonnull HashStrategy hashStrategy,
+                              @Nonnull EdgeIdEncoding edgeIdEncoding) {
+    this(hashStrategy, edgeIdEncoding, ExpressionIdFormat.NUMBER);
+  }
+
+  public DigestFunctionModule(@Nonnull HashStrategy hashStrategy,
+                              @Nonnull EdgeIdEncoding edgeIdEncoding,
+                              @Nonnull ExpressionIdFormat expressionIdFormat) {
+    this.hashStrategy = checkNotNull(hashStrategy);
+    this.edgeIdEncoding = checkNotNull(edgeIdEncoding);
+    this.expressionIdFormat = checkNotNull(expressionIdFormat);
+  }
+
+  @Provides
+  public HashStrategy provideHashStrategy() {
+    return hashStrategy;
+  }
+
   @Provides
   public HashFunction provideHashFunction() {
-    return Hashing.md5();
+    return hashStrategy.getIdHashFunction();
+  }
+
+  @Provides
+  public EdgeIdEncoding provideEdgeIdEncoding() {
+    return edgeIdEncoding;
+  }
+
+  @Provides
+  public ExpressionIdFormat provideExpressionIdFormat() {
+    return expressionIdFormat;
   }
 }
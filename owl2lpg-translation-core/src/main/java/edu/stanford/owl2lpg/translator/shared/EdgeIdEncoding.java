@@ -0,0 +1,25 @@
+package edu.stanford.owl2lpg.translator.shared;
+
+/**
+ * The input given to the identifier hash function to derive the identifier
+ * of an edge from its start node, end node and label.
+ *
+ * @author Josef Hardi <josef.hardi@stanford.edu> <br>
+ * Stanford Center for Biomedical Informatics Research
+ */
+public enum EdgeIdEncoding {
+
+  /**
+   * The UTF-8 bytes of the string {@code <startHex>:<endHex>:<label>}, which
+   * is how the edge identifiers of the existing graphs were created
+   */
+  STRING,
+
+  /**
+   * The length-prefixed bytes of the start and end node identifiers followed
+   * by the UTF-8 name of the edge label. It avoids encoding the identifiers as
+   * hex strings for every edge, but the identifiers differ from the ones
+   * produced by {@link #STRING}.
+   */
+  BINARY
+}
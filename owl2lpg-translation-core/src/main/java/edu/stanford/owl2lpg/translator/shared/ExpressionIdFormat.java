@@ -0,0 +1,27 @@
+package edu.stanford.owl2lpg.translator.shared;
+
+/**
+ * The identifier format of the nodes of the anonymous class expressions,
+ * data ranges, inverse properties, facet restrictions and property chains.
+ *
+ * @author Josef Hardi <josef.hardi@stanford.edu> <br>
+ * Stanford Center for Biomedical Informatics Research
+ */
+public enum ExpressionIdFormat {
+
+  /**
+   * A number that is only unique within the translation session. The node id
+   * mapper remembers the number of every expression, so that the same
+   * expression in another axiom gets the same node.
+   */
+  NUMBER,
+
+  /**
+   * A hash of the expression type and of the identifiers of its operands,
+   * computed bottom-up from the entity and literal digests. The same
+   * expression gets the same node in every session and incremental load,
+   * without the node id mapper remembering it. Expressions that contain an
+   * anonymous individual keep a {@link #NUMBER} identifier.
+   */
+  STRUCTURAL
+}
@@ -0,0 +1,79 @@
+package edu.stanford.owl2lpg.translator.shared;
+
+import com.google.common.hash.HashFunction;
+import com.google.common.hash.Hashing;
+
+import javax.annotation.Nonnull;
+
+/**
+ * The hash functions used to derive the digest-based identifiers. The
+ * identifier hash produces the 128-bit node and edge identifiers of the IRIs,
+ * entities, literals and edges, while the digest hash produces the 256-bit
+ * digests of the axioms and the anonymous class expressions.
+ * <p>
+ * The identifiers are only used to tell the objects apart, hence they do not
+ * need a cryptographic hash function. The {@link #LEGACY} strategy is kept
+ * so that exports remain compatible with graphs created by earlier versions.
+ * A graph must always be read and updated with the strategy it was created
+ * with.
+ *
+ * @author Josef Hardi <josef.hardi@stanford.edu> <br>
+ * Stanford Center for Biomedical Informatics Research
+ */
+@SuppressWarnings("UnstableApiUsage")
+public enum HashStrategy {
+
+  /**
+   * MD5 for the identifiers and SHA-256 for the digests
+   */
+  LEGACY("md5", Hashing.md5(), "sha256", Hashing.sha256()),
+
+  /**
+   * Murmur3-128 for the identifiers and two Murmur3-128 hashes with
+   * different seeds, concatenated to 256 bits, for the digests
+   */
+  MURMUR3("murmur3_128", Hashing.murmur3_128(), "murmur3_128x2",
+      Hashing.concatenating(Hashing.murmur3_128(0), Hashing.murmur3_128(1)));
+
+  @Nonnull
+  private final String idHashName;
+
+  @Nonnull
+  private final HashFunction idHashFunction;
+
+  @Nonnull
+  private final String digestHashName;
+
+  @Nonnull
+  private final HashFunction digestHashFunction;
+
+  HashStrategy(@Nonnull String idHashName,
+               @Nonnull HashFunction idHashFunction,
+               @Nonnull String digestHashName,
+               @Nonnull HashFunction digestHashFunction) {
+    this.idHashName = idHashName;
+    this.idHashFunction = idHashFunction;
+    this.digestHashName = digestHashName;
+    this.digestHashFunction = digestHashFunction;
+  }
+
+  @Nonnull
+  public String getIdHashName() {
+    return idHashName;
+  }
+
+  @Nonnull
+  public HashFunction getIdHashFunction() {
+    return idHashFunction;
+  }
+
+  @Nonnull
+  public String getDigestHashName() {
+    return digestHashName;
+  }
+
+  @Nonnull
+  public HashFunction getDigestHashFunction() {
+    return digestHashFunction;
+  }
+}
@@ -0,0 +1,32 @@
+package edu.stanford.owl2lpg.translator.shared;
+
+import com.google.auto.value.AutoValue;
+
+import javax.annotation.Nonnull;
+
+/**
+ * The node properties derived from an entity IRI. A property that cannot be
+ * derived from the IRI is an empty string.
+ *
+ * @author Josef Hardi <josef.hardi@stanford.edu> <br>
+ * Stanford Center for Biomedical Informatics Research
+ */
+@AutoValue
+public abstract class IriProperties {
+
+  @Nonnull
+  public static IriProperties create(@Nonnull String localName,
+                                     @Nonnull String prefixedName,
+                                     @Nonnull String oboId) {
+    return new AutoValue_IriProperties(localName, prefixedName, oboId);
+  }
+
+  @Nonnull
+  public abstract String getLocalName();
+
+  @Nonnull
+  public abstract String getPrefixedName();
+
+  @Nonnull
+  public abstract String getOboId();
+}
@@ -0,0 +1,119 @@
+package edu.stanford.owl2lpg.translator.shared;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.LoadingCache;
+import com.google.common.base.Charsets;
+import org.semanticweb.owlapi.model.IRI;
+
+import javax.annotation.Nonnull;
+import javax.inject.Inject;
+import java.net.URLDecoder;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+
+/**
+ * Computes the local name, the prefixed name and the OBO identifier of an
+ * IRI once and keeps them in a bounded cache, since the same IRIs appear
+ * again and again in the axioms.
+ * <p>
+ * The OBO identifier is read by a scanner equivalent to the pattern
+ * {@code /([A-Z|a-z]+(_[A-Z|a-z]+)?)_([0-9]+)$}, e.g., the IRI
+ * {@code http://purl.obolibrary.org/obo/NCBI_Taxon_9606} has the OBO
+ * identifier {@code NCBI_Taxon:9606}.
+ *
+ * @author Josef Hardi <josef.hardi@stanford.edu> <br>
+ * Stanford Center for Biomedical Informatics Research
+ */
+public class IriPropertiesCache {
+
+  public static final int DEFAULT_MAXIMUM_SIZE = 50_000;
+
+  @Nonnull
+  private final BuiltInPrefixDeclarations builtInPrefixDeclarations;
+
+  @Nonnull
+  private final LoadingCache<IRI, IriProperties> cache;
+
+  @Inject
+  public IriPropertiesCache(@Nonnull BuiltInPrefixDeclarations builtInPrefixDeclarations) {
+    this(builtInPrefixDeclarations, DEFAULT_MAXIMUM_SIZE);
+  }
+
+  public IriPropertiesCache(@Nonnull BuiltInPrefixDeclarations builtInPrefixDeclarations,
+                            int maximumSize) {
+    this.builtInPrefixDeclarations = checkNotNull(builtInPrefixDeclarations);
+    this.cache = Caffeine.newBuilder()
+        .maximumSize(maximumSize)
+        .build(this::computeProperties);
+  }
+
+  @Nonnull
+  public IriProperties get(@Nonnull IRI iri) {
+    return cache.get(checkNotNull(iri));
+  }
+
+  @Nonnull
+  private IriProperties computeProperties(@Nonnull IRI iri) {
+    var iriString = iri.toString();
+    var localName = getLocalName(iriString);
+    var prefixName = builtInPrefixDeclarations.getPrefixName(iri.getNamespace());
+    var prefixedName = (prefixName != null) ? prefixName + localName : "";
+    return IriProperties.create(localName, prefixedName, getOboId(iriString));
+  }
+
+  @Nonnull
+  static String getLocalName(@Nonnull String iriString) {
+    int hashIndex = iriString.lastIndexOf('#');
+    if (hashIndex != -1 && hashIndex < iriString.length() - 1) {
+      return decode(iriString.substring(hashIndex + 1));
+    }
+    int slashIndex = iriString.lastIndexOf('/');
+    if (slashIndex != -1 && slashIndex < iriString.length() - 1) {
+      return decode(iriString.substring(slashIndex + 1));
+    }
+    return "";
+  }
+
+  @Nonnull
+  static String getOboId(@Nonnull String iriString) {
+    int end = iriString.length();
+    int digitsStart = end;
+    while (digitsStart > 0 && isDigit(iriString.charAt(digitsStart - 1))) {
+      digitsStart--;
+    }
+    int separatorIndex = digitsStart - 1;
+    if (digitsStart == end || separatorIndex < 0 || iriString.charAt(separatorIndex) != '_') {
+      return "";
+    }
+    int prefixStart = separatorIndex;
+    int underscoreCount = 0;
+    while (prefixStart > 0 && isPrefixChar(iriString.charAt(prefixStart - 1))) {
+      if (iriString.charAt(prefixStart - 1) == '_') {
+        underscoreCount++;
+      }
+      prefixStart--;
+    }
+    if (prefixStart == 0 || iriString.charAt(prefixStart - 1) != '/'
+        || prefixStart == separatorIndex || underscoreCount > 1
+        || iriString.charAt(prefixStart) == '_' || iriString.charAt(separatorIndex - 1) == '_') {
+      return "";
+    }
+    return iriString.substring(prefixStart, separatorIndex) + ":" + iriString.substring(digitsStart);
+  }
+
+  private static boolean isDigit(char c) {
+    return c >= '0' && c <= '9';
+  }
+
+  private static boolean isPrefixChar(char c) {
+    return (c >= 'A' && c <= 'Z') || (c >= 'a' && c <= 'z') || c == '|' || c == '_';
+  }
+
+  @Nonnull
+  private static String decode(@Nonnull String localName) {
+    if (localName.indexOf('%') == -1 && localName.indexOf('+') == -1) {
+      return localName;
+    }
+    return URLDecoder.decode(localName, Charsets.UTF_8);
+  }
+}
@@ -0,0 +1,57 @@
+package edu.stanford.owl2lpg.translator.shared;
+
+import com.google.common.hash.Funnels;
+import com.google.common.hash.HashCode;
+import com.google.common.hash.HashFunction;
+import org.semanticweb.owlapi.model.OWLObject;
+
+import javax.annotation.Nonnull;
+import javax.inject.Inject;
+import java.io.DataOutputStream;
+import java.io.IOException;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+
+/**
+ * Computes the digest of an OWL object from its binary OWL serialization.
+ * The serialization is written straight into the hasher, so the serialized
+ * form is never held in memory. The digest is identical to the one that
+ * {@link BytesDigester} computes from the bytes of the
+ * {@link BinaryOntologyObjectSerializer}.
+ *
+ * @author Josef Hardi <josef.hardi@stanford.edu> <br>
+ * Stanford Center for Biomedical Informatics Research
+ */
+@SuppressWarnings("UnstableApiUsage")
+public class OntologyObjectDigester {
+
+  @Nonnull
+  private final BinaryOwlOutputStreamFactory factory;
+
+  @Nonnull
+  private final HashFunction hashFunction;
+
+  @Inject
+  public OntologyObjectDigester(@Nonnull BinaryOwlOutputStreamFactory factory,
+                                @Nonnull HashStrategy hashStrategy) {
+    this.factory = checkNotNull(factory);
+    this.hashFunction = checkNotNull(hashStrategy).getDigestHashFunction();
+  }
+
+  @Nonnull
+  public String getDigestString(@Nonnull OWLObject owlObject) {
+    return getDigest(owlObject).toString();
+  }
+
+  @Nonnull
+  public HashCode getDigest(@Nonnull OWLObject owlObject) {
+    try {
+      var hasher = hashFunction.newHasher();
+      var dataOutput = new DataOutputStream(Funnels.asOutputStream(hasher));
+      factory.createOutputStream(dataOutput).writeOWLObject(owlObject);
+      return hasher.hash();
+    } catch (IOException e) {
+      throw new RuntimeException(e);
+    }
+  }
+}
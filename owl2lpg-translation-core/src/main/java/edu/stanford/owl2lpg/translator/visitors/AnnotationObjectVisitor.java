@@ -9,6 +9,7 @@ import edu.stanford.owl2lpg.translator.AnnotationObjectTranslator;
 import edu.stanford.owl2lpg.translator.AnnotationValueTranslator;
 import edu.stanford.owl2lpg.translator.AxiomTranslator;
 import edu.stanford.owl2lpg.translator.PropertyExpressionTranslator;
+import edu.stanford.owl2lpg.translator.TranslationEmitter;
 import edu.stanford.owl2lpg.translator.vocab.NodeLabels;
 import org.semanticweb.owlapi.model.IRI;
 import org.semanticweb.owlapi.model.OWLAnnotation;
@@ -51,19 +52,24 @@ public class AnnotationObjectVisitor implements OWLAnnotationObjectVisitorEx<Tra
   @Nonnull
   private final AxiomTranslator axiomTranslator;
 
+  @Nonnull
+  private final TranslationEmitter translationEmitter;
+
   @Inject
   public AnnotationObjectVisitor(@Nonnull NodeFactory nodeFactory,
                                  @Nonnull StructuralEdgeFactory structuralEdgeFactory,
                                  @Nonnull PropertyExpressionTranslator propertyExprTranslator,
                                  @Nonnull AnnotationValueTranslator annotationValueTranslator,
                                  @Nonnull AnnotationObjectTranslator annotationObjectTranslator,
-                                 @Nonnull AxiomTranslator axiomTranslator) {
+                                 @Nonnull AxiomTranslator axiomTranslator,
+                                 @Nonnull TranslationEmitter translationEmitter) {
     this.nodeFactory = checkNotNull(nodeFactory);
     this.structuralEdgeFactory = checkNotNull(structuralEdgeFactory);
     this.propertyExprTranslator = checkNotNull(propertyExprTranslator);
     this.annotationValueTranslator = checkNotNull(annotationValueTranslator);
     this.annotationObjectTranslator = checkNotNull(annotationObjectTranslator);
     this.axiomTranslator = checkNotNull(axiomTranslator);
+    this.translationEmitter = checkNotNull(translationEmitter);
   }
 
   @Nonnull
@@ -83,7 +89,7 @@ public class AnnotationObjectVisitor implements OWLAnnotationObjectVisitorEx<Tra
       translations.add(translation);
       edges.add(structuralEdgeFactory.getAnnotationAnnotationEdge(mainNode, translation.getMainNode()));
     }
-    return Translation.create(annotation, mainNode,
+    return translationEmitter.assemble(annotation, mainNode,
         edges.build(),
         translations.build());
   }
@@ -19,8 +19,8 @@ import edu.stanford.owl2lpg.translator.EntityTranslator;
 import edu.stanford.owl2lpg.translator.IndividualTranslator;
 import edu.stanford.owl2lpg.translator.LiteralTranslator;
 import edu.stanford.owl2lpg.translator.PropertyExpressionTranslator;
-import edu.stanford.owl2lpg.translator.shared.BytesDigester;
-import edu.stanford.owl2lpg.translator.shared.OntologyObjectSerializer;
+import edu.stanford.owl2lpg.translator.TranslationEmitter;
+import edu.stanford.owl2lpg.translator.shared.OntologyObjectDigester;
 import edu.stanford.owl2lpg.translator.vocab.NodeLabels;
 import org.semanticweb.owlapi.model.*;
 
@@ -113,10 +113,10 @@ public class AxiomVisitor implements OWLAxiomVisitorEx<Translation> {
   private final AnnotationValueTranslator annotationValueTranslator;
 
   @Nonnull
-  private final OntologyObjectSerializer ontologyObjectSerializer;
+  private final OntologyObjectDigester ontologyObjectDigester;
 
   @Nonnull
-  private final BytesDigester bytesDigester;
+  private final TranslationEmitter translationEmitter;
 
   @Inject
   public AxiomVisitor(@Nonnull NodeFactory nodeFactory,
@@ -131,8 +131,8 @@ public class AxiomVisitor implements OWLAxiomVisitorEx<Translation> {
                       @Nonnull AnnotationObjectTranslator annotationTranslator,
                       @Nonnull AnnotationSubjectTranslator annotationSubjectTranslator,
                       @Nonnull AnnotationValueTranslator annotationValueTranslator,
-                      @Nonnull OntologyObjectSerializer ontologyObjectSerializer,
-                      @Nonnull BytesDigester bytesDigester) {
+                      @Nonnull OntologyObjectDigester ontologyObjectDigester,
+                      @Nonnull TranslationEmitter translationEmitter) {
     this.nodeFactory = checkNotNull(nodeFactory);
     this.structuralEdgeFactory = checkNotNull(structuralEdgeFactory);
     this.augmentedEdgeFactory = checkNotNull(augmentedEdgeFactory);
@@ -145,8 +145,8 @@ public class AxiomVisitor implements OWLAxiomVisitorEx<Translation> {
     this.annotationTranslator = checkNotNull(annotationTranslator);
     this.annotationSubjectTranslator = checkNotNull(annotationSubjectTranslator);
     this.annotationValueTranslator = checkNotNull(annotationValueTranslator);
-    this.ontologyObjectSerializer = checkNotNull(ontologyObjectSerializer);
-    this.bytesDigester = checkNotNull(bytesDigester);
+    this.ontologyObjectDigester = checkNotNull(ontologyObjectDigester);
+    this.translationEmitter = checkNotNull(translationEmitter);
   }
 
   @Nonnull
@@ -657,7 +657,7 @@ public class AxiomVisitor implements OWLAxiomVisitorEx<Translation> {
     var propertyChainTranslations = newTranslationBuilder();
     var propertyChainEdges = newEdgesBuilder();
     var propertyChainNode = addPropertyChainTranslationAndEdge(propertyChain, propertyChainTranslations, propertyChainEdges);
-    var propertyChainTranslation = Translation.create(propertyChain, propertyChainNode, propertyChainEdges.build(), propertyChainTranslations.build());
+    var propertyChainTranslation = translationEmitter.assemble(propertyChain, propertyChainNode, propertyChainEdges.build(), propertyChainTranslations.build());
     var subObjectPropertyOfEdge = structuralEdgeFactory.getSubObjectPropertyExpressionEdge(axiomNode, propertyChainNode);
     addInAxiomSignatureAugmentedEdge(propertyChainTranslation, axiomNode, edges);
     translations.add(propertyChainTranslation);
@@ -810,7 +810,7 @@ public class AxiomVisitor implements OWLAxiomVisitorEx<Translation> {
 
   @Nonnull
   private Node createAxiomNode(OWLAxiom axiom, NodeLabels nodeLabels) {
-    var digestString = bytesDigester.getDigestString(ontologyObjectSerializer.serialize(axiom));
+    var digestString = ontologyObjectDigester.getDigestString(axiom);
     return nodeFactory.createNode(axiom, nodeLabels, Properties.of(DIGEST, digestString));
   }
 
@@ -825,9 +825,9 @@ public class AxiomVisitor implements OWLAxiomVisitorEx<Translation> {
   }
 
   @Nonnull
-  private static Translation buildTranslation(OWLAxiom axiom, Node
+  private Translation buildTranslation(OWLAxiom axiom, Node
       mainNode, Builder<Translation> translations, Builder<Edge> edges) {
-    return Translation.create(axiom, mainNode, edges.build(), translations.build());
+    return translationEmitter.assemble(axiom, mainNode, edges.build(), translations.build());
   }
 
   /**
@@ -1422,10 +1422,9 @@ public class AxiomVisitor implements OWLAxiomVisitorEx<Translation> {
    */
 
   private void addInAxiomSignatureAugmentedEdge(Translation translation, Node axiomNode, Builder<Edge> edges) {
-    translation.nodes()
-        .filter(node -> node.getLabels().isa(ENTITY))
-        .map(entityNode -> augmentedEdgeFactory.getInAxiomSignatureEdge(entityNode, axiomNode))
-        .forEach(entityNode -> entityNode.ifPresent(edges::add));
+    for (var entityNode : translation.getNodes(ENTITY)) {
+      augmentedEdgeFactory.getInAxiomSignatureEdge(entityNode, axiomNode).ifPresent(edges::add);
+    }
   }
 
   private void addInAxiomSignatureAugmentedEdges(List<Translation> translations, Node axiomNode, Builder<Edge> edges) {
@@ -1513,8 +1512,7 @@ public class AxiomVisitor implements OWLAxiomVisitorEx<Translation> {
 
   private void addRelatedToAugmentedEdges(Translation subClassTranslation, Translation superClassTranslation, Builder<Edge> edges) {
     var subClassNode = subClassTranslation.getMainNode();
-    var superClassExpression = (OWLClassExpression) superClassTranslation.getTranslatedObject();
-    augmentedEdgeFactory.getRelatedToEdges(subClassNode, superClassExpression).ifPresent(edges::addAll);
+    augmentedEdgeFactory.getRelatedToEdges(subClassNode, superClassTranslation).ifPresent(edges::addAll);
   }
 
   private void addRelatedToAugmentedEdge(Translation subjectTranslation, Translation fillerTranslation, Translation propertyTranslation, Builder<Edge> edges) {
@@ -13,8 +13,7 @@ import edu.stanford.owl2lpg.translator.EntityTranslator;
 import edu.stanford.owl2lpg.translator.IndividualTranslator;
 import edu.stanford.owl2lpg.translator.LiteralTranslator;
 import edu.stanford.owl2lpg.translator.PropertyExpressionTranslator;
-import edu.stanford.owl2lpg.translator.shared.BytesDigester;
-import edu.stanford.owl2lpg.translator.shared.OntologyObjectSerializer;
+import edu.stanford.owl2lpg.translator.TranslationEmitter;
 import edu.stanford.owl2lpg.translator.vocab.NodeLabels;
 import org.semanticweb.owlapi.model.*;
 
@@ -71,10 +70,7 @@ public class ClassExpressionVisitor implements OWLClassExpressionVisitorEx<Trans
   private final IndividualTranslator individualTranslator;
 
   @Nonnull
-  private final OntologyObjectSerializer ontologyObjectSerializer;
-
-  @Nonnull
-  private final BytesDigester bytesDigester;
+  private final TranslationEmitter translationEmitter;
 
   @Inject
   public ClassExpressionVisitor(@Nonnull NodeFactory nodeFactory,
@@ -85,8 +81,7 @@ public class ClassExpressionVisitor implements OWLClassExpressionVisitorEx<Trans
                                 @Nonnull DataRangeTranslator dataRangeTranslator,
                                 @Nonnull LiteralTranslator literalTranslator,
                                 @Nonnull IndividualTranslator individualTranslator,
-                                @Nonnull OntologyObjectSerializer ontologyObjectSerializer,
-                                @Nonnull BytesDigester bytesDigester) {
+                                @Nonnull TranslationEmitter translationEmitter) {
     this.nodeFactory = checkNotNull(nodeFactory);
     this.structuralEdgeFactory = checkNotNull(structuralEdgeFactory);
     this.entityTranslator = checkNotNull(entityTranslator);
@@ -95,8 +90,7 @@ public class ClassExpressionVisitor implements OWLClassExpressionVisitorEx<Trans
     this.dataRangeTranslator = checkNotNull(dataRangeTranslator);
     this.literalTranslator = checkNotNull(literalTranslator);
     this.individualTranslator = checkNotNull(individualTranslator);
-    this.ontologyObjectSerializer = checkNotNull(ontologyObjectSerializer);
-    this.bytesDigester = checkNotNull(bytesDigester);
+    this.translationEmitter = checkNotNull(translationEmitter);
   }
 
   @Nonnull
@@ -123,7 +117,7 @@ public class ClassExpressionVisitor implements OWLClassExpressionVisitorEx<Trans
     var mainNode = createClassExprNode(ce, OBJECT_COMPLEMENT_OF);
     var classExprTranslation = classExprTranslator.translate(ce.getOperand());
     var classExprEdge = structuralEdgeFactory.getClassExpressionEdge(mainNode, classExprTranslation.getMainNode());
-    return Translation.create(ce, mainNode,
+    return translationEmitter.assemble(ce, mainNode,
         ImmutableList.of(classExprEdge),
         ImmutableList.of(classExprTranslation));
   }
@@ -149,7 +143,7 @@ public class ClassExpressionVisitor implements OWLClassExpressionVisitorEx<Trans
     var edges = ImmutableList.<Edge>builder();
     edges.add(structuralEdgeFactory.getObjectPropertyExpressionEdge(mainNode, propertyTranslation.getMainNode()));
     edges.add(structuralEdgeFactory.getIndividualEdge(mainNode, fillerTranslation.getMainNode()));
-    return Translation.create(ce, mainNode,
+    return translationEmitter.assemble(ce, mainNode,
         edges.build(),
         ImmutableList.of(propertyTranslation, fillerTranslation));
   }
@@ -179,7 +173,7 @@ public class ClassExpressionVisitor implements OWLClassExpressionVisitorEx<Trans
     var mainNode = createClassExprNode(ce, NodeLabels.OBJECT_HAS_SELF);
     var propertyExprTranslation = propertyExprTranslator.translate(ce.getProperty());
     var propertyExprEdge = structuralEdgeFactory.getObjectPropertyExpressionEdge(mainNode, propertyExprTranslation.getMainNode());
-    return Translation.create(ce, mainNode,
+    return translationEmitter.assemble(ce, mainNode,
         ImmutableList.of(propertyExprEdge),
         ImmutableList.of(propertyExprTranslation));
   }
@@ -196,7 +190,7 @@ public class ClassExpressionVisitor implements OWLClassExpressionVisitorEx<Trans
       translations.add(translation);
       edges.add(structuralEdgeFactory.getIndividualEdge(mainNode, translation.getMainNode()));
     }
-    return Translation.create(ce, mainNode,
+    return translationEmitter.assemble(ce, mainNode,
         edges.build(),
         translations.build());
   }
@@ -222,7 +216,7 @@ public class ClassExpressionVisitor implements OWLClassExpressionVisitorEx<Trans
     var edges = ImmutableList.<Edge>builder();
     edges.add(structuralEdgeFactory.getDataPropertyExpressionEdge(mainNode, propertyExprTranslation.getMainNode()));
     edges.add(structuralEdgeFactory.getLiteralEdge(mainNode, fillerTranslation.getMainNode()));
-    return Translation.create(ce, mainNode,
+    return translationEmitter.assemble(ce, mainNode,
         edges.build(),
         ImmutableList.of(propertyExprTranslation, fillerTranslation));
   }
@@ -256,7 +250,7 @@ public class ClassExpressionVisitor implements OWLClassExpressionVisitorEx<Trans
       translations.add(translation);
       edges.add(structuralEdgeFactory.getClassExpressionEdge(mainNode, translation.getMainNode()));
     }
-    return Translation.create(ce, mainNode,
+    return translationEmitter.assemble(ce, mainNode,
         edges.build(),
         translations.build());
   }
@@ -269,7 +263,7 @@ public class ClassExpressionVisitor implements OWLClassExpressionVisitorEx<Trans
     var edges = ImmutableList.<Edge>builder();
     edges.add(structuralEdgeFactory.getObjectPropertyExpressionEdge(mainNode, propertyTranslation.getMainNode()));
     edges.add(structuralEdgeFactory.getClassExpressionEdge(mainNode, fillerTranslation.getMainNode()));
-    return Translation.create(ce, mainNode,
+    return translationEmitter.assemble(ce, mainNode,
         edges.build(),
         ImmutableList.of(propertyTranslation, fillerTranslation));
   }
@@ -282,7 +276,7 @@ public class ClassExpressionVisitor implements OWLClassExpressionVisitorEx<Trans
     var edges = ImmutableList.<Edge>builder();
     edges.add(structuralEdgeFactory.getDataPropertyExpressionEdge(mainNode, propertyExprTranslation.getMainNode()));
     edges.add(structuralEdgeFactory.getDataRangeEdge(mainNode, fillerTranslation.getMainNode()));
-    return Translation.create(ce, mainNode,
+    return translationEmitter.assemble(ce, mainNode,
         edges.build(),
         ImmutableList.of(propertyExprTranslation, fillerTranslation));
   }
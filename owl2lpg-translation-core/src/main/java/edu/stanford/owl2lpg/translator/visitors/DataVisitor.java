@@ -10,6 +10,7 @@ import edu.stanford.owl2lpg.model.Translation;
 import edu.stanford.owl2lpg.translator.DataRangeTranslator;
 import edu.stanford.owl2lpg.translator.EntityTranslator;
 import edu.stanford.owl2lpg.translator.LiteralTranslator;
+import edu.stanford.owl2lpg.translator.TranslationEmitter;
 import edu.stanford.owl2lpg.translator.vocab.NodeLabels;
 import edu.stanford.owl2lpg.translator.vocab.PropertyFields;
 import org.semanticweb.owlapi.model.OWLDataComplementOf;
@@ -58,17 +59,22 @@ public class DataVisitor implements OWLDataVisitorEx<Translation> {
   @Nonnull
   private final LiteralTranslator literalTranslator;
 
+  @Nonnull
+  private final TranslationEmitter translationEmitter;
+
   @Inject
   public DataVisitor(@Nonnull NodeFactory nodeFactory,
                      @Nonnull StructuralEdgeFactory structuralEdgeFactory,
                      @Nonnull EntityTranslator entityTranslator,
                      @Nonnull DataRangeTranslator dataRangeTranslator,
-                     @Nonnull LiteralTranslator literalTranslator) {
+                     @Nonnull LiteralTranslator literalTranslator,
+                     @Nonnull TranslationEmitter translationEmitter) {
     this.nodeFactory = checkNotNull(nodeFactory);
     this.structuralEdgeFactory = checkNotNull(structuralEdgeFactory);
     this.entityTranslator = checkNotNull(entityTranslator);
     this.dataRangeTranslator = checkNotNull(dataRangeTranslator);
     this.literalTranslator = checkNotNull(literalTranslator);
+    this.translationEmitter = checkNotNull(translationEmitter);
   }
 
   @Nonnull
@@ -104,7 +110,7 @@ public class DataVisitor implements OWLDataVisitorEx<Translation> {
     var mainNode = nodeFactory.createNode(dr, DATA_COMPLEMENT_OF);
     var dataRangeTranslation = dataRangeTranslator.translate(dr.getDataRange());
     var dataRangeEdge = structuralEdgeFactory.getDataRangeEdge(mainNode, dataRangeTranslation.getMainNode());
-    return Translation.create(dr, mainNode,
+    return translationEmitter.assemble(dr, mainNode,
         ImmutableList.of(dataRangeEdge),
         ImmutableList.of(dataRangeTranslation));
   }
@@ -121,7 +127,7 @@ public class DataVisitor implements OWLDataVisitorEx<Translation> {
       translations.add(translation);
       edges.add(structuralEdgeFactory.getLiteralEdge(mainNode, translation.getMainNode()));
     }
-    return Translation.create(dr, mainNode,
+    return translationEmitter.assemble(dr, mainNode,
         edges.build(),
         translations.build());
   }
@@ -153,7 +159,7 @@ public class DataVisitor implements OWLDataVisitorEx<Translation> {
       translations.add(translation);
       edges.add(structuralEdgeFactory.getRestrictionEdge(mainNode, translation.getMainNode()));
     }
-    return Translation.create(dr, mainNode,
+    return translationEmitter.assemble(dr, mainNode,
         edges.build(),
         translations.build());
   }
@@ -173,7 +179,7 @@ public class DataVisitor implements OWLDataVisitorEx<Translation> {
     var restrictionValueTranslation = literalTranslator.translate(facet.getFacetValue());
     translations.add(restrictionValueTranslation);
     edges.add(structuralEdgeFactory.getRestrictionValueEdge(mainNode, restrictionValueTranslation.getMainNode()));
-    return Translation.create(facet, mainNode,
+    return translationEmitter.assemble(facet, mainNode,
         edges.build(),
         translations.build());
   }
@@ -189,7 +195,7 @@ public class DataVisitor implements OWLDataVisitorEx<Translation> {
       translations.add(translation);
       edges.add(structuralEdgeFactory.getDataRangeEdge(mainNode, translation.getMainNode()));
     }
-    return Translation.create(dr, mainNode,
+    return translationEmitter.assemble(dr, mainNode,
         edges.build(),
         translations.build());
   }
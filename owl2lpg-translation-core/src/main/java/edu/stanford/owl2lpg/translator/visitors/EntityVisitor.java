@@ -1,6 +1,5 @@
 package edu.stanford.owl2lpg.translator.visitors;
 
-import com.google.common.base.Charsets;
 import com.google.common.collect.ImmutableList;
 import com.google.common.collect.ImmutableMap;
 import edu.stanford.owl2lpg.model.Edge;
@@ -10,7 +9,7 @@ import edu.stanford.owl2lpg.model.Properties;
 import edu.stanford.owl2lpg.model.StructuralEdgeFactory;
 import edu.stanford.owl2lpg.model.Translation;
 import edu.stanford.owl2lpg.translator.AnnotationValueTranslator;
-import edu.stanford.owl2lpg.translator.shared.BuiltInPrefixDeclarations;
+import edu.stanford.owl2lpg.translator.shared.IriPropertiesCache;
 import edu.stanford.owl2lpg.translator.vocab.NodeLabels;
 import edu.stanford.owl2lpg.translator.vocab.PropertyFields;
 import org.jetbrains.annotations.NotNull;
@@ -26,8 +25,6 @@ import org.semanticweb.owlapi.model.OWLObjectProperty;
 
 import javax.annotation.Nonnull;
 import javax.inject.Inject;
-import java.net.URLDecoder;
-import java.util.regex.Pattern;
 
 import static com.google.common.base.Preconditions.checkNotNull;
 import static edu.stanford.owl2lpg.translator.vocab.NodeLabels.ANNOTATION_PROPERTY;
@@ -55,17 +52,17 @@ public class EntityVisitor implements OWLEntityVisitorEx<Translation> {
   private final AnnotationValueTranslator annotationValueTranslator;
 
   @Nonnull
-  private final BuiltInPrefixDeclarations builtInPrefixDeclarations;
+  private final IriPropertiesCache iriPropertiesCache;
 
   @Inject
   public EntityVisitor(@Nonnull NodeFactory nodeFactory,
                        @Nonnull StructuralEdgeFactory structuralEdgeFactory,
                        @Nonnull AnnotationValueTranslator annotationValueTranslator,
-                       @Nonnull BuiltInPrefixDeclarations builtInPrefixDeclarations) {
+                       @Nonnull IriPropertiesCache iriPropertiesCache) {
     this.nodeFactory = checkNotNull(nodeFactory);
     this.structuralEdgeFactory = checkNotNull(structuralEdgeFactory);
     this.annotationValueTranslator = checkNotNull(annotationValueTranslator);
-    this.builtInPrefixDeclarations = checkNotNull(builtInPrefixDeclarations);
+    this.iriPropertiesCache = checkNotNull(iriPropertiesCache);
   }
 
   @Nonnull
@@ -118,12 +115,13 @@ public class EntityVisitor implements OWLEntityVisitorEx<Translation> {
   @NotNull
   private Node createEntityNode(OWLEntity entity, NodeLabels nodeLabels) {
     IRI entityIRI = entity.getIRI();
+    var iriProperties = iriPropertiesCache.get(entityIRI);
     return nodeFactory.createNode(entity, nodeLabels,
         Properties.create(ImmutableMap.of(
             PropertyFields.IRI, getIriString(entityIRI),
-            PropertyFields.LOCAL_NAME, getLocalName(entityIRI),
-            PropertyFields.PREFIXED_NAME, getPrefixedName(entityIRI),
-            PropertyFields.OBO_ID, getOboId(entityIRI))));
+            PropertyFields.LOCAL_NAME, iriProperties.getLocalName(),
+            PropertyFields.PREFIXED_NAME, iriProperties.getPrefixedName(),
+            PropertyFields.OBO_ID, iriProperties.getOboId())));
   }
 
   private void translateEntityIri(IRI entityIri, Node entityNode,
@@ -134,40 +132,7 @@ public class EntityVisitor implements OWLEntityVisitorEx<Translation> {
     edges.add(entityIriEdge);
   }
 
-  @Nonnull
-  private static String getLocalName(@Nonnull IRI iri) {
-    String iriString = getIriString(iri);
-    int hashIndex = iriString.lastIndexOf("#");
-    if (hashIndex != -1 && hashIndex < iriString.length() - 1) {
-      return decode(iriString.substring(hashIndex + 1));
-    }
-    int slashIndex = iriString.lastIndexOf("/");
-    if (slashIndex != -1 && slashIndex < iriString.length() - 1) {
-      return decode(iriString.substring(slashIndex + 1));
-    }
-    return "";
-  }
-
-  @Nonnull
-  private static String getOboId(@Nonnull IRI iri) {
-    var oboIdPattern = Pattern.compile("/([A-Z|a-z]+(_[A-Z|a-z]+)?)_([0-9]+)$");
-    var iriString = getIriString(iri);
-    var matcher = oboIdPattern.matcher(iriString);
-    return (matcher.find()) ? matcher.group(1) + ":" + matcher.group(3) : "";
-  }
-
-  @Nonnull
-  private String getPrefixedName(@Nonnull IRI iri) {
-    var iriPrefix = iri.getNamespace();
-    var prefixName = builtInPrefixDeclarations.getPrefixName(iriPrefix);
-    return (prefixName != null) ? prefixName + getLocalName(iri) : "";
-  }
-
   private static String getIriString(IRI iri) {
     return iri.toString();
   }
-
-  private static String decode(@Nonnull String localName) {
-    return URLDecoder.decode(localName, Charsets.UTF_8);
-  }
 }
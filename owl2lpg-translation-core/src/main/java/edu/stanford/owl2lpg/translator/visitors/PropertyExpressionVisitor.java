@@ -6,6 +6,7 @@ import edu.stanford.owl2lpg.model.StructuralEdgeFactory;
 import edu.stanford.owl2lpg.model.Translation;
 import edu.stanford.owl2lpg.translator.EntityTranslator;
 import edu.stanford.owl2lpg.translator.PropertyExpressionTranslator;
+import edu.stanford.owl2lpg.translator.TranslationEmitter;
 import org.semanticweb.owlapi.model.OWLAnnotationProperty;
 import org.semanticweb.owlapi.model.OWLDataProperty;
 import org.semanticweb.owlapi.model.OWLObjectInverseOf;
@@ -38,15 +39,20 @@ public class PropertyExpressionVisitor implements OWLPropertyExpressionVisitorEx
   @Nonnull
   private final PropertyExpressionTranslator propertyExprTranslator;
 
+  @Nonnull
+  private final TranslationEmitter translationEmitter;
+
   @Inject
   public PropertyExpressionVisitor(@Nonnull NodeFactory nodeFactory,
                                    @Nonnull StructuralEdgeFactory structuralEdgeFactory,
                                    @Nonnull EntityTranslator entityTranslator,
-                                   @Nonnull PropertyExpressionTranslator propertyExprTranslator) {
+                                   @Nonnull PropertyExpressionTranslator propertyExprTranslator,
+                                   @Nonnull TranslationEmitter translationEmitter) {
     this.nodeFactory = checkNotNull(nodeFactory);
     this.structuralEdgeFactory = checkNotNull(structuralEdgeFactory);
     this.entityTranslator = checkNotNull(entityTranslator);
     this.propertyExprTranslator = checkNotNull(propertyExprTranslator);
+    this.translationEmitter = checkNotNull(translationEmitter);
   }
 
   @Nonnull
@@ -73,7 +79,7 @@ public class PropertyExpressionVisitor implements OWLPropertyExpressionVisitorEx
     var mainNode = nodeFactory.createNode(ope, OBJECT_INVERSE_OF);
     var inversePropertyTranslation = propertyExprTranslator.translate(ope.getInverseProperty());
     var objectPropertyEdge = structuralEdgeFactory.getObjectPropertyEdge(mainNode, inversePropertyTranslation.getMainNode());
-    return Translation.create(ope, mainNode,
+    return translationEmitter.assemble(ope, mainNode,
         ImmutableList.of(objectPropertyEdge),
         ImmutableList.of(inversePropertyTranslation));
   }
@@ -8,7 +8,10 @@ import org.junit.runners.Suite;
     NodeIdTest.class,
     NodeTest.class,
     EdgeTest.class,
-    PropertiesTest.class
+    PropertiesTest.class,
+    TranslationTest.class,
+    OffHeapDigestIndexTest.class,
+    UnwindQueryBuilderTest.class
 })
 public class ModelTestSuite {
   // NO-OP
@@ -13,4 +13,10 @@ public class NodeIdTest {
     assertThat(nodeId.asString(), equalTo("0000000000000001"));
     assertThat(nodeId.toString(), equalTo("NodeId_0000000000000001"));
   }
+
+  @Test
+  public void shouldEncodeBytesAsHexString() {
+    var nodeId = NodeId.create(new byte[]{(byte) 0xab, 0x01});
+    assertThat(nodeId.asString(), equalTo("ab01"));
+  }
 }
\ No newline at end of file
@@ -0,0 +1,50 @@
+package edu.stanford.owl2lpg.model;
+
+import org.junit.Test;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+
+public class OffHeapDigestIndexTest {
+
+  @Test
+  public void shouldGetPutNumbersAcrossGrowth() {
+    var index = new OffHeapDigestIndex(4);
+    for (long i = 1; i <= 10_000; i++) {
+      index.put(i * 31, -i, i);
+    }
+    assertThat(index.size(), is(10_000L));
+    for (long i = 1; i <= 10_000; i++) {
+      assertThat(index.get(i * 31, -i), is(i));
+    }
+    assertThat(index.get(31, 1), is(OffHeapDigestIndex.NO_NUMBER));
+  }
+
+  @Test
+  public void shouldGetPutNumbersAcrossSegments() {
+    var index = new OffHeapDigestIndex(4, 4);
+    for (long i = 1; i <= 10_000; i++) {
+      index.put(i * 31, -i, i);
+    }
+    assertThat(index.size(), is(10_000L));
+    assertThat(index.getSegmentCount(), is(2048));
+    for (long i = 1; i <= 10_000; i++) {
+      assertThat(index.get(i * 31, -i), is(i));
+    }
+    assertThat(index.get(31, 1), is(OffHeapDigestIndex.NO_NUMBER));
+  }
+
+  @Test
+  public void shouldReplaceNumberOfExistingDigest() {
+    var index = new OffHeapDigestIndex(16);
+    index.put(1, 2, 3);
+    index.put(1, 2, 4);
+    assertThat(index.size(), is(1L));
+    assertThat(index.get(1, 2), is(4L));
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void shouldNotPutEmptyNumber() {
+    new OffHeapDigestIndex(16).put(1, 2, OffHeapDigestIndex.NO_NUMBER);
+  }
+}
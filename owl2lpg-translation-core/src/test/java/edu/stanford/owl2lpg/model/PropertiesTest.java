@@ -61,4 +61,12 @@ public class PropertiesTest {
     var actualValue = properties.get("key");
     assertThat(actualValue, equalTo("value"));
   }
-}
\ No newline at end of file
+
+  @Test
+  public void shouldPrintParametersInsteadOfValues() {
+    properties = Properties.of("iri", "http://example.org/A", "language", "", "structuralSpec", true);
+    assertThat(properties.printParameters("n0"), equalTo("{iri:$n0_iri,structuralSpec:$n0_structuralSpec}"));
+    assertThat(properties.getParameters("n0"),
+        equalTo(ImmutableMap.of("n0_iri", "http://example.org/A", "n0_structuralSpec", true)));
+  }
+}
@@ -0,0 +1,90 @@
+package edu.stanford.owl2lpg.model;
+
+import com.google.common.collect.ImmutableList;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+
+import javax.annotation.Nonnull;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static edu.stanford.owl2lpg.translator.vocab.NodeLabels.ENTITY;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+import static org.mockito.Mockito.when;
+
+@RunWith(MockitoJUnitRunner.class)
+public class TranslationTest {
+
+  private Translation translation;
+
+  @Mock
+  private Node rootNode, firstNode, secondNode, thirdNode;
+
+  @Mock
+  private Edge firstEdge, secondEdge, thirdEdge;
+
+  @Before
+  public void setUp() {
+    var thirdTranslation = Translation.create("c", thirdNode);
+    var firstTranslation = Translation.create("a", firstNode,
+        ImmutableList.of(thirdEdge), ImmutableList.of(thirdTranslation));
+    var secondTranslation = Translation.create("b", secondNode);
+    translation = Translation.create("root", rootNode,
+        ImmutableList.of(firstEdge, secondEdge),
+        ImmutableList.of(firstTranslation, secondTranslation));
+  }
+
+  @Test
+  public void shouldEmitNodesInSameOrderAsNodeStream() {
+    var sink = new CollectingSink();
+    translation.emitTo(sink);
+    assertThat(sink.nodes, equalTo(translation.nodes().collect(Collectors.toList())));
+    assertThat(sink.nodes, contains(rootNode, firstNode, thirdNode, secondNode));
+  }
+
+  @Test
+  public void shouldEmitEdgesInSameOrderAsEdgeStream() {
+    var sink = new CollectingSink();
+    translation.emitTo(sink);
+    assertThat(sink.edges, equalTo(translation.edges().collect(Collectors.toList())));
+    assertThat(sink.edges, contains(firstEdge, secondEdge, thirdEdge));
+  }
+
+  @Test
+  public void shouldGetFlatNodesAndEdges() {
+    assertThat(translation.getAllNodes(), contains(rootNode, firstNode, thirdNode, secondNode));
+    assertThat(translation.getAllEdges(), contains(firstEdge, secondEdge, thirdEdge));
+    assertThat(translation.getAllNodes(), sameInstance(translation.getAllNodes()));
+  }
+
+  @Test
+  public void shouldGetNodesByLabel() {
+    when(rootNode.isTypeOf(ENTITY)).thenReturn(false);
+    when(firstNode.isTypeOf(ENTITY)).thenReturn(true);
+    when(thirdNode.isTypeOf(ENTITY)).thenReturn(false);
+    when(secondNode.isTypeOf(ENTITY)).thenReturn(true);
+    assertThat(translation.getNodes(ENTITY), contains(firstNode, secondNode));
+  }
+
+  private static class CollectingSink implements TranslationSink {
+
+    private final List<Node> nodes = new ArrayList<>();
+
+    private final List<Edge> edges = new ArrayList<>();
+
+    @Override
+    public void acceptNode(@Nonnull Node node) {
+      nodes.add(node);
+    }
+
+    @Override
+    public void acceptEdge(@Nonnull Edge edge) {
+      edges.add(edge);
+    }
+  }
+}
@@ -0,0 +1,104 @@
+package edu.stanford.owl2lpg.model;
+
+import com.google.common.collect.ImmutableMap;
+import org.junit.Before;
+import org.junit.Test;
+
+import static edu.stanford.owl2lpg.translator.vocab.EdgeLabel.AXIOM;
+import static edu.stanford.owl2lpg.translator.vocab.EdgeLabel.ENTITY_IRI;
+import static edu.stanford.owl2lpg.translator.vocab.NodeLabels.CLASS;
+import static edu.stanford.owl2lpg.translator.vocab.NodeLabels.IRI;
+import static edu.stanford.owl2lpg.translator.vocab.NodeLabels.LITERAL;
+import static edu.stanford.owl2lpg.translator.vocab.NodeLabels.ONTOLOGY_DOCUMENT;
+import static edu.stanford.owl2lpg.translator.vocab.NodeLabels.SUB_CLASS_OF;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+
+public class UnwindQueryBuilderTest {
+
+  private Node classNode, iriNode, axiomNode, documentNode;
+
+  private Edge entityIriEdge, axiomEdge;
+
+  @Before
+  public void setUp() {
+    classNode = Node.create(NodeId.create("c"), CLASS, Properties.of("iri", "http://example.org/A"));
+    iriNode = Node.create(NodeId.create("i"), IRI, Properties.of("iri", "http://example.org/A"));
+    axiomNode = Node.create(NodeId.create(1), SUB_CLASS_OF);
+    documentNode = Node.create(NodeId.create("o"), ONTOLOGY_DOCUMENT);
+    entityIriEdge = Edge.create(EdgeId.create("e1"), classNode, iriNode, ENTITY_IRI);
+    axiomEdge = Edge.create(EdgeId.create("e2"), documentNode, axiomNode, AXIOM, Properties.of("structuralSpec", true));
+  }
+
+  @Test
+  public void shouldWriteNodesBeforeEdges() {
+    var builder = new UnwindQueryBuilder(100, "s");
+    builder.acceptEdge(entityIriEdge);
+    var queries = builder.build();
+    assertThat(queries, hasSize(3));
+    assertThat(queries.get(0).getQueryString(), containsString("MERGE (n:Class:ClassExpression:Entity {iri:row.key.iri})"));
+    assertThat(queries.get(1).getQueryString(), containsString("MERGE (n:IRI {iri:row.key.iri})"));
+    assertThat(queries.get(2).getQueryString(), containsString("MATCH (s:Class {iri:row.start.iri})"));
+    assertThat(queries.get(2).getQueryString(), containsString("MATCH (t:IRI {iri:row.end.iri})"));
+    assertThat(queries.get(2).getQueryString(), containsString("MERGE (s)-[:ENTITY_IRI]->(t)"));
+  }
+
+  @Test
+  public void shouldAddNodesAndEdgesOnce() {
+    var builder = new UnwindQueryBuilder(100);
+    builder.acceptNode(classNode);
+    builder.acceptEdge(entityIriEdge);
+    builder.acceptEdge(entityIriEdge);
+    assertThat(builder.getRowCount(), equalTo(3));
+    builder.clear();
+    assertThat(builder.getRowCount(), equalTo(0));
+    assertThat(builder.build(), is(empty()));
+  }
+
+  @Test
+  public void shouldPassPropertiesAsRows() {
+    var builder = new UnwindQueryBuilder(100, "s");
+    builder.acceptEdge(axiomEdge);
+    var edgeQuery = builder.build().get(2);
+    assertThat(edgeQuery.getQueryString(), containsString("MATCH (s:OntologyDocument {nodeKey:row.start.nodeKey})"));
+    assertThat(edgeQuery.getQueryString(), containsString("-[:AXIOM {structuralSpec:row.properties.structuralSpec}]->"));
+    assertThat(edgeQuery.getRows(), contains(ImmutableMap.of(
+        "start", ImmutableMap.of("nodeKey", "s:" + documentNode.getNodeId().asString()),
+        "end", ImmutableMap.of("nodeKey", "s:" + axiomNode.getNodeId().asString()),
+        "properties", ImmutableMap.of("structuralSpec", true))));
+    assertThat(edgeQuery.getParameters(), equalTo(ImmutableMap.of("rows", edgeQuery.getRows())));
+  }
+
+  @Test
+  public void shouldScopeNodeKeysWithoutPropertiesBySession() {
+    var builder = new UnwindQueryBuilder(100, "s");
+    var otherBuilder = new UnwindQueryBuilder(100, "t");
+    assertThat(builder.getNodeKey(classNode), equalTo(otherBuilder.getNodeKey(classNode)));
+    assertThat(builder.getNodeKey(axiomNode), not(equalTo(otherBuilder.getNodeKey(axiomNode))));
+  }
+
+  @Test
+  public void shouldKeyLiteralsByTheirValueAndLanguage() {
+    var literalNode = Node.create(NodeId.create("l"), LITERAL,
+        Properties.of("lexicalForm", "hello", "datatype", "rdf:PlainLiteral", "language", "en"));
+    var plainLiteralNode = Node.create(NodeId.create("p"), LITERAL,
+        Properties.of("lexicalForm", "hello", "datatype", "rdf:PlainLiteral", "language", ""));
+    var builder = new UnwindQueryBuilder(100, "s");
+    assertThat(builder.getNodeKey(literalNode), equalTo(ImmutableMap.of(
+        "lexicalForm", "hello", "datatype", "rdf:PlainLiteral", "language", "en")));
+    assertThat(builder.getNodeKey(plainLiteralNode), equalTo(ImmutableMap.of(
+        "lexicalForm", "hello", "datatype", "rdf:PlainLiteral", "language", "")));
+  }
+
+  @Test
+  public void shouldSplitRowsIntoQueriesOfMaximumSize() {
+    var builder = new UnwindQueryBuilder(2);
+    for (int i = 1; i <= 5; i++) {
+      builder.acceptNode(Node.create(NodeId.create(i), SUB_CLASS_OF));
+    }
+    var queries = builder.build();
+    assertThat(queries, hasSize(3));
+    assertThat(queries.get(2).getRows(), hasSize(1));
+    assertThat(queries.get(0).getQueryString(), equalTo(queries.get(2).getQueryString()));
+  }
+}
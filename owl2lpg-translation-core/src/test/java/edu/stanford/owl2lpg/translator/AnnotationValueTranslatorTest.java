@@ -0,0 +1,59 @@
+package edu.stanford.owl2lpg.translator;
+
+import edu.stanford.owl2lpg.model.Translation;
+import edu.stanford.owl2lpg.translator.visitors.AnnotationValueVisitor;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+import org.semanticweb.owlapi.model.OWLAnnotationValueVisitorEx;
+import org.semanticweb.owlapi.model.OWLLiteral;
+import org.semanticweb.owlapi.vocab.OWL2Datatype;
+import uk.ac.manchester.cs.owl.owlapi.OWLLiteralImplPlain;
+
+import javax.inject.Provider;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.when;
+import static org.semanticweb.owlapi.apibinding.OWLFunctionalSyntaxFactory.Literal;
+
+@RunWith(MockitoJUnitRunner.class)
+public class AnnotationValueTranslatorTest {
+
+  private AnnotationValueTranslator translator;
+
+  @Mock
+  private Provider<OWLAnnotationValueVisitorEx<Translation>> annotationValueVisitorProvider;
+
+  @Mock
+  private AnnotationValueVisitor annotationValueVisitor;
+
+  @Mock
+  private Translation plainTranslation;
+
+  @Mock
+  private Translation stringTranslation;
+
+  @Before
+  public void setUp() {
+    when(annotationValueVisitorProvider.get()).thenReturn(annotationValueVisitor);
+    translator = new AnnotationValueTranslator(annotationValueVisitorProvider, new TranslationCache());
+  }
+
+  @Test
+  public void shouldNotShareTranslationOfPlainLiteralWithStringLiteral() {
+    // The OWL API considers both literals equal, so the stub tells them apart by their datatype
+    when(annotationValueVisitor.visit(any(OWLLiteral.class))).thenAnswer(invocation ->
+        invocation.<OWLLiteral>getArgument(0).getDatatype().isString() ? stringTranslation : plainTranslation);
+    assertThat(translator.translate(new OWLLiteralImplPlain("ABC", "")), equalTo(plainTranslation));
+    assertThat(translator.translate(Literal("ABC", OWL2Datatype.XSD_STRING)), equalTo(stringTranslation));
+  }
+
+  @Test(expected = NullPointerException.class)
+  public void shouldThrowNPEWhenValueNull() {
+    translator.translate(null);
+  }
+}
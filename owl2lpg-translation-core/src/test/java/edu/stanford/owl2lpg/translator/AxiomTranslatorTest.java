@@ -41,7 +41,7 @@ public class AxiomTranslatorTest {
   public void setUp() {
     when(axiomVisitorProvider.get()).thenReturn(axiomVisitor);
     when(axiomVisitor.visit(axiom)).thenReturn(translation);
-    translator = new AxiomTranslator(axiomVisitorProvider);
+    translator = new AxiomTranslator(axiomVisitorProvider, new TranslationEmitter());
   }
 
   @Test
@@ -52,7 +52,7 @@ public class AxiomTranslatorTest {
 
   @Test(expected = NullPointerException.class)
   public void shouldThrowNPEWhenVisitorNull() {
-    new AxiomTranslator(null);
+    new AxiomTranslator(null, new TranslationEmitter());
   }
 
   @Test(expected = NullPointerException.class)
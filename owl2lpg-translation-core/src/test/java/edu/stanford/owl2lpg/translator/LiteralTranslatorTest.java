@@ -9,11 +9,17 @@ import org.mockito.Mock;
 import org.mockito.junit.MockitoJUnitRunner;
 import org.semanticweb.owlapi.model.OWLDataVisitorEx;
 import org.semanticweb.owlapi.model.OWLLiteral;
+import org.semanticweb.owlapi.vocab.OWL2Datatype;
+import uk.ac.manchester.cs.owl.owlapi.OWLLiteralImplPlain;
 
 import javax.inject.Provider;
 
 import static org.hamcrest.CoreMatchers.equalTo;
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.semanticweb.owlapi.apibinding.OWLFunctionalSyntaxFactory.Literal;
 
@@ -37,7 +43,7 @@ public class LiteralTranslatorTest {
   public void setUp() {
     when(dataVisitorProvider.get()).thenReturn(dataVisitor);
     when(dataVisitor.visit(literal)).thenReturn(translation);
-    translator = new LiteralTranslator(dataVisitorProvider);
+    translator = new LiteralTranslator(dataVisitorProvider, new TranslationCache());
   }
 
   @Test
@@ -46,9 +52,29 @@ public class LiteralTranslatorTest {
     assertThat(result, equalTo(translation));
   }
 
+  @Test
+  public void shouldTranslateRepeatedLiteralOnce() {
+    translator.translate(literal);
+    var result = translator.translate(literal);
+    assertThat(result, equalTo(translation));
+    verify(dataVisitor, times(1)).visit(literal);
+  }
+
+  @Test
+  public void shouldNotShareTranslationOfPlainLiteralWithStringLiteral() {
+    var plainLiteral = new OWLLiteralImplPlain("ABC", "");
+    var stringLiteral = Literal("ABC", OWL2Datatype.XSD_STRING);
+    var stringTranslation = mock(Translation.class);
+    // The OWL API considers both literals equal, so the stub tells them apart by their datatype
+    when(dataVisitor.visit(any(OWLLiteral.class))).thenAnswer(invocation ->
+        invocation.<OWLLiteral>getArgument(0).getDatatype().isString() ? stringTranslation : translation);
+    assertThat(translator.translate(plainLiteral), equalTo(translation));
+    assertThat(translator.translate(stringLiteral), equalTo(stringTranslation));
+  }
+
   @Test(expected = NullPointerException.class)
   public void shouldThrowNPEWhenVisitorNull() {
-    new LiteralTranslator(null);
+    new LiteralTranslator(null, new TranslationCache());
   }
 
   @Test(expected = NullPointerException.class)
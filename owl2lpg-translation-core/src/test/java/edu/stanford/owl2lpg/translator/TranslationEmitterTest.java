@@ -0,0 +1,127 @@
+package edu.stanford.owl2lpg.translator;
+
+import com.google.common.collect.HashMultiset;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableSet;
+import com.google.common.collect.Multiset;
+import edu.stanford.owl2lpg.model.Edge;
+import edu.stanford.owl2lpg.model.Node;
+import edu.stanford.owl2lpg.model.TranslationSink;
+import edu.stanford.owl2lpg.translator.shared.BuiltInPrefixDeclarationsModule;
+import edu.stanford.owl2lpg.translator.shared.DigestFunctionModule;
+import org.junit.Before;
+import org.junit.Test;
+import org.semanticweb.owlapi.model.OWLAxiom;
+import org.semanticweb.owlapi.vocab.OWL2Datatype;
+import org.semanticweb.owlapi.vocab.OWLFacet;
+
+import javax.annotation.Nonnull;
+
+import static edu.stanford.owl2lpg.translator.vocab.NodeLabels.ENTITY;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.is;
+import static org.semanticweb.owlapi.apibinding.OWLFunctionalSyntaxFactory.*;
+
+public class TranslationEmitterTest {
+
+  private AxiomTranslator treeTranslator;
+
+  private AxiomTranslator sinkTranslator;
+
+  private ImmutableList<OWLAxiom> axioms;
+
+  @Before
+  public void setUp() {
+    treeTranslator = createAxiomTranslator();
+    sinkTranslator = createAxiomTranslator();
+    var a = Class(IRI("http://example.org/A"));
+    var b = Class(IRI("http://example.org/B"));
+    var c = Class(IRI("http://example.org/C"));
+    var p = ObjectProperty(IRI("http://example.org/p"));
+    var q = ObjectProperty(IRI("http://example.org/q"));
+    var r = DataProperty(IRI("http://example.org/r"));
+    var label = AnnotationProperty(IRI("http://example.org/label"));
+    var i = NamedIndividual(IRI("http://example.org/i"));
+    axioms = ImmutableList.of(
+        SubClassOf(a, ObjectIntersectionOf(b, ObjectSomeValuesFrom(p, ObjectUnionOf(b, c)))),
+        SubClassOf(a, ObjectSomeValuesFrom(p, b), ImmutableSet.of(Annotation(label, Literal("note", "en")))),
+        EquivalentClasses(a, DataSomeValuesFrom(r, DatatypeRestriction(Integer(), FacetRestriction(OWLFacet.MIN_INCLUSIVE, Literal(1))))),
+        DisjointClasses(a, b, ObjectComplementOf(c)),
+        SubPropertyChainOf(ImmutableList.of(p, q), p),
+        ObjectPropertyDomain(ObjectInverseOf(q), ObjectAllValuesFrom(p, c)),
+        DataPropertyRange(r, DataUnionOf(DataOneOf(Literal(1), Literal(2)), DataComplementOf(Boolean()))),
+        DataPropertyAssertion(r, i, Literal("42", OWL2Datatype.XSD_INTEGER)),
+        ClassAssertion(ObjectHasValue(p, i), AnonymousIndividual()),
+        AnnotationAssertion(label, a.getIRI(), Literal("A", "en"))
+            .getAnnotatedAxiom(ImmutableSet.of(Annotation(label, Literal("meta")))));
+  }
+
+  @Test
+  public void shouldEmitSameNodesAndEdgesAsTranslationTree() {
+    for (var axiom : axioms) {
+      var treeSink = new CountingSink();
+      treeTranslator.translate(axiom).emitTo(treeSink);
+      var sink = new CountingSink();
+      sinkTranslator.translate(axiom, sink);
+      assertThat(axiom.toString(), sink.nodes, equalTo(treeSink.nodes));
+      assertThat(axiom.toString(), sink.edges, equalTo(treeSink.edges));
+    }
+  }
+
+  @Test
+  public void shouldKeepSignatureOfEmittedTranslation() {
+    for (var axiom : axioms) {
+      var treeNodes = HashMultiset.create(treeTranslator.translate(axiom).getNodes(ENTITY));
+      var sinkNodes = HashMultiset.create(sinkTranslator.translate(axiom, new CountingSink()).getNodes(ENTITY));
+      assertThat(axiom.toString(), sinkNodes, equalTo(treeNodes));
+      assertThat(axiom.toString(), sinkNodes.isEmpty(), is(false));
+    }
+  }
+
+  @Test
+  public void shouldNotKeepTranslationTreeOfEmittedTranslation() {
+    var sinkTranslation = sinkTranslator.translate(axioms.get(0), new CountingSink());
+    for (var leafTranslation : sinkTranslation.getNestedTranslations()) {
+      assertThat(leafTranslation.getMainNode().isTypeOf(ENTITY), is(true));
+    }
+  }
+
+  @Test
+  public void shouldTranslateTreeAfterEmitting() {
+    var axiom = axioms.get(0);
+    treeTranslator.translate(axiom);
+    sinkTranslator.translate(axiom, new CountingSink());
+    var treeSink = new CountingSink();
+    treeTranslator.translate(axiom).emitTo(treeSink);
+    var sink = new CountingSink();
+    sinkTranslator.translate(axiom).emitTo(sink);
+    assertThat(sink.nodes, equalTo(treeSink.nodes));
+    assertThat(sink.edges, equalTo(treeSink.edges));
+  }
+
+  private static AxiomTranslator createAxiomTranslator() {
+    return DaggerTranslatorComponent.builder()
+        .builtInPrefixDeclarationsModule(new BuiltInPrefixDeclarationsModule())
+        .digestFunctionModule(new DigestFunctionModule())
+        .build()
+        .getAxiomTranslator();
+  }
+
+  private static class CountingSink implements TranslationSink {
+
+    private final Multiset<Node> nodes = HashMultiset.create();
+
+    private final Multiset<Edge> edges = HashMultiset.create();
+
+    @Override
+    public void acceptNode(@Nonnull Node node) {
+      nodes.add(node);
+    }
+
+    @Override
+    public void acceptEdge(@Nonnull Edge edge) {
+      edges.add(edge);
+    }
+  }
+}
@@ -0,0 +1,53 @@
+package edu.stanford.owl2lpg.translator.internal;
+
+import com.google.common.hash.Hashing;
+import edu.stanford.owl2lpg.model.EdgeId;
+import edu.stanford.owl2lpg.model.Node;
+import edu.stanford.owl2lpg.model.NodeId;
+import edu.stanford.owl2lpg.translator.shared.EdgeIdEncoding;
+import org.junit.Test;
+
+import java.nio.charset.StandardCharsets;
+
+import static edu.stanford.owl2lpg.translator.vocab.EdgeLabel.ENTITY_IRI;
+import static edu.stanford.owl2lpg.translator.vocab.EdgeLabel.SUB_CLASS_EXPRESSION;
+import static edu.stanford.owl2lpg.translator.vocab.NodeLabels.CLASS;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.not;
+
+@SuppressWarnings("UnstableApiUsage")
+public class DigestEdgeIdProviderTest {
+
+  private final Node startNode = Node.create(NodeId.create(1), CLASS);
+
+  private final Node endNode = Node.create(NodeId.create(new byte[]{(byte) 0xab, 0x01}), CLASS);
+
+  @Test
+  public void shouldHashEdgeStringInStringEncoding() {
+    var provider = new DigestEdgeIdProvider(Hashing.md5(), EdgeIdEncoding.STRING);
+    var expected = EdgeId.create(Hashing.md5()
+        .hashString("0000000000000001:ab01:ENTITY_IRI", StandardCharsets.UTF_8)
+        .asBytes());
+    assertThat(provider.get(startNode, endNode, ENTITY_IRI), equalTo(expected));
+  }
+
+  @Test
+  public void shouldHashNodeIdBytesInBinaryEncoding() {
+    var provider = new DigestEdgeIdProvider(Hashing.md5(), EdgeIdEncoding.BINARY);
+    var expected = EdgeId.create(Hashing.md5().newHasher()
+        .putBytes(new byte[]{8, 0, 0, 0, 0, 0, 0, 0, 1, 2, (byte) 0xab, 0x01})
+        .putString("ENTITY_IRI", StandardCharsets.UTF_8)
+        .hash()
+        .asBytes());
+    assertThat(provider.get(startNode, endNode, ENTITY_IRI), equalTo(expected));
+  }
+
+  @Test
+  public void shouldTellEdgesApartInBinaryEncoding() {
+    var provider = new DigestEdgeIdProvider(Hashing.md5(), EdgeIdEncoding.BINARY);
+    var edgeId = provider.get(startNode, endNode, ENTITY_IRI);
+    assertThat(provider.get(endNode, startNode, ENTITY_IRI), not(equalTo(edgeId)));
+    assertThat(provider.get(startNode, endNode, SUB_CLASS_EXPRESSION), not(equalTo(edgeId)));
+  }
+}
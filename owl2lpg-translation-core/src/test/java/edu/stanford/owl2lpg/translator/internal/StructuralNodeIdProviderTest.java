@@ -0,0 +1,112 @@
+package edu.stanford.owl2lpg.translator.internal;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.hash.Hashing;
+import edu.stanford.owl2lpg.model.IdFormatChecker.IdFormat;
+import edu.stanford.owl2lpg.translator.shared.ExpressionIdFormat;
+import edu.stanford.owl2lpg.translator.visitors.OWLPropertyChain;
+import org.junit.Test;
+import org.semanticweb.owlapi.apibinding.OWLManager;
+import org.semanticweb.owlapi.model.IRI;
+import org.semanticweb.owlapi.model.OWLClass;
+import org.semanticweb.owlapi.model.OWLDataFactory;
+import org.semanticweb.owlapi.model.OWLObjectProperty;
+
+import java.nio.charset.StandardCharsets;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.not;
+
+@SuppressWarnings("UnstableApiUsage")
+public class StructuralNodeIdProviderTest {
+
+  private final OWLDataFactory df = OWLManager.getOWLDataFactory();
+
+  private final DigestNodeIdProvider digestIdProvider = new DigestNodeIdProvider(Hashing.md5());
+
+  @Test
+  public void shouldGiveSameIdAcrossProviders() {
+    var ce = df.getOWLObjectSomeValuesFrom(objectProperty("partOf"),
+        df.getOWLObjectIntersectionOf(owlClass("A"), owlClass("B")));
+    var sameCe = df.getOWLObjectSomeValuesFrom(objectProperty("partOf"),
+        df.getOWLObjectIntersectionOf(owlClass("B"), owlClass("A")));
+    assertThat(newProvider().getId(ce), equalTo(newProvider().getId(sameCe)));
+  }
+
+  @Test
+  public void shouldDeriveIdFromOperandIds() {
+    var filler = df.getOWLObjectUnionOf(owlClass("A"), owlClass("B"));
+    var ce = df.getOWLObjectAllValuesFrom(objectProperty("partOf"), filler);
+    var provider = newProvider();
+    var expected = Hashing.md5().newHasher()
+        .putString("ObjectAllValuesFrom", StandardCharsets.UTF_8)
+        .putByte((byte) 0)
+        .putBytes(digestIdProvider.getId(objectProperty("partOf")).getBytes())
+        .putBytes(provider.getId(filler).getBytes())
+        .hash().asBytes();
+    assertThat(provider.getId(ce).getBytes(), equalTo(expected));
+  }
+
+  @Test
+  public void shouldGiveDifferentIdsToDifferentExpressions() {
+    var provider = newProvider();
+    var min = df.getOWLObjectMinCardinality(1, objectProperty("partOf"), owlClass("A"));
+    var otherMin = df.getOWLObjectMinCardinality(2, objectProperty("partOf"), owlClass("A"));
+    var max = df.getOWLObjectMaxCardinality(1, objectProperty("partOf"), owlClass("A"));
+    assertThat(provider.getId(min), not(equalTo(provider.getId(otherMin))));
+    assertThat(provider.getId(min), not(equalTo(provider.getId(max))));
+  }
+
+  @Test
+  public void shouldGiveIdToDataRangesAndPropertyChains() {
+    var dr = df.getOWLDatatypeMinInclusiveRestriction(5);
+    var sameDr = df.getOWLDatatypeMinInclusiveRestriction(5);
+    assertThat(newProvider().getId(dr), equalTo(newProvider().getId(sameDr)));
+    var chain = OWLPropertyChain.create(ImmutableList.of(objectProperty("p"), objectProperty("q")));
+    var reversedChain = OWLPropertyChain.create(ImmutableList.of(objectProperty("q"), objectProperty("p")));
+    assertThat(newProvider().getId(chain), not(equalTo(newProvider().getId(reversedChain))));
+  }
+
+  @Test
+  public void shouldKeepNumberIdsForAnonymousIndividuals() {
+    var checker = new IdFormatCheckerImpl(ExpressionIdFormat.STRUCTURAL);
+    var ce = df.getOWLObjectHasValue(objectProperty("partOf"), df.getOWLAnonymousIndividual());
+    assertThat(checker.getIdFormatFor(ce), equalTo(IdFormat.NUMBER));
+    var namedCe = df.getOWLObjectHasValue(objectProperty("partOf"), df.getOWLNamedIndividual(iri("a")));
+    assertThat(checker.getIdFormatFor(namedCe), equalTo(IdFormat.STRUCTURAL));
+    assertThat(checker.getIdFormatFor(owlClass("A")), equalTo(IdFormat.DIGEST));
+    assertThat(new IdFormatCheckerImpl().getIdFormatFor(namedCe), equalTo(IdFormat.NUMBER));
+  }
+
+  @Test
+  public void shouldCheckNestedExpressionsOnTheirOwn() {
+    var checker = new IdFormatCheckerImpl(ExpressionIdFormat.STRUCTURAL);
+    var namedCe = df.getOWLObjectSomeValuesFrom(objectProperty("partOf"), owlClass("B"));
+    var anonymousCe = df.getOWLObjectHasValue(objectProperty("partOf"), df.getOWLAnonymousIndividual());
+    var ce = df.getOWLObjectIntersectionOf(owlClass("A"), namedCe, anonymousCe);
+    var otherCe = df.getOWLObjectUnionOf(owlClass("A"), namedCe);
+    for (int i = 0; i < 2; i++) {
+      assertThat(checker.getIdFormatFor(ce), equalTo(IdFormat.NUMBER));
+      assertThat(checker.getIdFormatFor(namedCe), equalTo(IdFormat.STRUCTURAL));
+      assertThat(checker.getIdFormatFor(anonymousCe), equalTo(IdFormat.NUMBER));
+      assertThat(checker.getIdFormatFor(otherCe), equalTo(IdFormat.STRUCTURAL));
+    }
+  }
+
+  private StructuralNodeIdProvider newProvider() {
+    return new StructuralNodeIdProvider(Hashing.md5(), digestIdProvider);
+  }
+
+  private static IRI iri(String localName) {
+    return IRI.create("http://example.org/", localName);
+  }
+
+  private OWLClass owlClass(String localName) {
+    return df.getOWLClass(iri(localName));
+  }
+
+  private OWLObjectProperty objectProperty(String localName) {
+    return df.getOWLObjectProperty(iri(localName));
+  }
+}
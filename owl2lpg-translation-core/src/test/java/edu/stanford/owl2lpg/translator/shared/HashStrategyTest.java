@@ -0,0 +1,50 @@
+package edu.stanford.owl2lpg.translator.shared;
+
+import com.google.common.hash.Hashing;
+import com.google.common.primitives.Bytes;
+import org.junit.Test;
+
+import java.nio.charset.StandardCharsets;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+@SuppressWarnings("UnstableApiUsage")
+public class HashStrategyTest {
+
+  private static final byte[] INPUT = "http://example.org/A".getBytes(StandardCharsets.UTF_8);
+
+  @Test
+  public void shouldProduce128BitIdsAnd256BitDigests() {
+    for (var hashStrategy : HashStrategy.values()) {
+      assertThat(hashStrategy.name(), hashStrategy.getIdHashFunction().bits(), is(128));
+      assertThat(hashStrategy.name(), hashStrategy.getDigestHashFunction().bits(), is(256));
+    }
+  }
+
+  @Test
+  public void shouldHashIdsWithMurmur3() {
+    var id = HashStrategy.MURMUR3.getIdHashFunction().hashBytes(INPUT);
+    assertThat(id, equalTo(Hashing.murmur3_128().hashBytes(INPUT)));
+    assertThat(id.toString(), equalTo("088df28ece4c75827696efbdf9bff27a"));
+  }
+
+  @Test
+  public void shouldConcatenateTwoSeededMurmur3HashesInDigest() {
+    var digest = HashStrategy.MURMUR3.getDigestHashFunction().hashBytes(INPUT).asBytes();
+    var expected = Bytes.concat(
+        Hashing.murmur3_128(0).hashBytes(INPUT).asBytes(),
+        Hashing.murmur3_128(1).hashBytes(INPUT).asBytes());
+    assertThat(digest, equalTo(expected));
+  }
+
+  @Test
+  public void shouldNotShareIdsWithLegacyStrategy() {
+    assertThat(HashStrategy.MURMUR3.getIdHashFunction().hashBytes(INPUT),
+        not(equalTo(HashStrategy.LEGACY.getIdHashFunction().hashBytes(INPUT))));
+    assertThat(HashStrategy.MURMUR3.getDigestHashFunction().hashBytes(INPUT),
+        not(equalTo(HashStrategy.LEGACY.getDigestHashFunction().hashBytes(INPUT))));
+  }
+}
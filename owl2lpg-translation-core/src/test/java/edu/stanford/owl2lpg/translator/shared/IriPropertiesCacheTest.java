@@ -0,0 +1,74 @@
+package edu.stanford.owl2lpg.translator.shared;
+
+import com.google.common.collect.ImmutableMap;
+import org.junit.Before;
+import org.junit.Test;
+import org.semanticweb.owlapi.model.IRI;
+
+import java.util.List;
+import java.util.regex.Pattern;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.sameInstance;
+
+public class IriPropertiesCacheTest {
+
+  private static final Pattern OBO_ID_PATTERN = Pattern.compile("/([A-Z|a-z]+(_[A-Z|a-z]+)?)_([0-9]+)$");
+
+  private IriPropertiesCache iriPropertiesCache;
+
+  @Before
+  public void setUp() {
+    var prefixDeclarations = BuiltInPrefixDeclarations.get(ImmutableMap.of(
+        "http://www.w3.org/2000/01/rdf-schema#", "rdfs:",
+        "http://purl.obolibrary.org/obo/", "obo:"));
+    iriPropertiesCache = new IriPropertiesCache(prefixDeclarations);
+  }
+
+  @Test
+  public void shouldComputeIriProperties() {
+    var iriProperties = iriPropertiesCache.get(IRI.create("http://purl.obolibrary.org/obo/GO_0008150"));
+    assertThat(iriProperties.getLocalName(), equalTo("GO_0008150"));
+    assertThat(iriProperties.getPrefixedName(), equalTo("obo:GO_0008150"));
+    assertThat(iriProperties.getOboId(), equalTo("GO:0008150"));
+  }
+
+  @Test
+  public void shouldComputeIriPropertiesOnce() {
+    var iri = IRI.create("http://www.w3.org/2000/01/rdf-schema#label");
+    assertThat(iriPropertiesCache.get(iri), sameInstance(iriPropertiesCache.get(iri)));
+  }
+
+  @Test
+  public void shouldDecodeLocalName() {
+    assertThat(IriPropertiesCache.getLocalName("http://example.org/o#a%20b"), equalTo("a b"));
+    assertThat(IriPropertiesCache.getLocalName("http://example.org/a+b"), equalTo("a b"));
+    assertThat(IriPropertiesCache.getLocalName("http://example.org/o/"), equalTo(""));
+  }
+
+  @Test
+  public void shouldScanOboIdLikePattern() {
+    var iriStrings = List.of(
+        "http://purl.obolibrary.org/obo/GO_0008150",
+        "http://purl.obolibrary.org/obo/NCBI_Taxon_9606",
+        "http://purl.obolibrary.org/obo/A_B_C_1",
+        "http://purl.obolibrary.org/obo/GO__1",
+        "http://purl.obolibrary.org/obo/_GO_1",
+        "http://purl.obolibrary.org/obo/GO_12_34",
+        "http://purl.obolibrary.org/obo/G|O_1",
+        "http://purl.obolibrary.org/obo/GO_",
+        "http://purl.obolibrary.org/obo/GO_1a",
+        "http://purl.obolibrary.org/obo/GO1",
+        "http://example.org/o#GO_1",
+        "/GO_1",
+        "GO_1",
+        "_1",
+        "");
+    for (var iriString : iriStrings) {
+      var matcher = OBO_ID_PATTERN.matcher(iriString);
+      var expected = matcher.find() ? matcher.group(1) + ":" + matcher.group(3) : "";
+      assertThat(iriString, IriPropertiesCache.getOboId(iriString), equalTo(expected));
+    }
+  }
+}
@@ -0,0 +1,61 @@
+package edu.stanford.owl2lpg.translator.shared;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.semanticweb.owlapi.model.OWLAxiom;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.semanticweb.owlapi.apibinding.OWLFunctionalSyntaxFactory.AnnotationAssertion;
+import static org.semanticweb.owlapi.apibinding.OWLFunctionalSyntaxFactory.Class;
+import static org.semanticweb.owlapi.apibinding.OWLFunctionalSyntaxFactory.IRI;
+import static org.semanticweb.owlapi.apibinding.OWLFunctionalSyntaxFactory.Literal;
+import static org.semanticweb.owlapi.apibinding.OWLFunctionalSyntaxFactory.ObjectIntersectionOf;
+import static org.semanticweb.owlapi.apibinding.OWLFunctionalSyntaxFactory.ObjectProperty;
+import static org.semanticweb.owlapi.apibinding.OWLFunctionalSyntaxFactory.ObjectSomeValuesFrom;
+import static org.semanticweb.owlapi.apibinding.OWLFunctionalSyntaxFactory.RDFSLabel;
+import static org.semanticweb.owlapi.apibinding.OWLFunctionalSyntaxFactory.SubClassOf;
+
+public class OntologyObjectDigesterTest {
+
+  private final OWLAxiom subClassOfAxiom = SubClassOf(Class(IRI("http://example.org/A")),
+      ObjectIntersectionOf(Class(IRI("http://example.org/B")),
+          ObjectSomeValuesFrom(ObjectProperty(IRI("http://example.org/p")), Class(IRI("http://example.org/C")))));
+
+  private final OWLAxiom annotationAxiom = AnnotationAssertion(RDFSLabel(),
+      IRI("http://example.org/A"), Literal("A class", "en"));
+
+  private BinaryOntologyObjectSerializer serializer;
+
+  @Before
+  public void setUp() {
+    serializer = new BinaryOntologyObjectSerializer(new BinaryOwlOutputStreamFactory());
+  }
+
+  @Test
+  public void shouldComputeLegacyDigestOfSerializedBytes() {
+    var digester = new OntologyObjectDigester(new BinaryOwlOutputStreamFactory(), HashStrategy.LEGACY);
+    var bytesDigester = new BytesDigester(HashStrategy.LEGACY);
+    assertThat(digester.getDigestString(subClassOfAxiom),
+        equalTo(bytesDigester.getDigestString(serializer.serialize(subClassOfAxiom))));
+    assertThat(digester.getDigestString(annotationAxiom),
+        equalTo(bytesDigester.getDigestString(serializer.serialize(annotationAxiom))));
+  }
+
+  @Test
+  public void shouldComputeMurmur3DigestOfSerializedBytes() {
+    var digester = new OntologyObjectDigester(new BinaryOwlOutputStreamFactory(), HashStrategy.MURMUR3);
+    var bytesDigester = new BytesDigester(HashStrategy.MURMUR3);
+    assertThat(digester.getDigestString(subClassOfAxiom),
+        equalTo(bytesDigester.getDigestString(serializer.serialize(subClassOfAxiom))));
+    assertThat(digester.getDigestString(annotationAxiom),
+        equalTo(bytesDigester.getDigestString(serializer.serialize(annotationAxiom))));
+  }
+
+  @Test
+  public void shouldKeepMurmur3DigestOfAxiom() {
+    var digester = new OntologyObjectDigester(new BinaryOwlOutputStreamFactory(), HashStrategy.MURMUR3);
+    assertThat(digester.getDigestString(subClassOfAxiom), equalTo("fd928c0c02c7e0e86071f00e711628a9e273679d5c823b5737b01e3481b3688d"));
+    assertThat(digester.getDigest(subClassOfAxiom).bits(), equalTo(256));
+  }
+}
@@ -0,0 +1,103 @@
+package edu.stanford.owl2lpg.translator.visitors;
+
+import com.google.common.hash.Hashing;
+import edu.stanford.owl2lpg.model.BoundedNodeIdMapper;
+import edu.stanford.owl2lpg.model.NodeIdMapper;
+import edu.stanford.owl2lpg.translator.internal.BlockReservingIdProvider;
+import edu.stanford.owl2lpg.translator.internal.DigestNodeIdProvider;
+import edu.stanford.owl2lpg.translator.internal.IdFormatCheckerImpl;
+import edu.stanford.owl2lpg.translator.internal.SingleEncounterNodeCheckerImpl;
+import edu.stanford.owl2lpg.translator.internal.StructuralNodeIdProvider;
+import edu.stanford.owl2lpg.translator.shared.BinaryOwlOutputStreamFactory;
+import edu.stanford.owl2lpg.translator.shared.HashStrategy;
+import edu.stanford.owl2lpg.translator.shared.OntologyObjectDigester;
+import org.junit.Before;
+import org.junit.Test;
+import org.semanticweb.owlapi.model.IRI;
+import uk.ac.manchester.cs.owl.owlapi.OWLClassImpl;
+import uk.ac.manchester.cs.owl.owlapi.OWLObjectPropertyImpl;
+import uk.ac.manchester.cs.owl.owlapi.OWLObjectSomeValuesFromImpl;
+
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.greaterThan;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.lessThanOrEqualTo;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.verify;
+
+public class BoundedNodeIdMapper_TestCase {
+
+  private static final int MAXIMUM_RESIDENT_SIZE = 100;
+
+  private static final int OBJECT_COUNT = 5_000;
+
+  private final OWLObjectPropertyImpl property = new OWLObjectPropertyImpl(IRI.create("p"));
+
+  private OntologyObjectDigester ontologyObjectDigester;
+
+  private NodeIdMapper nodeIdMapper;
+
+  @Before
+  public void setUp() {
+    ontologyObjectDigester = spy(new OntologyObjectDigester(new BinaryOwlOutputStreamFactory(), HashStrategy.LEGACY));
+    var digestIdProvider = new DigestNodeIdProvider(Hashing.md5());
+    nodeIdMapper = new BoundedNodeIdMapper(new BlockReservingIdProvider(16),
+        digestIdProvider,
+        new StructuralNodeIdProvider(Hashing.md5(), digestIdProvider),
+        new IdFormatCheckerImpl(),
+        new SingleEncounterNodeCheckerImpl(),
+        ontologyObjectDigester,
+        Hashing.md5(),
+        MAXIMUM_RESIDENT_SIZE);
+  }
+
+  @Test
+  public void shouldMapToSameNodeIdAfterEviction() {
+    var firstPass = IntStream.range(0, OBJECT_COUNT)
+        .mapToObj(this::createClassExpression)
+        .map(nodeIdMapper::get)
+        .collect(Collectors.toList());
+    var secondPass = IntStream.range(0, OBJECT_COUNT)
+        .mapToObj(this::createClassExpression)
+        .map(nodeIdMapper::get)
+        .collect(Collectors.toList());
+    assertThat(secondPass, is(equalTo(firstPass)));
+    assertThat(Set.copyOf(firstPass).size(), is(OBJECT_COUNT));
+  }
+
+  @Test
+  public void shouldBoundResidentSize() {
+    IntStream.range(0, OBJECT_COUNT)
+        .mapToObj(this::createClassExpression)
+        .forEach(nodeIdMapper::get);
+    IntStream.range(0, OBJECT_COUNT)
+        .mapToObj(this::createClassExpression)
+        .forEach(nodeIdMapper::get);
+    var stats = nodeIdMapper.getStats().orElseThrow();
+    assertThat(stats.getResidentCount(), is(lessThanOrEqualTo((long) MAXIMUM_RESIDENT_SIZE)));
+    assertThat(stats.getSpilledCount(), is(greaterThan(0L)));
+    assertThat(stats.getMissCount(), is((long) OBJECT_COUNT));
+    assertThat(stats.getHitCount() + stats.getSpillHitCount(), is((long) OBJECT_COUNT));
+    assertThat(stats.getHitRate(), is(0.5));
+  }
+
+  @Test
+  public void shouldNotDigestObjectsBeforeAnyEviction() {
+    IntStream.range(0, MAXIMUM_RESIDENT_SIZE / 2)
+        .mapToObj(this::createClassExpression)
+        .forEach(nodeIdMapper::get);
+    verify(ontologyObjectDigester, never()).getDigest(any());
+    assertThat(nodeIdMapper.getStats().orElseThrow().getSpilledCount(), is(0L));
+  }
+
+  private OWLObjectSomeValuesFromImpl createClassExpression(int i) {
+    return new OWLObjectSomeValuesFromImpl(property, new OWLClassImpl(IRI.create("A" + i)));
+  }
+}
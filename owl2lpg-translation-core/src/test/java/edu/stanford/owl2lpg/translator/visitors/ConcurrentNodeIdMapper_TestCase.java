@@ -0,0 +1,116 @@
+package edu.stanford.owl2lpg.translator.visitors;
+
+import com.google.common.hash.Hashing;
+import edu.stanford.owl2lpg.model.ConcurrentNodeIdMapper;
+import edu.stanford.owl2lpg.model.NodeId;
+import edu.stanford.owl2lpg.model.NodeIdMapper;
+import edu.stanford.owl2lpg.translator.internal.BlockReservingIdProvider;
+import edu.stanford.owl2lpg.translator.internal.DigestNodeIdProvider;
+import edu.stanford.owl2lpg.translator.internal.IdFormatCheckerImpl;
+import edu.stanford.owl2lpg.translator.internal.SingleEncounterNodeCheckerImpl;
+import edu.stanford.owl2lpg.translator.internal.StructuralNodeIdProvider;
+import org.junit.Before;
+import org.junit.Test;
+import org.semanticweb.owlapi.model.IRI;
+import uk.ac.manchester.cs.owl.owlapi.OWLClassImpl;
+import uk.ac.manchester.cs.owl.owlapi.OWLObjectPropertyImpl;
+import uk.ac.manchester.cs.owl.owlapi.OWLObjectSomeValuesFromImpl;
+import uk.ac.manchester.cs.owl.owlapi.OWLSubClassOfAxiomImpl;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.is;
+
+public class ConcurrentNodeIdMapper_TestCase {
+
+  private static final int THREAD_COUNT = 8;
+
+  private static final int OBJECT_COUNT = 10_000;
+
+  private NodeIdMapper nodeIdMapper;
+
+  @Before
+  public void setUp() throws Exception {
+    var digestIdProvider = new DigestNodeIdProvider(Hashing.sha256());
+    nodeIdMapper = new ConcurrentNodeIdMapper(new BlockReservingIdProvider(16),
+        digestIdProvider,
+        new StructuralNodeIdProvider(Hashing.sha256(), digestIdProvider),
+        new IdFormatCheckerImpl(),
+        new SingleEncounterNodeCheckerImpl());
+  }
+
+  @Test
+  public void shouldAllocateSequentialNumbersOnSingleThread() {
+    var idProvider = new BlockReservingIdProvider(4);
+    var nodeIds = IntStream.rangeClosed(1, 10)
+        .mapToObj(i -> idProvider.getId(i))
+        .collect(Collectors.toList());
+    var expected = IntStream.rangeClosed(1, 10)
+        .mapToObj(NodeId::create)
+        .collect(Collectors.toList());
+    assertThat(nodeIds, is(expected));
+  }
+
+  @Test
+  public void shouldAllocateUniqueNumbersAcrossThreads() throws Exception {
+    var idProvider = new BlockReservingIdProvider(16);
+    var nodeIds = Collections.newSetFromMap(new ConcurrentHashMap<NodeId, Boolean>());
+    runConcurrently(() -> {
+      for (int i = 0; i < OBJECT_COUNT; i++) {
+        nodeIds.add(idProvider.getId(i));
+      }
+      return null;
+    });
+    assertThat(nodeIds.size(), is(THREAD_COUNT * OBJECT_COUNT));
+  }
+
+  @Test
+  public void shouldMapToSameNodeIdForSameClassExpressionAcrossThreads() throws Exception {
+    var property = new OWLObjectPropertyImpl(IRI.create("p"));
+    var results = runConcurrently(() -> IntStream.range(0, OBJECT_COUNT)
+        .mapToObj(i -> new OWLObjectSomeValuesFromImpl(property, new OWLClassImpl(IRI.create("A" + i))))
+        .map(nodeIdMapper::get)
+        .collect(Collectors.toList()));
+    var first = results.get(0);
+    results.forEach(nodeIds -> assertThat(nodeIds, is(equalTo(first))));
+    assertThat(Set.copyOf(first).size(), is(OBJECT_COUNT));
+  }
+
+  @Test
+  public void shouldMapToDifferentNodeIdsForSingleEncounterObjectsAcrossThreads() throws Exception {
+    var subClass = new OWLClassImpl(IRI.create("A"));
+    var superClass = new OWLClassImpl(IRI.create("B"));
+    var results = runConcurrently(() -> IntStream.range(0, OBJECT_COUNT)
+        .mapToObj(i -> new OWLSubClassOfAxiomImpl(subClass, superClass, Collections.emptySet()))
+        .map(nodeIdMapper::get)
+        .collect(Collectors.toList()));
+    var nodeIds = results.stream()
+        .flatMap(List::stream)
+        .collect(Collectors.toSet());
+    assertThat(nodeIds.size(), is(THREAD_COUNT * OBJECT_COUNT));
+  }
+
+  private static <T> List<T> runConcurrently(Callable<T> task) throws Exception {
+    var executor = Executors.newFixedThreadPool(THREAD_COUNT);
+    try {
+      var tasks = Collections.nCopies(THREAD_COUNT, task);
+      var results = new ArrayList<T>();
+      for (var future : executor.invokeAll(tasks)) {
+        results.add(future.get());
+      }
+      return results;
+    } finally {
+      executor.shutdownNow();
+    }
+  }
+}
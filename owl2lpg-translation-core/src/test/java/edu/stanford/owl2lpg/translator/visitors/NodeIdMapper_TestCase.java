@@ -10,6 +10,7 @@ import edu.stanford.owl2lpg.translator.internal.DigestNodeIdProvider;
 import edu.stanford.owl2lpg.translator.internal.IdFormatCheckerImpl;
 import edu.stanford.owl2lpg.translator.internal.NumberIncrementIdProvider;
 import edu.stanford.owl2lpg.translator.internal.SingleEncounterNodeCheckerImpl;
+import edu.stanford.owl2lpg.translator.internal.StructuralNodeIdProvider;
 import org.junit.Before;
 import org.junit.Test;
 import org.semanticweb.owlapi.model.IRI;
@@ -32,8 +33,10 @@ public class NodeIdMapper_TestCase {
 
   @Before
   public void setUp() throws Exception {
+    var digestIdProvider = new DigestNodeIdProvider(Hashing.sha256());
     nodeIdMapper = new NodeIdMapperImpl(new NumberIncrementIdProvider(),
-        new DigestNodeIdProvider(Hashing.sha256()),
+        digestIdProvider,
+        new StructuralNodeIdProvider(Hashing.sha256(), digestIdProvider),
         new IdFormatCheckerImpl(),
         new SingleEncounterNodeCheckerImpl());
   }
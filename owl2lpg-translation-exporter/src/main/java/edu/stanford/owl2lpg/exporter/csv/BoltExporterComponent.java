@@ -0,0 +1,31 @@
+package edu.stanford.owl2lpg.exporter.csv;
+
+import dagger.Component;
+import edu.stanford.owl2lpg.exporter.csv.writer.bolt.BoltCsvWriterModule;
+import edu.stanford.owl2lpg.exporter.csv.writer.bolt.BoltLoader;
+import edu.stanford.owl2lpg.translator.TranslationSessionScope;
+import edu.stanford.owl2lpg.translator.TranslatorModule;
+import edu.stanford.owl2lpg.translator.shared.OntologyObjectSerializerModule;
+
+/**
+ * Provides the exporters that load the translations into a running Neo4j
+ * database through a {@link BoltLoader}.
+ *
+ * @author Josef Hardi <josef.hardi@stanford.edu> <br>
+ * Stanford Center for Biomedical Informatics Research
+ */
+@Component(modules = {
+    TranslatorModule.class,
+    BoltCsvWriterModule.class,
+    OntologyObjectSerializerModule.class})
+@TranslationSessionScope
+public interface BoltExporterComponent {
+
+  OntologyCsvExporter getOntologyCsvExporter();
+
+  OboCsvExporter getOboCsvExporter();
+
+  OwlCsvExporter getOwlCsvExporter();
+
+  BoltLoader getBoltLoader();
+}
@@ -18,4 +18,6 @@ public interface CsvExporterComponent {
   PerAxiomCsvExporter getPerAxiomCsvExporter();
 
   OboCsvExporter getOboCsvExporter();
+
+  OwlCsvExporter getOwlCsvExporter();
 }
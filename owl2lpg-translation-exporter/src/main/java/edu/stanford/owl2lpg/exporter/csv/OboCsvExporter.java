@@ -6,7 +6,13 @@ import com.github.benmanes.caffeine.cache.stats.CacheStats;
 import com.google.common.base.Stopwatch;
 import com.google.common.collect.Sets;
 import com.google.common.io.CountingInputStream;
+import edu.stanford.owl2lpg.exporter.csv.internal.FrameTranslationPipeline;
+import edu.stanford.owl2lpg.model.NodeIdMapper;
+import edu.stanford.owl2lpg.model.Translation;
 import edu.stanford.owl2lpg.translator.shared.BranchId;
+import edu.stanford.owl2lpg.translator.shared.EdgeIdEncoding;
+import edu.stanford.owl2lpg.translator.shared.ExpressionIdFormat;
+import edu.stanford.owl2lpg.translator.shared.HashStrategy;
 import edu.stanford.owl2lpg.translator.shared.OntologyDocumentId;
 import edu.stanford.owl2lpg.translator.shared.ProjectId;
 import org.checkerframework.checker.index.qual.NonNegative;
@@ -18,7 +24,9 @@ import org.obolibrary.oboformat.model.OBODoc;
 import org.obolibrary.oboformat.parser.OBOFormatParser;
 import org.semanticweb.owlapi.apibinding.OWLManager;
 import org.semanticweb.owlapi.model.IRI;
+import org.semanticweb.owlapi.model.OWLAnnotationAssertionAxiom;
 import org.semanticweb.owlapi.model.OWLAxiom;
+import org.semanticweb.owlapi.model.OWLClassExpression;
 import org.semanticweb.owlapi.model.OWLDeclarationAxiom;
 
 import javax.annotation.Nonnull;
@@ -30,10 +38,15 @@ import java.io.FileInputStream;
 import java.io.IOException;
 import java.io.InputStreamReader;
 import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.stream.Stream;
 
@@ -49,9 +62,29 @@ public class OboCsvExporter {
   @Nonnull
   private final PerAxiomCsvExporter csvExporter;
 
+  @Nonnull
+  private final NodeIdMapper nodeIdMapper;
+
+  @Nonnull
+  private final HashStrategy hashStrategy;
+
+  @Nonnull
+  private final EdgeIdEncoding edgeIdEncoding;
+
+  @Nonnull
+  private final ExpressionIdFormat expressionIdFormat;
+
   @Inject
-  public OboCsvExporter(@Nonnull PerAxiomCsvExporter csvExporter) {
+  public OboCsvExporter(@Nonnull PerAxiomCsvExporter csvExporter,
+                        @Nonnull NodeIdMapper nodeIdMapper,
+                        @Nonnull HashStrategy hashStrategy,
+                        @Nonnull EdgeIdEncoding edgeIdEncoding,
+                        @Nonnull ExpressionIdFormat expressionIdFormat) {
     this.csvExporter = checkNotNull(csvExporter);
+    this.nodeIdMapper = checkNotNull(nodeIdMapper);
+    this.hashStrategy = checkNotNull(hashStrategy);
+    this.edgeIdEncoding = checkNotNull(edgeIdEncoding);
+    this.expressionIdFormat = checkNotNull(expressionIdFormat);
   }
 
   public void export(@Nonnull File inputFile,
@@ -59,10 +92,24 @@ public class OboCsvExporter {
                      @Nonnull BranchId branchId,
                      @Nonnull OntologyDocumentId ontDocId,
                      boolean isTrackingDeclaration) throws IOException {
+    export(inputFile, projectId, branchId, ontDocId, isTrackingDeclaration, 1);
+  }
+
+  /**
+   * Exports the OBO document using the given number of threads to translate
+   * the term frames. With more than one thread the parser only reads the
+   * frames, a pool of workers converts them into OWL axioms and translates
+   * the axioms, and a single writer writes the translations.
+   */
+  public void export(@Nonnull File inputFile,
+                     @Nonnull ProjectId projectId,
+                     @Nonnull BranchId branchId,
+                     @Nonnull OntologyDocumentId ontDocId,
+                     boolean isTrackingDeclaration,
+                     int threadCount) throws IOException {
     var in = new CountingInputStream(new FileInputStream(inputFile));
 
-    var csvTranslator = new MinimalObo2Owl(in, csvExporter, inputFile.length(), isTrackingDeclaration);
-    csvTranslator.translateProject(projectId, branchId, ontDocId);
+    csvExporter.export(projectId, branchId, ontDocId);
 
     var sw = Stopwatch.createStarted();
 
@@ -71,19 +118,97 @@ public class OboCsvExporter {
     var bufferedReader = new BufferedReader(new InputStreamReader(in));
     oboParser.setReader(bufferedReader);
 
-    var obodoc = new MinimalOboDoc();
-    obodoc.setTranslator(csvTranslator);
-    csvTranslator.setObodoc(obodoc);
-    oboParser.parseOBODoc(obodoc);
+    var progressLog = new ProgressLog(in, inputFile.length());
+    var workerCacheStats = CacheStats.empty();
+    if (threadCount > 1) {
+      Set<OWLDeclarationAxiom> declarationCache = isTrackingDeclaration ? ConcurrentHashMap.newKeySet() : null;
+      Set<OWLAxiom> documentAxiomCache = ConcurrentHashMap.newKeySet();
+      var obodoc = new MinimalOboDoc();
+      try (var pipeline = new FrameTranslationPipeline(nodeIdMapper, hashStrategy, edgeIdEncoding,
+          expressionIdFormat, threadCount,
+          () -> createFrameConverter(obodoc, declarationCache, documentAxiomCache),
+          axiomTranslation -> {
+            progressLog.increment();
+            writeAxiomTranslation(axiomTranslation);
+          })) {
+        progressLog.setPipeline(pipeline);
+        obodoc.setTermFrameHandler(pipeline::submit);
+        oboParser.parseOBODoc(obodoc);
+        pipeline.finish();
+        workerCacheStats = pipeline.getTranslationCacheStats();
+      }
+    } else {
+      Set<OWLDeclarationAxiom> declarationCache = isTrackingDeclaration ? Sets.newHashSet() : null;
+      var csvTranslator = new MinimalObo2Owl(axiom -> {
+        progressLog.increment();
+        exportAxiom(axiom);
+      }, declarationCache);
+      var obodoc = new MinimalOboDoc();
+      obodoc.setTermFrameHandler(csvTranslator::trTermFrame);
+      csvTranslator.setObodoc(obodoc);
+      oboParser.parseOBODoc(obodoc);
+    }
+    csvExporter.flush();
 
     System.out.printf("Time: %,dms\n", sw.elapsed().toMillis());
-    System.out.printf("Axioms: %,d\n", +csvTranslator.getAxiomsCount());
+    System.out.printf("Axioms: %,d\n", +progressLog.getAxiomsCount());
     
-    csvExporter.printReport();
+    csvExporter.printReport(workerCacheStats);
 
     bufferedReader.close();
   }
 
+  public void close() throws IOException {
+    csvExporter.close();
+  }
+
+  private void exportAxiom(OWLAxiom axiom) {
+    try {
+      csvExporter.export(axiom);
+    } catch (IOException e) {
+      throw new RuntimeException(e);
+    }
+  }
+
+  private void writeAxiomTranslation(Translation axiomTranslation) {
+    try {
+      csvExporter.export(axiomTranslation);
+    } catch (IOException e) {
+      throw new RuntimeException(e);
+    }
+  }
+
+  /*
+   * Creates the frame converter of a pipeline worker. Every worker needs its
+   * own OWLAPIObo2Owl because the translator keeps per-document state, such
+   * as the annotation properties it has already described. The axioms that
+   * come from that state do not mention the class of the frame, and they are
+   * passed on only by the first worker that produces them.
+   */
+  private static Function<Frame, Collection<OWLAxiom>> createFrameConverter(OBODoc obodoc,
+                                                                            @Nullable Set<OWLDeclarationAxiom> declarationCache,
+                                                                            Set<OWLAxiom> documentAxiomCache) {
+    var axioms = new ArrayList<OWLAxiom>();
+    var translator = new MinimalObo2Owl(axioms::add, declarationCache);
+    translator.setObodoc(obodoc);
+    return frame -> {
+      axioms.clear();
+      var frameClass = translator.trTermFrame(frame);
+      axioms.removeIf(axiom -> !isAbout(axiom, frameClass) && !documentAxiomCache.add(axiom));
+      return List.copyOf(axioms);
+    };
+  }
+
+  private static boolean isAbout(OWLAxiom axiom, OWLClassExpression frameClass) {
+    if (axiom instanceof OWLAnnotationAssertionAxiom && !frameClass.isAnonymous()) {
+      var subject = ((OWLAnnotationAssertionAxiom) axiom).getSubject();
+      if (subject.equals(frameClass.asOWLClass().getIRI())) {
+        return true;
+      }
+    }
+    return axiom.getClassesInSignature().contains(frameClass);
+  }
+
   private void replaceStringCacheWithNoOpCache(OBOFormatParser parser) {
     try {
       var parserClass = parser.getClass();
@@ -100,35 +225,16 @@ public class OboCsvExporter {
 
   private static class MinimalObo2Owl extends OWLAPIObo2Owl {
 
-    private final AtomicInteger counter = new AtomicInteger();
+    private final Consumer<OWLAxiom> axiomConsumer;
 
-    private final CountingInputStream countingInputStream;
-    private final long fileSize;
-    private final PerAxiomCsvExporter csvExporter;
-    private final boolean isTrackingDeclaration;
-
-    private final Set<OWLDeclarationAxiom> declarationCache = Sets.newHashSet();
-    private long ts = ManagementFactory.getThreadMXBean().getCurrentThreadUserTime();
+    @Nullable
+    private final Set<OWLDeclarationAxiom> declarationCache;
 
-    public MinimalObo2Owl(@Nonnull CountingInputStream countingInputStream,
-                          @Nonnull PerAxiomCsvExporter csvExporter,
-                          long fileSize,
-                          boolean isTrackingDeclaration) {
+    public MinimalObo2Owl(@Nonnull Consumer<OWLAxiom> axiomConsumer,
+                          @Nullable Set<OWLDeclarationAxiom> declarationCache) {
       super(OWLManager.createOWLOntologyManager());
-      this.countingInputStream = countingInputStream;
-      this.csvExporter = csvExporter;
-      this.fileSize = fileSize;
-      this.isTrackingDeclaration = isTrackingDeclaration;
-    }
-
-    public void translateProject(ProjectId projectId,
-                                 BranchId branchId,
-                                 OntologyDocumentId ontDocId) {
-      try {
-        csvExporter.export(projectId, branchId, ontDocId);
-      } catch (IOException e) {
-        throw new RuntimeException(e);
-      }
+      this.axiomConsumer = axiomConsumer;
+      this.declarationCache = declarationCache;
     }
 
     @Override
@@ -141,26 +247,63 @@ public class OboCsvExporter {
     @Override
     protected void add(OWLAxiom axiom) {
       if (axiom instanceof OWLDeclarationAxiom) {
-        if (isTrackingDeclaration) {
+        if (declarationCache != null) {
           if (declarationCache.add((OWLDeclarationAxiom) axiom)) {
-            addAxiom(axiom);
+            axiomConsumer.accept(axiom);
           }
         } else {
-          addAxiom(axiom);
+          axiomConsumer.accept(axiom);
         }
       } else {
-        addAxiom(axiom);
+        axiomConsumer.accept(axiom);
       }
     }
 
-    private void addAxiom(OWLAxiom axiom) {
-      try {
-        counter.incrementAndGet();
-        printLog();
-        csvExporter.export(axiom);
-      } catch (IOException e) {
-        throw new RuntimeException(e);
-      }
+    @Nonnull
+    @Override
+    public IRI oboIdToIRI(@Nonnull String id) {
+      return oboIdToIRI_load(id);
+    }
+  }
+
+  /*
+   * Prints a progress line every million axioms. When the frames are
+   * translated by a pipeline, the line also shows the throughput of each
+   * stage since the previous line and the depth of the queues.
+   */
+  private class ProgressLog {
+
+    private final AtomicInteger counter = new AtomicInteger();
+
+    private final CountingInputStream countingInputStream;
+    private final long fileSize;
+
+    @Nullable
+    private volatile FrameTranslationPipeline pipeline;
+
+    private long ts = ManagementFactory.getThreadMXBean().getCurrentThreadUserTime();
+    private long wallTs = System.nanoTime();
+    private long submittedFrames = 0;
+    private long translatedFrames = 0;
+    private long translatedAxioms = 0;
+    private long writtenAxioms = 0;
+
+    ProgressLog(@Nonnull CountingInputStream countingInputStream, long fileSize) {
+      this.countingInputStream = countingInputStream;
+      this.fileSize = fileSize;
+    }
+
+    void setPipeline(@Nonnull FrameTranslationPipeline pipeline) {
+      this.pipeline = pipeline;
+    }
+
+    void increment() {
+      counter.incrementAndGet();
+      printLog();
+    }
+
+    int getAxiomsCount() {
+      return counter.get();
     }
 
     private void printLog() {
@@ -179,38 +322,81 @@ public class OboCsvExporter {
         var consumedMemory = (totalMemory - freeMemory) / (1024 * 1024);
         var trackedNodesPercent = (100.0 * csvWriter.getTrackedNodeCount()) / csvWriter.getNodeCount();
         var trackedEdgesPercent = (100.0 * csvWriter.getTrackedEdgeCount()) / csvWriter.getEdgeCount();
-        System.out.printf("%,9d axioms (Read %,4d Mb [%3d%%]  Delta: %,5d ms) (Used memory: %,8d MB)  Nodes: %,8d  Edges: %,8d  Tracked nodes: %,8d (%,.2f%%)  Tracked edges: %,8d (%,.2f%%)\n",
-            c, read, percent, delta, consumedMemory, csvWriter.getNodeCount(), csvWriter.getEdgeCount(), csvWriter.getTrackedNodeCount(), trackedNodesPercent, csvWriter.getTrackedEdgeCount(), trackedEdgesPercent);
+        System.out.printf("%,9d axioms (Read %,4d Mb [%3d%%]  Delta: %,5d ms) (Used memory: %,8d MB)  Nodes: %,8d  Edges: %,8d  Tracked nodes: %,8d (%,.2f%%)  Tracked edges: %,8d (%,.2f%%)%s\n",
+            c, read, percent, delta, consumedMemory, csvWriter.getNodeCount(), csvWriter.getEdgeCount(), csvWriter.getTrackedNodeCount(), trackedNodesPercent, csvWriter.getTrackedEdgeCount(), trackedEdgesPercent, getStageStatistics());
       }
     }
 
-    public int getAxiomsCount() {
-      return counter.get();
-    }
-
-    @Nonnull
-    @Override
-    public IRI oboIdToIRI(@Nonnull String id) {
-      return oboIdToIRI_load(id);
+    private String getStageStatistics() {
+      var p = pipeline;
+      if (p == null) {
+        return "";
+      }
+      long wallTs1 = System.nanoTime();
+      double seconds = Math.max(wallTs1 - wallTs, 1) / 1e9;
+      wallTs = wallTs1;
+      long submittedFrames1 = p.getSubmittedFrameCount();
+      long translatedFrames1 = p.getTranslatedFrameCount();
+      long translatedAxioms1 = p.getTranslatedAxiomCount();
+      long writtenAxioms1 = p.getWrittenAxiomCount();
+      var statistics = String.format("  Parse: %,8.0f frames/s  Translate: %,8.0f frames/s (%,9.0f axioms/s)  Write: %,9.0f axioms/s  Queued frames: %,5d/%,d  Queued results: %,5d/%,d",
+          (submittedFrames1 - submittedFrames) / seconds,
+          (translatedFrames1 - translatedFrames) / seconds,
+          (translatedAxioms1 - translatedAxioms) / seconds,
+          (writtenAxioms1 - writtenAxioms) / seconds,
+          p.getQueuedFrameCount(), p.getFrameQueueCapacity(),
+          p.getQueuedResultCount(), p.getResultQueueCapacity());
+      submittedFrames = submittedFrames1;
+      translatedFrames = translatedFrames1;
+      translatedAxioms = translatedAxioms1;
+      writtenAxioms = writtenAxioms1;
+      return statistics;
     }
   }
 
+  /*
+   * An OBO document that only keeps the header and the typedef frames and
+   * hands the term frames over to the handler. The typedef frames may be
+   * looked up by the pipeline workers while the parser is still adding
+   * them, hence the access to them is synchronized.
+   */
   private static class MinimalOboDoc extends OBODoc {
-    private OWLAPIObo2Owl translator;
 
-    public void setTranslator(OWLAPIObo2Owl translator) {
-      this.translator = translator;
+    private Consumer<Frame> termFrameHandler;
+
+    public void setTermFrameHandler(Consumer<Frame> termFrameHandler) {
+      this.termFrameHandler = termFrameHandler;
     }
 
     @Override
     public void addFrame(@Nonnull Frame f) throws FrameMergeException {
       if (f.getType().equals(Frame.FrameType.TYPEDEF)) {
-        super.addFrame(f);
+        synchronized (this) {
+          super.addFrame(f);
+        }
       }
       if (f.getType().equals(Frame.FrameType.TERM)) {
-        translator.trTermFrame(f);
+        termFrameHandler.accept(f);
       }
     }
+
+    @Nullable
+    @Override
+    public synchronized Frame getTypedefFrame(@Nonnull String id) {
+      return super.getTypedefFrame(id);
+    }
+
+    @Nullable
+    @Override
+    public synchronized Frame getTypedefFrame(@Nonnull String id, boolean followImport) {
+      return super.getTypedefFrame(id, followImport);
+    }
+
+    @Nonnull
+    @Override
+    public synchronized Collection<Frame> getTypedefFrames() {
+      return new ArrayList<>(super.getTypedefFrames());
+    }
   }
 
   private static class NoOpLoadingCache implements LoadingCache<String, String> {
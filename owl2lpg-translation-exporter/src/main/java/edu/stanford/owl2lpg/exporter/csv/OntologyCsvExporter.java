@@ -1,16 +1,23 @@
 package edu.stanford.owl2lpg.exporter.csv;
 
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import edu.stanford.owl2lpg.exporter.csv.internal.AxiomTranslationPipeline;
 import edu.stanford.owl2lpg.exporter.csv.internal.ProjectTranslator;
 import edu.stanford.owl2lpg.exporter.csv.writer.Neo4jCsvWriter;
 import edu.stanford.owl2lpg.model.AugmentedEdgeFactory;
 import edu.stanford.owl2lpg.translator.shared.BranchId;
+import edu.stanford.owl2lpg.translator.shared.EdgeIdEncoding;
+import edu.stanford.owl2lpg.translator.shared.ExpressionIdFormat;
+import edu.stanford.owl2lpg.translator.shared.HashStrategy;
 import edu.stanford.owl2lpg.model.Node;
+import edu.stanford.owl2lpg.model.NodeIdMapper;
 import edu.stanford.owl2lpg.translator.shared.OntologyDocumentId;
 import edu.stanford.owl2lpg.translator.shared.ProjectId;
 import edu.stanford.owl2lpg.model.StructuralEdgeFactory;
 import edu.stanford.owl2lpg.model.Translation;
 import edu.stanford.owl2lpg.translator.AnnotationObjectTranslator;
 import edu.stanford.owl2lpg.translator.AxiomTranslator;
+import edu.stanford.owl2lpg.translator.TranslationCache;
 import org.semanticweb.owlapi.model.OWLAnnotation;
 import org.semanticweb.owlapi.model.OWLAxiom;
 import org.semanticweb.owlapi.model.OWLOntology;
@@ -48,19 +55,44 @@ public class OntologyCsvExporter {
   @Nonnull
   private final Neo4jCsvWriter csvWriter;
 
+  @Nonnull
+  private final NodeIdMapper nodeIdMapper;
+
+  @Nonnull
+  private final HashStrategy hashStrategy;
+
+  @Nonnull
+  private final EdgeIdEncoding edgeIdEncoding;
+
+  @Nonnull
+  private final ExpressionIdFormat expressionIdFormat;
+
+  @Nonnull
+  private final TranslationCache translationCache;
+
   @Inject
   public OntologyCsvExporter(@Nonnull ProjectTranslator projectTranslator,
                              @Nonnull AnnotationObjectTranslator annotationTranslator,
                              @Nonnull AxiomTranslator axiomTranslator,
                              @Nonnull StructuralEdgeFactory structuralEdgeFactory,
                              @Nonnull AugmentedEdgeFactory augmentedEdgeFactory,
-                             @Nonnull Neo4jCsvWriter csvWriter) {
+                             @Nonnull Neo4jCsvWriter csvWriter,
+                             @Nonnull NodeIdMapper nodeIdMapper,
+                             @Nonnull HashStrategy hashStrategy,
+                             @Nonnull EdgeIdEncoding edgeIdEncoding,
+                             @Nonnull ExpressionIdFormat expressionIdFormat,
+                             @Nonnull TranslationCache translationCache) {
     this.projectTranslator = checkNotNull(projectTranslator);
     this.annotationTranslator = checkNotNull(annotationTranslator);
     this.axiomTranslator = checkNotNull(axiomTranslator);
     this.structuralEdgeFactory = checkNotNull(structuralEdgeFactory);
     this.augmentedEdgeFactory = checkNotNull(augmentedEdgeFactory);
     this.csvWriter = checkNotNull(csvWriter);
+    this.nodeIdMapper = checkNotNull(nodeIdMapper);
+    this.hashStrategy = checkNotNull(hashStrategy);
+    this.edgeIdEncoding = checkNotNull(edgeIdEncoding);
+    this.expressionIdFormat = checkNotNull(expressionIdFormat);
+    this.translationCache = checkNotNull(translationCache);
   }
 
   public void export(@Nonnull OWLOntology ontology) throws IOException {
@@ -71,14 +103,39 @@ public class OntologyCsvExporter {
                      @Nonnull ProjectId projectId,
                      @Nonnull BranchId branchId,
                      @Nonnull OntologyDocumentId documentId) throws IOException {
+    export(ontology, projectId, branchId, documentId, 1);
+  }
+
+  /**
+   * Exports the ontology using the given number of threads to translate the
+   * axioms. With more than one thread the axioms are translated in parallel
+   * while a single writer stage writes the translations; the output is the
+   * same as the sequential export apart from the row order and the numbering
+   * of the anonymous nodes.
+   */
+  public void export(@Nonnull OWLOntology ontology,
+                     @Nonnull ProjectId projectId,
+                     @Nonnull BranchId branchId,
+                     @Nonnull OntologyDocumentId documentId,
+                     int threadCount) throws IOException {
     var projectTranslation = projectTranslator.translate(ontology.getOntologyID(), projectId, branchId, documentId);
     writeTranslation(projectTranslation);
 
     var documentNode = projectTranslation.nodes(ONTOLOGY_DOCUMENT).findFirst().get();
     writeOntologyAnnotations(ontology.getAnnotations(), documentNode);
-    writeOntologyAxioms(ontology.getAxioms(), documentNode);
+    var workerCacheStats = CacheStats.empty();
+    if (threadCount > 1) {
+      workerCacheStats = writeOntologyAxioms(ontology.getAxioms(), documentNode, threadCount);
+    } else {
+      writeOntologyAxioms(ontology.getAxioms(), documentNode);
+    }
+    csvWriter.flush();
+
+    csvWriter.printReport(translationCache.getStats().plus(workerCacheStats), nodeIdMapper.getStats());
+  }
 
-    csvWriter.printReport();
+  public void close() throws IOException {
+    csvWriter.close();
   }
 
   private void writeTranslation(Translation translation) {
@@ -100,13 +157,25 @@ public class OntologyCsvExporter {
   }
 
   private void writeOntologyAxioms(Set<OWLAxiom> axioms, Node documentNode) {
-    axioms.stream()
-        .map(axiomTranslator::translate)
-        .forEach(axiomTranslation -> {
-          writeTranslation(axiomTranslation);
-          writeAxiomEdge(axiomTranslation, documentNode);
-          writeInOntologySignatureEdge(axiomTranslation, documentNode);
-        });
+    for (var axiom : axioms) {
+      var axiomTranslation = axiomTranslator.translate(axiom, csvWriter);
+      writeAxiomEdge(axiomTranslation, documentNode);
+      writeInOntologySignatureEdge(axiomTranslation, documentNode);
+    }
+  }
+
+  private CacheStats writeOntologyAxioms(Set<OWLAxiom> axioms, Node documentNode, int threadCount) {
+    try (var pipeline = new AxiomTranslationPipeline(nodeIdMapper, hashStrategy, edgeIdEncoding,
+        expressionIdFormat, threadCount)) {
+      pipeline.translate(axioms, axiomTranslation -> writeAxiomTranslation(axiomTranslation, documentNode));
+      return pipeline.getTranslationCacheStats();
+    }
+  }
+
+  private void writeAxiomTranslation(Translation axiomTranslation, Node documentNode) {
+    writeTranslation(axiomTranslation);
+    writeAxiomEdge(axiomTranslation, documentNode);
+    writeInOntologySignatureEdge(axiomTranslation, documentNode);
   }
 
   private void writeAxiomEdge(Translation axiomTranslation, Node documentNode) {
@@ -116,9 +185,9 @@ public class OntologyCsvExporter {
   }
 
   private void writeInOntologySignatureEdge(Translation axiomTranslation, Node documentNode) {
-    var entityNodes = axiomTranslation.nodes(ENTITY);
-    entityNodes.forEach(entityNode ->
-        augmentedEdgeFactory.getInOntologySignatureEdge(entityNode, documentNode)
-            .ifPresent(csvWriter::writeEdge));
+    for (var entityNode : axiomTranslation.getNodes(ENTITY)) {
+      augmentedEdgeFactory.getInOntologySignatureEdge(entityNode, documentNode)
+          .ifPresent(csvWriter::writeEdge);
+    }
   }
 }
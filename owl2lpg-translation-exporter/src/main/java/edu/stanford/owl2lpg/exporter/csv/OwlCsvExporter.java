@@ -0,0 +1,108 @@
+package edu.stanford.owl2lpg.exporter.csv;
+
+import com.google.common.base.Stopwatch;
+import com.google.common.collect.Sets;
+import edu.stanford.owl2lpg.exporter.csv.internal.StreamingOntologyFactory;
+import edu.stanford.owl2lpg.translator.shared.BranchId;
+import edu.stanford.owl2lpg.translator.shared.OntologyDocumentId;
+import edu.stanford.owl2lpg.translator.shared.ProjectId;
+import org.semanticweb.owlapi.apibinding.OWLManager;
+import org.semanticweb.owlapi.io.FileDocumentSource;
+import org.semanticweb.owlapi.model.OWLAnnotation;
+import org.semanticweb.owlapi.model.OWLAxiom;
+import org.semanticweb.owlapi.model.OWLDeclarationAxiom;
+import org.semanticweb.owlapi.model.OWLOntologyCreationException;
+
+import javax.annotation.Nonnull;
+import javax.inject.Inject;
+import java.io.File;
+import java.io.IOException;
+import java.util.Set;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+
+/**
+ * Exports an OWL ontology document (RDF/XML, OWL/XML, Turtle, Functional
+ * Syntax, etc.) without loading it into an {@link org.semanticweb.owlapi.model.OWLOntology}.
+ * Every axiom is translated and written as soon as the parser produces it,
+ * the same way as the {@link OboCsvExporter} does for the OBO documents.
+ *
+ * @author Josef Hardi <josef.hardi@stanford.edu> <br>
+ * Stanford Center for Biomedical Informatics Research
+ */
+public class OwlCsvExporter {
+
+  @Nonnull
+  private final PerAxiomCsvExporter csvExporter;
+
+  @Inject
+  public OwlCsvExporter(@Nonnull PerAxiomCsvExporter csvExporter) {
+    this.csvExporter = checkNotNull(csvExporter);
+  }
+
+  public void export(@Nonnull File inputFile,
+                     @Nonnull ProjectId projectId,
+                     @Nonnull BranchId branchId,
+                     @Nonnull OntologyDocumentId ontDocId,
+                     boolean isTrackingDeclaration) throws IOException {
+    csvExporter.export(projectId, branchId, ontDocId);
+
+    var sw = Stopwatch.createStarted();
+
+    var documentSource = new FileDocumentSource(inputFile);
+    var documentHandler = new DocumentHandler(isTrackingDeclaration);
+    var ontologyFactory = new StreamingOntologyFactory(documentSource.getDocumentIRI(),
+        documentHandler::addAxiom, documentHandler::addOntologyAnnotation);
+    var ontologyManager = OWLManager.createOWLOntologyManager();
+    ontologyManager.getOntologyFactories().set(ontologyFactory);
+    try {
+      ontologyManager.loadOntologyFromOntologyDocument(documentSource);
+    } catch (OWLOntologyCreationException e) {
+      throw new IOException("Unable to parse " + inputFile, e);
+    }
+    csvExporter.export(ontologyFactory.getOntologyID());
+    csvExporter.flush();
+
+    System.out.printf("Time: %,dms\n", sw.elapsed().toMillis());
+    System.out.printf("Axioms: %,d\n", ontologyFactory.getStreamedAxiomCount());
+
+    csvExporter.printReport();
+  }
+
+  public void close() throws IOException {
+    csvExporter.close();
+  }
+
+  /* Exports the axioms and the ontology annotations as they are parsed */
+  private class DocumentHandler {
+
+    private final boolean isTrackingDeclaration;
+
+    private final Set<OWLDeclarationAxiom> declarationCache = Sets.newHashSet();
+
+    DocumentHandler(boolean isTrackingDeclaration) {
+      this.isTrackingDeclaration = isTrackingDeclaration;
+    }
+
+    void addAxiom(OWLAxiom axiom) {
+      if (isTrackingDeclaration && axiom instanceof OWLDeclarationAxiom) {
+        if (!declarationCache.add((OWLDeclarationAxiom) axiom)) {
+          return;
+        }
+      }
+      try {
+        csvExporter.export(axiom);
+      } catch (IOException e) {
+        throw new RuntimeException(e);
+      }
+    }
+
+    void addOntologyAnnotation(OWLAnnotation annotation) {
+      try {
+        csvExporter.export(annotation);
+      } catch (IOException e) {
+        throw new RuntimeException(e);
+      }
+    }
+  }
+}
@@ -1,17 +1,23 @@
 package edu.stanford.owl2lpg.exporter.csv;
 
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
 import edu.stanford.owl2lpg.exporter.csv.internal.ProjectTranslator;
 import edu.stanford.owl2lpg.exporter.csv.writer.Neo4jCsvWriter;
 import edu.stanford.owl2lpg.model.AugmentedEdgeFactory;
 import edu.stanford.owl2lpg.model.Node;
 import edu.stanford.owl2lpg.model.NodeId;
+import edu.stanford.owl2lpg.model.NodeIdMapper;
 import edu.stanford.owl2lpg.model.StructuralEdgeFactory;
 import edu.stanford.owl2lpg.model.Translation;
+import edu.stanford.owl2lpg.translator.AnnotationObjectTranslator;
 import edu.stanford.owl2lpg.translator.AxiomTranslator;
+import edu.stanford.owl2lpg.translator.TranslationCache;
 import edu.stanford.owl2lpg.translator.shared.BranchId;
 import edu.stanford.owl2lpg.translator.shared.OntologyDocumentId;
 import edu.stanford.owl2lpg.translator.shared.ProjectId;
+import org.semanticweb.owlapi.model.OWLAnnotation;
 import org.semanticweb.owlapi.model.OWLAxiom;
+import org.semanticweb.owlapi.model.OWLOntologyID;
 
 import javax.annotation.Nonnull;
 import javax.inject.Inject;
@@ -31,6 +37,9 @@ public class PerAxiomCsvExporter {
   @Nonnull
   private final ProjectTranslator projectTranslator;
 
+  @Nonnull
+  private final AnnotationObjectTranslator annotationTranslator;
+
   @Nonnull
   private final AxiomTranslator axiomTranslator;
 
@@ -43,19 +52,31 @@ public class PerAxiomCsvExporter {
   @Nonnull
   private final Neo4jCsvWriter csvWriter;
 
+  @Nonnull
+  private final TranslationCache translationCache;
+
+  @Nonnull
+  private final NodeIdMapper nodeIdMapper;
+
   private Node documentNode = Node.create(NodeId.create(UUID.randomUUID().toString()), ONTOLOGY_DOCUMENT);
 
   @Inject
   public PerAxiomCsvExporter(@Nonnull ProjectTranslator projectTranslator,
+                             @Nonnull AnnotationObjectTranslator annotationTranslator,
                              @Nonnull AxiomTranslator axiomTranslator,
                              @Nonnull StructuralEdgeFactory structuralEdgeFactory,
                              @Nonnull AugmentedEdgeFactory augmentedEdgeFactory,
-                             @Nonnull Neo4jCsvWriter csvWriter) {
+                             @Nonnull Neo4jCsvWriter csvWriter,
+                             @Nonnull TranslationCache translationCache,
+                             @Nonnull NodeIdMapper nodeIdMapper) {
     this.projectTranslator = checkNotNull(projectTranslator);
+    this.annotationTranslator = checkNotNull(annotationTranslator);
     this.axiomTranslator = checkNotNull(axiomTranslator);
     this.structuralEdgeFactory = checkNotNull(structuralEdgeFactory);
     this.augmentedEdgeFactory = checkNotNull(augmentedEdgeFactory);
     this.csvWriter = checkNotNull(csvWriter);
+    this.translationCache = checkNotNull(translationCache);
+    this.nodeIdMapper = checkNotNull(nodeIdMapper);
   }
 
   public void export(@Nonnull ProjectId projectId,
@@ -66,17 +87,47 @@ public class PerAxiomCsvExporter {
     documentNode = projectTranslation.nodes(ONTOLOGY_DOCUMENT).findFirst().get();
   }
 
+  /**
+   * Writes the ontology IRI and version IRI of the exported document, for
+   * when the ontology ID is not yet known at the time of {@link #export(ProjectId, BranchId, OntologyDocumentId)}.
+   */
+  public void export(@Nonnull OWLOntologyID ontologyId) throws IOException {
+    var ontologyIdTranslation = projectTranslator.translate(ontologyId, documentNode);
+    writeTranslation(ontologyIdTranslation);
+  }
+
   private void writeTranslation(Translation translation) {
     csvWriter.writeTranslation(translation);
   }
 
   public void export(@Nonnull OWLAxiom axiom) throws IOException {
-    var axiomTranslation = axiomTranslator.translate(axiom);
+    var axiomTranslation = axiomTranslator.translate(axiom, csvWriter);
+    writeAxiomEdge(axiomTranslation);
+    writeInOntologySignatureEdge(axiomTranslation);
+  }
+
+  /**
+   * Writes an axiom translation that has been produced elsewhere, e.g., by
+   * a translator on another thread that shares the node identifier mapper.
+   */
+  public void export(@Nonnull Translation axiomTranslation) throws IOException {
     writeTranslation(axiomTranslation);
     writeAxiomEdge(axiomTranslation);
     writeInOntologySignatureEdge(axiomTranslation);
   }
 
+  public void export(@Nonnull OWLAnnotation ontologyAnnotation) throws IOException {
+    var annotationTranslation = annotationTranslator.translate(ontologyAnnotation);
+    writeTranslation(annotationTranslation);
+    writeOntologyAnnotationEdge(annotationTranslation);
+  }
+
+  private void writeOntologyAnnotationEdge(Translation annotationTranslation) {
+    var annotationNode = annotationTranslation.getMainNode();
+    var ontologyAnnotationEdge = structuralEdgeFactory.getOntologyAnnotationEdge(documentNode, annotationNode);
+    csvWriter.writeEdge(ontologyAnnotationEdge);
+  }
+
   private void writeAxiomEdge(Translation axiomTranslation) {
     var axiomNode = axiomTranslation.getMainNode();
     var axiomEdge = structuralEdgeFactory.getAxiomEdge(documentNode, axiomNode);
@@ -84,17 +135,33 @@ public class PerAxiomCsvExporter {
   }
 
   private void writeInOntologySignatureEdge(Translation axiomTranslation) {
-    var entityNodes = axiomTranslation.nodes(ENTITY);
-    entityNodes.forEach(entityNode ->
-        augmentedEdgeFactory.getInOntologySignatureEdge(entityNode, documentNode)
-            .ifPresent(csvWriter::writeEdge));
+    for (var entityNode : axiomTranslation.getNodes(ENTITY)) {
+      augmentedEdgeFactory.getInOntologySignatureEdge(entityNode, documentNode)
+          .ifPresent(csvWriter::writeEdge);
+    }
   }
 
   public Neo4jCsvWriter getCsvWriter() {
     return csvWriter;
   }
 
+  public void flush() throws IOException {
+    csvWriter.flush();
+  }
+
+  public void close() throws IOException {
+    csvWriter.close();
+  }
+
   public void printReport() {
-    csvWriter.printReport();
+    csvWriter.printReport(translationCache.getStats(), nodeIdMapper.getStats());
+  }
+
+  /**
+   * Prints the report, counting in the translation cache statistics of the
+   * workers that translated the axioms outside of this session.
+   */
+  public void printReport(@Nonnull CacheStats workerCacheStats) {
+    csvWriter.printReport(translationCache.getStats().plus(workerCacheStats), nodeIdMapper.getStats());
   }
 }
@@ -0,0 +1,164 @@
+package edu.stanford.owl2lpg.exporter.csv.internal;
+
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import com.google.common.collect.Iterators;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import edu.stanford.owl2lpg.model.NodeIdMapper;
+import edu.stanford.owl2lpg.model.SharedNodeIdMapperModule;
+import edu.stanford.owl2lpg.model.Translation;
+import edu.stanford.owl2lpg.translator.AxiomTranslator;
+import edu.stanford.owl2lpg.translator.DaggerWorkerTranslatorComponent;
+import edu.stanford.owl2lpg.translator.TranslationCache;
+import edu.stanford.owl2lpg.translator.shared.DigestFunctionModule;
+import edu.stanford.owl2lpg.translator.shared.EdgeIdEncoding;
+import edu.stanford.owl2lpg.translator.shared.ExpressionIdFormat;
+import edu.stanford.owl2lpg.translator.shared.HashStrategy;
+import org.semanticweb.owlapi.model.OWLAxiom;
+
+import javax.annotation.Nonnull;
+import java.util.ArrayDeque;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
+
+/**
+ * Translates axioms on a pool of worker threads and hands the translations
+ * to a single consumer on the calling thread. Every worker owns its own
+ * translator graph from a {@link DaggerWorkerTranslatorComponent} while the
+ * node identifiers come from a mapper shared by all workers, hence the given
+ * mapper must be thread-safe.
+ * <p>
+ * The axioms are split into batches and at most two batches per worker are
+ * in flight at any time, which bounds the memory held by the pipeline. The
+ * batches are consumed in submission order.
+ *
+ * @author Josef Hardi <josef.hardi@stanford.edu> <br>
+ * Stanford Center for Biomedical Informatics Research
+ */
+public class AxiomTranslationPipeline implements AutoCloseable {
+
+  private static final int DEFAULT_BATCH_SIZE = 1_000;
+
+  private final int batchSize;
+
+  private final int queueCapacity;
+
+  @Nonnull
+  private final ExecutorService executorService;
+
+  @Nonnull
+  private final ThreadLocal<AxiomTranslator> axiomTranslator;
+
+  @Nonnull
+  private final List<TranslationCache> translationCaches = new CopyOnWriteArrayList<>();
+
+  public AxiomTranslationPipeline(@Nonnull NodeIdMapper sharedNodeIdMapper,
+                                  @Nonnull HashStrategy hashStrategy,
+                                  @Nonnull EdgeIdEncoding edgeIdEncoding,
+                                  @Nonnull ExpressionIdFormat expressionIdFormat,
+                                  int threadCount) {
+    this(sharedNodeIdMapper, hashStrategy, edgeIdEncoding, expressionIdFormat, threadCount, DEFAULT_BATCH_SIZE);
+  }
+
+  /**
+   * @param sharedNodeIdMapper the thread-safe node identifier mapper
+   * @param hashStrategy       the hash strategy of the session that owns the
+   *                           mapper, used by the workers to compute the edge
+   *                           identifiers and the axiom digests
+   * @param edgeIdEncoding     the edge identifier encoding of the session
+   * @param expressionIdFormat the anonymous expression identifier format of
+   *                           the session, which must match the format of the
+   *                           mapper
+   * @param threadCount        the number of worker threads
+   * @param batchSize          the number of axioms translated per task
+   */
+  public AxiomTranslationPipeline(@Nonnull NodeIdMapper sharedNodeIdMapper,
+                                  @Nonnull HashStrategy hashStrategy,
+                                  @Nonnull EdgeIdEncoding edgeIdEncoding,
+                                  @Nonnull ExpressionIdFormat expressionIdFormat,
+                                  int threadCount,
+                                  int batchSize) {
+    checkNotNull(sharedNodeIdMapper);
+    checkNotNull(hashStrategy);
+    checkNotNull(edgeIdEncoding);
+    checkNotNull(expressionIdFormat);
+    checkArgument(threadCount > 0, "Thread count must be positive");
+    checkArgument(batchSize > 0, "Batch size must be positive");
+    this.batchSize = batchSize;
+    this.queueCapacity = threadCount * 2;
+    this.executorService = Executors.newFixedThreadPool(threadCount,
+        new ThreadFactoryBuilder()
+            .setNameFormat("axiom-translator-%d")
+            .setDaemon(true)
+            .build());
+    this.axiomTranslator = ThreadLocal.withInitial(() -> {
+      var component = DaggerWorkerTranslatorComponent.builder()
+          .sharedNodeIdMapperModule(new SharedNodeIdMapperModule(sharedNodeIdMapper))
+          .digestFunctionModule(new DigestFunctionModule(hashStrategy, edgeIdEncoding, expressionIdFormat))
+          .build();
+      translationCaches.add(component.getTranslationCache());
+      return component.getAxiomTranslator();
+    });
+  }
+
+  public void translate(@Nonnull Collection<OWLAxiom> axioms,
+                        @Nonnull Consumer<Translation> translationConsumer) {
+    var batches = Iterators.partition(axioms.iterator(), batchSize);
+    var inFlight = new ArrayDeque<Future<List<Translation>>>(queueCapacity);
+    try {
+      while (batches.hasNext() || !inFlight.isEmpty()) {
+        while (batches.hasNext() && inFlight.size() < queueCapacity) {
+          var batch = batches.next();
+          inFlight.add(executorService.submit(() -> translateBatch(batch)));
+        }
+        takeResult(inFlight.poll()).forEach(translationConsumer);
+      }
+    } finally {
+      inFlight.forEach(future -> future.cancel(true));
+    }
+  }
+
+  @Nonnull
+  private List<Translation> translateBatch(@Nonnull List<OWLAxiom> batch) {
+    var translator = axiomTranslator.get();
+    return batch.stream()
+        .map(translator::translate)
+        .collect(Collectors.toList());
+  }
+
+  @Nonnull
+  private static List<Translation> takeResult(@Nonnull Future<List<Translation>> future) {
+    try {
+      return future.get();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new RuntimeException("Interrupted while waiting for the axiom translations", e);
+    } catch (ExecutionException e) {
+      throw new RuntimeException("Failed to translate the axioms", e.getCause());
+    }
+  }
+
+  /**
+   * Returns the translation cache statistics summed over all the workers.
+   */
+  @Nonnull
+  public CacheStats getTranslationCacheStats() {
+    return translationCaches.stream()
+        .map(TranslationCache::getStats)
+        .reduce(CacheStats.empty(), CacheStats::plus);
+  }
+
+  @Override
+  public void close() {
+    executorService.shutdownNow();
+  }
+}
@@ -0,0 +1,306 @@
+package edu.stanford.owl2lpg.exporter.csv.internal;
+
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import edu.stanford.owl2lpg.model.NodeIdMapper;
+import edu.stanford.owl2lpg.model.SharedNodeIdMapperModule;
+import edu.stanford.owl2lpg.model.Translation;
+import edu.stanford.owl2lpg.translator.DaggerWorkerTranslatorComponent;
+import edu.stanford.owl2lpg.translator.TranslationCache;
+import edu.stanford.owl2lpg.translator.shared.DigestFunctionModule;
+import edu.stanford.owl2lpg.translator.shared.EdgeIdEncoding;
+import edu.stanford.owl2lpg.translator.shared.ExpressionIdFormat;
+import edu.stanford.owl2lpg.translator.shared.HashStrategy;
+import org.obolibrary.oboformat.model.Frame;
+import org.semanticweb.owlapi.model.OWLAxiom;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
+
+/**
+ * Translates OBO frames in three stages. The parser thread submits the
+ * frames into a bounded queue, a pool of workers converts each frame into
+ * OWL axioms and translates them, and a single writer thread hands the
+ * translations to the consumer. The queues between the stages are bounded,
+ * so a slow stage holds back the stages before it.
+ * <p>
+ * Every worker owns its own frame converter and its own translator graph
+ * from a {@link DaggerWorkerTranslatorComponent}, while the node identifiers
+ * come from a mapper shared by all workers, hence the given mapper must be
+ * thread-safe. The consumer is only called from the writer thread.
+ *
+ * @author Josef Hardi <josef.hardi@stanford.edu> <br>
+ * Stanford Center for Biomedical Informatics Research
+ */
+public class FrameTranslationPipeline implements AutoCloseable {
+
+  private static final int FRAMES_PER_WORKER = 256;
+
+  private static final int RESULTS_PER_WORKER = 64;
+
+  private static final long POLL_TIMEOUT_MILLIS = 100;
+
+  private static final Frame END_OF_FRAMES = new Frame();
+
+  private static final List<Translation> END_OF_RESULTS = new ArrayList<>();
+
+  @Nonnull
+  private final BlockingQueue<Frame> frameQueue;
+
+  @Nonnull
+  private final BlockingQueue<List<Translation>> resultQueue;
+
+  @Nonnull
+  private final List<Thread> workerThreads = new ArrayList<>();
+
+  @Nonnull
+  private final Thread writerThread;
+
+  @Nonnull
+  private final List<TranslationCache> translationCaches = new CopyOnWriteArrayList<>();
+
+  private final AtomicLong submittedFrameCount = new AtomicLong();
+
+  private final AtomicLong translatedFrameCount = new AtomicLong();
+
+  private final AtomicLong translatedAxiomCount = new AtomicLong();
+
+  private final AtomicLong writtenAxiomCount = new AtomicLong();
+
+  @Nullable
+  private volatile Throwable failure;
+
+  private boolean finished = false;
+
+  /**
+   * @param sharedNodeIdMapper    the thread-safe node identifier mapper
+   * @param hashStrategy          the hash strategy of the session that owns
+   *                              the mapper
+   * @param edgeIdEncoding        the edge identifier encoding of the session
+   * @param expressionIdFormat    the anonymous expression identifier format
+   *                              of the session, which must match the format
+   *                              of the mapper
+   * @param threadCount           the number of worker threads
+   * @param frameConverterFactory creates a frame converter for each worker,
+   *                              which returns the OWL axioms of a frame
+   * @param translationConsumer   receives the axiom translations on the
+   *                              writer thread
+   */
+  public FrameTranslationPipeline(@Nonnull NodeIdMapper sharedNodeIdMapper,
+                                  @Nonnull HashStrategy hashStrategy,
+                                  @Nonnull EdgeIdEncoding edgeIdEncoding,
+                                  @Nonnull ExpressionIdFormat expressionIdFormat,
+                                  int threadCount,
+                                  @Nonnull Supplier<Function<Frame, Collection<OWLAxiom>>> frameConverterFactory,
+                                  @Nonnull Consumer<Translation> translationConsumer) {
+    checkNotNull(sharedNodeIdMapper);
+    checkNotNull(hashStrategy);
+    checkNotNull(edgeIdEncoding);
+    checkNotNull(expressionIdFormat);
+    checkArgument(threadCount > 0, "Thread count must be positive");
+    checkNotNull(frameConverterFactory);
+    checkNotNull(translationConsumer);
+    this.frameQueue = new ArrayBlockingQueue<>(threadCount * FRAMES_PER_WORKER);
+    this.resultQueue = new ArrayBlockingQueue<>(threadCount * RESULTS_PER_WORKER);
+    var workerThreadFactory = new ThreadFactoryBuilder()
+        .setNameFormat("frame-translator-%d")
+        .setDaemon(true)
+        .build();
+    for (int i = 0; i < threadCount; i++) {
+      var workerThread = workerThreadFactory.newThread(() ->
+          runWorker(sharedNodeIdMapper, new DigestFunctionModule(hashStrategy, edgeIdEncoding, expressionIdFormat),
+              frameConverterFactory.get()));
+      workerThreads.add(workerThread);
+      workerThread.start();
+    }
+    this.writerThread = new ThreadFactoryBuilder()
+        .setNameFormat("frame-writer")
+        .setDaemon(true)
+        .build()
+        .newThread(() -> runWriter(translationConsumer));
+    writerThread.start();
+  }
+
+  /**
+   * Submits the given frame for translation, waiting while the frame queue
+   * is full.
+   */
+  public void submit(@Nonnull Frame frame) {
+    checkNotNull(frame);
+    put(frameQueue, frame);
+    submittedFrameCount.incrementAndGet();
+  }
+
+  /**
+   * Waits until all the submitted frames have been translated and written.
+   */
+  public void finish() {
+    if (finished) {
+      return;
+    }
+    finished = true;
+    for (int i = 0; i < workerThreads.size(); i++) {
+      put(frameQueue, END_OF_FRAMES);
+    }
+    workerThreads.forEach(FrameTranslationPipeline::join);
+    put(resultQueue, END_OF_RESULTS);
+    join(writerThread);
+    checkFailure();
+  }
+
+  private void runWorker(NodeIdMapper sharedNodeIdMapper,
+                         DigestFunctionModule digestFunctionModule,
+                         Function<Frame, Collection<OWLAxiom>> frameConverter) {
+    try {
+      var component = DaggerWorkerTranslatorComponent.builder()
+          .sharedNodeIdMapperModule(new SharedNodeIdMapperModule(sharedNodeIdMapper))
+          .digestFunctionModule(digestFunctionModule)
+          .build();
+      translationCaches.add(component.getTranslationCache());
+      var axiomTranslator = component.getAxiomTranslator();
+      while (true) {
+        var frame = take(frameQueue);
+        if (frame == END_OF_FRAMES) {
+          return;
+        }
+        var axioms = frameConverter.apply(frame);
+        var translations = new ArrayList<Translation>(axioms.size());
+        for (var axiom : axioms) {
+          translations.add(axiomTranslator.translate(axiom));
+        }
+        translatedFrameCount.incrementAndGet();
+        translatedAxiomCount.addAndGet(translations.size());
+        if (!translations.isEmpty()) {
+          put(resultQueue, translations);
+        }
+      }
+    } catch (Throwable t) {
+      fail(t);
+    }
+  }
+
+  private void runWriter(Consumer<Translation> translationConsumer) {
+    try {
+      while (true) {
+        var translations = take(resultQueue);
+        if (translations == END_OF_RESULTS) {
+          return;
+        }
+        for (var translation : translations) {
+          translationConsumer.accept(translation);
+          writtenAxiomCount.incrementAndGet();
+        }
+      }
+    } catch (Throwable t) {
+      fail(t);
+    }
+  }
+
+  private <E> void put(BlockingQueue<E> queue, E element) {
+    try {
+      while (!queue.offer(element, POLL_TIMEOUT_MILLIS, TimeUnit.MILLISECONDS)) {
+        checkFailure();
+      }
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new RuntimeException("Interrupted while waiting for the frame translation", e);
+    }
+  }
+
+  private <E> E take(BlockingQueue<E> queue) throws InterruptedException {
+    while (true) {
+      var element = queue.poll(POLL_TIMEOUT_MILLIS, TimeUnit.MILLISECONDS);
+      if (element != null) {
+        return element;
+      }
+      checkFailure();
+    }
+  }
+
+  private void fail(Throwable t) {
+    if (failure == null) {
+      failure = t;
+    }
+  }
+
+  private void checkFailure() {
+    var t = failure;
+    if (t != null) {
+      throw new RuntimeException("Failed to translate the frames", t);
+    }
+  }
+
+  private static void join(Thread thread) {
+    try {
+      thread.join();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new RuntimeException("Interrupted while waiting for the frame translation", e);
+    }
+  }
+
+  public long getSubmittedFrameCount() {
+    return submittedFrameCount.get();
+  }
+
+  public long getTranslatedFrameCount() {
+    return translatedFrameCount.get();
+  }
+
+  public long getTranslatedAxiomCount() {
+    return translatedAxiomCount.get();
+  }
+
+  public long getWrittenAxiomCount() {
+    return writtenAxiomCount.get();
+  }
+
+  public int getQueuedFrameCount() {
+    return frameQueue.size();
+  }
+
+  public int getFrameQueueCapacity() {
+    return frameQueue.size() + frameQueue.remainingCapacity();
+  }
+
+  public int getQueuedResultCount() {
+    return resultQueue.size();
+  }
+
+  public int getResultQueueCapacity() {
+    return resultQueue.size() + resultQueue.remainingCapacity();
+  }
+
+  /**
+   * Returns the translation cache statistics summed over all the workers.
+   */
+  @Nonnull
+  public CacheStats getTranslationCacheStats() {
+    return translationCaches.stream()
+        .map(TranslationCache::getStats)
+        .reduce(CacheStats.empty(), CacheStats::plus);
+  }
+
+  @Override
+  public void close() {
+    if (!finished) {
+      fail(new IllegalStateException("The pipeline was closed before it finished"));
+      workerThreads.forEach(Thread::interrupt);
+      writerThread.interrupt();
+    }
+  }
+}
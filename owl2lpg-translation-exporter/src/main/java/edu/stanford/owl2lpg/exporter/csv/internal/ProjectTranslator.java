@@ -63,14 +63,7 @@ public class ProjectTranslator {
 
     var ontologyIdEdge = new ImmutableList.Builder<Edge>();
     var ontologyIdTranslation = new ImmutableList.Builder<Translation>();
-    var ontologyIri = ontologyId.getOntologyIRI();
-    if (ontologyIri.isPresent()) {
-      createOntologyIriTranslationAndEdge(ontologyIri.get(), documentNode, ontologyIdTranslation, ontologyIdEdge);
-    }
-    var versionIri = ontologyId.getVersionIRI();
-    if (versionIri.isPresent()) {
-      createVersionIriTranslationAndEdge(versionIri.get(), documentNode, ontologyIdTranslation, ontologyIdEdge);
-    }
+    createOntologyIdTranslationAndEdge(ontologyId, documentNode, ontologyIdTranslation, ontologyIdEdge);
 
     return Translation.create(projectId,
         projectNode,
@@ -84,6 +77,23 @@ public class ProjectTranslator {
                 ontologyIdTranslation.build())))));
   }
 
+  /**
+   * Translates the ontology IRI and version IRI of a document whose node has
+   * already been written, e.g., when the ontology ID is only known after the
+   * document has been parsed.
+   */
+  @Nonnull
+  public Translation translate(@Nonnull OWLOntologyID ontologyId,
+                               @Nonnull Node documentNode) {
+    var ontologyIdEdge = new ImmutableList.Builder<Edge>();
+    var ontologyIdTranslation = new ImmutableList.Builder<Translation>();
+    createOntologyIdTranslationAndEdge(ontologyId, documentNode, ontologyIdTranslation, ontologyIdEdge);
+    return Translation.create(ontologyId,
+        documentNode,
+        ontologyIdEdge.build(),
+        ontologyIdTranslation.build());
+  }
+
   @Nonnull
   private Node createProjectNode(ProjectId projectId) {
     return nodeFactory.createNode(projectId, PROJECT,
@@ -102,6 +112,19 @@ public class ProjectTranslator {
         Properties.of(ONTOLOGY_DOCUMENT_ID, documentId.getIdentifier()));
   }
 
+  private void createOntologyIdTranslationAndEdge(OWLOntologyID ontologyId, Node documentNode,
+                                                  ImmutableList.Builder<Translation> ontologyIdTranslation,
+                                                  ImmutableList.Builder<Edge> ontologyIdEdge) {
+    var ontologyIri = ontologyId.getOntologyIRI();
+    if (ontologyIri.isPresent()) {
+      createOntologyIriTranslationAndEdge(ontologyIri.get(), documentNode, ontologyIdTranslation, ontologyIdEdge);
+    }
+    var versionIri = ontologyId.getVersionIRI();
+    if (versionIri.isPresent()) {
+      createVersionIriTranslationAndEdge(versionIri.get(), documentNode, ontologyIdTranslation, ontologyIdEdge);
+    }
+  }
+
   private void createOntologyIriTranslationAndEdge(IRI ontologyIri, Node documentNode,
                                                    ImmutableList.Builder<Translation> ontologyIdTranslation,
                                                    ImmutableList.Builder<Edge> ontologyIdEdge) {
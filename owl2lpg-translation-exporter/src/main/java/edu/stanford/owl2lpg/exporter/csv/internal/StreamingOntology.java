@@ -0,0 +1,97 @@
+package edu.stanford.owl2lpg.exporter.csv.internal;
+
+import org.semanticweb.owlapi.model.AddOntologyAnnotation;
+import org.semanticweb.owlapi.model.ChangeDetails;
+import org.semanticweb.owlapi.model.OWLAnnotation;
+import org.semanticweb.owlapi.model.OWLAxiom;
+import org.semanticweb.owlapi.model.OWLOntologyChange;
+import org.semanticweb.owlapi.model.OWLOntologyID;
+import org.semanticweb.owlapi.model.OWLOntologyManager;
+import org.semanticweb.owlapi.model.parameters.ChangeApplied;
+import uk.ac.manchester.cs.owl.owlapi.OWLOntologyImpl;
+
+import javax.annotation.Nonnull;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+
+/**
+ * An ontology that hands every added axiom and ontology annotation to a
+ * consumer instead of storing it. The parsers fill the ontology through the
+ * usual change API, so the axioms can be exported while the document is
+ * being read without holding the axiom index in memory. The other changes,
+ * such as the ontology ID and the import declarations, are applied as usual.
+ * <p>
+ * Since the axioms are not stored, the ontology always appears empty to its
+ * readers, except that {@link #isEmpty()} reports whether any axiom has been
+ * streamed so that a failed parse attempt is not silently retried on it.
+ *
+ * @author Josef Hardi <josef.hardi@stanford.edu> <br>
+ * Stanford Center for Biomedical Informatics Research
+ */
+public class StreamingOntology extends OWLOntologyImpl {
+
+  private static final long serialVersionUID = 1L;
+
+  @Nonnull
+  private final transient Consumer<OWLAxiom> axiomConsumer;
+
+  @Nonnull
+  private final transient Consumer<OWLAnnotation> annotationConsumer;
+
+  private long streamedAxiomCount = 0;
+
+  public StreamingOntology(@Nonnull OWLOntologyManager manager,
+                           @Nonnull OWLOntologyID ontologyID,
+                           @Nonnull Consumer<OWLAxiom> axiomConsumer,
+                           @Nonnull Consumer<OWLAnnotation> annotationConsumer) {
+    super(manager, ontologyID);
+    this.axiomConsumer = checkNotNull(axiomConsumer);
+    this.annotationConsumer = checkNotNull(annotationConsumer);
+  }
+
+  @Override
+  public ChangeApplied applyChange(@Nonnull OWLOntologyChange change) {
+    if (change.isAddAxiom()) {
+      axiomConsumer.accept(change.getAxiom());
+      streamedAxiomCount++;
+      return ChangeApplied.SUCCESSFULLY;
+    } else if (change instanceof AddOntologyAnnotation) {
+      annotationConsumer.accept(((AddOntologyAnnotation) change).getAnnotation());
+      return ChangeApplied.SUCCESSFULLY;
+    }
+    return super.applyChange(change);
+  }
+
+  @Override
+  public ChangeApplied applyChanges(@Nonnull List<? extends OWLOntologyChange> changes) {
+    return applyChangesAndGetDetails(changes).getChangeEffect();
+  }
+
+  @Override
+  public ChangeDetails applyChangesAndGetDetails(@Nonnull List<? extends OWLOntologyChange> changes) {
+    var enactedChanges = new ArrayList<OWLOntologyChange>();
+    var changeEffect = ChangeApplied.NO_OPERATION;
+    for (var change : changes) {
+      var result = applyChange(change);
+      if (result == ChangeApplied.SUCCESSFULLY) {
+        enactedChanges.add(change);
+        changeEffect = ChangeApplied.SUCCESSFULLY;
+      } else if (result == ChangeApplied.UNSUCCESSFULLY) {
+        return new ChangeDetails(ChangeApplied.UNSUCCESSFULLY, enactedChanges);
+      }
+    }
+    return new ChangeDetails(changeEffect, enactedChanges);
+  }
+
+  @Override
+  public boolean isEmpty() {
+    return streamedAxiomCount == 0 && super.isEmpty();
+  }
+
+  public long getStreamedAxiomCount() {
+    return streamedAxiomCount;
+  }
+}
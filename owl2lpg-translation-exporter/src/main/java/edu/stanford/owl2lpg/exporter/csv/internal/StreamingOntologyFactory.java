@@ -0,0 +1,130 @@
+package edu.stanford.owl2lpg.exporter.csv.internal;
+
+import org.semanticweb.owlapi.io.OWLOntologyDocumentSource;
+import org.semanticweb.owlapi.model.IRI;
+import org.semanticweb.owlapi.model.OWLAnnotation;
+import org.semanticweb.owlapi.model.OWLAxiom;
+import org.semanticweb.owlapi.model.OWLOntology;
+import org.semanticweb.owlapi.model.OWLOntologyBuilder;
+import org.semanticweb.owlapi.model.OWLOntologyCreationException;
+import org.semanticweb.owlapi.model.OWLOntologyID;
+import org.semanticweb.owlapi.model.OWLOntologyLoaderConfiguration;
+import org.semanticweb.owlapi.model.OWLOntologyManager;
+import uk.ac.manchester.cs.owl.owlapi.OWLOntologyFactoryImpl;
+import uk.ac.manchester.cs.owl.owlapi.OWLOntologyImpl;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import java.util.function.Consumer;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+
+/**
+ * An ontology factory that loads the given root document into a
+ * {@link StreamingOntology}, while the documents reached through the import
+ * declarations are loaded into ordinary in-memory ontologies so that the
+ * parsers can still look up the declarations of the imported entities.
+ * <p>
+ * The axioms of the root document are passed on as soon as they are parsed,
+ * hence they cannot be taken back if the parser fails halfway through the
+ * document. Instead of letting the manager retry the document with another
+ * parser, which would export the axioms twice, the load fails.
+ *
+ * @author Josef Hardi <josef.hardi@stanford.edu> <br>
+ * Stanford Center for Biomedical Informatics Research
+ */
+public class StreamingOntologyFactory extends OWLOntologyFactoryImpl {
+
+  private static final long serialVersionUID = 1L;
+
+  @Nonnull
+  private final IRI rootDocumentIri;
+
+  @Nonnull
+  private final StreamingOntologyBuilder ontologyBuilder;
+
+  public StreamingOntologyFactory(@Nonnull IRI rootDocumentIri,
+                                  @Nonnull Consumer<OWLAxiom> axiomConsumer,
+                                  @Nonnull Consumer<OWLAnnotation> annotationConsumer) {
+    this(rootDocumentIri, new StreamingOntologyBuilder(axiomConsumer, annotationConsumer));
+  }
+
+  private StreamingOntologyFactory(@Nonnull IRI rootDocumentIri,
+                                   @Nonnull StreamingOntologyBuilder ontologyBuilder) {
+    super(ontologyBuilder);
+    this.rootDocumentIri = checkNotNull(rootDocumentIri);
+    this.ontologyBuilder = ontologyBuilder;
+  }
+
+  @Override
+  public OWLOntology loadOWLOntology(@Nonnull OWLOntologyManager manager,
+                                     @Nonnull OWLOntologyDocumentSource documentSource,
+                                     @Nonnull OWLOntologyCreationHandler handler,
+                                     @Nonnull OWLOntologyLoaderConfiguration configuration)
+      throws OWLOntologyCreationException {
+    var wasStreaming = ontologyBuilder.streaming;
+    ontologyBuilder.streaming = rootDocumentIri.equals(documentSource.getDocumentIRI());
+    try {
+      return super.loadOWLOntology(manager, documentSource, handler, configuration);
+    } finally {
+      ontologyBuilder.streaming = wasStreaming;
+    }
+  }
+
+  /**
+   * Returns the ID of the root ontology as far as it has been parsed, which
+   * is the anonymous ID before the root document has been opened.
+   */
+  @Nonnull
+  public OWLOntologyID getOntologyID() {
+    var streamingOntology = ontologyBuilder.streamingOntology;
+    return (streamingOntology != null) ? streamingOntology.getOntologyID() : new OWLOntologyID();
+  }
+
+  /**
+   * Returns the number of axioms streamed from the root document.
+   */
+  public long getStreamedAxiomCount() {
+    var streamingOntology = ontologyBuilder.streamingOntology;
+    return (streamingOntology != null) ? streamingOntology.getStreamedAxiomCount() : 0;
+  }
+
+  /* Creates the streaming ontology for the root document and plain ontologies otherwise */
+  private static class StreamingOntologyBuilder implements OWLOntologyBuilder {
+
+    private static final long serialVersionUID = 1L;
+
+    @Nonnull
+    private final transient Consumer<OWLAxiom> axiomConsumer;
+
+    @Nonnull
+    private final transient Consumer<OWLAnnotation> annotationConsumer;
+
+    private boolean streaming = false;
+
+    @Nullable
+    private StreamingOntology streamingOntology;
+
+    StreamingOntologyBuilder(@Nonnull Consumer<OWLAxiom> axiomConsumer,
+                             @Nonnull Consumer<OWLAnnotation> annotationConsumer) {
+      this.axiomConsumer = checkNotNull(axiomConsumer);
+      this.annotationConsumer = checkNotNull(annotationConsumer);
+    }
+
+    @Nonnull
+    @Override
+    public OWLOntology createOWLOntology(@Nonnull OWLOntologyManager manager,
+                                         @Nonnull OWLOntologyID ontologyID) {
+      if (!streaming) {
+        return new OWLOntologyImpl(manager, ontologyID);
+      }
+      if (streamingOntology != null && streamingOntology.getStreamedAxiomCount() > 0) {
+        throw new IllegalStateException(String.format(
+            "Unable to parse the document again after %,d axioms have already been exported",
+            streamingOntology.getStreamedAxiomCount()));
+      }
+      streamingOntology = new StreamingOntology(manager, ontologyID, axiomConsumer, annotationConsumer);
+      return streamingOntology;
+    }
+  }
+}
@@ -0,0 +1,198 @@
+package edu.stanford.owl2lpg.exporter.csv.writer;
+
+import javax.annotation.Nonnull;
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
+
+/**
+ * An output stream that compresses into a file on a background thread. The
+ * written bytes are collected into chunks that are handed to the compressor
+ * thread through a bounded queue, so the translation only pays for a copy
+ * while the compression runs in parallel. The chunks are recycled, hence
+ * the stream does not allocate once it is running.
+ * <p>
+ * This class is not thread-safe.
+ *
+ * @author Josef Hardi <josef.hardi@stanford.edu> <br>
+ * Stanford Center for Biomedical Informatics Research
+ */
+public class BackgroundCompressionOutputStream extends OutputStream {
+
+  private static final int DEFAULT_CHUNK_SIZE = 1 << 18;
+
+  private static final int QUEUED_CHUNK_COUNT = 4;
+
+  private static final int FILE_BUFFER_SIZE = 1 << 16;
+
+  private static final long POLL_TIMEOUT_MILLIS = 100;
+
+  private static final Chunk END_OF_STREAM = new Chunk(0);
+
+  private final BlockingQueue<Chunk> filledChunks = new ArrayBlockingQueue<>(QUEUED_CHUNK_COUNT);
+
+  private final BlockingQueue<Chunk> freeChunks = new ArrayBlockingQueue<>(QUEUED_CHUNK_COUNT + 2);
+
+  @Nonnull
+  private final Thread compressorThread;
+
+  private Chunk currentChunk;
+
+  private volatile Throwable failure;
+
+  private boolean closed = false;
+
+  public BackgroundCompressionOutputStream(@Nonnull Path outputFile,
+                                           @Nonnull CsvCompression compression) throws IOException {
+    this(outputFile, compression, DEFAULT_CHUNK_SIZE);
+  }
+
+  public BackgroundCompressionOutputStream(@Nonnull Path outputFile,
+                                           @Nonnull CsvCompression compression,
+                                           int chunkSize) throws IOException {
+    checkNotNull(outputFile);
+    checkNotNull(compression);
+    checkArgument(chunkSize > 0, "Chunk size must be positive");
+    var output = compression.wrap(new BufferedOutputStream(Files.newOutputStream(outputFile), FILE_BUFFER_SIZE));
+    for (int i = 0; i < QUEUED_CHUNK_COUNT + 1; i++) {
+      freeChunks.add(new Chunk(chunkSize));
+    }
+    currentChunk = freeChunks.poll();
+    compressorThread = new Thread(() -> compress(output), "csv-compressor-" + outputFile.getFileName());
+    compressorThread.setDaemon(true);
+    compressorThread.start();
+  }
+
+  @Override
+  public void write(int b) throws IOException {
+    if (currentChunk.isFull()) {
+      handOver();
+    }
+    currentChunk.bytes[currentChunk.length++] = (byte) b;
+  }
+
+  @Override
+  public void write(@Nonnull byte[] b, int off, int len) throws IOException {
+    while (len > 0) {
+      if (currentChunk.isFull()) {
+        handOver();
+      }
+      var count = Math.min(len, currentChunk.bytes.length - currentChunk.length);
+      System.arraycopy(b, off, currentChunk.bytes, currentChunk.length, count);
+      currentChunk.length += count;
+      off += count;
+      len -= count;
+    }
+  }
+
+  /**
+   * Hands the pending bytes to the compressor thread. The compressed stream
+   * itself is not flushed, since that would cut the compression blocks short.
+   */
+  @Override
+  public void flush() throws IOException {
+    if (!closed && currentChunk.length > 0) {
+      handOver();
+    }
+  }
+
+  @Override
+  public void close() throws IOException {
+    if (closed) {
+      return;
+    }
+    closed = true;
+    try {
+      if (currentChunk.length > 0) {
+        put(filledChunks, currentChunk);
+      }
+      put(filledChunks, END_OF_STREAM);
+      compressorThread.join();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new InterruptedIOException("Interrupted while waiting for the compressor");
+    }
+    checkFailure();
+  }
+
+  private void handOver() throws IOException {
+    checkFailure();
+    try {
+      put(filledChunks, currentChunk);
+      currentChunk = takeFreeChunk();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new InterruptedIOException("Interrupted while waiting for the compressor");
+    }
+  }
+
+  /*
+   * The queues are polled with a timeout so that the writer does not block
+   * forever on a compressor that has failed.
+   */
+  private void put(@Nonnull BlockingQueue<Chunk> queue, @Nonnull Chunk chunk) throws InterruptedException, IOException {
+    while (!queue.offer(chunk, POLL_TIMEOUT_MILLIS, TimeUnit.MILLISECONDS)) {
+      checkFailure();
+    }
+  }
+
+  @Nonnull
+  private Chunk takeFreeChunk() throws InterruptedException, IOException {
+    var chunk = freeChunks.poll(POLL_TIMEOUT_MILLIS, TimeUnit.MILLISECONDS);
+    while (chunk == null) {
+      checkFailure();
+      chunk = freeChunks.poll(POLL_TIMEOUT_MILLIS, TimeUnit.MILLISECONDS);
+    }
+    return chunk;
+  }
+
+  private void compress(@Nonnull OutputStream output) {
+    try (output) {
+      while (true) {
+        var chunk = filledChunks.take();
+        if (chunk == END_OF_STREAM) {
+          break;
+        }
+        output.write(chunk.bytes, 0, chunk.length);
+        chunk.length = 0;
+        freeChunks.put(chunk);
+      }
+    } catch (IOException | RuntimeException e) {
+      failure = e;
+    } catch (InterruptedException e) {
+      failure = e;
+      Thread.currentThread().interrupt();
+    }
+  }
+
+  private void checkFailure() throws IOException {
+    if (failure != null) {
+      throw new IOException("Failed to compress the CSV output", failure);
+    }
+  }
+
+  /* A reusable block of bytes that travels between the writer and the compressor */
+  private static class Chunk {
+
+    private final byte[] bytes;
+
+    private int length = 0;
+
+    Chunk(int size) {
+      this.bytes = new byte[size];
+    }
+
+    boolean isFull() {
+      return length == bytes.length;
+    }
+  }
+}
@@ -0,0 +1,51 @@
+package edu.stanford.owl2lpg.exporter.csv.writer;
+
+import edu.stanford.owl2lpg.model.Edge;
+
+import javax.annotation.Nonnull;
+import java.util.function.Consumer;
+
+/**
+ * A edge tracker that keeps the edge identifiers as primitive long pairs in a
+ * {@link LongPairHashSet}, either on the Java heap or in off-heap memory.
+ *
+ * @author Josef Hardi <josef.hardi@stanford.edu> <br>
+ * Stanford Center for Biomedical Informatics Research
+ */
+public class CompactEdgeTracker implements EdgeTracker {
+
+  private static final int DEFAULT_INITIAL_CAPACITY = 1_000_000;
+
+  @Nonnull
+  private final LongPairHashSet trackedEdges;
+
+  public CompactEdgeTracker(boolean offHeap) {
+    this(DEFAULT_INITIAL_CAPACITY, offHeap);
+  }
+
+  public CompactEdgeTracker(long initialCapacity, boolean offHeap) {
+    this.trackedEdges = new LongPairHashSet(initialCapacity, offHeap);
+  }
+
+  @Override
+  public boolean contains(Edge edge) {
+    return trackedEdges.contains(edge.getEdgeId().getBytes());
+  }
+
+  @Override
+  public void add(Edge edge, Consumer<Edge> callback) {
+    if (trackedEdges.add(edge.getEdgeId().getBytes())) {
+      callback.accept(edge);
+    }
+  }
+
+  @Override
+  public int size() {
+    return (int) Math.min(trackedEdges.size(), Integer.MAX_VALUE);
+  }
+
+  @Override
+  public long getMemoryUsage() {
+    return trackedEdges.getMemoryUsage();
+  }
+}
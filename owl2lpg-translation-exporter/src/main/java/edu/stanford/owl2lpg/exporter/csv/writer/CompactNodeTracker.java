@@ -0,0 +1,51 @@
+package edu.stanford.owl2lpg.exporter.csv.writer;
+
+import edu.stanford.owl2lpg.model.Node;
+
+import javax.annotation.Nonnull;
+import java.util.function.Consumer;
+
+/**
+ * A node tracker that keeps the node identifiers as primitive long pairs in a
+ * {@link LongPairHashSet}, either on the Java heap or in off-heap memory.
+ *
+ * @author Josef Hardi <josef.hardi@stanford.edu> <br>
+ * Stanford Center for Biomedical Informatics Research
+ */
+public class CompactNodeTracker implements NodeTracker {
+
+  private static final int DEFAULT_INITIAL_CAPACITY = 1_000_000;
+
+  @Nonnull
+  private final LongPairHashSet trackedNodes;
+
+  public CompactNodeTracker(boolean offHeap) {
+    this(DEFAULT_INITIAL_CAPACITY, offHeap);
+  }
+
+  public CompactNodeTracker(long initialCapacity, boolean offHeap) {
+    this.trackedNodes = new LongPairHashSet(initialCapacity, offHeap);
+  }
+
+  @Override
+  public boolean contains(Node node) {
+    return trackedNodes.contains(node.getNodeId().getBytes());
+  }
+
+  @Override
+  public void add(Node node, Consumer<Node> callback) {
+    if (trackedNodes.add(node.getNodeId().getBytes())) {
+      callback.accept(node);
+    }
+  }
+
+  @Override
+  public int size() {
+    return (int) Math.min(trackedNodes.size(), Integer.MAX_VALUE);
+  }
+
+  @Override
+  public long getMemoryUsage() {
+    return trackedNodes.getMemoryUsage();
+  }
+}
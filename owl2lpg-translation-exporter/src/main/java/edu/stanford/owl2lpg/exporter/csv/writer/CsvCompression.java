@@ -0,0 +1,52 @@
+package edu.stanford.owl2lpg.exporter.csv.writer;
+
+import javax.annotation.Nonnull;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * The compression codecs of the CSV files. The compressed files keep the
+ * codec extension after {@code .csv}, which {@code neo4j-admin import}
+ * recognizes and decompresses on the fly.
+ *
+ * @author Josef Hardi <josef.hardi@stanford.edu> <br>
+ * Stanford Center for Biomedical Informatics Research
+ */
+public enum CsvCompression {
+
+  NONE(""),
+
+  GZIP(".gz");
+
+  private static final int GZIP_BUFFER_SIZE = 1 << 16;
+
+  @Nonnull
+  private final String fileExtension;
+
+  CsvCompression(@Nonnull String fileExtension) {
+    this.fileExtension = fileExtension;
+  }
+
+  @Nonnull
+  public String getFileExtension() {
+    return fileExtension;
+  }
+
+  public boolean isCompressed() {
+    return this != NONE;
+  }
+
+  /**
+   * Wraps the given file output into a compressing stream of this codec.
+   */
+  @Nonnull
+  public OutputStream wrap(@Nonnull OutputStream output) throws IOException {
+    switch (this) {
+      case GZIP:
+        return new GZIPOutputStream(output, GZIP_BUFFER_SIZE);
+      default:
+        return output;
+    }
+  }
+}
@@ -0,0 +1,17 @@
+package edu.stanford.owl2lpg.exporter.csv.writer;
+
+/**
+ * The encoders that turn the nodes and edges into CSV lines. Both produce
+ * the same bytes.
+ *
+ * @author Josef Hardi <josef.hardi@stanford.edu> <br>
+ * Stanford Center for Biomedical Informatics Research
+ */
+public enum CsvEncoding {
+
+  /* Jackson bean serialization through a CsvMapper */
+  JACKSON,
+
+  /* Hand-written encoders that fill a reusable character buffer */
+  STREAMING
+}
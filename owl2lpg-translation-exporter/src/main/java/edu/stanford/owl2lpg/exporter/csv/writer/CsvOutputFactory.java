@@ -0,0 +1,19 @@
+package edu.stanford.owl2lpg.exporter.csv.writer;
+
+import javax.annotation.Nonnull;
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.file.Path;
+
+/**
+ * Opens the character output of a CSV file.
+ *
+ * @author Josef Hardi <josef.hardi@stanford.edu> <br>
+ * Stanford Center for Biomedical Informatics Research
+ */
+@FunctionalInterface
+public interface CsvOutputFactory {
+
+  @Nonnull
+  Writer open(@Nonnull Path outputFile) throws IOException;
+}
@@ -0,0 +1,59 @@
+package edu.stanford.owl2lpg.exporter.csv.writer;
+
+import com.google.auto.value.AutoValue;
+
+import javax.annotation.Nonnull;
+
+import static com.google.common.base.Preconditions.checkArgument;
+
+/**
+ * The layout of the CSV files in the output directory. Besides the single
+ * {@code nodes.csv} and {@code edges.csv} files, the rows can be sharded
+ * into one file per node label and edge label, or into a fixed number of
+ * hash partitions. The shards are written by their own threads, and their
+ * header lines go to separate header files that are listed, together with
+ * the shards, in a {@code neo4j-admin import} argument file.
+ *
+ * @author Josef Hardi <josef.hardi@stanford.edu> <br>
+ * Stanford Center for Biomedical Informatics Research
+ */
+@AutoValue
+public abstract class CsvOutputLayout {
+
+  public enum Mode {
+    SINGLE_FILE,
+    PER_LABEL,
+    HASH_PARTITIONED
+  }
+
+  @Nonnull
+  public static CsvOutputLayout singleFile() {
+    return new AutoValue_CsvOutputLayout(Mode.SINGLE_FILE, 1);
+  }
+
+  /**
+   * Writes one file per {@link edu.stanford.owl2lpg.translator.vocab.NodeLabels}
+   * and {@link edu.stanford.owl2lpg.translator.vocab.EdgeLabel} value. The
+   * label and type columns are left out from the files, since the import
+   * tool takes them from the argument file.
+   */
+  @Nonnull
+  public static CsvOutputLayout perLabel() {
+    return new AutoValue_CsvOutputLayout(Mode.PER_LABEL, 0);
+  }
+
+  @Nonnull
+  public static CsvOutputLayout hashPartitioned(int shardCount) {
+    checkArgument(shardCount > 0, "Shard count must be positive");
+    return new AutoValue_CsvOutputLayout(Mode.HASH_PARTITIONED, shardCount);
+  }
+
+  @Nonnull
+  public abstract Mode getMode();
+
+  public abstract int getShardCount();
+
+  public boolean isSharded() {
+    return getMode() != Mode.SINGLE_FILE;
+  }
+}
@@ -0,0 +1,23 @@
+package edu.stanford.owl2lpg.exporter.csv.writer;
+
+import javax.annotation.Nonnull;
+import java.io.IOException;
+import java.io.Writer;
+
+/**
+ * Encodes row objects into CSV lines for a {@link CsvWriter}. The header
+ * line is written together with the first row.
+ *
+ * @author Josef Hardi <josef.hardi@stanford.edu> <br>
+ * Stanford Center for Biomedical Informatics Research
+ */
+public interface CsvRowEncoder<T> {
+
+  void encode(@Nonnull T rowObject, @Nonnull Writer output) throws IOException;
+
+  /**
+   * Pushes any characters held by the encoder to the output that was given
+   * to {@link #encode(Object, Writer)}.
+   */
+  void flush() throws IOException;
+}
@@ -0,0 +1,34 @@
+package edu.stanford.owl2lpg.exporter.csv.writer;
+
+import com.google.auto.value.AutoValue;
+
+import javax.annotation.Nonnull;
+import java.util.Optional;
+
+/**
+ * A data file of a sharded CSV output. The shards that carry an import
+ * label are given to the import tool as their own group, where the label is
+ * the node labels or the relationship type of every row in the file.
+ *
+ * @author Josef Hardi <josef.hardi@stanford.edu> <br>
+ * Stanford Center for Biomedical Informatics Research
+ */
+@AutoValue
+public abstract class CsvShard {
+
+  @Nonnull
+  public static CsvShard create(@Nonnull String fileName) {
+    return new AutoValue_CsvShard(fileName, Optional.empty());
+  }
+
+  @Nonnull
+  public static CsvShard create(@Nonnull String fileName, @Nonnull String importLabel) {
+    return new AutoValue_CsvShard(fileName, Optional.of(importLabel));
+  }
+
+  @Nonnull
+  public abstract String getFileName();
+
+  @Nonnull
+  public abstract Optional<String> getImportLabel();
+}
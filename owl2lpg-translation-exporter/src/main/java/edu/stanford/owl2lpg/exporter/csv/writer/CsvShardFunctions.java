@@ -0,0 +1,99 @@
+package edu.stanford.owl2lpg.exporter.csv.writer;
+
+import edu.stanford.owl2lpg.model.Edge;
+import edu.stanford.owl2lpg.model.Node;
+import edu.stanford.owl2lpg.translator.vocab.EdgeLabel;
+import edu.stanford.owl2lpg.translator.vocab.NodeLabels;
+
+import javax.annotation.Nonnull;
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.function.Function;
+
+/**
+ * The functions that assign the nodes and edges to the shards of a
+ * {@link ShardedCsvWriter}.
+ *
+ * @author Josef Hardi <josef.hardi@stanford.edu> <br>
+ * Stanford Center for Biomedical Informatics Research
+ */
+public class CsvShardFunctions {
+
+  private static final String NODES_FILE_PREFIX = "nodes-";
+
+  private static final String EDGES_FILE_PREFIX = "edges-";
+
+  private static final String CSV_FILE_EXTENSION = ".csv";
+
+  private static final String IMPORT_LABEL_SEPARATOR = ":";
+
+  @Nonnull
+  public static Function<Node, CsvShard> nodesByLabel() {
+    return nodesByLabel(CsvCompression.NONE);
+  }
+
+  @Nonnull
+  public static Function<Node, CsvShard> nodesByLabel(@Nonnull CsvCompression compression) {
+    var shards = new EnumMap<NodeLabels, CsvShard>(NodeLabels.class);
+    for (var nodeLabels : NodeLabels.values()) {
+      shards.put(nodeLabels, CsvShard.create(
+          NODES_FILE_PREFIX + nodeLabels.name() + CSV_FILE_EXTENSION + compression.getFileExtension(),
+          String.join(IMPORT_LABEL_SEPARATOR, nodeLabels.asList())));
+    }
+    return node -> shards.get(node.getLabels());
+  }
+
+  @Nonnull
+  public static Function<Node, CsvShard> nodesByHash(int shardCount) {
+    return nodesByHash(shardCount, CsvCompression.NONE);
+  }
+
+  @Nonnull
+  public static Function<Node, CsvShard> nodesByHash(int shardCount, @Nonnull CsvCompression compression) {
+    var shards = createPartitions(NODES_FILE_PREFIX, shardCount, compression);
+    return node -> shards[partitionOf(node.getNodeId().getBytes(), shardCount)];
+  }
+
+  @Nonnull
+  public static Function<Edge, CsvShard> edgesByLabel() {
+    return edgesByLabel(CsvCompression.NONE);
+  }
+
+  @Nonnull
+  public static Function<Edge, CsvShard> edgesByLabel(@Nonnull CsvCompression compression) {
+    var shards = new EnumMap<EdgeLabel, CsvShard>(EdgeLabel.class);
+    for (var edgeLabel : EdgeLabel.values()) {
+      shards.put(edgeLabel, CsvShard.create(
+          EDGES_FILE_PREFIX + edgeLabel.name() + CSV_FILE_EXTENSION + compression.getFileExtension(),
+          edgeLabel.getName()));
+    }
+    return edge -> shards.get(edge.getLabel());
+  }
+
+  @Nonnull
+  public static Function<Edge, CsvShard> edgesByHash(int shardCount) {
+    return edgesByHash(shardCount, CsvCompression.NONE);
+  }
+
+  @Nonnull
+  public static Function<Edge, CsvShard> edgesByHash(int shardCount, @Nonnull CsvCompression compression) {
+    var shards = createPartitions(EDGES_FILE_PREFIX, shardCount, compression);
+    return edge -> shards[partitionOf(edge.getFromNode().getNodeId().getBytes(), shardCount)];
+  }
+
+  @Nonnull
+  private static CsvShard[] createPartitions(@Nonnull String filePrefix,
+                                             int shardCount,
+                                             @Nonnull CsvCompression compression) {
+    var shards = new CsvShard[shardCount];
+    for (int i = 0; i < shardCount; i++) {
+      shards[i] = CsvShard.create(String.format("%spart-%03d%s%s",
+          filePrefix, i, CSV_FILE_EXTENSION, compression.getFileExtension()));
+    }
+    return shards;
+  }
+
+  private static int partitionOf(@Nonnull byte[] bytes, int shardCount) {
+    return Math.floorMod(Arrays.hashCode(bytes), shardCount);
+  }
+}
@@ -1,66 +1,28 @@
 package edu.stanford.owl2lpg.exporter.csv.writer;
 
-import com.fasterxml.jackson.core.JsonGenerator;
-import com.fasterxml.jackson.databind.SequenceWriter;
-import com.fasterxml.jackson.dataformat.csv.CsvGenerator;
-import com.fasterxml.jackson.dataformat.csv.CsvMapper;
-
 import javax.annotation.Nonnull;
-import javax.inject.Inject;
+import java.io.Closeable;
 import java.io.IOException;
-import java.io.Writer;
-
-import static com.google.common.base.Preconditions.checkNotNull;
-
-public class CsvWriter<T> {
-
-  @Nonnull
-  private final Writer output;
-
-  @Nonnull
-  private Neo4jCsvSchema schema;
-
-  @Nonnull
-  private final CsvMapper csvMapper;
-
-  private boolean writtenHeader = false;
-
-  private SequenceWriter objectWriter;
-
-  @Inject
-  public CsvWriter(@Nonnull CsvMapper csvMapper,
-                   @Nonnull Neo4jCsvSchema schema,
-                   @Nonnull Writer output) {
-    this.csvMapper = checkNotNull(csvMapper);
-    this.output = checkNotNull(output);
-    this.schema = checkNotNull(schema);
-  }
-
-  public void write(@Nonnull T rowObject) throws IOException {
-    if (writtenHeader) {
-      writeRow(rowObject);
-    } else {
-      writeFirstRow(rowObject);
-    }
-  }
-
-  private void writeFirstRow(@Nonnull T rowObject) throws IOException {
-    csvMapper.configure(JsonGenerator.Feature.AUTO_CLOSE_TARGET, false);
-    csvMapper.configure(JsonGenerator.Feature.FLUSH_PASSED_TO_STREAM, false);
-    csvMapper.configure(CsvGenerator.Feature.ALWAYS_QUOTE_STRINGS, true);
-    objectWriter = csvMapper.writer(schema.getCsvSchemaWithHeader()).writeValues(output);
-    objectWriter.write(rowObject);
-    objectWriter.flush();
-    objectWriter = csvMapper.writer(schema.getCsvSchema()).writeValues(output);
-    writtenHeader = true;
-  }
-
-  private void writeRow(@Nonnull T rowObject) throws IOException {
-    objectWriter.write(rowObject);
-    objectWriter.flush();
-  }
 
-  public void flush() throws IOException {
-    output.flush();
-  }
+/**
+ * Writes row objects, e.g., the nodes or the edges, as CSV rows.
+ *
+ * @author Josef Hardi <josef.hardi@stanford.edu> <br>
+ * Stanford Center for Biomedical Informatics Research
+ */
+public interface CsvWriter<T> extends Closeable {
+
+  void write(@Nonnull T rowObject) throws IOException;
+
+  /**
+   * Pushes any buffered rows to the output, regardless of the flush policy.
+   */
+  void flush() throws IOException;
+
+  /**
+   * Registers a JVM shutdown hook that closes this writer, so that the
+   * buffered rows still reach the output if the export is interrupted.
+   * The hook is removed when the writer is closed explicitly.
+   */
+  void closeOnShutdown();
 }
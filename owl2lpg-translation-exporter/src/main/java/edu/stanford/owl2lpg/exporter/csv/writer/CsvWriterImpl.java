@@ -0,0 +1,135 @@
+package edu.stanford.owl2lpg.exporter.csv.writer;
+
+import com.fasterxml.jackson.dataformat.csv.CsvMapper;
+
+import javax.annotation.Nonnull;
+import javax.inject.Inject;
+import java.io.FilterWriter;
+import java.io.IOException;
+import java.io.Writer;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+
+/**
+ * Writes the rows with a {@link CsvRowEncoder} to a single output.
+ *
+ * @author Josef Hardi <josef.hardi@stanford.edu> <br>
+ * Stanford Center for Biomedical Informatics Research
+ */
+public class CsvWriterImpl<T> implements CsvWriter<T> {
+
+  @Nonnull
+  private final CountingWriter output;
+
+  @Nonnull
+  private final CsvRowEncoder<T> rowEncoder;
+
+  @Nonnull
+  private final FlushPolicy flushPolicy;
+
+  private boolean closed = false;
+
+  private long rowsSinceFlush = 0;
+
+  @Nonnull
+  private final ShutdownHook shutdownHook = new ShutdownHook(this, "csv-writer-shutdown");
+
+  @Inject
+  public CsvWriterImpl(@Nonnull CsvMapper csvMapper,
+                   @Nonnull Neo4jCsvSchema schema,
+                   @Nonnull Writer output) {
+    this(csvMapper, schema, output, FlushPolicy.everyRow());
+  }
+
+  public CsvWriterImpl(@Nonnull CsvMapper csvMapper,
+                   @Nonnull Neo4jCsvSchema schema,
+                   @Nonnull Writer output,
+                   @Nonnull FlushPolicy flushPolicy) {
+    this(new JacksonCsvRowEncoder<>(csvMapper, schema), output, flushPolicy);
+  }
+
+  public CsvWriterImpl(@Nonnull CsvRowEncoder<T> rowEncoder,
+                   @Nonnull Writer output,
+                   @Nonnull FlushPolicy flushPolicy) {
+    this.rowEncoder = checkNotNull(rowEncoder);
+    this.output = new CountingWriter(checkNotNull(output));
+    this.flushPolicy = checkNotNull(flushPolicy);
+  }
+
+  @Override
+  public synchronized void write(@Nonnull T rowObject) throws IOException {
+    rowEncoder.encode(rowObject, output);
+    rowsSinceFlush++;
+    if (flushPolicy.shouldFlush(rowsSinceFlush, output.getCount())) {
+      flush();
+    }
+  }
+
+  @Override
+  public synchronized void flush() throws IOException {
+    if (closed) {
+      return;
+    }
+    rowEncoder.flush();
+    output.flush();
+    output.resetCount();
+    rowsSinceFlush = 0;
+  }
+
+  @Override
+  public synchronized void closeOnShutdown() {
+    if (!closed) {
+      shutdownHook.register();
+    }
+  }
+
+  @Override
+  public synchronized void close() throws IOException {
+    if (closed) {
+      return;
+    }
+    try {
+      flush();
+      output.close();
+    } finally {
+      closed = true;
+      shutdownHook.remove();
+    }
+  }
+
+  /* A writer decorator that counts the characters written since the last reset */
+  private static class CountingWriter extends FilterWriter {
+
+    private long count = 0;
+
+    CountingWriter(@Nonnull Writer out) {
+      super(out);
+    }
+
+    @Override
+    public void write(int c) throws IOException {
+      out.write(c);
+      count++;
+    }
+
+    @Override
+    public void write(@Nonnull char[] cbuf, int off, int len) throws IOException {
+      out.write(cbuf, off, len);
+      count += len;
+    }
+
+    @Override
+    public void write(@Nonnull String str, int off, int len) throws IOException {
+      out.write(str, off, len);
+      count += len;
+    }
+
+    long getCount() {
+      return count;
+    }
+
+    void resetCount() {
+      count = 0;
+    }
+  }
+}
@@ -6,14 +6,22 @@ import dagger.Provides;
 import edu.stanford.owl2lpg.model.Edge;
 import edu.stanford.owl2lpg.model.Node;
 import edu.stanford.owl2lpg.translator.TranslationSessionScope;
+import edu.stanford.owl2lpg.translator.shared.EdgeIdEncoding;
+import edu.stanford.owl2lpg.translator.shared.ExpressionIdFormat;
+import edu.stanford.owl2lpg.translator.shared.HashStrategy;
 
 import javax.annotation.Nonnull;
 import java.io.BufferedWriter;
-import java.io.File;
 import java.io.FileWriter;
 import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.Charset;
+import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.function.Function;
 
+import static com.google.common.base.Preconditions.checkArgument;
 import static com.google.common.base.Preconditions.checkNotNull;
 
 /**
@@ -23,22 +31,138 @@ import static com.google.common.base.Preconditions.checkNotNull;
 @Module
 public class CsvWriterModule {
 
+  private static final int OUTPUT_BUFFER_SIZE = 1 << 20;
+
+  private static final int SHARD_OUTPUT_BUFFER_SIZE = 1 << 16;
+
   @Nonnull
   private final Path outputPath;
 
+  @Nonnull
+  private final FlushPolicy flushPolicy;
+
+  @Nonnull
+  private final TrackerStrategy trackerStrategy;
+
+  @Nonnull
+  private final CsvEncoding csvEncoding;
+
+  @Nonnull
+  private final CsvOutputLayout outputLayout;
+
+  @Nonnull
+  private final CsvCompression compression;
+
+  private final long trackerExpectedSize;
+
   public CsvWriterModule(@Nonnull Path outputPath) {
+    this(outputPath, FlushPolicy.onClose());
+  }
+
+  public CsvWriterModule(@Nonnull Path outputPath,
+                         @Nonnull FlushPolicy flushPolicy) {
+    this(outputPath, flushPolicy, TrackerStrategy.COMPACT);
+  }
+
+  public CsvWriterModule(@Nonnull Path outputPath,
+                         @Nonnull FlushPolicy flushPolicy,
+                         @Nonnull TrackerStrategy trackerStrategy) {
+    this(outputPath, flushPolicy, trackerStrategy, CsvEncoding.STREAMING);
+  }
+
+  public CsvWriterModule(@Nonnull Path outputPath,
+                         @Nonnull FlushPolicy flushPolicy,
+                         @Nonnull TrackerStrategy trackerStrategy,
+                         @Nonnull CsvEncoding csvEncoding) {
+    this(outputPath, flushPolicy, trackerStrategy, csvEncoding, CsvOutputLayout.singleFile());
+  }
+
+  /**
+   * Creates the module with the given output layout. The sharded layouts
+   * always use the streaming encoders, since their header lines are
+   * written to separate files.
+   */
+  public CsvWriterModule(@Nonnull Path outputPath,
+                         @Nonnull FlushPolicy flushPolicy,
+                         @Nonnull TrackerStrategy trackerStrategy,
+                         @Nonnull CsvEncoding csvEncoding,
+                         @Nonnull CsvOutputLayout outputLayout) {
+    this(outputPath, flushPolicy, trackerStrategy, csvEncoding, outputLayout, CsvCompression.NONE);
+  }
+
+  /**
+   * Creates the module with the given compression of the CSV files. The
+   * compression runs on a background thread per file.
+   */
+  public CsvWriterModule(@Nonnull Path outputPath,
+                         @Nonnull FlushPolicy flushPolicy,
+                         @Nonnull TrackerStrategy trackerStrategy,
+                         @Nonnull CsvEncoding csvEncoding,
+                         @Nonnull CsvOutputLayout outputLayout,
+                         @Nonnull CsvCompression compression) {
+    this(outputPath, flushPolicy, trackerStrategy, csvEncoding, outputLayout, compression,
+        SpillingNodeTracker.DEFAULT_EXPECTED_INSERTIONS);
+  }
+
+  /**
+   * Creates the module with the expected number of nodes, and of edges,
+   * that the {@link TrackerStrategy#SPILLING} trackers size their Bloom
+   * filters for. The other trackers grow as needed and ignore it.
+   */
+  public CsvWriterModule(@Nonnull Path outputPath,
+                         @Nonnull FlushPolicy flushPolicy,
+                         @Nonnull TrackerStrategy trackerStrategy,
+                         @Nonnull CsvEncoding csvEncoding,
+                         @Nonnull CsvOutputLayout outputLayout,
+                         @Nonnull CsvCompression compression,
+                         long trackerExpectedSize) {
+    checkArgument(trackerExpectedSize > 0, "Tracker expected size must be positive");
     this.outputPath = checkNotNull(outputPath);
+    this.flushPolicy = checkNotNull(flushPolicy);
+    this.trackerStrategy = checkNotNull(trackerStrategy);
+    this.csvEncoding = checkNotNull(csvEncoding);
+    this.outputLayout = checkNotNull(outputLayout);
+    this.compression = checkNotNull(compression);
+    this.trackerExpectedSize = trackerExpectedSize;
+  }
+
+  @Provides
+  @TranslationSessionScope
+  public Neo4jImportArguments provideImportArguments() {
+    return new Neo4jImportArguments(outputPath);
+  }
+
+  /**
+   * Provides the metadata file of the export, which records the hash
+   * functions of the digest-based identifiers.
+   */
+  @Provides
+  @TranslationSessionScope
+  public ExportMetadata provideExportMetadata(HashStrategy hashStrategy,
+                                              EdgeIdEncoding edgeIdEncoding,
+                                              ExpressionIdFormat expressionIdFormat) {
+    try {
+      var exportMetadata = new ExportMetadata(outputPath);
+      exportMetadata.put(ExportMetadata.HASH_STRATEGY, hashStrategy.name());
+      exportMetadata.put(ExportMetadata.ID_HASH, hashStrategy.getIdHashName());
+      exportMetadata.put(ExportMetadata.DIGEST_HASH, hashStrategy.getDigestHashName());
+      exportMetadata.put(ExportMetadata.EDGE_ID_ENCODING, edgeIdEncoding.name());
+      exportMetadata.put(ExportMetadata.EXPRESSION_ID_FORMAT, expressionIdFormat.name());
+      return exportMetadata;
+    } catch (IOException e) {
+      throw new RuntimeException(e);
+    }
   }
 
   @Provides
   @TranslationSessionScope
-  public CsvWriter<Node> provideNodeCsvWriter() {
+  public CsvWriter<Node> provideNodeCsvWriter(Neo4jImportArguments importArguments) {
     try {
-      var outputFile = new File(outputPath + File.separator + "nodes.csv");
-      return new CsvWriter<Node>(
-          new CsvMapper(),
-          new Neo4jNodeCsvSchema(),
-          new BufferedWriter(new FileWriter(outputFile)));
+      var csvWriter = outputLayout.isSharded()
+          ? createShardedNodeCsvWriter(importArguments)
+          : new CsvWriterImpl<>(createNodeRowEncoder(), openOutput(outputPath.resolve(toFileName("nodes"))), flushPolicy);
+      csvWriter.closeOnShutdown();
+      return csvWriter;
     } catch (IOException e) {
       throw new RuntimeException(e);
     }
@@ -46,27 +170,131 @@ public class CsvWriterModule {
 
   @Provides
   @TranslationSessionScope
-  public CsvWriter<Edge> provideEdgeCsvWriter() {
+  public CsvWriter<Edge> provideEdgeCsvWriter(Neo4jImportArguments importArguments) {
     try {
-      var outputFile = new File(outputPath + File.separator + "edges.csv");
-      return new CsvWriter<Edge>(
-          new CsvMapper(),
-          new Neo4jRelationshipsCsvSchema(),
-          new BufferedWriter(new FileWriter(outputFile)));
+      var csvWriter = outputLayout.isSharded()
+          ? createShardedEdgeCsvWriter(importArguments)
+          : new CsvWriterImpl<>(createEdgeRowEncoder(), openOutput(outputPath.resolve(toFileName("edges"))), flushPolicy);
+      csvWriter.closeOnShutdown();
+      return csvWriter;
     } catch (IOException e) {
       throw new RuntimeException(e);
     }
   }
 
+  private ShardedCsvWriter<Node> createShardedNodeCsvWriter(Neo4jImportArguments importArguments) {
+    return new ShardedCsvWriter<>(outputPath,
+        toFileName("nodes-header"),
+        Neo4jImportArguments.NODES_OPTION,
+        getNodeShardFunction(),
+        () -> new NodeCsvRowEncoder(new Neo4jNodeCsvSchema(), !isPerLabel(), false),
+        this::openShardOutput,
+        flushPolicy,
+        importArguments);
+  }
+
+  private ShardedCsvWriter<Edge> createShardedEdgeCsvWriter(Neo4jImportArguments importArguments) {
+    return new ShardedCsvWriter<>(outputPath,
+        toFileName("edges-header"),
+        Neo4jImportArguments.RELATIONSHIPS_OPTION,
+        getEdgeShardFunction(),
+        () -> new EdgeCsvRowEncoder(new Neo4jRelationshipsCsvSchema(), !isPerLabel(), false),
+        this::openShardOutput,
+        flushPolicy,
+        importArguments);
+  }
+
+  @Nonnull
+  private String toFileName(@Nonnull String baseName) {
+    return baseName + ".csv" + compression.getFileExtension();
+  }
+
+  @Nonnull
+  private Writer openOutput(@Nonnull Path outputFile) throws IOException {
+    return openOutput(outputFile, OUTPUT_BUFFER_SIZE);
+  }
+
+  @Nonnull
+  private Writer openShardOutput(@Nonnull Path outputFile) throws IOException {
+    return openOutput(outputFile, SHARD_OUTPUT_BUFFER_SIZE);
+  }
+
+  @Nonnull
+  private Writer openOutput(@Nonnull Path outputFile, int bufferSize) throws IOException {
+    if (compression.isCompressed()) {
+      var output = new BackgroundCompressionOutputStream(outputFile, compression, bufferSize);
+      return new BufferedWriter(new OutputStreamWriter(output, Charset.defaultCharset()), bufferSize);
+    }
+    return new BufferedWriter(new FileWriter(outputFile.toFile()), bufferSize);
+  }
+
+  private boolean isPerLabel() {
+    return outputLayout.getMode() == CsvOutputLayout.Mode.PER_LABEL;
+  }
+
+  private Function<Node, CsvShard> getNodeShardFunction() {
+    return isPerLabel()
+        ? CsvShardFunctions.nodesByLabel(compression)
+        : CsvShardFunctions.nodesByHash(outputLayout.getShardCount(), compression);
+  }
+
+  private Function<Edge, CsvShard> getEdgeShardFunction() {
+    return isPerLabel()
+        ? CsvShardFunctions.edgesByLabel(compression)
+        : CsvShardFunctions.edgesByHash(outputLayout.getShardCount(), compression);
+  }
+
+  private CsvRowEncoder<Node> createNodeRowEncoder() {
+    var schema = new Neo4jNodeCsvSchema();
+    if (csvEncoding == CsvEncoding.JACKSON) {
+      return new JacksonCsvRowEncoder<>(new CsvMapper(), schema);
+    }
+    return new NodeCsvRowEncoder(schema);
+  }
+
+  private CsvRowEncoder<Edge> createEdgeRowEncoder() {
+    var schema = new Neo4jRelationshipsCsvSchema();
+    if (csvEncoding == CsvEncoding.JACKSON) {
+      return new JacksonCsvRowEncoder<>(new CsvMapper(), schema);
+    }
+    return new EdgeCsvRowEncoder(schema);
+  }
+
   @Provides
   @TranslationSessionScope
   public NodeTracker provideNodeTracker() {
-    return new HashSetNodeTracker();
+    switch (trackerStrategy) {
+      case HASH_SET:
+        return new HashSetNodeTracker();
+      case COMPACT_OFF_HEAP:
+        return new CompactNodeTracker(true);
+      case SPILLING:
+        return new SpillingNodeTracker(createSpillDirectory("node-tracker-"), trackerExpectedSize);
+      default:
+        return new CompactNodeTracker(false);
+    }
   }
 
   @Provides
   @TranslationSessionScope
   public EdgeTracker provideEdgeTracker() {
-    return new HashSetEdgeTracker();
+    switch (trackerStrategy) {
+      case HASH_SET:
+        return new HashSetEdgeTracker();
+      case COMPACT_OFF_HEAP:
+        return new CompactEdgeTracker(true);
+      case SPILLING:
+        return new SpillingEdgeTracker(createSpillDirectory("edge-tracker-"), trackerExpectedSize);
+      default:
+        return new CompactEdgeTracker(false);
+    }
+  }
+
+  private Path createSpillDirectory(String prefix) {
+    try {
+      return Files.createTempDirectory(outputPath, prefix);
+    } catch (IOException e) {
+      throw new RuntimeException(e);
+    }
   }
 }
@@ -0,0 +1,64 @@
+package edu.stanford.owl2lpg.exporter.csv.writer;
+
+import edu.stanford.owl2lpg.model.Edge;
+import edu.stanford.owl2lpg.model.Properties;
+import edu.stanford.owl2lpg.translator.vocab.EdgeLabel;
+
+import javax.annotation.Nonnull;
+import javax.inject.Inject;
+import java.util.EnumMap;
+import java.util.List;
+
+import static edu.stanford.owl2lpg.model.Edge.N4J_JSON_END_ID;
+import static edu.stanford.owl2lpg.model.Edge.N4J_JSON_LABELS;
+import static edu.stanford.owl2lpg.model.Edge.N4J_JSON_START_ID;
+
+/**
+ * Encodes the edges by the columns of {@link Neo4jRelationshipsCsvSchema}.
+ * The type column can be left out when the edges are written to a file per
+ * label.
+ *
+ * @author Josef Hardi <josef.hardi@stanford.edu> <br>
+ * Stanford Center for Biomedical Informatics Research
+ */
+public class EdgeCsvRowEncoder extends StreamingCsvRowEncoder<Edge> {
+
+  private final EnumMap<EdgeLabel, char[]> labelChars = new EnumMap<>(EdgeLabel.class);
+
+  private final boolean typeColumn;
+
+  @Inject
+  public EdgeCsvRowEncoder(@Nonnull Neo4jRelationshipsCsvSchema schema) {
+    this(schema, true, true);
+  }
+
+  public EdgeCsvRowEncoder(@Nonnull Neo4jRelationshipsCsvSchema schema,
+                           boolean typeColumn,
+                           boolean headerWithFirstRow) {
+    super(schema, typeColumn
+        ? List.of(N4J_JSON_LABELS, N4J_JSON_START_ID, N4J_JSON_END_ID)
+        : List.of(N4J_JSON_START_ID, N4J_JSON_END_ID), headerWithFirstRow);
+    this.typeColumn = typeColumn;
+    for (var edgeLabel : EdgeLabel.values()) {
+      labelChars.put(edgeLabel, edgeLabel.getName().toCharArray());
+    }
+  }
+
+  @Override
+  protected void appendFixedColumns(@Nonnull Edge edge) {
+    if (typeColumn) {
+      appendQuoted(labelChars.get(edge.getLabel()));
+      appendSeparator();
+    }
+    appendQuotedHex(edge.getFromNode().getNodeId().getBytes());
+    appendSeparator();
+    appendQuotedHex(edge.getToNode().getNodeId().getBytes());
+    appendSeparator();
+  }
+
+  @Nonnull
+  @Override
+  protected Properties getProperties(@Nonnull Edge edge) {
+    return edge.getProperties();
+  }
+}
@@ -15,4 +15,9 @@ public interface EdgeTracker {
   void add(Edge edge, Consumer<Edge> callback);
 
   int size();
+
+  /**
+   * Returns the (estimated) number of bytes used to track the edges.
+   */
+  long getMemoryUsage();
 }
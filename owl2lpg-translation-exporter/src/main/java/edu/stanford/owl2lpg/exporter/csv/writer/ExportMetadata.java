@@ -0,0 +1,88 @@
+package edu.stanford.owl2lpg.exporter.csv.writer;
+
+import javax.annotation.Nonnull;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeMap;
+import java.util.stream.Collectors;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+
+/**
+ * Records the settings that a reader of the exported CSV files needs to know
+ * in order to interpret them, e.g., the hash functions that produced the
+ * identifiers, in a {@code key=value} file next to the CSV files. The file is
+ * rewritten each time an entry is added, and is read back by
+ * {@link #read(Path)}.
+ *
+ * @author Josef Hardi <josef.hardi@stanford.edu> <br>
+ * Stanford Center for Biomedical Informatics Research
+ */
+public class ExportMetadata {
+
+  public static final String FILE_NAME = "metadata.properties";
+
+  public static final String HASH_STRATEGY = "hash.strategy";
+
+  public static final String ID_HASH = "hash.id";
+
+  public static final String DIGEST_HASH = "hash.digest";
+
+  public static final String EDGE_ID_ENCODING = "edge.id.encoding";
+
+  public static final String EXPRESSION_ID_FORMAT = "expression.id.format";
+
+  @Nonnull
+  private final Path metadataFile;
+
+  private final Map<String, String> entries = new TreeMap<>();
+
+  public ExportMetadata(@Nonnull Path outputDirectory) {
+    this.metadataFile = checkNotNull(outputDirectory).resolve(FILE_NAME);
+  }
+
+  /**
+   * Reads the metadata file of an export.
+   *
+   * @param outputDirectory the directory of the exported CSV files
+   * @return the metadata of the export, which is rewritten with any entry
+   * added later
+   * @throws IOException if the metadata file cannot be read
+   */
+  @Nonnull
+  public static ExportMetadata read(@Nonnull Path outputDirectory) throws IOException {
+    var exportMetadata = new ExportMetadata(outputDirectory);
+    for (var line : Files.readAllLines(exportMetadata.metadataFile)) {
+      int separatorIndex = line.indexOf('=');
+      if (separatorIndex > 0) {
+        exportMetadata.entries.put(line.substring(0, separatorIndex), line.substring(separatorIndex + 1));
+      }
+    }
+    return exportMetadata;
+  }
+
+  public synchronized void put(@Nonnull String key, @Nonnull String value) throws IOException {
+    entries.put(checkNotNull(key), checkNotNull(value));
+    writeMetadataFile();
+  }
+
+  @Nonnull
+  public synchronized Optional<String> get(@Nonnull String key) {
+    return Optional.ofNullable(entries.get(key));
+  }
+
+  @Nonnull
+  public Path getMetadataFile() {
+    return metadataFile;
+  }
+
+  private void writeMetadataFile() throws IOException {
+    var lines = entries.entrySet().stream()
+        .map(entry -> entry.getKey() + "=" + entry.getValue())
+        .collect(Collectors.toList());
+    Files.write(metadataFile, lines);
+  }
+}
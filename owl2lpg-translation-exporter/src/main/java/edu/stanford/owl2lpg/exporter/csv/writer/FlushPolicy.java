@@ -0,0 +1,70 @@
+package edu.stanford.owl2lpg.exporter.csv.writer;
+
+import com.google.auto.value.AutoValue;
+
+import javax.annotation.Nonnull;
+
+import static com.google.common.base.Preconditions.checkArgument;
+
+/**
+ * A policy that decides when a {@link CsvWriter} should push its buffered
+ * rows to the underlying output. Flushing every row turns each node and
+ * edge into a system call, so bulk exports should prefer a row or byte
+ * threshold, or defer flushing until the writer is closed.
+ *
+ * @author Josef Hardi <josef.hardi@stanford.edu> <br>
+ * Stanford Center for Biomedical Informatics Research
+ */
+@AutoValue
+public abstract class FlushPolicy {
+
+  public enum Mode {
+    EVERY_N_ROWS,
+    EVERY_N_BYTES,
+    ON_CLOSE
+  }
+
+  @Nonnull
+  public static FlushPolicy everyRow() {
+    return everyRows(1);
+  }
+
+  @Nonnull
+  public static FlushPolicy everyRows(long rowCount) {
+    checkArgument(rowCount > 0, "Row count must be positive");
+    return new AutoValue_FlushPolicy(Mode.EVERY_N_ROWS, rowCount);
+  }
+
+  /**
+   * Flushes once the number of characters written since the last flush
+   * reaches the given threshold. Characters are counted before encoding,
+   * which for the ASCII-dominated CSV output is a close approximation of
+   * the byte count.
+   */
+  @Nonnull
+  public static FlushPolicy everyBytes(long byteCount) {
+    checkArgument(byteCount > 0, "Byte count must be positive");
+    return new AutoValue_FlushPolicy(Mode.EVERY_N_BYTES, byteCount);
+  }
+
+  @Nonnull
+  public static FlushPolicy onClose() {
+    return new AutoValue_FlushPolicy(Mode.ON_CLOSE, Long.MAX_VALUE);
+  }
+
+  @Nonnull
+  public abstract Mode getMode();
+
+  public abstract long getThreshold();
+
+  public boolean shouldFlush(long rowsSinceFlush, long bytesSinceFlush) {
+    switch (getMode()) {
+      case EVERY_N_ROWS:
+        return rowsSinceFlush >= getThreshold();
+      case EVERY_N_BYTES:
+        return bytesSinceFlush >= getThreshold();
+      default:
+        return false;
+    }
+  }
+}
@@ -16,6 +16,9 @@ public class HashSetEdgeTracker implements EdgeTracker {
 
   private static final int DEFAULT_INITIAL_CAPACITY = 1_000_000;
 
+  /* The hash set entry, the identifier object and its byte array */
+  private static final int ESTIMATED_BYTES_PER_ENTRY = 104;
+
   @Nonnull
   private final Set<EdgeId> trackedEdges;
 
@@ -51,4 +54,9 @@ public class HashSetEdgeTracker implements EdgeTracker {
   public int size() {
     return trackedEdges.size();
   }
+
+  @Override
+  public long getMemoryUsage() {
+    return (long) trackedEdges.size() * ESTIMATED_BYTES_PER_ENTRY;
+  }
 }
@@ -16,6 +16,9 @@ public class HashSetNodeTracker implements NodeTracker {
 
   private static final int DEFAULT_INITIAL_CAPACITY = 1_000_000;
 
+  /* The hash set entry, the identifier object and its byte array */
+  private static final int ESTIMATED_BYTES_PER_ENTRY = 104;
+
   @Nonnull
   private final Set<NodeId> trackedNodes;
 
@@ -51,4 +54,9 @@ public class HashSetNodeTracker implements NodeTracker {
   public int size() {
     return trackedNodes.size();
   }
+
+  @Override
+  public long getMemoryUsage() {
+    return (long) trackedNodes.size() * ESTIMATED_BYTES_PER_ENTRY;
+  }
 }
@@ -0,0 +1,61 @@
+package edu.stanford.owl2lpg.exporter.csv.writer;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.SequenceWriter;
+import com.fasterxml.jackson.dataformat.csv.CsvGenerator;
+import com.fasterxml.jackson.dataformat.csv.CsvMapper;
+
+import javax.annotation.Nonnull;
+import java.io.IOException;
+import java.io.Writer;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+
+/**
+ * Encodes the row objects by their Jackson bean properties.
+ *
+ * @author Josef Hardi <josef.hardi@stanford.edu> <br>
+ * Stanford Center for Biomedical Informatics Research
+ */
+public class JacksonCsvRowEncoder<T> implements CsvRowEncoder<T> {
+
+  @Nonnull
+  private final CsvMapper csvMapper;
+
+  @Nonnull
+  private final Neo4jCsvSchema schema;
+
+  private SequenceWriter objectWriter;
+
+  public JacksonCsvRowEncoder(@Nonnull CsvMapper csvMapper,
+                              @Nonnull Neo4jCsvSchema schema) {
+    this.csvMapper = checkNotNull(csvMapper);
+    this.schema = checkNotNull(schema);
+  }
+
+  @Override
+  public void encode(@Nonnull T rowObject, @Nonnull Writer output) throws IOException {
+    if (objectWriter != null) {
+      objectWriter.write(rowObject);
+    } else {
+      writeFirstRow(rowObject, output);
+    }
+  }
+
+  private void writeFirstRow(@Nonnull T rowObject, @Nonnull Writer output) throws IOException {
+    csvMapper.configure(JsonGenerator.Feature.AUTO_CLOSE_TARGET, false);
+    csvMapper.configure(JsonGenerator.Feature.FLUSH_PASSED_TO_STREAM, false);
+    csvMapper.configure(CsvGenerator.Feature.ALWAYS_QUOTE_STRINGS, true);
+    var headerWriter = csvMapper.writer(schema.getCsvSchemaWithHeader()).writeValues(output);
+    headerWriter.write(rowObject);
+    headerWriter.flush();
+    objectWriter = csvMapper.writer(schema.getCsvSchema()).writeValues(output);
+  }
+
+  @Override
+  public void flush() throws IOException {
+    if (objectWriter != null) {
+      objectWriter.flush();
+    }
+  }
+}
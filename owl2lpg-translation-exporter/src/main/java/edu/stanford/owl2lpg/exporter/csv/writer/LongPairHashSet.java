@@ -0,0 +1,256 @@
+package edu.stanford.owl2lpg.exporter.csv.writer;
+
+import com.google.common.hash.Hashing;
+import it.unimi.dsi.fastutil.HashCommon;
+
+import javax.annotation.Nonnull;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.LongBuffer;
+
+import static com.google.common.base.Preconditions.checkArgument;
+
+/**
+ * An open-addressing hash set of 128-bit keys stored as pairs of primitive
+ * longs. Each entry takes 16 bytes in the table (about 21 to 43 bytes per
+ * entry including the free slots), in contrast to the 100+ bytes taken by a
+ * boxed identifier in a {@link java.util.HashSet}. The table can be kept on
+ * the Java heap or in direct (off-heap) memory, and it is split into segments
+ * of at most 1 GiB so it can grow beyond the 2 GiB limit of a single buffer.
+ * <p>
+ * Identifiers of up to 16 bytes (the MD5 digests and the number identifiers)
+ * are stored as-is, and the identifiers shorter than 16 bytes also store
+ * their length in the highest byte, which they do not use otherwise. Thus,
+ * e.g., the number identifier 1 is not taken for the 4-byte identifier 1.
+ * Longer identifiers are folded into 128 bits using Murmur3 before they are
+ * stored.
+ * <p>
+ * This class is not thread-safe.
+ *
+ * @author Josef Hardi <josef.hardi@stanford.edu> <br>
+ * Stanford Center for Biomedical Informatics Research
+ */
+@SuppressWarnings("UnstableApiUsage")
+public class LongPairHashSet {
+
+  private static final float LOAD_FACTOR = 0.75f;
+
+  private static final int MAX_SEGMENT_SHIFT = 26;
+
+  private static final int BYTES_PER_SLOT = 2 * Long.BYTES;
+
+  private final boolean offHeap;
+
+  private LongBuffer[] segments;
+
+  private long capacity;
+
+  private long mask;
+
+  private int segmentShift;
+
+  private long segmentMask;
+
+  private long maxFill;
+
+  private long size = 0;
+
+  private boolean containsZeroKey = false;
+
+  public LongPairHashSet(long expectedSize, boolean offHeap) {
+    checkArgument(expectedSize >= 0, "Expected size must not be negative");
+    this.offHeap = offHeap;
+    allocate(HashCommon.bigArraySize(Math.max(expectedSize, 2), LOAD_FACTOR));
+  }
+
+  /**
+   * Adds the given identifier bytes to the set.
+   *
+   * @return {@code true} if the set did not already contain the identifier
+   */
+  public boolean add(@Nonnull byte[] bytes) {
+    var key = toKey(bytes);
+    return add(high(key), low(key));
+  }
+
+  public boolean contains(@Nonnull byte[] bytes) {
+    var key = toKey(bytes);
+    return contains(high(key), low(key));
+  }
+
+  public boolean add(long high, long low) {
+    if (high == 0 && low == 0) {
+      if (containsZeroKey) {
+        return false;
+      }
+      containsZeroKey = true;
+      size++;
+      return true;
+    }
+    var slot = slotOf(high, low);
+    while (true) {
+      var segment = segments[(int) (slot >>> segmentShift)];
+      var offset = (int) (slot & segmentMask) << 1;
+      var h = segment.get(offset);
+      var l = segment.get(offset + 1);
+      if (h == 0 && l == 0) {
+        segment.put(offset, high);
+        segment.put(offset + 1, low);
+        if (++size >= maxFill) {
+          rehash(capacity << 1);
+        }
+        return true;
+      }
+      if (h == high && l == low) {
+        return false;
+      }
+      slot = (slot + 1) & mask;
+    }
+  }
+
+  public boolean contains(long high, long low) {
+    if (high == 0 && low == 0) {
+      return containsZeroKey;
+    }
+    var slot = slotOf(high, low);
+    while (true) {
+      var segment = segments[(int) (slot >>> segmentShift)];
+      var offset = (int) (slot & segmentMask) << 1;
+      var h = segment.get(offset);
+      var l = segment.get(offset + 1);
+      if (h == 0 && l == 0) {
+        return false;
+      }
+      if (h == high && l == low) {
+        return true;
+      }
+      slot = (slot + 1) & mask;
+    }
+  }
+
+  public long size() {
+    return size;
+  }
+
+  public void forEach(@Nonnull LongPairConsumer consumer) {
+    if (containsZeroKey) {
+      consumer.accept(0L, 0L);
+    }
+    for (var segment : segments) {
+      for (int offset = 0; offset < segment.capacity(); offset += 2) {
+        var h = segment.get(offset);
+        var l = segment.get(offset + 1);
+        if (h != 0 || l != 0) {
+          consumer.accept(h, l);
+        }
+      }
+    }
+  }
+
+  public void clear() {
+    for (var segment : segments) {
+      for (int offset = 0; offset < segment.capacity(); offset++) {
+        segment.put(offset, 0L);
+      }
+    }
+    size = 0;
+    containsZeroKey = false;
+  }
+
+  /**
+   * Returns the number of bytes allocated by the table.
+   */
+  public long getMemoryUsage() {
+    return capacity * BYTES_PER_SLOT;
+  }
+
+  public boolean isOffHeap() {
+    return offHeap;
+  }
+
+  private long slotOf(long high, long low) {
+    return HashCommon.mix(high ^ HashCommon.mix(low)) & mask;
+  }
+
+  private void allocate(long newCapacity) {
+    capacity = newCapacity;
+    mask = newCapacity - 1;
+    maxFill = HashCommon.maxFill(newCapacity, LOAD_FACTOR);
+    segmentShift = Math.min(Long.numberOfTrailingZeros(newCapacity), MAX_SEGMENT_SHIFT);
+    segmentMask = (1L << segmentShift) - 1;
+    var segmentCount = (int) (newCapacity >>> segmentShift);
+    var slotsPerSegment = 1 << segmentShift;
+    segments = new LongBuffer[segmentCount];
+    for (int i = 0; i < segmentCount; i++) {
+      segments[i] = allocateSegment(slotsPerSegment);
+    }
+  }
+
+  private LongBuffer allocateSegment(int slotCount) {
+    var longCount = slotCount * 2;
+    if (offHeap) {
+      return ByteBuffer.allocateDirect(longCount * Long.BYTES)
+          .order(ByteOrder.nativeOrder())
+          .asLongBuffer();
+    } else {
+      return LongBuffer.wrap(new long[longCount]);
+    }
+  }
+
+  private void rehash(long newCapacity) {
+    var oldSegments = segments;
+    var hadZeroKey = containsZeroKey;
+    allocate(newCapacity);
+    size = 0;
+    containsZeroKey = false;
+    if (hadZeroKey) {
+      add(0L, 0L);
+    }
+    for (var segment : oldSegments) {
+      for (int offset = 0; offset < segment.capacity(); offset += 2) {
+        var h = segment.get(offset);
+        var l = segment.get(offset + 1);
+        if (h != 0 || l != 0) {
+          add(h, l);
+        }
+      }
+    }
+  }
+
+  /**
+   * Returns the identifier bytes that are stored as the key, which are
+   * the bytes themselves or their 128-bit fold for the long identifiers.
+   */
+  @Nonnull
+  static byte[] toKey(@Nonnull byte[] bytes) {
+    if (bytes.length > BYTES_PER_SLOT) {
+      return Hashing.murmur3_128().hashBytes(bytes).asBytes();
+    }
+    return bytes;
+  }
+
+  static long high(byte[] bytes) {
+    var high = 0L;
+    for (int i = 0; i < bytes.length - Long.BYTES; i++) {
+      high = (high << 8) | (bytes[i] & 0xff);
+    }
+    if (bytes.length < BYTES_PER_SLOT) {
+      high |= (long) bytes.length << (Long.SIZE - Byte.SIZE);
+    }
+    return high;
+  }
+
+  static long low(byte[] bytes) {
+    var low = 0L;
+    for (int i = Math.max(0, bytes.length - Long.BYTES); i < bytes.length; i++) {
+      low = (low << 8) | (bytes[i] & 0xff);
+    }
+    return low;
+  }
+
+  @FunctionalInterface
+  public interface LongPairConsumer {
+
+    void accept(long high, long low);
+  }
+}
@@ -1,24 +1,29 @@
 package edu.stanford.owl2lpg.exporter.csv.writer;
 
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
 import com.google.common.collect.ImmutableMultiset;
 import edu.stanford.owl2lpg.model.Edge;
 import edu.stanford.owl2lpg.model.Node;
+import edu.stanford.owl2lpg.model.NodeIdMapperStats;
 import edu.stanford.owl2lpg.model.Translation;
+import edu.stanford.owl2lpg.model.TranslationSink;
 import edu.stanford.owl2lpg.translator.vocab.EdgeLabel;
 import edu.stanford.owl2lpg.translator.vocab.NodeLabels;
 
 import javax.annotation.Nonnull;
 import javax.inject.Inject;
+import java.io.Closeable;
 import java.io.IOException;
 import java.io.PrintWriter;
 import java.util.EnumMap;
+import java.util.Optional;
 import java.util.stream.Stream;
 
 /**
  * @author Josef Hardi <josef.hardi@stanford.edu> <br>
  * Stanford Center for Biomedical Informatics Research
  */
-public class Neo4jCsvWriter {
+public class Neo4jCsvWriter implements TranslationSink, Closeable {
 
   @Nonnull
   private final CsvWriter<Node> nodesCsvWriter;
@@ -32,6 +37,9 @@ public class Neo4jCsvWriter {
   @Nonnull
   private final EdgeTracker edgeTracker;
 
+  @Nonnull
+  private final ExportMetadata exportMetadata;
+
   private long nodeCount = 0;
 
   private long edgeCount = 0;
@@ -44,11 +52,13 @@ public class Neo4jCsvWriter {
   public Neo4jCsvWriter(@Nonnull CsvWriter<Node> nodesCsvWriter,
                         @Nonnull CsvWriter<Edge> edgeCsvWriter,
                         @Nonnull NodeTracker nodeTracker,
-                        @Nonnull EdgeTracker edgeTracker) {
+                        @Nonnull EdgeTracker edgeTracker,
+                        @Nonnull ExportMetadata exportMetadata) {
     this.nodesCsvWriter = nodesCsvWriter;
     this.relationshipsCsvWriter = edgeCsvWriter;
     this.nodeTracker = nodeTracker;
     this.edgeTracker = edgeTracker;
+    this.exportMetadata = exportMetadata;
     Stream.of(EdgeLabel.values())
         .forEach(v -> edgeLabelMultiset.put(v, new Counter()));
     Stream.of(NodeLabels.values())
@@ -56,14 +66,17 @@ public class Neo4jCsvWriter {
   }
 
   public void writeTranslation(Translation translation) {
-    var node = translation.getMainNode();
+    translation.emitTo(this);
+  }
+
+  @Override
+  public void acceptNode(@Nonnull Node node) {
     writeNode(node);
-    for (var edge : translation.getEdges()) {
-      writeEdge(edge);
-    }
-    for (var nestedTranslation : translation.getNestedTranslations()) {
-      writeTranslation(nestedTranslation);
-    }
+  }
+
+  @Override
+  public void acceptEdge(@Nonnull Edge edge) {
+    writeEdge(edge);
   }
 
   public void writeNode(Node node) {
@@ -101,7 +114,6 @@ public class Neo4jCsvWriter {
       nodeCount++;
       nodesCsvWriter.write(node);
       nodeLabelsMultiset.get(node.getLabels()).increment();
-      nodesCsvWriter.flush();
     } catch (IOException e) {
       throw new RuntimeException(e);
     }
@@ -129,7 +141,6 @@ public class Neo4jCsvWriter {
       edgeCount++;
       relationshipsCsvWriter.write(edge);
       edgeLabelMultiset.get(edge.getLabel()).increment();
-      relationshipsCsvWriter.flush();
     } catch (IOException e) {
       throw new RuntimeException(e);
     }
@@ -151,6 +162,14 @@ public class Neo4jCsvWriter {
     return edgeTracker.size();
   }
 
+  public long getNodeTrackerMemoryUsage() {
+    return nodeTracker.getMemoryUsage();
+  }
+
+  public long getEdgeTrackerMemoryUsage() {
+    return edgeTracker.getMemoryUsage();
+  }
+
   public ImmutableMultiset<NodeLabels> getNodeLabelsMultiset() {
     ImmutableMultiset.Builder<NodeLabels> b = ImmutableMultiset.builder();
     nodeLabelsMultiset.forEach((l, c) -> b.setCount(l, c.getValue()));
@@ -168,6 +187,20 @@ public class Neo4jCsvWriter {
     relationshipsCsvWriter.flush();
   }
 
+  @Override
+  public void close() throws IOException {
+    try {
+      nodesCsvWriter.close();
+    } finally {
+      relationshipsCsvWriter.close();
+    }
+  }
+
+  @Nonnull
+  public ExportMetadata getExportMetadata() {
+    return exportMetadata;
+  }
+
   public void printReport() {
     var console = new PrintWriter(System.out);
     console.printf("\nNodes: %,d\n\n", getNodeCount());
@@ -176,9 +209,35 @@ public class Neo4jCsvWriter {
     console.printf("\nRelationships: %,d\n\n", getEdgeCount());
     getEdgeLabelMultiset().forEachEntry((edgeLabel, count) ->
         console.printf("    Rel    %-36s %,10d\n", edgeLabel.toNeo4jLabel(), count));
+    console.printf("\nTracked nodes: %,d (%,d MB)\n", getTrackedNodeCount(), toMegabytes(getNodeTrackerMemoryUsage()));
+    console.printf("Tracked relationships: %,d (%,d MB)\n", getTrackedEdgeCount(), toMegabytes(getEdgeTrackerMemoryUsage()));
     console.flush();
   }
 
+  /**
+   * Prints the report followed by the hit and miss counts of the translation
+   * caches that served the exported translations.
+   */
+  public void printReport(@Nonnull CacheStats translationCacheStats) {
+    printReport();
+    System.out.printf("Translation cache: %,d hits, %,d misses (%,.2f%% hit rate), %,d evictions\n",
+        translationCacheStats.hitCount(), translationCacheStats.missCount(),
+        100.0 * translationCacheStats.hitRate(), translationCacheStats.evictionCount());
+  }
+
+  public void printReport(@Nonnull CacheStats translationCacheStats,
+                          @Nonnull Optional<NodeIdMapperStats> nodeIdMapperStats) {
+    printReport(translationCacheStats);
+    nodeIdMapperStats.ifPresent(stats ->
+        System.out.printf("Node id mapper: %,d resident, %,d spilled (%,d MB off-heap), %,.2f%% hit rate\n",
+            stats.getResidentCount(), stats.getSpilledCount(), toMegabytes(stats.getSpilledMemoryUsage()),
+            100.0 * stats.getHitRate()));
+  }
+
+  private static long toMegabytes(long bytes) {
+    return bytes / (1024 * 1024);
+  }
+
   /* A static utility class to do the counting for each translation per node and edge labels */
   private static class Counter {
 
@@ -0,0 +1,81 @@
+package edu.stanford.owl2lpg.exporter.csv.writer;
+
+import javax.annotation.Nonnull;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeMap;
+import java.util.stream.Collectors;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+
+/**
+ * Collects the file groups of a sharded CSV output into an argument file for
+ * {@code neo4j-admin import}, e.g.,
+ * <pre>
+ *   neo4j-admin import --database=ontology @/path/to/output/import.args
+ * </pre>
+ * Every group is written as one {@code --nodes} or {@code --relationships}
+ * option that lists the header file followed by the data files. The
+ * argument file is rewritten each time a group is added, so it is complete
+ * once all the CSV writers are closed.
+ *
+ * @author Josef Hardi <josef.hardi@stanford.edu> <br>
+ * Stanford Center for Biomedical Informatics Research
+ */
+public class Neo4jImportArguments {
+
+  public static final String FILE_NAME = "import.args";
+
+  public static final String NODES_OPTION = "--nodes";
+
+  public static final String RELATIONSHIPS_OPTION = "--relationships";
+
+  @Nonnull
+  private final Path argumentsFile;
+
+  private final Map<String, String> arguments = new TreeMap<>();
+
+  public Neo4jImportArguments(@Nonnull Path outputDirectory) {
+    this.argumentsFile = checkNotNull(outputDirectory).resolve(FILE_NAME);
+  }
+
+  public synchronized void addFileGroup(@Nonnull String option,
+                                        @Nonnull Optional<String> label,
+                                        @Nonnull Path headerFile,
+                                        @Nonnull List<Path> dataFiles) throws IOException {
+    var files = dataFiles.stream()
+        .map(Neo4jImportArguments::toArgumentPath)
+        .collect(Collectors.joining(",", toArgumentPath(headerFile) + ",", ""));
+    var argument = option + "=" + label.map(l -> l + "=").orElse("") + files;
+    arguments.put(option + " " + label.orElse(""), argument);
+    writeArgumentsFile();
+  }
+
+  @Nonnull
+  public Path getArgumentsFile() {
+    return argumentsFile;
+  }
+
+  private void writeArgumentsFile() throws IOException {
+    var lines = arguments.values().stream()
+        .map(Neo4jImportArguments::quoteIfNeeded)
+        .collect(Collectors.toList());
+    Files.write(argumentsFile, lines);
+  }
+
+  @Nonnull
+  private static String toArgumentPath(@Nonnull Path file) {
+    return file.toAbsolutePath().toString();
+  }
+
+  @Nonnull
+  private static String quoteIfNeeded(@Nonnull String argument) {
+    return argument.chars().anyMatch(Character::isWhitespace)
+        ? "\"" + argument.replace("\\", "\\\\").replace("\"", "\\\"") + "\""
+        : argument;
+  }
+}
@@ -0,0 +1,61 @@
+package edu.stanford.owl2lpg.exporter.csv.writer;
+
+import edu.stanford.owl2lpg.model.Node;
+import edu.stanford.owl2lpg.model.Properties;
+import edu.stanford.owl2lpg.translator.vocab.NodeLabels;
+
+import javax.annotation.Nonnull;
+import javax.inject.Inject;
+import java.util.EnumMap;
+import java.util.List;
+
+import static edu.stanford.owl2lpg.model.Node.N4J_JSON_ID;
+import static edu.stanford.owl2lpg.model.Node.N4J_JSON_LABELS;
+
+/**
+ * Encodes the nodes by the columns of {@link Neo4jNodeCsvSchema}. The
+ * label lists are joined once per {@link NodeLabels} value. The label
+ * column can be left out when the nodes are written to a file per label.
+ *
+ * @author Josef Hardi <josef.hardi@stanford.edu> <br>
+ * Stanford Center for Biomedical Informatics Research
+ */
+public class NodeCsvRowEncoder extends StreamingCsvRowEncoder<Node> {
+
+  private static final String LABEL_SEPARATOR = ";";
+
+  private final EnumMap<NodeLabels, char[]> labelChars = new EnumMap<>(NodeLabels.class);
+
+  private final boolean labelColumn;
+
+  @Inject
+  public NodeCsvRowEncoder(@Nonnull Neo4jNodeCsvSchema schema) {
+    this(schema, true, true);
+  }
+
+  public NodeCsvRowEncoder(@Nonnull Neo4jNodeCsvSchema schema,
+                           boolean labelColumn,
+                           boolean headerWithFirstRow) {
+    super(schema, labelColumn ? List.of(N4J_JSON_ID, N4J_JSON_LABELS) : List.of(N4J_JSON_ID), headerWithFirstRow);
+    this.labelColumn = labelColumn;
+    for (var nodeLabels : NodeLabels.values()) {
+      labelChars.put(nodeLabels, String.join(LABEL_SEPARATOR, nodeLabels.asList()).toCharArray());
+    }
+  }
+
+  @Override
+  protected void appendFixedColumns(@Nonnull Node node) {
+    appendQuotedHex(node.getNodeId().getBytes());
+    appendSeparator();
+    if (labelColumn) {
+      appendQuoted(labelChars.get(node.getLabels()));
+      appendSeparator();
+    }
+  }
+
+  @Nonnull
+  @Override
+  protected Properties getProperties(@Nonnull Node node) {
+    return node.getProperties();
+  }
+}
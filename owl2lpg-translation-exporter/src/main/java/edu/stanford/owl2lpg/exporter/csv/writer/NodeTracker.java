@@ -15,4 +15,9 @@ public interface NodeTracker {
   void add(Node obj, Consumer<Node> callback);
 
   int size();
+
+  /**
+   * Returns the (estimated) number of bytes used to track the nodes.
+   */
+  long getMemoryUsage();
 }
@@ -0,0 +1,304 @@
+package edu.stanford.owl2lpg.exporter.csv.writer;
+
+import com.google.common.util.concurrent.MoreExecutors;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+
+import javax.annotation.Nonnull;
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.Semaphore;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
+
+/**
+ * A CSV writer that distributes the rows over a number of shard files.
+ * Every shard has its own {@link CsvWriterImpl}, and the rows are handed to
+ * it in batches that run on a fixed pool of writer threads. The batches of
+ * a shard run one after the other, so its rows keep their order, while the
+ * number of threads does not grow with the number of shards, e.g., of node
+ * labels. At most two batches per thread are waiting to be written, so the
+ * translation blocks rather than piling up rows when the disk falls behind.
+ * <p>
+ * The shard files have no header line. When the writer is closed, the header
+ * line is written to a separate header file and the shards are registered in
+ * the {@link Neo4jImportArguments} of the export.
+ *
+ * @author Josef Hardi <josef.hardi@stanford.edu> <br>
+ * Stanford Center for Biomedical Informatics Research
+ */
+public class ShardedCsvWriter<T> implements CsvWriter<T> {
+
+  public static final int DEFAULT_WRITER_THREAD_COUNT = Math.min(4, Runtime.getRuntime().availableProcessors());
+
+  private static final int BATCH_SIZE = 512;
+
+  private static final int QUEUED_BATCH_COUNT = 2;
+
+  @Nonnull
+  private final Path outputDirectory;
+
+  @Nonnull
+  private final String headerFileName;
+
+  @Nonnull
+  private final String importOption;
+
+  @Nonnull
+  private final Function<T, CsvShard> shardFunction;
+
+  @Nonnull
+  private final Supplier<? extends StreamingCsvRowEncoder<T>> rowEncoderFactory;
+
+  @Nonnull
+  private final CsvOutputFactory outputFactory;
+
+  @Nonnull
+  private final FlushPolicy flushPolicy;
+
+  @Nonnull
+  private final Neo4jImportArguments importArguments;
+
+  @Nonnull
+  private final ExecutorService executorService;
+
+  @Nonnull
+  private final Semaphore queuedBatches;
+
+  @Nonnull
+  private final ShutdownHook shutdownHook = new ShutdownHook(this, "csv-writer-shutdown");
+
+  private final Map<CsvShard, ShardWriter> shardWriters = new LinkedHashMap<>();
+
+  private volatile Throwable failure;
+
+  private boolean closed = false;
+
+  public ShardedCsvWriter(@Nonnull Path outputDirectory,
+                          @Nonnull String headerFileName,
+                          @Nonnull String importOption,
+                          @Nonnull Function<T, CsvShard> shardFunction,
+                          @Nonnull Supplier<? extends StreamingCsvRowEncoder<T>> rowEncoderFactory,
+                          @Nonnull CsvOutputFactory outputFactory,
+                          @Nonnull FlushPolicy flushPolicy,
+                          @Nonnull Neo4jImportArguments importArguments) {
+    this(outputDirectory, headerFileName, importOption, shardFunction, rowEncoderFactory, outputFactory, flushPolicy,
+        importArguments, DEFAULT_WRITER_THREAD_COUNT);
+  }
+
+  public ShardedCsvWriter(@Nonnull Path outputDirectory,
+                          @Nonnull String headerFileName,
+                          @Nonnull String importOption,
+                          @Nonnull Function<T, CsvShard> shardFunction,
+                          @Nonnull Supplier<? extends StreamingCsvRowEncoder<T>> rowEncoderFactory,
+                          @Nonnull CsvOutputFactory outputFactory,
+                          @Nonnull FlushPolicy flushPolicy,
+                          @Nonnull Neo4jImportArguments importArguments,
+                          int writerThreadCount) {
+    checkArgument(writerThreadCount > 0, "Writer thread count must be positive");
+    this.outputDirectory = checkNotNull(outputDirectory);
+    this.headerFileName = checkNotNull(headerFileName);
+    this.importOption = checkNotNull(importOption);
+    this.shardFunction = checkNotNull(shardFunction);
+    this.rowEncoderFactory = checkNotNull(rowEncoderFactory);
+    this.outputFactory = checkNotNull(outputFactory);
+    this.flushPolicy = checkNotNull(flushPolicy);
+    this.importArguments = checkNotNull(importArguments);
+    this.executorService = Executors.newFixedThreadPool(writerThreadCount,
+        new ThreadFactoryBuilder()
+            .setNameFormat("csv-shard-writer-%d")
+            .setDaemon(true)
+            .build());
+    this.queuedBatches = new Semaphore(writerThreadCount * QUEUED_BATCH_COUNT);
+  }
+
+  @Override
+  public synchronized void write(@Nonnull T rowObject) throws IOException {
+    checkFailure();
+    if (closed) {
+      throw new IOException("The sharded CSV writer is closed");
+    }
+    var shard = shardFunction.apply(rowObject);
+    var shardWriter = shardWriters.get(shard);
+    if (shardWriter == null) {
+      shardWriter = new ShardWriter(shard);
+      shardWriters.put(shard, shardWriter);
+    }
+    shardWriter.add(rowObject);
+  }
+
+  @Override
+  public synchronized void flush() throws IOException {
+    if (closed) {
+      return;
+    }
+    runOnAllShards(CsvWriterImpl::flush);
+    checkFailure();
+  }
+
+  @Override
+  public synchronized void closeOnShutdown() {
+    if (!closed) {
+      shutdownHook.register();
+    }
+  }
+
+  @Override
+  public synchronized void close() throws IOException {
+    if (closed) {
+      return;
+    }
+    closed = true;
+    try {
+      closeShards();
+    } finally {
+      executorService.shutdown();
+      shutdownHook.remove();
+    }
+  }
+
+  private void closeShards() throws IOException {
+    runOnAllShards(CsvWriterImpl::close);
+    checkFailure();
+    if (!shardWriters.isEmpty()) {
+      writeImportArguments();
+    }
+  }
+
+  private void writeImportArguments() throws IOException {
+    var headerFile = outputDirectory.resolve(headerFileName);
+    try (var output = outputFactory.open(headerFile)) {
+      rowEncoderFactory.get().encodeHeader(output);
+    }
+    var fileGroups = shardWriters.values().stream()
+        .sorted(Comparator.comparing(shardWriter -> shardWriter.shard.getFileName()))
+        .collect(Collectors.groupingBy(shardWriter -> shardWriter.shard.getImportLabel(),
+            LinkedHashMap::new,
+            Collectors.mapping(shardWriter -> shardWriter.file, Collectors.toList())));
+    for (var fileGroup : fileGroups.entrySet()) {
+      importArguments.addFileGroup(importOption, fileGroup.getKey(), headerFile, fileGroup.getValue());
+    }
+  }
+
+  private void checkFailure() throws IOException {
+    if (failure != null) {
+      throw new IOException("Failed to write the CSV shards", failure);
+    }
+  }
+
+  /* Runs the given task on the CSV writer of every shard after its pending rows, and waits for them */
+  private void runOnAllShards(@Nonnull ShardTask<T> task) throws IOException {
+    var futures = new ArrayList<Future<Void>>(shardWriters.size());
+    for (var shardWriter : shardWriters.values()) {
+      futures.add(shardWriter.submit(() -> {
+        task.run(shardWriter.csvWriter);
+        return null;
+      }));
+    }
+    awaitAll(futures);
+  }
+
+  private static void awaitAll(@Nonnull List<Future<Void>> futures) throws IOException {
+    for (var future : futures) {
+      try {
+        future.get();
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        throw new InterruptedIOException("Interrupted while waiting for the CSV shards");
+      } catch (ExecutionException e) {
+        throw new IOException("Failed to write the CSV shards", e.getCause());
+      }
+    }
+  }
+
+  private interface ShardTask<T> {
+
+    void run(@Nonnull CsvWriterImpl<T> csvWriter) throws IOException;
+  }
+
+  /* A shard file with its CSV writer, its sequence of tasks on the writer threads and the rows of the next batch */
+  private class ShardWriter {
+
+    private final CsvShard shard;
+
+    private final Path file;
+
+    private final CsvWriterImpl<T> csvWriter;
+
+    private final Executor executor;
+
+    private List<T> pendingRows = new ArrayList<>(BATCH_SIZE);
+
+    ShardWriter(@Nonnull CsvShard shard) throws IOException {
+      this.shard = shard;
+      this.file = outputDirectory.resolve(shard.getFileName());
+      this.csvWriter = new CsvWriterImpl<>(rowEncoderFactory.get(), outputFactory.open(file), flushPolicy);
+      this.executor = MoreExecutors.newSequentialExecutor(executorService);
+    }
+
+    void add(@Nonnull T rowObject) throws IOException {
+      pendingRows.add(rowObject);
+      if (pendingRows.size() >= BATCH_SIZE) {
+        submitPendingRows();
+      }
+    }
+
+    @Nonnull
+    Future<Void> submit(@Nonnull Callable<Void> task) throws IOException {
+      submitPendingRows();
+      var future = new FutureTask<>(task);
+      executor.execute(future);
+      return future;
+    }
+
+    private void submitPendingRows() throws IOException {
+      if (pendingRows.isEmpty()) {
+        return;
+      }
+      var rows = pendingRows;
+      pendingRows = new ArrayList<>(BATCH_SIZE);
+      try {
+        queuedBatches.acquire();
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        throw new InterruptedIOException("Interrupted while waiting for the CSV shards");
+      }
+      executor.execute(() -> {
+        try {
+          writeRows(rows);
+        } finally {
+          queuedBatches.release();
+        }
+      });
+    }
+
+    private void writeRows(@Nonnull List<T> rows) {
+      if (failure != null) {
+        return;
+      }
+      try {
+        for (var row : rows) {
+          csvWriter.write(row);
+        }
+      } catch (IOException | RuntimeException e) {
+        failure = e;
+      }
+    }
+  }
+}
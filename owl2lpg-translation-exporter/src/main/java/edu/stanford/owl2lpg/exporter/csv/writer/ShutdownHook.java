@@ -0,0 +1,67 @@
+package edu.stanford.owl2lpg.exporter.csv.writer;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import java.io.Closeable;
+import java.io.IOException;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+
+/**
+ * A JVM shutdown hook that closes a CSV writer, for the
+ * {@link CsvWriter#closeOnShutdown()} implementations.
+ *
+ * @author Josef Hardi <josef.hardi@stanford.edu> <br>
+ * Stanford Center for Biomedical Informatics Research
+ */
+class ShutdownHook {
+
+  private static final Logger logger = LoggerFactory.getLogger(ShutdownHook.class);
+
+  @Nonnull
+  private final Closeable closeable;
+
+  @Nonnull
+  private final String threadName;
+
+  @Nullable
+  private Thread thread;
+
+  ShutdownHook(@Nonnull Closeable closeable, @Nonnull String threadName) {
+    this.closeable = checkNotNull(closeable);
+    this.threadName = checkNotNull(threadName);
+  }
+
+  synchronized void register() {
+    if (thread == null) {
+      thread = new Thread(this::closeQuietly, threadName);
+      Runtime.getRuntime().addShutdownHook(thread);
+    }
+  }
+
+  /**
+   * Removes the hook, unless it is the hook itself that is closing the
+   * writer.
+   */
+  synchronized void remove() {
+    if (thread != null && Thread.currentThread() != thread) {
+      try {
+        Runtime.getRuntime().removeShutdownHook(thread);
+      } catch (IllegalStateException e) {
+        // The JVM is already shutting down
+      }
+    }
+    thread = null;
+  }
+
+  private void closeQuietly() {
+    try {
+      closeable.close();
+    } catch (IOException e) {
+      logger.error("Failed to close the CSV writer on shutdown ({})", threadName, e);
+    }
+  }
+}
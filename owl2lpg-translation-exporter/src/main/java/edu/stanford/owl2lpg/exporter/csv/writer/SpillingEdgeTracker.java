@@ -0,0 +1,82 @@
+package edu.stanford.owl2lpg.exporter.csv.writer;
+
+import edu.stanford.owl2lpg.model.Edge;
+
+import javax.annotation.Nonnull;
+import java.nio.file.Path;
+import java.util.function.Consumer;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+
+/**
+ * A edge tracker for exports that are larger than the heap. It keeps exact
+ * deduplication in a bounded amount of memory by using a Bloom filter in
+ * front of an on-disk index of the tracked edge identifiers.
+ *
+ * @author Josef Hardi <josef.hardi@stanford.edu> <br>
+ * Stanford Center for Biomedical Informatics Research
+ */
+public class SpillingEdgeTracker implements EdgeTracker {
+
+  public static final long DEFAULT_EXPECTED_INSERTIONS = 100_000_000L;
+
+  private static final double DEFAULT_FALSE_POSITIVE_PROBABILITY = 0.01;
+
+  private static final int DEFAULT_MAX_RECENT_ENTRIES = 2_000_000;
+
+  @Nonnull
+  private final SpillingLongPairSet trackedEdges;
+
+  public SpillingEdgeTracker(@Nonnull Path spillDirectory) {
+    this(spillDirectory, DEFAULT_EXPECTED_INSERTIONS);
+  }
+
+  /**
+   * Creates the tracker with its Bloom filter sized for the given number of
+   * edges. The filter takes about 1.2 bytes per expected edge, and more edges
+   * than expected raise its false positive rate, which turns into more
+   * lookups on disk.
+   */
+  public SpillingEdgeTracker(@Nonnull Path spillDirectory, long expectedInsertions) {
+    this(spillDirectory,
+        expectedInsertions,
+        DEFAULT_FALSE_POSITIVE_PROBABILITY,
+        DEFAULT_MAX_RECENT_ENTRIES);
+  }
+
+  public SpillingEdgeTracker(@Nonnull Path spillDirectory,
+                            long expectedInsertions,
+                            double falsePositiveProbability,
+                            int maxRecentEntries) {
+    this.trackedEdges = new SpillingLongPairSet(checkNotNull(spillDirectory),
+        expectedInsertions,
+        falsePositiveProbability,
+        maxRecentEntries);
+  }
+
+  @Override
+  public boolean contains(Edge edge) {
+    return trackedEdges.contains(edge.getEdgeId().getBytes());
+  }
+
+  @Override
+  public void add(Edge edge, Consumer<Edge> callback) {
+    if (trackedEdges.add(edge.getEdgeId().getBytes())) {
+      callback.accept(edge);
+    }
+  }
+
+  @Override
+  public int size() {
+    return (int) Math.min(trackedEdges.size(), Integer.MAX_VALUE);
+  }
+
+  @Override
+  public long getMemoryUsage() {
+    return trackedEdges.getMemoryUsage();
+  }
+
+  public long getDiskUsage() {
+    return trackedEdges.getDiskUsage();
+  }
+}
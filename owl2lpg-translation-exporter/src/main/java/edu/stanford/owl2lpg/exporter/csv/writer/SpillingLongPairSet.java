@@ -0,0 +1,366 @@
+package edu.stanford.owl2lpg.exporter.csv.writer;
+
+import com.google.common.hash.BloomFilter;
+import com.google.common.hash.Funnels;
+import it.unimi.dsi.fastutil.Arrays;
+
+import javax.annotation.Nonnull;
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.PriorityQueue;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
+
+/**
+ * An exact set of identifiers that keeps a bounded amount of memory. A Bloom
+ * filter answers most of the lookups for identifiers that have never been
+ * seen. Only when the filter reports a possible match is the identifier
+ * looked up in the exact index, which consists of an in-memory table of the
+ * recent identifiers and a number of sorted runs spilled to disk. The runs
+ * are memory-mapped and searched with a binary search.
+ * <p>
+ * The runs are merged in tiers. Every spilled run starts at the first tier,
+ * and once there are a few runs of the same tier, they are merged into a
+ * run of the next tier. Thus, the number of runs grows with the logarithm
+ * of the number of identifiers, and every identifier is rewritten once per
+ * tier rather than on every merge.
+ * <p>
+ * This class is not thread-safe.
+ *
+ * @author Josef Hardi <josef.hardi@stanford.edu> <br>
+ * Stanford Center for Biomedical Informatics Research
+ */
+@SuppressWarnings("UnstableApiUsage")
+public class SpillingLongPairSet {
+
+  private static final int MERGE_FACTOR = 4;
+
+  @Nonnull
+  private final Path spillDirectory;
+
+  @Nonnull
+  private final BloomFilter<byte[]> bloomFilter;
+
+  private final long bloomFilterSize;
+
+  @Nonnull
+  private final LongPairHashSet recentEntries;
+
+  private final int maxRecentEntries;
+
+  private final List<SortedRun> sortedRuns = new ArrayList<>();
+
+  private long size = 0;
+
+  private int runSequence = 0;
+
+  public SpillingLongPairSet(@Nonnull Path spillDirectory,
+                             long expectedInsertions,
+                             double falsePositiveProbability,
+                             int maxRecentEntries) {
+    checkArgument(expectedInsertions > 0, "Expected insertions must be positive");
+    checkArgument(maxRecentEntries > 0, "Max recent entries must be positive");
+    this.spillDirectory = checkNotNull(spillDirectory);
+    this.bloomFilter = BloomFilter.create(Funnels.byteArrayFunnel(), expectedInsertions, falsePositiveProbability);
+    this.bloomFilterSize = optimalBloomFilterSize(expectedInsertions, falsePositiveProbability);
+    this.recentEntries = new LongPairHashSet(maxRecentEntries, false);
+    this.maxRecentEntries = maxRecentEntries;
+    spillDirectory.toFile().deleteOnExit();
+  }
+
+  /**
+   * Adds the given identifier bytes to the set.
+   *
+   * @return {@code true} if the set did not already contain the identifier
+   */
+  public boolean add(@Nonnull byte[] bytes) {
+    var key = LongPairHashSet.toKey(bytes);
+    var high = LongPairHashSet.high(key);
+    var low = LongPairHashSet.low(key);
+    if (bloomFilter.mightContain(key) && containsExactly(high, low)) {
+      return false;
+    }
+    bloomFilter.put(key);
+    recentEntries.add(high, low);
+    size++;
+    if (recentEntries.size() >= maxRecentEntries) {
+      spillRecentEntries();
+    }
+    return true;
+  }
+
+  public boolean contains(@Nonnull byte[] bytes) {
+    var key = LongPairHashSet.toKey(bytes);
+    return bloomFilter.mightContain(key)
+        && containsExactly(LongPairHashSet.high(key), LongPairHashSet.low(key));
+  }
+
+  private boolean containsExactly(long high, long low) {
+    if (recentEntries.contains(high, low)) {
+      return true;
+    }
+    for (int i = sortedRuns.size() - 1; i >= 0; i--) {
+      if (sortedRuns.get(i).contains(high, low)) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  public long size() {
+    return size;
+  }
+
+  /**
+   * Returns the number of heap bytes used by the Bloom filter and the
+   * in-memory table of the recent identifiers.
+   */
+  public long getMemoryUsage() {
+    return bloomFilterSize + recentEntries.getMemoryUsage();
+  }
+
+  /**
+   * Returns the number of bytes of the sorted runs spilled to disk.
+   */
+  public long getDiskUsage() {
+    return sortedRuns.stream()
+        .mapToLong(run -> run.entryCount * SortedRun.ENTRY_SIZE)
+        .sum();
+  }
+
+  int getRunCount() {
+    return sortedRuns.size();
+  }
+
+  private void spillRecentEntries() {
+    var entryCount = (int) recentEntries.size();
+    var entries = new long[entryCount * 2];
+    var index = new int[]{0};
+    recentEntries.forEach((high, low) -> {
+      entries[index[0]++] = high;
+      entries[index[0]++] = low;
+    });
+    Arrays.quickSort(0, entryCount,
+        (i, j) -> compare(entries[2 * i], entries[2 * i + 1], entries[2 * j], entries[2 * j + 1]),
+        (i, j) -> {
+          swap(entries, 2 * i, 2 * j);
+          swap(entries, 2 * i + 1, 2 * j + 1);
+        });
+    try {
+      var runFile = nextRunFile();
+      try (var output = openRunOutput(runFile)) {
+        for (var entry : entries) {
+          output.writeLong(entry);
+        }
+      }
+      sortedRuns.add(SortedRun.open(runFile, entryCount, 0));
+      recentEntries.clear();
+      while (hasMergeableRuns()) {
+        mergeLastRuns();
+      }
+    } catch (IOException e) {
+      throw new RuntimeException(e);
+    }
+  }
+
+  /*
+   * The tiers of the runs never increase from the oldest run to the newest
+   * one, so the last runs are of the same tier if the first of them is of
+   * the tier of the newest run.
+   */
+  private boolean hasMergeableRuns() {
+    var runCount = sortedRuns.size();
+    return runCount >= MERGE_FACTOR
+        && sortedRuns.get(runCount - MERGE_FACTOR).tier == sortedRuns.get(runCount - 1).tier;
+  }
+
+  private void mergeLastRuns() throws IOException {
+    var mergedRuns = sortedRuns.subList(sortedRuns.size() - MERGE_FACTOR, sortedRuns.size());
+    var mergedFile = nextRunFile();
+    var mergedCount = 0L;
+    var queue = new PriorityQueue<RunCursor>((c1, c2) -> compare(c1.high(), c1.low(), c2.high(), c2.low()));
+    mergedRuns.stream()
+        .map(RunCursor::new)
+        .filter(RunCursor::hasCurrent)
+        .forEach(queue::add);
+    try (var output = openRunOutput(mergedFile)) {
+      while (!queue.isEmpty()) {
+        var cursor = queue.poll();
+        output.writeLong(cursor.high());
+        output.writeLong(cursor.low());
+        mergedCount++;
+        cursor.advance();
+        if (cursor.hasCurrent()) {
+          queue.add(cursor);
+        }
+      }
+    }
+    var mergedTier = mergedRuns.get(0).tier + 1;
+    for (var run : mergedRuns) {
+      run.delete();
+    }
+    mergedRuns.clear();
+    sortedRuns.add(SortedRun.open(mergedFile, mergedCount, mergedTier));
+  }
+
+  private Path nextRunFile() {
+    var runFile = spillDirectory.resolve("run-" + (runSequence++) + ".bin");
+    runFile.toFile().deleteOnExit();
+    return runFile;
+  }
+
+  private static DataOutputStream openRunOutput(Path runFile) throws IOException {
+    return new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(runFile), 1 << 16));
+  }
+
+  private static int compare(long high1, long low1, long high2, long low2) {
+    var c = Long.compare(high1, high2);
+    return (c != 0) ? c : Long.compare(low1, low2);
+  }
+
+  private static void swap(long[] array, int i, int j) {
+    var tmp = array[i];
+    array[i] = array[j];
+    array[j] = tmp;
+  }
+
+  private static long optimalBloomFilterSize(long expectedInsertions, double falsePositiveProbability) {
+    var bits = -expectedInsertions * Math.log(falsePositiveProbability) / (Math.log(2) * Math.log(2));
+    return (long) Math.ceil(bits / Byte.SIZE);
+  }
+
+  /* A sorted file of identifier pairs that is searched through memory-mapped chunks */
+  private static class SortedRun {
+
+    private static final int ENTRY_SIZE = 2 * Long.BYTES;
+
+    private static final int CHUNK_SHIFT = 30;
+
+    private static final long CHUNK_MASK = (1L << CHUNK_SHIFT) - 1;
+
+    private final Path file;
+
+    private final long entryCount;
+
+    private final int tier;
+
+    private final MappedByteBuffer[] chunks;
+
+    private SortedRun(Path file, long entryCount, int tier, MappedByteBuffer[] chunks) {
+      this.file = file;
+      this.entryCount = entryCount;
+      this.tier = tier;
+      this.chunks = chunks;
+    }
+
+    static SortedRun open(Path file, long entryCount, int tier) throws IOException {
+      var fileSize = entryCount * ENTRY_SIZE;
+      var chunkCount = (int) ((fileSize + CHUNK_MASK) >>> CHUNK_SHIFT);
+      var chunks = new MappedByteBuffer[chunkCount];
+      try (var channel = FileChannel.open(file, StandardOpenOption.READ)) {
+        for (int i = 0; i < chunkCount; i++) {
+          var position = (long) i << CHUNK_SHIFT;
+          var length = Math.min(fileSize - position, 1L << CHUNK_SHIFT);
+          chunks[i] = channel.map(FileChannel.MapMode.READ_ONLY, position, length);
+        }
+      }
+      return new SortedRun(file, entryCount, tier, chunks);
+    }
+
+    /*
+     * Unmaps the chunks before deleting the file, since the disk space of
+     * a file is only freed once it is no longer mapped. The chunks must not
+     * be read afterwards.
+     */
+    void delete() throws IOException {
+      for (int i = 0; i < chunks.length; i++) {
+        unmap(chunks[i]);
+        chunks[i] = null;
+      }
+      Files.deleteIfExists(file);
+    }
+
+    boolean contains(long high, long low) {
+      var from = 0L;
+      var to = entryCount - 1;
+      while (from <= to) {
+        var mid = (from + to) >>> 1;
+        var c = compare(highAt(mid), lowAt(mid), high, low);
+        if (c < 0) {
+          from = mid + 1;
+        } else if (c > 0) {
+          to = mid - 1;
+        } else {
+          return true;
+        }
+      }
+      return false;
+    }
+
+    long highAt(long index) {
+      return longAt(index * ENTRY_SIZE);
+    }
+
+    long lowAt(long index) {
+      return longAt(index * ENTRY_SIZE + Long.BYTES);
+    }
+
+    private long longAt(long position) {
+      return chunks[(int) (position >>> CHUNK_SHIFT)].getLong((int) (position & CHUNK_MASK));
+    }
+  }
+
+  /*
+   * Unmaps the given buffer right away instead of when it is garbage
+   * collected. The buffer stays mapped until then if the JDK does not
+   * support it.
+   */
+  private static void unmap(@Nonnull MappedByteBuffer buffer) {
+    try {
+      var unsafeClass = Class.forName("sun.misc.Unsafe");
+      var theUnsafe = unsafeClass.getDeclaredField("theUnsafe");
+      theUnsafe.setAccessible(true);
+      unsafeClass.getMethod("invokeCleaner", ByteBuffer.class).invoke(theUnsafe.get(null), buffer);
+    } catch (ReflectiveOperationException | RuntimeException e) {
+      // The buffer is unmapped when it is garbage collected
+    }
+  }
+
+  /* A position in a sorted run used to merge the runs */
+  private static class RunCursor {
+
+    private final SortedRun run;
+
+    private long index = 0;
+
+    RunCursor(SortedRun run) {
+      this.run = run;
+    }
+
+    boolean hasCurrent() {
+      return index < run.entryCount;
+    }
+
+    long high() {
+      return run.highAt(index);
+    }
+
+    long low() {
+      return run.lowAt(index);
+    }
+
+    void advance() {
+      index++;
+    }
+  }
+}
@@ -0,0 +1,82 @@
+package edu.stanford.owl2lpg.exporter.csv.writer;
+
+import edu.stanford.owl2lpg.model.Node;
+
+import javax.annotation.Nonnull;
+import java.nio.file.Path;
+import java.util.function.Consumer;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+
+/**
+ * A node tracker for exports that are larger than the heap. It keeps exact
+ * deduplication in a bounded amount of memory by using a Bloom filter in
+ * front of an on-disk index of the tracked node identifiers.
+ *
+ * @author Josef Hardi <josef.hardi@stanford.edu> <br>
+ * Stanford Center for Biomedical Informatics Research
+ */
+public class SpillingNodeTracker implements NodeTracker {
+
+  public static final long DEFAULT_EXPECTED_INSERTIONS = 100_000_000L;
+
+  private static final double DEFAULT_FALSE_POSITIVE_PROBABILITY = 0.01;
+
+  private static final int DEFAULT_MAX_RECENT_ENTRIES = 2_000_000;
+
+  @Nonnull
+  private final SpillingLongPairSet trackedNodes;
+
+  public SpillingNodeTracker(@Nonnull Path spillDirectory) {
+    this(spillDirectory, DEFAULT_EXPECTED_INSERTIONS);
+  }
+
+  /**
+   * Creates the tracker with its Bloom filter sized for the given number of
+   * nodes. The filter takes about 1.2 bytes per expected node, and more nodes
+   * than expected raise its false positive rate, which turns into more
+   * lookups on disk.
+   */
+  public SpillingNodeTracker(@Nonnull Path spillDirectory, long expectedInsertions) {
+    this(spillDirectory,
+        expectedInsertions,
+        DEFAULT_FALSE_POSITIVE_PROBABILITY,
+        DEFAULT_MAX_RECENT_ENTRIES);
+  }
+
+  public SpillingNodeTracker(@Nonnull Path spillDirectory,
+                            long expectedInsertions,
+                            double falsePositiveProbability,
+                            int maxRecentEntries) {
+    this.trackedNodes = new SpillingLongPairSet(checkNotNull(spillDirectory),
+        expectedInsertions,
+        falsePositiveProbability,
+        maxRecentEntries);
+  }
+
+  @Override
+  public boolean contains(Node node) {
+    return trackedNodes.contains(node.getNodeId().getBytes());
+  }
+
+  @Override
+  public void add(Node node, Consumer<Node> callback) {
+    if (trackedNodes.add(node.getNodeId().getBytes())) {
+      callback.accept(node);
+    }
+  }
+
+  @Override
+  public int size() {
+    return (int) Math.min(trackedNodes.size(), Integer.MAX_VALUE);
+  }
+
+  @Override
+  public long getMemoryUsage() {
+    return trackedNodes.getMemoryUsage();
+  }
+
+  public long getDiskUsage() {
+    return trackedNodes.getDiskUsage();
+  }
+}
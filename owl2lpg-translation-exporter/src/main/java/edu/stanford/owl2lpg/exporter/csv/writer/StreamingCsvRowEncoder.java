@@ -0,0 +1,281 @@
+package edu.stanford.owl2lpg.exporter.csv.writer;
+
+import com.google.common.collect.ImmutableList;
+import edu.stanford.owl2lpg.model.Properties;
+import it.unimi.dsi.fastutil.objects.Object2IntOpenHashMap;
+
+import javax.annotation.Nonnull;
+import java.io.IOException;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.BiConsumer;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+
+/**
+ * A base for the encoders that write the column values of a row straight
+ * into a reusable character buffer, instead of going through the Jackson
+ * bean serialization. The output follows the Jackson CSV generator as it is
+ * configured by {@link JacksonCsvRowEncoder}: strings are always quoted with
+ * the quote character doubled inside, numbers and booleans are unquoted,
+ * absent values are empty and every line ends with a line feed.
+ * <p>
+ * The fixed columns are the Neo4j header fields (such as {@code :ID}) that
+ * are written by the subclass, which may leave out some of the schema, e.g.,
+ * the label column when the labels are given to the import tool per file.
+ * The remaining columns of the schema are filled from the properties of the
+ * row object, where a column name may carry a Neo4j type suffix such as
+ * {@code :int}.
+ * <p>
+ * This class is not thread-safe.
+ *
+ * @author Josef Hardi <josef.hardi@stanford.edu> <br>
+ * Stanford Center for Biomedical Informatics Research
+ */
+public abstract class StreamingCsvRowEncoder<T> implements CsvRowEncoder<T> {
+
+  private static final char SEPARATOR = ',';
+
+  private static final char QUOTE = '"';
+
+  private static final char LINE_END = '\n';
+
+  private static final char[] HEX_DIGITS = "0123456789abcdef".toCharArray();
+
+  private static final char[] TRUE = "true".toCharArray();
+
+  private static final char[] FALSE = "false".toCharArray();
+
+  private static final String NEO4J_FIELD_PREFIX = ":";
+
+  @Nonnull
+  private final ImmutableList<String> headerColumns;
+
+  @Nonnull
+  private final String columnDescription;
+
+  private final boolean headerWithFirstRow;
+
+  private final Object2IntOpenHashMap<String> propertyColumns = new Object2IntOpenHashMap<>();
+
+  private final Object[] propertyValues;
+
+  private final BiConsumer<String, Object> propertyCollector = this::collectProperty;
+
+  private String unknownProperty;
+
+  private char[] buffer = new char[1024];
+
+  private int length = 0;
+
+  private boolean writtenHeader = false;
+
+  protected StreamingCsvRowEncoder(@Nonnull Neo4jCsvSchema schema,
+                                   @Nonnull List<String> fixedColumnNames,
+                                   boolean headerWithFirstRow) {
+    var csvSchema = checkNotNull(schema).getCsvSchemaWithHeader();
+    var propertyColumnNames = new ArrayList<String>();
+    for (int i = 0; i < csvSchema.size(); i++) {
+      var columnName = csvSchema.columnName(i);
+      if (!columnName.startsWith(NEO4J_FIELD_PREFIX)) {
+        propertyColumns.put(toPropertyKey(columnName), propertyColumnNames.size());
+        propertyColumnNames.add(columnName);
+      }
+    }
+    this.headerColumns = ImmutableList.<String>builder()
+        .addAll(fixedColumnNames)
+        .addAll(propertyColumnNames)
+        .build();
+    this.columnDescription = csvSchema.getColumnDesc();
+    this.propertyValues = new Object[propertyColumnNames.size()];
+    this.propertyColumns.defaultReturnValue(-1);
+    this.headerWithFirstRow = headerWithFirstRow;
+  }
+
+  @Nonnull
+  private static String toPropertyKey(@Nonnull String columnName) {
+    var typeSeparator = columnName.lastIndexOf(':');
+    return (typeSeparator > 0) ? columnName.substring(0, typeSeparator) : columnName;
+  }
+
+  @Override
+  public void encode(@Nonnull T rowObject, @Nonnull Writer output) throws IOException {
+    length = 0;
+    if (headerWithFirstRow && !writtenHeader) {
+      appendHeader();
+      writtenHeader = true;
+    }
+    appendFixedColumns(rowObject);
+    appendProperties(getProperties(rowObject));
+    append(LINE_END);
+    output.write(buffer, 0, length);
+  }
+
+  /**
+   * Appends the values of the fixed columns, each one followed by a
+   * separator.
+   */
+  protected abstract void appendFixedColumns(@Nonnull T rowObject);
+
+  @Nonnull
+  protected abstract Properties getProperties(@Nonnull T rowObject);
+
+  /**
+   * Writes the header line alone, for the header files that are given to
+   * the import tool separately from the data files.
+   */
+  public void encodeHeader(@Nonnull Writer output) throws IOException {
+    length = 0;
+    appendHeader();
+    output.write(buffer, 0, length);
+  }
+
+  @Override
+  public void flush() {
+    // Nothing is held between the rows
+  }
+
+  private void appendHeader() {
+    for (int i = 0; i < headerColumns.size(); i++) {
+      if (i > 0) {
+        append(SEPARATOR);
+      }
+      appendQuoted(headerColumns.get(i));
+    }
+    append(LINE_END);
+  }
+
+  private void appendProperties(@Nonnull Properties properties) throws IOException {
+    try {
+      properties.forEach(propertyCollector);
+      if (unknownProperty != null) {
+        throw new IOException("Unrecognized column '" + unknownProperty + "': known columns: " + columnDescription);
+      }
+      for (int i = 0; i < propertyValues.length; i++) {
+        if (i > 0) {
+          append(SEPARATOR);
+        }
+        var value = propertyValues[i];
+        if (value != null) {
+          appendValue(value);
+        }
+      }
+    } finally {
+      Arrays.fill(propertyValues, null);
+      unknownProperty = null;
+    }
+  }
+
+  private void collectProperty(@Nonnull String key, @Nonnull Object value) {
+    var column = propertyColumns.getInt(key);
+    if (column >= 0) {
+      propertyValues[column] = value;
+    } else if (unknownProperty == null) {
+      unknownProperty = key;
+    }
+  }
+
+  private void appendValue(@Nonnull Object value) {
+    if (value instanceof String) {
+      appendQuoted((String) value);
+    } else if (value instanceof Integer) {
+      appendInt((Integer) value);
+    } else if (value instanceof Boolean) {
+      append((Boolean) value ? TRUE : FALSE);
+    } else if (value instanceof Number) {
+      appendUnquoted(value.toString());
+    } else {
+      appendQuoted(value.toString());
+    }
+  }
+
+  protected void appendQuoted(@Nonnull String value) {
+    var valueLength = value.length();
+    ensureCapacity(valueLength + 2);
+    buffer[length++] = QUOTE;
+    for (int i = 0; i < valueLength; i++) {
+      var c = value.charAt(i);
+      if (c == QUOTE) {
+        ensureCapacity(valueLength - i + 2);
+        buffer[length++] = QUOTE;
+      }
+      buffer[length++] = c;
+    }
+    buffer[length++] = QUOTE;
+  }
+
+  protected void appendQuoted(@Nonnull char[] value) {
+    ensureCapacity(value.length + 2);
+    buffer[length++] = QUOTE;
+    append(value);
+    buffer[length++] = QUOTE;
+  }
+
+  protected void appendQuotedHex(@Nonnull byte[] bytes) {
+    ensureCapacity(bytes.length * 2 + 2);
+    buffer[length++] = QUOTE;
+    for (var b : bytes) {
+      buffer[length++] = HEX_DIGITS[(b >> 4) & 0xf];
+      buffer[length++] = HEX_DIGITS[b & 0xf];
+    }
+    buffer[length++] = QUOTE;
+  }
+
+  protected void appendSeparator() {
+    append(SEPARATOR);
+  }
+
+  private void appendUnquoted(@Nonnull String value) {
+    var valueLength = value.length();
+    ensureCapacity(valueLength);
+    value.getChars(0, valueLength, buffer, length);
+    length += valueLength;
+  }
+
+  private void appendInt(int value) {
+    if (value == Integer.MIN_VALUE) {
+      appendUnquoted(Integer.toString(value));
+      return;
+    }
+    ensureCapacity(11);
+    if (value < 0) {
+      buffer[length++] = '-';
+      value = -value;
+    }
+    var end = length + digitCount(value);
+    var position = end;
+    do {
+      buffer[--position] = (char) ('0' + value % 10);
+      value /= 10;
+    } while (value != 0);
+    length = end;
+  }
+
+  private static int digitCount(int value) {
+    var count = 1;
+    while (value >= 10) {
+      value /= 10;
+      count++;
+    }
+    return count;
+  }
+
+  private void append(@Nonnull char[] chars) {
+    ensureCapacity(chars.length);
+    System.arraycopy(chars, 0, buffer, length, chars.length);
+    length += chars.length;
+  }
+
+  private void append(char c) {
+    ensureCapacity(1);
+    buffer[length++] = c;
+  }
+
+  private void ensureCapacity(int extra) {
+    if (length + extra > buffer.length) {
+      buffer = Arrays.copyOf(buffer, Math.max(buffer.length * 2, length + extra));
+    }
+  }
+}
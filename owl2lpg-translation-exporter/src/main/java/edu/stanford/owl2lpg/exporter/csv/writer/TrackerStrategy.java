@@ -0,0 +1,23 @@
+package edu.stanford.owl2lpg.exporter.csv.writer;
+
+/**
+ * The strategies to track the nodes and edges that have been written, so
+ * that the duplicates can be skipped.
+ *
+ * @author Josef Hardi <josef.hardi@stanford.edu> <br>
+ * Stanford Center for Biomedical Informatics Research
+ */
+public enum TrackerStrategy {
+
+  /* Boxed identifiers in a java.util.HashSet */
+  HASH_SET,
+
+  /* Primitive long pairs in an open-addressing table on the Java heap */
+  COMPACT,
+
+  /* Primitive long pairs in an open-addressing table in direct memory */
+  COMPACT_OFF_HEAP,
+
+  /* A Bloom filter backed by sorted runs on disk, for exports larger than the heap */
+  SPILLING
+}
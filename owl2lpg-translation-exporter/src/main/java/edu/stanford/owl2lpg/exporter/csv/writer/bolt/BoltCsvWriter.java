@@ -0,0 +1,51 @@
+package edu.stanford.owl2lpg.exporter.csv.writer.bolt;
+
+import edu.stanford.owl2lpg.exporter.csv.writer.CsvWriter;
+
+import javax.annotation.Nonnull;
+import java.util.function.Consumer;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+
+/**
+ * Hands the rows to a {@link BoltLoader} instead of encoding them into CSV
+ * lines, so the exporters can load the translations into a running
+ * database without any change.
+ *
+ * @author Josef Hardi <josef.hardi@stanford.edu> <br>
+ * Stanford Center for Biomedical Informatics Research
+ */
+public class BoltCsvWriter<T> implements CsvWriter<T> {
+
+  @Nonnull
+  private final BoltLoader boltLoader;
+
+  @Nonnull
+  private final Consumer<T> rowConsumer;
+
+  public BoltCsvWriter(@Nonnull BoltLoader boltLoader,
+                       @Nonnull Consumer<T> rowConsumer) {
+    this.boltLoader = checkNotNull(boltLoader);
+    this.rowConsumer = checkNotNull(rowConsumer);
+  }
+
+  @Override
+  public void write(@Nonnull T rowObject) {
+    rowConsumer.accept(rowObject);
+  }
+
+  @Override
+  public void flush() {
+    boltLoader.flush();
+  }
+
+  @Override
+  public void closeOnShutdown() {
+    // NO-OP
+  }
+
+  @Override
+  public void close() {
+    flush();
+  }
+}
@@ -0,0 +1,89 @@
+package edu.stanford.owl2lpg.exporter.csv.writer.bolt;
+
+import dagger.Module;
+import dagger.Provides;
+import edu.stanford.owl2lpg.exporter.csv.writer.CompactEdgeTracker;
+import edu.stanford.owl2lpg.exporter.csv.writer.CompactNodeTracker;
+import edu.stanford.owl2lpg.exporter.csv.writer.CsvWriter;
+import edu.stanford.owl2lpg.exporter.csv.writer.EdgeTracker;
+import edu.stanford.owl2lpg.exporter.csv.writer.ExportMetadata;
+import edu.stanford.owl2lpg.exporter.csv.writer.NodeTracker;
+import edu.stanford.owl2lpg.model.Edge;
+import edu.stanford.owl2lpg.model.Node;
+import edu.stanford.owl2lpg.translator.TranslationSessionScope;
+import org.neo4j.driver.Driver;
+
+import javax.annotation.Nonnull;
+import java.nio.file.Path;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
+
+/**
+ * Replaces the {@link edu.stanford.owl2lpg.exporter.csv.writer.CsvWriterModule}
+ * to load the exported nodes and edges into a running Neo4j database
+ * instead of writing them to CSV files.
+ *
+ * @author Josef Hardi <josef.hardi@stanford.edu> <br>
+ * Stanford Center for Biomedical Informatics Research
+ */
+@Module
+public class BoltCsvWriterModule {
+
+  public static final int DEFAULT_ROWS_PER_TRANSACTION = 10_000;
+
+  @Nonnull
+  private final Driver driver;
+
+  private final int rowsPerTransaction;
+
+  public BoltCsvWriterModule(@Nonnull Driver driver) {
+    this(driver, DEFAULT_ROWS_PER_TRANSACTION);
+  }
+
+  public BoltCsvWriterModule(@Nonnull Driver driver, int rowsPerTransaction) {
+    checkArgument(rowsPerTransaction > 0, "Rows per transaction must be positive");
+    this.driver = checkNotNull(driver);
+    this.rowsPerTransaction = rowsPerTransaction;
+  }
+
+  @Provides
+  @TranslationSessionScope
+  public BoltLoader provideBoltLoader() {
+    return new BoltLoader(driver, rowsPerTransaction);
+  }
+
+  @Provides
+  @TranslationSessionScope
+  public CsvWriter<Node> provideNodeCsvWriter(BoltLoader boltLoader) {
+    return new BoltCsvWriter<Node>(boltLoader, boltLoader::add);
+  }
+
+  @Provides
+  @TranslationSessionScope
+  public CsvWriter<Edge> provideEdgeCsvWriter(BoltLoader boltLoader) {
+    return new BoltCsvWriter<Edge>(boltLoader, boltLoader::add);
+  }
+
+  @Provides
+  @TranslationSessionScope
+  public NodeTracker provideNodeTracker() {
+    return new CompactNodeTracker(false);
+  }
+
+  @Provides
+  @TranslationSessionScope
+  public EdgeTracker provideEdgeTracker() {
+    return new CompactEdgeTracker(false);
+  }
+
+  /**
+   * Provides an empty metadata, since the loader writes no files. The
+   * metadata file is only written when an entry is added.
+   */
+  @Provides
+  @TranslationSessionScope
+  public ExportMetadata provideExportMetadata() {
+    return new ExportMetadata(Path.of(""));
+  }
+}
@@ -0,0 +1,126 @@
+package edu.stanford.owl2lpg.exporter.csv.writer.bolt;
+
+import com.google.common.collect.ImmutableSet;
+import edu.stanford.owl2lpg.model.Edge;
+import edu.stanford.owl2lpg.model.Node;
+import edu.stanford.owl2lpg.model.UnwindQueryBuilder;
+import edu.stanford.owl2lpg.translator.vocab.NodeLabels;
+import org.neo4j.driver.Driver;
+import org.neo4j.driver.Values;
+import org.neo4j.driver.exceptions.ClientException;
+
+import javax.annotation.Nonnull;
+import java.io.Closeable;
+import java.util.TreeSet;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
+
+/**
+ * Loads the translated nodes and edges straight into a running Neo4j
+ * database over the Bolt protocol. The nodes and edges are collected in an
+ * {@link UnwindQueryBuilder} and written with a few <code>UNWIND</code>
+ * queries in one write transaction each time the given number of rows is
+ * reached, and when the loader is flushed.
+ *
+ * @author Josef Hardi <josef.hardi@stanford.edu> <br>
+ * Stanford Center for Biomedical Informatics Research
+ */
+public class BoltLoader implements Closeable {
+
+  /* The errors of an index that exists already, possibly as a uniqueness constraint */
+  private static final ImmutableSet<String> INDEX_EXISTS = ImmutableSet.of(
+      "Neo.ClientError.Schema.EquivalentSchemaRuleAlreadyExists",
+      "Neo.ClientError.Schema.IndexAlreadyExists",
+      "Neo.ClientError.Schema.ConstraintAlreadyExists");
+
+  @Nonnull
+  private final Driver driver;
+
+  private final int rowsPerTransaction;
+
+  @Nonnull
+  private final UnwindQueryBuilder queryBuilder;
+
+  private long transactionCount = 0;
+
+  private long queryCount = 0;
+
+  public BoltLoader(@Nonnull Driver driver, int rowsPerTransaction) {
+    checkArgument(rowsPerTransaction > 0, "Rows per transaction must be positive");
+    this.driver = checkNotNull(driver);
+    this.rowsPerTransaction = rowsPerTransaction;
+    this.queryBuilder = new UnwindQueryBuilder(rowsPerTransaction);
+  }
+
+  /**
+   * Creates the indexes on the key properties of the node labels that the
+   * edge queries use to find their nodes. The existing indexes are kept.
+   */
+  public void createIndexes() {
+    var indexes = Stream.of(NodeLabels.values())
+        .map(labels -> UnwindQueryBuilder.getIndexedLabel(labels) + ") ON (n." + UnwindQueryBuilder.getIndexedProperty(labels))
+        .collect(Collectors.toCollection(TreeSet::new));
+    try (var session = driver.session()) {
+      for (var index : indexes) {
+        try {
+          session.run("CREATE INDEX FOR (n:" + index + ")").consume();
+        } catch (ClientException e) {
+          if (!INDEX_EXISTS.contains(e.code())) {
+            throw e;
+          }
+        }
+      }
+      session.run("CALL db.awaitIndexes()").consume();
+    }
+  }
+
+  public synchronized void add(@Nonnull Node node) {
+    queryBuilder.acceptNode(node);
+    flushIfFull();
+  }
+
+  public synchronized void add(@Nonnull Edge edge) {
+    queryBuilder.acceptEdge(edge);
+    flushIfFull();
+  }
+
+  private void flushIfFull() {
+    if (queryBuilder.getRowCount() >= rowsPerTransaction) {
+      flush();
+    }
+  }
+
+  public synchronized void flush() {
+    if (queryBuilder.getRowCount() == 0) {
+      return;
+    }
+    var queries = queryBuilder.build();
+    try (var session = driver.session()) {
+      session.writeTransaction(tx -> {
+        for (var query : queries) {
+          tx.run(query.getQueryString(), Values.value(query.getParameters())).consume();
+        }
+        return queries.size();
+      });
+    }
+    transactionCount++;
+    queryCount += queries.size();
+    queryBuilder.clear();
+  }
+
+  public synchronized long getTransactionCount() {
+    return transactionCount;
+  }
+
+  public synchronized long getQueryCount() {
+    return queryCount;
+  }
+
+  @Override
+  public void close() {
+    flush();
+  }
+}
@@ -1,32 +1,32 @@
 package edu.stanford.owl2lpg.exporter.csv.writer.noop;
 
-import com.fasterxml.jackson.dataformat.csv.CsvMapper;
 import edu.stanford.owl2lpg.exporter.csv.writer.CsvWriter;
-import edu.stanford.owl2lpg.exporter.csv.writer.Neo4jCsvSchema;
 
 import javax.annotation.Nonnull;
-import java.io.IOException;
-import java.io.Writer;
 
 /**
  * @author Josef Hardi <josef.hardi@stanford.edu> <br>
  * Stanford Center for Biomedical Informatics Research
  */
-public class NoOpCsvWriter<T> extends CsvWriter<T> {
+public class NoOpCsvWriter<T> implements CsvWriter<T> {
 
-  public NoOpCsvWriter(@Nonnull CsvMapper csvMapper,
-                       @Nonnull Neo4jCsvSchema schema,
-                       @Nonnull Writer output) {
-    super(csvMapper, schema, output);
+  @Override
+  public void write(@Nonnull T rowObject) {
+    // Discard
   }
 
   @Override
-  public void write(@Nonnull T rowObject) throws IOException {
-    // Discard
+  public void flush() {
+    // NO-OP
+  }
+
+  @Override
+  public void closeOnShutdown() {
+    // NO-OP
   }
 
   @Override
-  public void flush() throws IOException {
+  public void close() {
     // NO-OP
   }
 }
@@ -1,12 +1,9 @@
 package edu.stanford.owl2lpg.exporter.csv.writer.noop;
 
-import com.fasterxml.jackson.dataformat.csv.CsvMapper;
 import dagger.Module;
 import dagger.Provides;
 import edu.stanford.owl2lpg.exporter.csv.writer.CsvWriter;
 import edu.stanford.owl2lpg.exporter.csv.writer.EdgeTracker;
-import edu.stanford.owl2lpg.exporter.csv.writer.Neo4jNodeCsvSchema;
-import edu.stanford.owl2lpg.exporter.csv.writer.Neo4jRelationshipsCsvSchema;
 import edu.stanford.owl2lpg.exporter.csv.writer.NodeTracker;
 import edu.stanford.owl2lpg.model.Edge;
 import edu.stanford.owl2lpg.model.Node;
@@ -22,19 +19,13 @@ public class NoOpCsvWriterModule {
   @Provides
   @TranslationSessionScope
   public CsvWriter<Node> provideNodeCsvWriter() {
-    return new NoOpCsvWriter<Node>(
-        new CsvMapper(),
-        new Neo4jNodeCsvSchema(),
-        new NoOpWriter());
+    return new NoOpCsvWriter<>();
   }
 
   @Provides
   @TranslationSessionScope
   public CsvWriter<Edge> provideEdgeCsvWriter() {
-    return new NoOpCsvWriter<Edge>(
-        new CsvMapper(),
-        new Neo4jRelationshipsCsvSchema(),
-        new NoOpWriter());
+    return new NoOpCsvWriter<>();
   }
 
   @Provides
@@ -25,4 +25,9 @@ public class NoOpEdgeTracker implements EdgeTracker {
   public int size() {
     return 0;
   }
+
+  @Override
+  public long getMemoryUsage() {
+    return 0;
+  }
 }
@@ -5,15 +5,20 @@ import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.annotation.JsonPropertyOrder;
 import com.fasterxml.jackson.dataformat.csv.CsvMapper;
 import edu.stanford.owl2lpg.exporter.csv.writer.CsvWriter;
+import edu.stanford.owl2lpg.exporter.csv.writer.CsvWriterImpl;
+import edu.stanford.owl2lpg.exporter.csv.writer.FlushPolicy;
 import edu.stanford.owl2lpg.exporter.csv.writer.Neo4jNodeCsvSchema;
 import edu.stanford.owl2lpg.model.Properties;
 import org.junit.Before;
 import org.junit.Test;
 
+import java.io.BufferedWriter;
 import java.io.IOException;
 import java.io.StringWriter;
 import java.util.Map;
 
+import static org.hamcrest.CoreMatchers.containsString;
+import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.CoreMatchers.startsWith;
 import static org.hamcrest.MatcherAssert.assertThat;
 
@@ -30,7 +35,7 @@ public class CsvWriter_IT {
   @Before
   public void setUp() throws Exception {
     sw = new StringWriter();
-    writer = new CsvWriter<>(new CsvMapper(), new Neo4jNodeCsvSchema(), sw);
+    writer = new CsvWriterImpl<>(new CsvMapper(), new Neo4jNodeCsvSchema(), sw);
   }
 
   @Test
@@ -65,6 +70,28 @@ public class CsvWriter_IT {
     assertThat(lines[2], startsWith("S3,S4"));
   }
 
+  @Test
+  public void shouldDeferRowsUntilClose() throws IOException {
+    writer = new CsvWriterImpl<>(new CsvMapper(), new Neo4jNodeCsvSchema(), new BufferedWriter(sw), FlushPolicy.onClose());
+    writer.write(new Ex("S1", "S2"));
+    writer.write(new Ex("S3", "S4"));
+    assertThat(sw.toString(), is(""));
+    writer.close();
+    String[] lines = sw.toString().trim().split("\n");
+    assertThat(lines[2], containsString("S3"));
+  }
+
+  @Test
+  public void shouldFlushEveryNRows() throws IOException {
+    writer = new CsvWriterImpl<>(new CsvMapper(), new Neo4jNodeCsvSchema(), new BufferedWriter(sw), FlushPolicy.everyRows(2));
+    writer.write(new Ex("S1", "S2"));
+    writer.write(new Ex("S3", "S4"));
+    writer.write(new Ex("S5", "S6"));
+    String[] lines = sw.toString().trim().split("\n");
+    assertThat(lines.length, is(3));
+    assertThat(lines[2], containsString("S3"));
+  }
+
   @JsonPropertyOrder({":ID", ":LABEL"})
   private static class Ex {
 
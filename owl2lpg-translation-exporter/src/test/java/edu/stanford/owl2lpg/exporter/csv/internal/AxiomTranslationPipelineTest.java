@@ -0,0 +1,145 @@
+package edu.stanford.owl2lpg.exporter.csv.internal;
+
+import com.google.common.collect.HashMultiset;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.Multiset;
+import edu.stanford.owl2lpg.model.ConcurrentNodeIdMapper;
+import edu.stanford.owl2lpg.model.Edge;
+import edu.stanford.owl2lpg.model.Node;
+import edu.stanford.owl2lpg.model.NodeIdMapper;
+import edu.stanford.owl2lpg.model.TranslationSink;
+import edu.stanford.owl2lpg.translator.DaggerTranslatorComponent;
+import edu.stanford.owl2lpg.translator.internal.BlockReservingIdProvider;
+import edu.stanford.owl2lpg.translator.internal.DigestNodeIdProvider;
+import edu.stanford.owl2lpg.translator.internal.IdFormatCheckerImpl;
+import edu.stanford.owl2lpg.translator.internal.SingleEncounterNodeCheckerImpl;
+import edu.stanford.owl2lpg.translator.internal.StructuralNodeIdProvider;
+import edu.stanford.owl2lpg.translator.shared.BuiltInPrefixDeclarationsModule;
+import edu.stanford.owl2lpg.translator.shared.DigestFunctionModule;
+import edu.stanford.owl2lpg.translator.shared.EdgeIdEncoding;
+import edu.stanford.owl2lpg.translator.shared.ExpressionIdFormat;
+import edu.stanford.owl2lpg.translator.shared.HashStrategy;
+import org.junit.Before;
+import org.junit.Test;
+import org.semanticweb.owlapi.model.OWLAxiom;
+
+import javax.annotation.Nonnull;
+import java.util.List;
+
+import static edu.stanford.owl2lpg.translator.vocab.NodeLabels.AXIOM;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.semanticweb.owlapi.apibinding.OWLFunctionalSyntaxFactory.*;
+
+public class AxiomTranslationPipelineTest {
+
+  private static final int ENTITY_COUNT = 500;
+
+  private ImmutableList<OWLAxiom> axioms;
+
+  @Before
+  public void setUp() {
+    var axioms = ImmutableList.<OWLAxiom>builder();
+    var label = AnnotationProperty(IRI("http://example.org/label"));
+    var p = ObjectProperty(IRI("http://example.org/p"));
+    var r = DataProperty(IRI("http://example.org/r"));
+    for (int i = 0; i < ENTITY_COUNT; i++) {
+      var c = Class(IRI("http://example.org/C" + i));
+      var individual = NamedIndividual(IRI("http://example.org/I" + i));
+      axioms.add(Declaration(c),
+          SubClassOf(c, Class(IRI("http://example.org/C" + i / 2))),
+          AnnotationAssertion(label, c.getIRI(), Literal("C" + i, "en")),
+          ClassAssertion(c, individual),
+          ObjectPropertyAssertion(p, individual, NamedIndividual(IRI("http://example.org/I" + (i + 1)))),
+          DataPropertyAssertion(r, individual, Literal(i)));
+    }
+    this.axioms = axioms.build();
+  }
+
+  @Test
+  public void shouldTranslateSameAsSequentialTranslator() {
+    assertSameAsSequentialTranslator(axioms, HashStrategy.LEGACY, EdgeIdEncoding.STRING, ExpressionIdFormat.NUMBER);
+  }
+
+  @Test
+  public void shouldTranslateWithGivenHashStrategyAndEdgeIdEncoding() {
+    assertSameAsSequentialTranslator(axioms, HashStrategy.MURMUR3, EdgeIdEncoding.BINARY, ExpressionIdFormat.NUMBER);
+  }
+
+  @Test
+  public void shouldTranslateWithGivenExpressionIdFormat() {
+    var p = ObjectProperty(IRI("http://example.org/p"));
+    var expressionAxioms = ImmutableList.<OWLAxiom>builder();
+    for (int i = 0; i < ENTITY_COUNT; i++) {
+      var c = Class(IRI("http://example.org/C" + i));
+      var d = Class(IRI("http://example.org/C" + i / 2));
+      expressionAxioms.add(SubClassOf(c, ObjectSomeValuesFrom(p, d)),
+          EquivalentClasses(c, ObjectIntersectionOf(d, ObjectSomeValuesFrom(p, c))));
+    }
+    assertSameAsSequentialTranslator(expressionAxioms.build(),
+        HashStrategy.LEGACY, EdgeIdEncoding.STRING, ExpressionIdFormat.STRUCTURAL);
+  }
+
+  private static void assertSameAsSequentialTranslator(List<OWLAxiom> axioms,
+                                                       HashStrategy hashStrategy,
+                                                       EdgeIdEncoding edgeIdEncoding,
+                                                       ExpressionIdFormat expressionIdFormat) {
+    var sequentialSink = new ComparingSink();
+    var axiomTranslator = DaggerTranslatorComponent.builder()
+        .builtInPrefixDeclarationsModule(new BuiltInPrefixDeclarationsModule())
+        .digestFunctionModule(new DigestFunctionModule(hashStrategy, edgeIdEncoding, expressionIdFormat))
+        .build()
+        .getAxiomTranslator();
+    axioms.forEach(axiom -> axiomTranslator.translate(axiom).emitTo(sequentialSink));
+
+    var parallelSink = new ComparingSink();
+    try (var pipeline = new AxiomTranslationPipeline(createSharedNodeIdMapper(hashStrategy, expressionIdFormat),
+        hashStrategy, edgeIdEncoding, expressionIdFormat, 4, 16)) {
+      pipeline.translate(axioms, translation -> translation.emitTo(parallelSink));
+    }
+    assertThat(parallelSink.nodes, equalTo(sequentialSink.nodes));
+    assertThat(parallelSink.edges, equalTo(sequentialSink.edges));
+  }
+
+  private static NodeIdMapper createSharedNodeIdMapper(HashStrategy hashStrategy,
+                                                       ExpressionIdFormat expressionIdFormat) {
+    var hashFunction = hashStrategy.getIdHashFunction();
+    var digestIdProvider = new DigestNodeIdProvider(hashFunction);
+    return new ConcurrentNodeIdMapper(new BlockReservingIdProvider(16),
+        digestIdProvider,
+        new StructuralNodeIdProvider(hashFunction, digestIdProvider),
+        new IdFormatCheckerImpl(expressionIdFormat),
+        new SingleEncounterNodeCheckerImpl());
+  }
+
+  /*
+   * The axiom nodes are numbered in translation order, hence they are
+   * compared by their labels and their properties, which include the axiom
+   * digest, and so are the edges from and to them.
+   */
+  private static class ComparingSink implements TranslationSink {
+
+    private final Multiset<Object> nodes = HashMultiset.create();
+
+    private final Multiset<Object> edges = HashMultiset.create();
+
+    @Override
+    public void acceptNode(@Nonnull Node node) {
+      nodes.add(toComparable(node));
+    }
+
+    @Override
+    public void acceptEdge(@Nonnull Edge edge) {
+      if (edge.getFromNode().isTypeOf(AXIOM) || edge.getToNode().isTypeOf(AXIOM)) {
+        edges.add(List.of(toComparable(edge.getFromNode()), edge.getLabel(), edge.getProperties(),
+            toComparable(edge.getToNode())));
+      } else {
+        edges.add(edge);
+      }
+    }
+
+    private static Object toComparable(Node node) {
+      return node.isTypeOf(AXIOM) ? List.of(node.getLabels(), node.getProperties()) : node;
+    }
+  }
+}
@@ -0,0 +1,96 @@
+package edu.stanford.owl2lpg.exporter.csv.internal;
+
+import com.google.common.hash.Hashing;
+import edu.stanford.owl2lpg.model.ConcurrentNodeIdMapper;
+import edu.stanford.owl2lpg.model.NodeIdMapper;
+import edu.stanford.owl2lpg.model.Translation;
+import edu.stanford.owl2lpg.translator.internal.BlockReservingIdProvider;
+import edu.stanford.owl2lpg.translator.internal.DigestNodeIdProvider;
+import edu.stanford.owl2lpg.translator.internal.IdFormatCheckerImpl;
+import edu.stanford.owl2lpg.translator.internal.SingleEncounterNodeCheckerImpl;
+import edu.stanford.owl2lpg.translator.internal.StructuralNodeIdProvider;
+import edu.stanford.owl2lpg.translator.shared.EdgeIdEncoding;
+import edu.stanford.owl2lpg.translator.shared.ExpressionIdFormat;
+import edu.stanford.owl2lpg.translator.shared.HashStrategy;
+import org.junit.Before;
+import org.junit.Test;
+import org.obolibrary.oboformat.model.Frame;
+import org.semanticweb.owlapi.model.IRI;
+import org.semanticweb.owlapi.model.OWLAxiom;
+import uk.ac.manchester.cs.owl.owlapi.OWLClassImpl;
+import uk.ac.manchester.cs.owl.owlapi.OWLDeclarationAxiomImpl;
+import uk.ac.manchester.cs.owl.owlapi.OWLSubClassOfAxiomImpl;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.Function;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+public class FrameTranslationPipelineTest {
+
+  private static final int FRAME_COUNT = 5_000;
+
+  private NodeIdMapper nodeIdMapper;
+
+  @Before
+  public void setUp() {
+    var digestIdProvider = new DigestNodeIdProvider(Hashing.md5());
+    nodeIdMapper = new ConcurrentNodeIdMapper(new BlockReservingIdProvider(16),
+        digestIdProvider,
+        new StructuralNodeIdProvider(Hashing.md5(), digestIdProvider),
+        new IdFormatCheckerImpl(),
+        new SingleEncounterNodeCheckerImpl());
+  }
+
+  @Test
+  public void shouldWriteTheAxiomsOfAllFrames() {
+    var translations = new ArrayList<Translation>();
+    try (var pipeline = new FrameTranslationPipeline(nodeIdMapper, HashStrategy.LEGACY, EdgeIdEncoding.STRING,
+        ExpressionIdFormat.NUMBER, 4,
+        FrameTranslationPipelineTest::createFrameConverter, translations::add)) {
+      for (int i = 0; i < FRAME_COUNT; i++) {
+        pipeline.submit(createFrame(i));
+      }
+      pipeline.finish();
+      assertThat(pipeline.getSubmittedFrameCount(), is((long) FRAME_COUNT));
+      assertThat(pipeline.getTranslatedFrameCount(), is((long) FRAME_COUNT));
+      assertThat(pipeline.getWrittenAxiomCount(), is(2L * FRAME_COUNT));
+    }
+    assertThat(translations.size(), is(2 * FRAME_COUNT));
+  }
+
+  @Test(expected = RuntimeException.class)
+  public void shouldFailWhenTheWriterFails() {
+    try (var pipeline = new FrameTranslationPipeline(nodeIdMapper, HashStrategy.LEGACY, EdgeIdEncoding.STRING,
+        ExpressionIdFormat.NUMBER, 2,
+        FrameTranslationPipelineTest::createFrameConverter,
+        translation -> {
+          throw new IllegalStateException("Unable to write");
+        })) {
+      for (int i = 0; i < FRAME_COUNT; i++) {
+        pipeline.submit(createFrame(i));
+      }
+      pipeline.finish();
+    }
+  }
+
+  private static Frame createFrame(int i) {
+    var frame = new Frame(Frame.FrameType.TERM);
+    frame.setId("T:" + i);
+    return frame;
+  }
+
+  private static Function<Frame, Collection<OWLAxiom>> createFrameConverter() {
+    var superClass = new OWLClassImpl(IRI.create("http://example.org/T"));
+    return frame -> {
+      var frameClass = new OWLClassImpl(IRI.create("http://example.org/" + frame.getId()));
+      return List.of(
+          new OWLDeclarationAxiomImpl(frameClass, Collections.emptySet()),
+          new OWLSubClassOfAxiomImpl(frameClass, superClass, Collections.emptySet()));
+    };
+  }
+}
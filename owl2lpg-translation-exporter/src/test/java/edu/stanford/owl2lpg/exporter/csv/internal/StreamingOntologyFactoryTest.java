@@ -0,0 +1,62 @@
+package edu.stanford.owl2lpg.exporter.csv.internal;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.semanticweb.owlapi.apibinding.OWLManager;
+import org.semanticweb.owlapi.io.StringDocumentSource;
+import org.semanticweb.owlapi.model.IRI;
+import org.semanticweb.owlapi.model.OWLAnnotation;
+import org.semanticweb.owlapi.model.OWLAxiom;
+import org.semanticweb.owlapi.model.OWLOntologyManager;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+public class StreamingOntologyFactoryTest {
+
+  private static final String DOCUMENT = "Prefix(:=<http://example.org/o#>)\n"
+      + "Ontology(<http://example.org/o>\n"
+      + "Annotation(rdfs:comment \"An ontology\")\n"
+      + "Declaration(Class(:A))\n"
+      + "Declaration(Class(:B))\n"
+      + "SubClassOf(:B :A)\n"
+      + ")";
+
+  private final List<OWLAxiom> axioms = new ArrayList<>();
+
+  private final List<OWLAnnotation> annotations = new ArrayList<>();
+
+  private OWLOntologyManager ontologyManager;
+
+  private StringDocumentSource documentSource;
+
+  private StreamingOntologyFactory ontologyFactory;
+
+  @Before
+  public void setUp() {
+    documentSource = new StringDocumentSource(DOCUMENT);
+    ontologyFactory = new StreamingOntologyFactory(documentSource.getDocumentIRI(), axioms::add, annotations::add);
+    ontologyManager = OWLManager.createOWLOntologyManager();
+    ontologyManager.getOntologyFactories().set(ontologyFactory);
+  }
+
+  @Test
+  public void shouldStreamAxiomsWithoutStoringThem() throws Exception {
+    var ontology = ontologyManager.loadOntologyFromOntologyDocument(documentSource);
+    assertThat(axioms.size(), is(3));
+    assertThat(annotations.size(), is(1));
+    assertThat(ontology.getAxiomCount(), is(0));
+    assertThat(ontologyFactory.getStreamedAxiomCount(), is(3L));
+  }
+
+  @Test
+  public void shouldKeepOntologyId() throws Exception {
+    ontologyManager.loadOntologyFromOntologyDocument(documentSource);
+    var ontologyIri = ontologyFactory.getOntologyID().getOntologyIRI();
+    assertThat(ontologyIri.isPresent(), is(true));
+    assertThat(ontologyIri.get(), is(IRI.create("http://example.org/o")));
+  }
+}
@@ -0,0 +1,64 @@
+package edu.stanford.owl2lpg.exporter.csv.writer;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Random;
+import java.util.zip.GZIPInputStream;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+public class BackgroundCompressionOutputStreamTest {
+
+  @Rule
+  public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+  private Path outputFile;
+
+  @Before
+  public void setUp() throws Exception {
+    outputFile = temporaryFolder.newFolder().toPath().resolve("nodes.csv.gz");
+  }
+
+  @Test
+  public void shouldCompressAcrossManyChunks() throws IOException {
+    var expected = new byte[100_000];
+    new Random(7).nextBytes(expected);
+    try (var output = new BackgroundCompressionOutputStream(outputFile, CsvCompression.GZIP, 1_000)) {
+      output.write(expected, 0, 50_000);
+      output.flush();
+      for (int i = 50_000; i < 60_000; i++) {
+        output.write(expected[i]);
+      }
+      output.write(expected, 60_000, 40_000);
+    }
+    assertThat(readCompressed(outputFile), is(expected));
+  }
+
+  @Test
+  public void shouldWriteEmptyStream() throws IOException {
+    new BackgroundCompressionOutputStream(outputFile, CsvCompression.GZIP).close();
+    assertThat(readCompressed(outputFile), is(new byte[0]));
+  }
+
+  @Test
+  public void shouldWriteUncompressedWithoutCodec() throws IOException {
+    var expected = "\":ID\",\":LABEL\"\n".getBytes();
+    try (var output = new BackgroundCompressionOutputStream(outputFile, CsvCompression.NONE, 4)) {
+      output.write(expected);
+    }
+    assertThat(Files.readAllBytes(outputFile), is(expected));
+  }
+
+  private static byte[] readCompressed(Path file) throws IOException {
+    try (var input = new GZIPInputStream(Files.newInputStream(file))) {
+      return input.readAllBytes();
+    }
+  }
+}
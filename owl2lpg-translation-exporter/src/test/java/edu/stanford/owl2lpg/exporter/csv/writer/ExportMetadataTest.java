@@ -0,0 +1,52 @@
+package edu.stanford.owl2lpg.exporter.csv.writer;
+
+import edu.stanford.owl2lpg.translator.shared.EdgeIdEncoding;
+import edu.stanford.owl2lpg.translator.shared.ExpressionIdFormat;
+import edu.stanford.owl2lpg.translator.shared.HashStrategy;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.nio.file.Files;
+import java.util.List;
+import java.util.Optional;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+public class ExportMetadataTest {
+
+  @Rule
+  public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+  @Test
+  public void shouldReadBackSettingsOfExport() throws Exception {
+    var outputPath = temporaryFolder.newFolder().toPath();
+    new CsvWriterModule(outputPath)
+        .provideExportMetadata(HashStrategy.MURMUR3, EdgeIdEncoding.BINARY, ExpressionIdFormat.STRUCTURAL);
+
+    var exportMetadata = ExportMetadata.read(outputPath);
+    assertThat(exportMetadata.get(ExportMetadata.HASH_STRATEGY).map(HashStrategy::valueOf),
+        is(Optional.of(HashStrategy.MURMUR3)));
+    assertThat(exportMetadata.get(ExportMetadata.ID_HASH), is(Optional.of("murmur3_128")));
+    assertThat(exportMetadata.get(ExportMetadata.DIGEST_HASH), is(Optional.of("murmur3_128x2")));
+    assertThat(exportMetadata.get(ExportMetadata.EDGE_ID_ENCODING).map(EdgeIdEncoding::valueOf),
+        is(Optional.of(EdgeIdEncoding.BINARY)));
+    assertThat(exportMetadata.get(ExportMetadata.EXPRESSION_ID_FORMAT).map(ExpressionIdFormat::valueOf),
+        is(Optional.of(ExpressionIdFormat.STRUCTURAL)));
+  }
+
+  @Test
+  public void shouldKeepEntriesWhenAddingToReadMetadata() throws Exception {
+    var outputPath = temporaryFolder.newFolder().toPath();
+    new ExportMetadata(outputPath).put("a", "x=1");
+
+    var exportMetadata = ExportMetadata.read(outputPath);
+    assertThat(exportMetadata.get("a"), is(Optional.of("x=1")));
+    exportMetadata.put("b", "2");
+    assertThat(Files.readAllLines(exportMetadata.getMetadataFile()), equalTo(List.of("a=x=1", "b=2")));
+    assertThat(ExportMetadata.read(outputPath).get("b"), is(Optional.of("2")));
+    assertThat(ExportMetadata.read(outputPath).get("c"), is(Optional.empty()));
+  }
+}
@@ -0,0 +1,88 @@
+package edu.stanford.owl2lpg.exporter.csv.writer;
+
+import com.google.common.hash.Hashing;
+import edu.stanford.owl2lpg.model.NodeId;
+import org.junit.Test;
+
+import java.nio.charset.StandardCharsets;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+@SuppressWarnings("UnstableApiUsage")
+public class LongPairHashSetTest {
+
+  private static final int ENTRY_COUNT = 100_000;
+
+  @Test
+  public void shouldTrackDigestIdsOnHeap() {
+    shouldTrackDigestIds(new LongPairHashSet(16, false));
+  }
+
+  @Test
+  public void shouldTrackDigestIdsOffHeap() {
+    shouldTrackDigestIds(new LongPairHashSet(16, true));
+  }
+
+  private static void shouldTrackDigestIds(LongPairHashSet set) {
+    for (int i = 0; i < ENTRY_COUNT; i++) {
+      assertThat(set.add(digest(i)), is(true));
+    }
+    for (int i = 0; i < ENTRY_COUNT; i++) {
+      assertThat(set.add(digest(i)), is(false));
+      assertThat(set.contains(digest(i)), is(true));
+    }
+    assertThat(set.contains(digest(ENTRY_COUNT)), is(false));
+    assertThat(set.size(), is((long) ENTRY_COUNT));
+  }
+
+  @Test
+  public void shouldTrackNumberIds() {
+    var set = new LongPairHashSet(16, false);
+    for (long i = 0; i < ENTRY_COUNT; i++) {
+      assertThat(set.add(NodeId.create(i).getBytes()), is(true));
+    }
+    assertThat(set.add(NodeId.create(0L).getBytes()), is(false));
+    assertThat(set.contains(NodeId.create(42L).getBytes()), is(true));
+    assertThat(set.contains(NodeId.create((long) ENTRY_COUNT).getBytes()), is(false));
+    assertThat(set.size(), is((long) ENTRY_COUNT));
+  }
+
+  @Test
+  public void shouldTrackLongIds() {
+    var set = new LongPairHashSet(16, false);
+    var id = NodeId.create("12345678-1234-1234-1234-123456789abc").getBytes();
+    assertThat(set.add(id), is(true));
+    assertThat(set.add(id), is(false));
+  }
+
+  @Test
+  public void shouldTellApartIdsOfDifferentLengths() {
+    var set = new LongPairHashSet(16, false);
+    var ids = new byte[][]{
+        {1},
+        {0, 0, 0, 1},
+        {0, 0, 0, 0, 0, 0, 0, 1},
+        {0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 1},
+        {0, 0, 0, 0, 0, 0, 0, 0},
+        {0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0}};
+    for (var id : ids) {
+      assertThat(set.add(id), is(true));
+    }
+    for (var id : ids) {
+      assertThat(set.contains(id), is(true));
+    }
+    assertThat(set.contains(new byte[]{0, 1}), is(false));
+    assertThat(set.size(), is((long) ids.length));
+  }
+
+  @Test
+  public void shouldReportAllocatedMemory() {
+    var set = new LongPairHashSet(1_000, false);
+    assertThat(set.getMemoryUsage(), is(2048L * 16));
+  }
+
+  private static byte[] digest(int i) {
+    return Hashing.md5().hashString("node" + i, StandardCharsets.UTF_8).asBytes();
+  }
+}
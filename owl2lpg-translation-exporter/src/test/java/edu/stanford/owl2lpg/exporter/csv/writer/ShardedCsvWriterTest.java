@@ -0,0 +1,145 @@
+package edu.stanford.owl2lpg.exporter.csv.writer;
+
+import com.google.common.collect.ImmutableMap;
+import edu.stanford.owl2lpg.model.Node;
+import edu.stanford.owl2lpg.model.NodeId;
+import edu.stanford.owl2lpg.model.Properties;
+import edu.stanford.owl2lpg.translator.vocab.NodeLabels;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import static edu.stanford.owl2lpg.translator.vocab.PropertyFields.IRI;
+import static edu.stanford.owl2lpg.translator.vocab.PropertyFields.LOCAL_NAME;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+public class ShardedCsvWriterTest {
+
+  private static final int NODE_COUNT = 5_000;
+
+  @Rule
+  public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+  private Path outputDirectory;
+
+  private Neo4jImportArguments importArguments;
+
+  private List<Node> nodes;
+
+  @Before
+  public void setUp() throws Exception {
+    outputDirectory = temporaryFolder.newFolder().toPath();
+    importArguments = new Neo4jImportArguments(outputDirectory);
+    nodes = new ArrayList<>();
+    for (int i = 0; i < NODE_COUNT; i++) {
+      var nodeLabels = (i % 2 == 0) ? NodeLabels.CLASS : NodeLabels.NAMED_INDIVIDUAL;
+      nodes.add(Node.create(NodeId.create(i), nodeLabels,
+          Properties.create(ImmutableMap.of(IRI, "http://example.org/" + i, LOCAL_NAME, String.valueOf(i)))));
+    }
+  }
+
+  @Test
+  public void shouldWriteOneFilePerLabel() throws IOException {
+    writeNodes(CsvShardFunctions.nodesByLabel(), false);
+
+    assertThat(readLines("nodes-header.csv"), is(List.of(
+        "\":ID\",\"projectId\",\"branchId\",\"ontologyDocumentId\",\"iri\",\"localName\",\"prefixedName\","
+            + "\"oboId\",\"lexicalForm\",\"datatype\",\"language\",\"nodeID\",\"cardinality:int\",\"digest\"")));
+    assertThat(readLines("nodes-CLASS.csv").size(), is(NODE_COUNT / 2));
+    assertThat(readLines("nodes-NAMED_INDIVIDUAL.csv").size(), is(NODE_COUNT / 2));
+    assertThat(readLines("nodes-CLASS.csv").get(0),
+        is("\"0000000000000000\",,,,\"http://example.org/0\",\"0\",,,,,,,,"));
+    assertThat(readLines(Neo4jImportArguments.FILE_NAME), is(List.of(
+        "--nodes=Class:ClassExpression:Entity=" + pathOf("nodes-header.csv") + "," + pathOf("nodes-CLASS.csv"),
+        "--nodes=NamedIndividual:Individual:Entity=" + pathOf("nodes-header.csv") + "," + pathOf("nodes-NAMED_INDIVIDUAL.csv"))));
+  }
+
+  @Test
+  public void shouldWriteHashPartitions() throws IOException {
+    writeNodes(CsvShardFunctions.nodesByHash(4), true);
+
+    var shardFiles = List.of("nodes-part-000.csv", "nodes-part-001.csv", "nodes-part-002.csv", "nodes-part-003.csv");
+    var rows = new HashSet<String>();
+    for (var shardFile : shardFiles) {
+      rows.addAll(readLines(shardFile));
+    }
+    assertThat(rows.size(), is(NODE_COUNT));
+    assertThat(readLines(Neo4jImportArguments.FILE_NAME), is(List.of(
+        "--nodes=" + pathOf("nodes-header.csv") + "," + shardFiles.stream()
+            .map(this::pathOf)
+            .collect(Collectors.joining(",")))));
+    assertThat(readLines("nodes-header.csv").get(0).split(",")[1], is("\":LABEL\""));
+  }
+
+  @Test
+  public void shouldKeepRowsOfEachShardInOrder() throws IOException {
+    writeNodes(CsvShardFunctions.nodesByLabel(), false);
+
+    var expected = nodes.stream()
+        .filter(node -> node.getLabels() == NodeLabels.CLASS)
+        .map(node -> "\"" + node.getNodeId().asString() + "\"")
+        .collect(Collectors.toList());
+    var actual = readLines("nodes-CLASS.csv").stream()
+        .map(line -> line.substring(0, line.indexOf(',')))
+        .collect(Collectors.toList());
+    assertThat(actual, is(expected));
+    assertThat(Files.list(outputDirectory).map(p -> p.getFileName().toString()).collect(Collectors.toSet()),
+        is(Set.of("nodes-header.csv", "nodes-CLASS.csv", "nodes-NAMED_INDIVIDUAL.csv",
+            Neo4jImportArguments.FILE_NAME)));
+  }
+
+  @Test
+  public void shouldWriteMoreShardsThanWriterThreads() throws IOException {
+    writeNodes(CsvShardFunctions.nodesByHash(16), true, 1);
+
+    var rows = new ArrayList<String>();
+    for (int i = 0; i < 16; i++) {
+      rows.addAll(readLines(String.format("nodes-part-%03d.csv", i)));
+    }
+    assertThat(rows.size(), is(NODE_COUNT));
+    assertThat(new HashSet<>(rows).size(), is(NODE_COUNT));
+  }
+
+  private void writeNodes(Function<Node, CsvShard> shardFunction, boolean labelColumn) throws IOException {
+    writeNodes(shardFunction, labelColumn, ShardedCsvWriter.DEFAULT_WRITER_THREAD_COUNT);
+  }
+
+  private void writeNodes(Function<Node, CsvShard> shardFunction,
+                          boolean labelColumn,
+                          int writerThreadCount) throws IOException {
+    try (var csvWriter = new ShardedCsvWriter<>(outputDirectory,
+        "nodes-header.csv",
+        Neo4jImportArguments.NODES_OPTION,
+        shardFunction,
+        () -> new NodeCsvRowEncoder(new Neo4jNodeCsvSchema(), labelColumn, false),
+        file -> Files.newBufferedWriter(file),
+        FlushPolicy.onClose(),
+        importArguments,
+        writerThreadCount)) {
+      for (var node : nodes) {
+        csvWriter.write(node);
+      }
+      csvWriter.flush();
+    }
+  }
+
+  private List<String> readLines(String fileName) throws IOException {
+    return Files.readAllLines(outputDirectory.resolve(fileName));
+  }
+
+  private String pathOf(String fileName) {
+    return outputDirectory.resolve(fileName).toAbsolutePath().toString();
+  }
+}
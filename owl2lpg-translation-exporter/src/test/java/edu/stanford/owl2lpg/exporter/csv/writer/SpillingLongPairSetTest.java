@@ -0,0 +1,83 @@
+package edu.stanford.owl2lpg.exporter.csv.writer;
+
+import com.google.common.hash.Hashing;
+import edu.stanford.owl2lpg.model.NodeId;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+@SuppressWarnings("UnstableApiUsage")
+public class SpillingLongPairSetTest {
+
+  private static final int ENTRY_COUNT = 20_000;
+
+  @Rule
+  public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+  private SpillingLongPairSet set;
+
+  @Before
+  public void setUp() throws Exception {
+    set = new SpillingLongPairSet(temporaryFolder.newFolder().toPath(), ENTRY_COUNT, 0.01, 500);
+  }
+
+  @Test
+  public void shouldDeduplicateAcrossSpilledRuns() {
+    for (int i = 0; i < ENTRY_COUNT; i++) {
+      assertThat(set.add(digest(i)), is(true));
+    }
+    for (int i = 0; i < ENTRY_COUNT; i++) {
+      assertThat(set.add(digest(i)), is(false));
+    }
+    assertThat(set.size(), is((long) ENTRY_COUNT));
+    assertThat(set.getDiskUsage() > 0, is(true));
+  }
+
+  @Test
+  public void shouldKeepFewRunsByMergingThemInTiers() throws Exception {
+    var spillDirectory = temporaryFolder.newFolder().toPath();
+    var set = new SpillingLongPairSet(spillDirectory, ENTRY_COUNT, 0.01, 100);
+    for (int i = 0; i < ENTRY_COUNT; i++) {
+      set.add(digest(i));
+    }
+    // 200 spilled runs of 100 ids end up as 3 runs of 6400 ids and 2 runs of 400 ids
+    assertThat(set.getRunCount(), is(5));
+    try (var runFiles = Files.list(spillDirectory)) {
+      assertThat(runFiles.count(), is(5L));
+    }
+    assertThat(set.getDiskUsage(), is(ENTRY_COUNT * 16L));
+    for (int i = 0; i < ENTRY_COUNT; i++) {
+      assertThat(set.contains(digest(i)), is(true));
+    }
+  }
+
+  @Test
+  public void shouldNotContainUnseenIds() {
+    for (int i = 0; i < ENTRY_COUNT; i++) {
+      set.add(digest(i));
+    }
+    for (int i = ENTRY_COUNT; i < 2 * ENTRY_COUNT; i++) {
+      assertThat(set.contains(digest(i)), is(false));
+    }
+  }
+
+  @Test
+  public void shouldTrackNumberIds() {
+    for (long i = 0; i < ENTRY_COUNT; i++) {
+      assertThat(set.add(NodeId.create(i).getBytes()), is(true));
+    }
+    assertThat(set.add(NodeId.create(0L).getBytes()), is(false));
+    assertThat(set.contains(NodeId.create(1234L).getBytes()), is(true));
+  }
+
+  private static byte[] digest(int i) {
+    return Hashing.md5().hashString("node" + i, StandardCharsets.UTF_8).asBytes();
+  }
+}
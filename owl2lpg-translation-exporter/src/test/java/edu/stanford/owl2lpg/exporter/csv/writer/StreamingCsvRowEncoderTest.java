@@ -0,0 +1,97 @@
+package edu.stanford.owl2lpg.exporter.csv.writer;
+
+import com.fasterxml.jackson.dataformat.csv.CsvMapper;
+import com.google.common.collect.ImmutableMap;
+import com.google.common.hash.Hashing;
+import edu.stanford.owl2lpg.model.Edge;
+import edu.stanford.owl2lpg.model.EdgeId;
+import edu.stanford.owl2lpg.model.Node;
+import edu.stanford.owl2lpg.model.NodeId;
+import edu.stanford.owl2lpg.model.Properties;
+import edu.stanford.owl2lpg.translator.vocab.EdgeLabel;
+import edu.stanford.owl2lpg.translator.vocab.NodeLabels;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import static edu.stanford.owl2lpg.translator.vocab.PropertyFields.CARDINALITY;
+import static edu.stanford.owl2lpg.translator.vocab.PropertyFields.DATATYPE;
+import static edu.stanford.owl2lpg.translator.vocab.PropertyFields.IRI;
+import static edu.stanford.owl2lpg.translator.vocab.PropertyFields.LANGUAGE;
+import static edu.stanford.owl2lpg.translator.vocab.PropertyFields.LEXICAL_FORM;
+import static edu.stanford.owl2lpg.translator.vocab.PropertyFields.LOCAL_NAME;
+import static edu.stanford.owl2lpg.translator.vocab.PropertyFields.OBO_ID;
+import static edu.stanford.owl2lpg.translator.vocab.PropertyFields.POS;
+import static edu.stanford.owl2lpg.translator.vocab.PropertyFields.PREFIXED_NAME;
+import static edu.stanford.owl2lpg.translator.vocab.PropertyFields.STRUCTURAL_SPEC;
+import static edu.stanford.owl2lpg.translator.vocab.PropertyFields.TYPE;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+@SuppressWarnings("UnstableApiUsage")
+public class StreamingCsvRowEncoderTest {
+
+  private static final Node CLASS_NODE = Node.create(digest("A"), NodeLabels.CLASS,
+      Properties.create(ImmutableMap.of(
+          IRI, "http://example.org/A",
+          LOCAL_NAME, "A",
+          PREFIXED_NAME, "",
+          OBO_ID, "")));
+
+  private static final Node LITERAL_NODE = Node.create(digest("literal"), NodeLabels.LITERAL,
+      Properties.create(ImmutableMap.of(
+          LEXICAL_FORM, "A \"quoted\", multi-line\nvalue with ünïcode\r\nand a trailing quote\"",
+          DATATYPE, "http://www.w3.org/2001/XMLSchema#string",
+          LANGUAGE, "")));
+
+  private static final Node CARDINALITY_NODE = Node.create(NodeId.create(42L), NodeLabels.OBJECT_MIN_CARDINALITY,
+      Properties.of(CARDINALITY, -2147483));
+
+  private static final Node PLAIN_NODE = Node.create(NodeId.create(43L), NodeLabels.SUB_CLASS_OF);
+
+  @Test
+  public void shouldEncodeNodesLikeJackson() throws IOException {
+    var nodes = List.of(CLASS_NODE, LITERAL_NODE, CARDINALITY_NODE, PLAIN_NODE, CLASS_NODE);
+    var expected = encode(new JacksonCsvRowEncoder<>(new CsvMapper(), new Neo4jNodeCsvSchema()), nodes);
+    var actual = encode(new NodeCsvRowEncoder(new Neo4jNodeCsvSchema()), nodes);
+    assertThat(actual, is(expected));
+  }
+
+  @Test
+  public void shouldEncodeEdgesLikeJackson() throws IOException {
+    var edges = List.of(
+        Edge.create(EdgeId.create(1L), CLASS_NODE, LITERAL_NODE, EdgeLabel.values()[0],
+            Properties.of(STRUCTURAL_SPEC, true)),
+        Edge.create(EdgeId.create(2L), CARDINALITY_NODE, CLASS_NODE, EdgeLabel.values()[1],
+            Properties.of(STRUCTURAL_SPEC, false, POS, 3)),
+        Edge.create(EdgeId.create(3L), PLAIN_NODE, CLASS_NODE, EdgeLabel.values()[2],
+            Properties.of(TYPE, "a \"type\"", IRI, "http://example.org/r")),
+        Edge.create(EdgeId.create(4L), PLAIN_NODE, CARDINALITY_NODE, EdgeLabel.values()[3]));
+    var expected = encode(new JacksonCsvRowEncoder<>(new CsvMapper(), new Neo4jRelationshipsCsvSchema()), edges);
+    var actual = encode(new EdgeCsvRowEncoder(new Neo4jRelationshipsCsvSchema()), edges);
+    assertThat(actual, is(expected));
+  }
+
+  @Test(expected = IOException.class)
+  public void shouldRejectUnknownProperty() throws IOException {
+    var node = Node.create(NodeId.create(1L), NodeLabels.CLASS, Properties.of("unknown", "value"));
+    encode(new NodeCsvRowEncoder(new Neo4jNodeCsvSchema()), List.of(node));
+  }
+
+  private static <T> String encode(CsvRowEncoder<T> rowEncoder, List<T> rows) throws IOException {
+    var output = new StringWriter();
+    try (var csvWriter = new CsvWriterImpl<>(rowEncoder, output, FlushPolicy.everyRow())) {
+      for (var row : rows) {
+        csvWriter.write(row);
+      }
+    }
+    return output.toString();
+  }
+
+  private static NodeId digest(String value) {
+    return NodeId.create(Hashing.md5().hashString(value, StandardCharsets.UTF_8).asBytes());
+  }
+}